@@ -0,0 +1,276 @@
+package com.bank.scheduler.application.usecases;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.events.TransferScheduled;
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.ports.DuplicateTransferGuard;
+import com.bank.scheduler.domain.ports.PendingTransfers;
+import com.bank.scheduler.domain.ports.TransferAcceptanceLog;
+import com.bank.scheduler.domain.ports.TransferEventPublisher;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.ports.VelocityLimiter;
+import com.bank.scheduler.domain.valueobjects.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Asynchronous acceptance mode for transfer scheduling.
+ *
+ * Flow:
+ * 1. Validate, price, screen for duplicates and apply velocity limits synchronously
+ *    (same rules as scheduleTransfer)
+ * 2. Append to the write-ahead log and acknowledge with the transfer id
+ * 3. Persist in background batches on transferProcessingExecutor
+ *
+ * Client latency is bounded by the local log append, not by the database.
+ * Entries left in the log by a crash are replayed on startup. Batches are
+ * persisted with insertAbsent, never merged: an entry replayed after it was
+ * already stored (crash before the persisted marker) must not overwrite a row
+ * that has since been claimed or executed.
+ *
+ * A failing batch is retried one transfer at a time. A transfer that fails while
+ * others of the batch go through, or that violates a constraint, is dead-lettered
+ * in the log instead of blocking the queue; when every transfer fails the
+ * database is taken to be unavailable and the batch waits for the next flush.
+ *
+ * Backpressure: once scheduler.wal.max-pending transfers wait for the database,
+ * new requests are refused with CapacityExceeded before anything is logged. A flush
+ * rejected by a saturated executor is simply retried by the scheduled safety net.
+ */
+@Service
+public class AsyncTransferAcceptanceService implements PendingTransfers {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncTransferAcceptanceService.class);
+
+    public enum AcceptanceStatus { ACCEPTED, PERSISTED }
+
+    private final TransferSchedulerService transferScheduler;
+    private final TransferRepository transferRepository;
+    private final TransferAcceptanceLog acceptanceLog;
+    private final TransferEventPublisher eventPublisher;
+    private final DuplicateTransferGuard duplicateGuard;
+    private final VelocityLimiter velocityLimiter;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor transferProcessingExecutor;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxPending;
+
+    private final Queue<Transfer> pendingQueue = new ConcurrentLinkedQueue<>();
+    private final Map<UUID, Transfer> pendingById = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    public AsyncTransferAcceptanceService(
+            TransferSchedulerService transferScheduler,
+            TransferRepository transferRepository,
+            TransferAcceptanceLog acceptanceLog,
+            TransferEventPublisher eventPublisher,
+            DuplicateTransferGuard duplicateGuard,
+            VelocityLimiter velocityLimiter,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("transferProcessingExecutor") Executor transferProcessingExecutor,
+            Clock clock,
+            @Value("${scheduler.wal.batch-size:100}") int batchSize,
+            @Value("${scheduler.wal.max-pending:10000}") int maxPending) {
+        this.transferScheduler = transferScheduler;
+        this.transferRepository = transferRepository;
+        this.acceptanceLog = acceptanceLog;
+        this.eventPublisher = eventPublisher;
+        this.duplicateGuard = duplicateGuard;
+        this.velocityLimiter = velocityLimiter;
+        this.transactionTemplate = transactionTemplate;
+        this.transferProcessingExecutor = transferProcessingExecutor;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+    }
+
+    public Transfer acceptTransfer(
+            String sourceAccountNumber,
+            String targetAccountNumber,
+            Money amount,
+            LocalDate transferDate) {
+
+        if (pendingById.size() >= maxPending) {
+            throw new DomainException.CapacityExceeded(
+                "Too many transfers awaiting persistence (" + maxPending + "), retry later");
+        }
+        Transfer priced = transferScheduler.priceTransfer(sourceAccountNumber, targetAccountNumber, amount, transferDate);
+        duplicateGuard.check(priced);
+        velocityLimiter.admit(priced);
+        try {
+            acceptanceLog.append(priced);
+        } catch (RuntimeException e) {
+            velocityLimiter.release(priced);
+            throw e;
+        }
+        enqueue(priced);
+        duplicateGuard.accepted(priced);
+        triggerFlush();
+        return priced;
+    }
+
+    public AcceptanceStatus getAcceptanceStatus(UUID transferId) {
+        if (transferId == null) {
+            throw new DomainException.InvalidTransferData("Transfer ID cannot be null");
+        }
+        if (pendingById.containsKey(transferId)) {
+            return AcceptanceStatus.ACCEPTED;
+        }
+        if (transferRepository.existsById(transferId)) {
+            return AcceptanceStatus.PERSISTED;
+        }
+        throw new DomainException.TransferNotFound("Transfer with ID " + transferId + " not found");
+    }
+
+    public int pendingCount() {
+        return pendingById.size();
+    }
+
+    /**
+     * Accepted transfers not yet stored; the duplicate guard confirms against these
+     * as well as against the repository.
+     */
+    @Override
+    public Collection<Transfer> pending() {
+        return Collections.unmodifiableCollection(pendingById.values());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayUnpersisted() {
+        List<Transfer> recovered = acceptanceLog.unpersisted();
+        if (recovered.isEmpty()) {
+            return;
+        }
+        log.info("Replaying {} accepted transfers from the write-ahead log", recovered.size());
+        for (Transfer transfer : recovered) {
+            enqueue(transfer);
+            duplicateGuard.accepted(transfer);
+        }
+        triggerFlush();
+    }
+
+    /**
+     * Safety net: picks up batches left behind by a failed flush.
+     */
+    @Scheduled(fixedDelayString = "${scheduler.wal.flush-interval-ms:1000}")
+    public void triggerFlush() {
+        if (!pendingQueue.isEmpty() && flushing.compareAndSet(false, true)) {
+            try {
+                transferProcessingExecutor.execute(this::flushPending);
+            } catch (TaskRejectedException e) {
+                flushing.set(false);
+                log.debug("Transfer processing executor saturated, flush deferred");
+            }
+        }
+    }
+
+    void flushPending() {
+        try {
+            List<Transfer> batch;
+            while (!(batch = drainBatch()).isEmpty() && persistBatch(batch)) {
+                // keep draining while the database accepts batches
+            }
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    /**
+     * @return false when nothing of the batch could be stored, so draining stops
+     */
+    private boolean persistBatch(List<Transfer> batch) {
+        try {
+            insert(batch);
+            return true;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1 && !(e instanceof DataIntegrityViolationException)) {
+                log.warn("Failed to persist accepted transfer {}, will retry", batch.get(0).getId(), e);
+                pendingQueue.addAll(batch);
+                return false;
+            }
+            log.warn("Failed to persist batch of {} accepted transfers, retrying one at a time", batch.size(), e);
+        }
+        List<Transfer> failed = new ArrayList<>();
+        Map<UUID, RuntimeException> errors = new HashMap<>();
+        for (Transfer transfer : batch) {
+            try {
+                insert(List.of(transfer));
+            } catch (RuntimeException e) {
+                failed.add(transfer);
+                errors.put(transfer.getId(), e);
+            }
+        }
+        boolean recordSpecific = failed.size() < batch.size();
+        List<Transfer> retry = new ArrayList<>();
+        for (Transfer transfer : failed) {
+            RuntimeException error = errors.get(transfer.getId());
+            if (recordSpecific || error instanceof DataIntegrityViolationException) {
+                deadLetter(transfer, error);
+            } else {
+                retry.add(transfer);
+            }
+        }
+        pendingQueue.addAll(retry);
+        return retry.size() < batch.size();
+    }
+
+    private void insert(List<Transfer> transfers) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Transfer> inserted = transferRepository.insertAbsent(transfers);
+            Instant now = Instant.now(clock);
+            inserted.forEach(transfer -> eventPublisher.publish(new TransferScheduled(transfer, now)));
+        });
+        List<UUID> ids = transfers.stream().map(Transfer::getId).collect(Collectors.toList());
+        acceptanceLog.markPersisted(ids);
+        ids.forEach(pendingById::remove);
+    }
+
+    private void deadLetter(Transfer transfer, RuntimeException error) {
+        log.error("Accepted transfer {} cannot be persisted, dead-lettered in the write-ahead log",
+            transfer.getId(), error);
+        acceptanceLog.deadLetter(transfer, error.getClass().getSimpleName() + ": " + error.getMessage());
+        pendingById.remove(transfer.getId());
+        velocityLimiter.release(transfer);
+    }
+
+    private List<Transfer> drainBatch() {
+        List<Transfer> batch = new ArrayList<>(batchSize);
+        Transfer next;
+        while (batch.size() < batchSize && (next = pendingQueue.poll()) != null) {
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void enqueue(Transfer transfer) {
+        pendingById.put(transfer.getId(), transfer);
+        pendingQueue.add(transfer);
+    }
+}
@@ -0,0 +1,93 @@
+package com.bank.scheduler.application.usecases;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.events.TransferStatusChanged;
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.ports.DeadLetterStore;
+import com.bank.scheduler.domain.ports.TransferEventPublisher;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.DeadLetter;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lists dead-lettered transfers and puts them back in the execution queue.
+ *
+ * Replay moves the transfer FAILED -> SCHEDULED and removes its dead letter; the
+ * transfer date has passed, so the next poll or wheel tick claims it with a fresh
+ * attempt budget.
+ */
+@Service
+@Transactional
+public class DeadLetterReplayService {
+    private final DeadLetterStore deadLetterStore;
+    private final TransferRepository transferRepository;
+    private final TransferEventPublisher eventPublisher;
+    private final Clock clock;
+
+    public DeadLetterReplayService(
+            DeadLetterStore deadLetterStore,
+            TransferRepository transferRepository,
+            TransferEventPublisher eventPublisher,
+            Clock clock) {
+        this.deadLetterStore = deadLetterStore;
+        this.transferRepository = transferRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+    }
+
+    @Transactional(readOnly = true)
+    public List<DeadLetter> listDeadLetters(String reason, int limit) {
+        return deadLetterStore.findAll(reason, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public DeadLetter getDeadLetter(UUID transferId) {
+        return deadLetterStore.find(transferId)
+            .orElseThrow(() -> new DomainException.TransferNotFound("No dead letter for transfer " + transferId));
+    }
+
+    public Transfer replay(UUID transferId) {
+        getDeadLetter(transferId);
+        if (!transferRepository.updateStatus(transferId, TransferStatus.FAILED, TransferStatus.SCHEDULED)) {
+            if (!transferRepository.existsById(transferId)) {
+                deadLetterStore.remove(transferId);
+                throw new DomainException.TransferNotFound("Transfer not found with ID: " + transferId);
+            }
+            throw new DomainException.InvalidStatusTransition(
+                "Transfer " + transferId + " is no longer FAILED and cannot be replayed");
+        }
+        deadLetterStore.remove(transferId);
+        Transfer replayed = transferRepository.findById(transferId)
+            .orElseThrow(() -> new DomainException.TransferNotFound("Transfer not found with ID: " + transferId));
+        eventPublisher.publish(new TransferStatusChanged(replayed, Instant.now(clock)));
+        return replayed;
+    }
+
+    /**
+     * Replays up to {@code limit} dead letters with the given reason (all reasons
+     * when null), oldest first. Entries that can no longer be replayed are skipped.
+     *
+     * @return the replayed transfers
+     */
+    public List<Transfer> replayAll(String reason, int limit) {
+        return deadLetterStore.findAll(reason, limit).stream()
+            .map(deadLetter -> replayQuietly(deadLetter.getTransferId()))
+            .filter(transfer -> transfer != null)
+            .toList();
+    }
+
+    private Transfer replayQuietly(UUID transferId) {
+        try {
+            return replay(transferId);
+        } catch (DomainException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.bank.scheduler.application.usecases;
+
+import com.bank.scheduler.domain.entities.RecurringTransfer;
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.events.TransferScheduled;
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.ports.RecurringTransferStore;
+import com.bank.scheduler.domain.ports.TransferEventPublisher;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.ports.VelocityLimiter;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.BusinessCalendar;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.RecurrenceRule;
+import com.bank.scheduler.domain.valueobjects.SchedulingHorizon;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Standing orders: one stored rule, materialized into ordinary Transfers only as
+ * its occurrences enter the scheduling window (through SchedulingHorizon.lastDate(today),
+ * counted in the same unit as the fee tiers).
+ *
+ * Flow (create and every materializer pass):
+ * 1. Walk occurrences from the rule's watermark (nextIndex) up to the window end,
+ *    rolling each date forward to a business day
+ * 2. Price each one through TransferSchedulerService.priceTransfer, so fees come
+ *    from the same FeePolicy selection as a one-off transfer
+ * 3. In one transaction, move the watermark with a compare-and-set, save the
+ *    Transfers and publish TransferScheduled for each
+ *
+ * Pricing runs outside the transaction: a rejected occurrence must not mark the
+ * whole batch rollback-only. On create every occurrence inside the window must be
+ * valid or nothing is stored. During materialization an occurrence whose date has
+ * already passed (the materializer was down) or that pricing rejects is skipped
+ * and the watermark moves past it; the rule itself keeps running.
+ *
+ * The compare-and-set makes a pass idempotent: a replica that lost the race (or
+ * a rule cancelled meanwhile) rolls back without saving anything.
+ *
+ * Velocity limits: create() admits every occurrence it stores through the
+ * VelocityLimiter, like a one-off transfer, and the whole rule is refused when
+ * one does not fit. Later materializer passes are exempt: the customer authorized
+ * those occurrences when creating the rule, and a standing order must not be
+ * skipped because the account happens to be busy that day.
+ */
+@Service
+public class RecurringTransferService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurringTransferService.class);
+
+    private final RecurringTransferStore recurringTransferStore;
+    private final TransferSchedulerService transferScheduler;
+    private final TransferRepository transferRepository;
+    private final TransferEventPublisher eventPublisher;
+    private final VelocityLimiter velocityLimiter;
+    private final TransactionTemplate transactionTemplate;
+    private final BusinessCalendar businessCalendar;
+    private final SchedulingHorizon schedulingHorizon;
+    private final Clock clock;
+
+    public RecurringTransferService(
+            RecurringTransferStore recurringTransferStore,
+            TransferSchedulerService transferScheduler,
+            TransferRepository transferRepository,
+            TransferEventPublisher eventPublisher,
+            VelocityLimiter velocityLimiter,
+            TransactionTemplate transactionTemplate,
+            BusinessCalendar businessCalendar,
+            SchedulingHorizon schedulingHorizon,
+            Clock clock) {
+        this.recurringTransferStore = recurringTransferStore;
+        this.transferScheduler = transferScheduler;
+        this.transferRepository = transferRepository;
+        this.eventPublisher = eventPublisher;
+        this.velocityLimiter = velocityLimiter;
+        this.transactionTemplate = transactionTemplate;
+        this.businessCalendar = businessCalendar;
+        this.schedulingHorizon = schedulingHorizon;
+        this.clock = clock;
+    }
+
+    public RecurringTransfer create(
+            String sourceAccountNumber,
+            String targetAccountNumber,
+            Money amount,
+            RecurrenceRule.Frequency frequency,
+            int interval,
+            LocalDate firstOccurrence,
+            LocalDate endDate) {
+
+        LocalDate today = LocalDate.now(clock);
+        if (firstOccurrence == null || firstOccurrence.isBefore(today)) {
+            throw new DomainException.InvalidTransferDate("First occurrence cannot be in the past");
+        }
+        RecurringTransfer defined = RecurringTransfer.define(
+            AccountNumber.of(sourceAccountNumber),
+            AccountNumber.of(targetAccountNumber),
+            amount,
+            RecurrenceRule.of(frequency, interval, firstOccurrence, endDate),
+            Instant.now(clock));
+
+        Materialization materialization = plan(defined, today, true);
+        RecurringTransfer stored = defined.advancedTo(materialization.nextIndex);
+        List<Transfer> admitted = new ArrayList<>(materialization.transfers.size());
+        try {
+            for (Transfer transfer : materialization.transfers) {
+                velocityLimiter.admit(transfer);
+                admitted.add(transfer);
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                recurringTransferStore.save(stored);
+                persist(materialization.transfers);
+            });
+        } catch (RuntimeException e) {
+            admitted.forEach(velocityLimiter::release);
+            throw e;
+        }
+        return stored;
+    }
+
+    /**
+     * Materializes every occurrence of the rule that has entered the window. Returns
+     * the outcome; nothing is written when the watermark would not move or another
+     * pass moved it first.
+     */
+    public Materialization materialize(RecurringTransfer recurringTransfer) {
+        Materialization materialization = plan(recurringTransfer, LocalDate.now(clock), false);
+        if (materialization.nextIndex == recurringTransfer.getNextIndex()) {
+            return materialization;
+        }
+        LocalDate nextOccurrence = recurringTransfer.getRule().occurrence(materialization.nextIndex);
+        Boolean advanced = transactionTemplate.execute(status -> {
+            if (!recurringTransferStore.advance(recurringTransfer.getId(), recurringTransfer.getNextIndex(),
+                    materialization.nextIndex, nextOccurrence)) {
+                return false;
+            }
+            persist(materialization.transfers);
+            return true;
+        });
+        return Boolean.TRUE.equals(advanced) ? materialization : Materialization.lost(recurringTransfer);
+    }
+
+    public RecurringTransfer find(UUID id) {
+        return recurringTransferStore.find(id)
+            .orElseThrow(() -> new DomainException.TransferNotFound("Recurring transfer " + id + " not found"));
+    }
+
+    public List<RecurringTransfer> listBySourceAccount(String sourceAccountNumber) {
+        return recurringTransferStore.findBySourceAccount(AccountNumber.of(sourceAccountNumber).getValue());
+    }
+
+    /**
+     * Stops future occurrences. Transfers already materialized stay scheduled and
+     * can be deleted individually.
+     */
+    public void cancel(UUID id) {
+        if (!recurringTransferStore.delete(id)) {
+            throw new DomainException.TransferNotFound("Recurring transfer " + id + " not found");
+        }
+    }
+
+    /**
+     * The last transfer date inside the scheduling window as of {@code today}.
+     */
+    public LocalDate windowEnd(LocalDate today) {
+        return schedulingHorizon.lastDate(today);
+    }
+
+    private Materialization plan(RecurringTransfer recurringTransfer, LocalDate today, boolean strict) {
+        LocalDate windowEnd = windowEnd(today);
+        RecurrenceRule rule = recurringTransfer.getRule();
+        List<Transfer> transfers = new ArrayList<>();
+        int missed = 0;
+        int rejected = 0;
+        int index = recurringTransfer.getNextIndex();
+        for (LocalDate nominal = rule.occurrence(index); nominal != null && !nominal.isAfter(windowEnd);
+                nominal = rule.occurrence(++index)) {
+            try {
+                LocalDate transferDate = businessCalendar.onOrNextBusinessDay(nominal);
+                if (transferDate.isAfter(windowEnd)) {
+                    break;
+                }
+                if (transferDate.isBefore(today)) {
+                    missed++;
+                    continue;
+                }
+                transfers.add(transferScheduler.priceTransfer(
+                    recurringTransfer.getSourceAccount().getValue(),
+                    recurringTransfer.getTargetAccount().getValue(),
+                    recurringTransfer.getAmount(),
+                    transferDate));
+            } catch (DomainException e) {
+                if (strict) {
+                    throw e;
+                }
+                rejected++;
+                log.warn("Skipping occurrence {} of recurring transfer {}: {}",
+                    nominal, recurringTransfer.getId(), e.getMessage());
+            }
+        }
+        return new Materialization(index, transfers, missed, rejected);
+    }
+
+    private void persist(List<Transfer> transfers) {
+        if (transfers.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now(clock);
+        transferRepository.saveAll(transfers)
+            .forEach(transfer -> eventPublisher.publish(new TransferScheduled(transfer, now)));
+    }
+
+    /**
+     * Outcome of one pass over a rule: the new watermark, the Transfers created and
+     * the occurrences skipped as missed or rejected.
+     */
+    public static final class Materialization {
+        private final int nextIndex;
+        private final List<Transfer> transfers;
+        private final int missed;
+        private final int rejected;
+
+        private Materialization(int nextIndex, List<Transfer> transfers, int missed, int rejected) {
+            this.nextIndex = nextIndex;
+            this.transfers = transfers;
+            this.missed = missed;
+            this.rejected = rejected;
+        }
+
+        private static Materialization lost(RecurringTransfer recurringTransfer) {
+            return new Materialization(recurringTransfer.getNextIndex(), List.of(), 0, 0);
+        }
+
+        public int getNextIndex() { return nextIndex; }
+
+        public List<Transfer> getTransfers() { return transfers; }
+
+        public int getMissed() { return missed; }
+
+        public int getRejected() { return rejected; }
+    }
+}
@@ -1,29 +1,85 @@
 package com.bank.scheduler.application.usecases;
 
 import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.events.TransferDeleted;
+import com.bank.scheduler.domain.events.TransferScheduled;
+import com.bank.scheduler.domain.events.TransfersCleared;
 import com.bank.scheduler.domain.exceptions.DomainException;
 import com.bank.scheduler.domain.policies.FeePolicy;
+import com.bank.scheduler.domain.ports.AccountDirectory;
+import com.bank.scheduler.domain.ports.DuplicateTransferGuard;
+import com.bank.scheduler.domain.ports.ExchangeRates;
+import com.bank.scheduler.domain.ports.TransferEventPublisher;
+import com.bank.scheduler.domain.ports.TransferQueryModel;
 import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.ports.VelocityLimiter;
 import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.BusinessCalendar;
+import com.bank.scheduler.domain.valueobjects.DailyTransferSummary;
+import com.bank.scheduler.domain.valueobjects.ExchangeRateSnapshot;
 import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.TransferSearchCriteria;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class TransferSchedulerService {
     private final TransferRepository transferRepository;
     private final Set<FeePolicy> feePolicies;
+    private final TransferEventPublisher eventPublisher;
+    private final TransferQueryModel queryModel;
+    private final BusinessCalendar businessCalendar;
+    private final DuplicateTransferGuard duplicateGuard;
+    private final VelocityLimiter velocityLimiter;
+    private final ExchangeRates exchangeRates;
+    private final AccountDirectory accountDirectory;
+    private final Clock clock;
 
     public TransferSchedulerService(TransferRepository transferRepository, Set<FeePolicy> feePolicies) {
+        this(transferRepository, feePolicies, TransferEventPublisher.NONE, TransferQueryModel.NONE,
+            BusinessCalendar.EVERY_DAY, DuplicateTransferGuard.NONE, VelocityLimiter.NONE,
+            ExchangeRates.NONE, AccountDirectory.NONE, Clock.systemDefaultZone());
+    }
+
+    @Autowired
+    public TransferSchedulerService(
+            TransferRepository transferRepository,
+            Set<FeePolicy> feePolicies,
+            TransferEventPublisher eventPublisher,
+            TransferQueryModel queryModel,
+            BusinessCalendar businessCalendar,
+            DuplicateTransferGuard duplicateGuard,
+            VelocityLimiter velocityLimiter,
+            ExchangeRates exchangeRates,
+            AccountDirectory accountDirectory,
+            Clock clock) {
         this.transferRepository = transferRepository;
         this.feePolicies = feePolicies;
+        this.eventPublisher = eventPublisher;
+        this.queryModel = queryModel;
+        this.businessCalendar = businessCalendar;
+        this.duplicateGuard = duplicateGuard;
+        this.velocityLimiter = velocityLimiter;
+        this.exchangeRates = exchangeRates;
+        this.accountDirectory = accountDirectory;
+        this.clock = clock;
     }
 
     public Transfer scheduleTransfer(
@@ -31,39 +87,117 @@ public class TransferSchedulerService {
             String targetAccountNumber,
             Money amount,
             LocalDate transferDate) {
-        
+
+        Transfer scheduledTransfer = priceTransfer(sourceAccountNumber, targetAccountNumber, amount, transferDate);
+        duplicateGuard.check(scheduledTransfer);
+        velocityLimiter.admit(scheduledTransfer);
+
+        Transfer saved;
+        try {
+            saved = persistTransfer(scheduledTransfer);
+        } catch (RuntimeException e) {
+            velocityLimiter.release(scheduledTransfer);
+            throw e;
+        }
+        duplicateGuard.accepted(saved);
+        return saved;
+    }
+
+    /**
+     * Validates and prices a transfer without persisting it.
+     * Used by the asynchronous acceptance path, which persists in background batches.
+     *
+     * Fee policies price in Money.BASE_CURRENCY. A transfer in another currency is
+     * converted to the base currency with the current rate snapshot, priced, and
+     * the fee converted back, so the fee is always in the transfer's currency.
+     */
+    @Transactional(readOnly = true)
+    public Transfer priceTransfer(
+            String sourceAccountNumber,
+            String targetAccountNumber,
+            Money amount,
+            LocalDate transferDate) {
+
         validateTransferParameters(sourceAccountNumber, targetAccountNumber, amount, transferDate);
-        
+
         AccountNumber sourceAccount = createAccountNumber(sourceAccountNumber);
         AccountNumber targetAccount = createAccountNumber(targetAccountNumber);
+        ensureAccountExists(sourceAccount);
+        ensureAccountExists(targetAccount);
         LocalDate scheduleDate = getCurrentDate();
 
         Money calculatedFee = calculateTransferFee(amount, scheduleDate, transferDate);
 
-        Transfer scheduledTransfer = createTransfer(
-            sourceAccount, 
-            targetAccount, 
-            amount, 
-            calculatedFee, 
-            scheduleDate, 
+        return createTransfer(
+            sourceAccount,
+            targetAccount,
+            amount,
+            calculatedFee,
+            scheduleDate,
             transferDate
         );
-
-        return persistTransfer(scheduledTransfer);
     }
 
+    /**
+     * Reads are served by the query model once it has applied every committed
+     * change; until then they fall back to the write store so callers always
+     * see their own writes.
+     */
+    @Transactional(readOnly = true)
     public List<Transfer> listScheduledTransfers() {
+        if (queryModel.isCaughtUp()) {
+            return queryModel.findAll();
+        }
         return transferRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<Transfer> searchTransfers(TransferSearchCriteria criteria) {
+        if (criteria == null) {
+            throw new DomainException.InvalidTransferData("Search criteria cannot be null");
+        }
+        if (queryModel.isCaughtUp()) {
+            return queryModel.search(criteria);
+        }
+        return transferRepository.search(criteria);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyTransferSummary> summarizeTransfers(LocalDate from, LocalDate to) {
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new DomainException.InvalidTransferData("Summary range end cannot be before its start");
+        }
+        if (queryModel.isCaughtUp()) {
+            return queryModel.summarize(from, to);
+        }
+        return summarize(transferRepository.search(TransferSearchCriteria.of(null, null, from, to)));
+    }
+
+    @Transactional(readOnly = true)
+    public Transfer findTransfer(UUID transferId) {
+        validateTransferId(transferId);
+        return transferRepository.findById(transferId)
+            .orElseThrow(() -> new DomainException.TransferNotFound("Transfer with ID " + transferId + " not found"));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Optional<Transfer>> lookupTransfers(List<UUID> transferIds) {
+        if (transferIds == null || transferIds.stream().anyMatch(Objects::isNull)) {
+            throw new DomainException.InvalidTransferData("Transfer IDs cannot be null");
+        }
+        return transferRepository.findAllById(transferIds);
+    }
+
     public void deleteTransfer(UUID transferId) {
         validateTransferIdForDeletion(transferId);
         ensureTransferExists(transferId);
         transferRepository.deleteById(transferId);
+        eventPublisher.publish(new TransferDeleted(transferId, Instant.now(clock)));
     }
 
     public void clearAllTransfers() {
         transferRepository.deleteAll();
+        eventPublisher.publish(new TransfersCleared(Instant.now(clock)));
     }
 
     private void validateTransferParameters(String sourceAccount, String targetAccount, Money amount, LocalDate transferDate) {
@@ -76,31 +210,54 @@ public class TransferSchedulerService {
         if (transferDate == null) {
             throw new DomainException.InvalidTransferData("Transfer date cannot be null");
         }
+        if (!exchangeRates.current().supports(amount.getCurrency())) {
+            throw new DomainException.UnsupportedCurrency("Transfers in " + amount.getCurrency()
+                + " are not supported");
+        }
+        if (!businessCalendar.isBusinessDay(transferDate)) {
+            throw new DomainException.InvalidTransferDate("Transfer date " + transferDate
+                + " is not a business day; the next one is " + businessCalendar.nextBusinessDay(transferDate));
+        }
     }
 
-    private void validateTransferIdForDeletion(UUID transferId) {
+    private void validateTransferId(UUID transferId) {
         if (transferId == null) {
             throw new DomainException.InvalidTransferData("Transfer ID cannot be null");
         }
     }
 
+    private void validateTransferIdForDeletion(UUID transferId) {
+        validateTransferId(transferId);
+    }
+
     private void ensureTransferExists(UUID transferId) {
         if (!transferRepository.existsById(transferId)) {
             throw new DomainException.TransferNotFound("Transfer with ID " + transferId + " not found");
         }
     }
 
+    private void ensureAccountExists(AccountNumber account) {
+        if (!accountDirectory.exists(account)) {
+            throw new DomainException.AccountNotFound("Account " + account.getValue() + " does not exist");
+        }
+    }
+
     private AccountNumber createAccountNumber(String accountNumber) {
         return AccountNumber.of(accountNumber);
     }
 
     private LocalDate getCurrentDate() {
-        return LocalDate.now();
+        return LocalDate.now(clock);
     }
 
     private Money calculateTransferFee(Money amount, LocalDate scheduleDate, LocalDate transferDate) {
-        return findApplicableFeePolicy(scheduleDate, transferDate)
-            .calculateFee(amount, scheduleDate, transferDate);
+        FeePolicy policy = findApplicableFeePolicy(scheduleDate, transferDate);
+        if (amount.getCurrency().equals(Money.BASE_CURRENCY)) {
+            return policy.calculateFee(amount, scheduleDate, transferDate);
+        }
+        ExchangeRateSnapshot rates = exchangeRates.current();
+        Money baseFee = policy.calculateFee(rates.toBase(amount), scheduleDate, transferDate);
+        return rates.convert(baseFee, amount.getCurrency());
     }
 
     private FeePolicy findApplicableFeePolicy(LocalDate scheduleDate, LocalDate transferDate) {
@@ -116,6 +273,23 @@ public class TransferSchedulerService {
     }
 
     private Transfer persistTransfer(Transfer transfer) {
-        return transferRepository.save(transfer);
+        Transfer saved = transferRepository.save(transfer);
+        eventPublisher.publish(new TransferScheduled(saved, Instant.now(clock)));
+        return saved;
+    }
+
+    private static List<DailyTransferSummary> summarize(List<Transfer> transfers) {
+        Map<LocalDate, Map<String, List<Transfer>>> byDate = transfers.stream()
+            .collect(Collectors.groupingBy(Transfer::getTransferDate, TreeMap::new,
+                Collectors.groupingBy(t -> t.getAmount().getCurrency(), TreeMap::new, Collectors.toList())));
+        List<DailyTransferSummary> summaries = new ArrayList<>();
+        byDate.forEach((date, byCurrency) -> byCurrency.forEach((currency, sameCurrency) ->
+            summaries.add(new DailyTransferSummary(
+                date,
+                currency,
+                sameCurrency.size(),
+                sameCurrency.stream().map(t -> t.getAmount().getAmount()).reduce(BigDecimal.ZERO, BigDecimal::add),
+                sameCurrency.stream().map(t -> t.getFee().getAmount()).reduce(BigDecimal.ZERO, BigDecimal::add)))));
+        return summaries;
     }
 }
@@ -0,0 +1,80 @@
+package com.bank.scheduler.domain.entities;
+
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.RecurrenceRule;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A standing order: one stored definition instead of a row per future transfer.
+ *
+ * Occurrences become ordinary Transfers only when they enter the scheduling
+ * window. nextIndex is the watermark: occurrences below it have been
+ * materialized (or skipped), nextOccurrence is the date of occurrence nextIndex
+ * and null once the rule is exhausted.
+ */
+public final class RecurringTransfer {
+    private final UUID id;
+    private final AccountNumber sourceAccount;
+    private final AccountNumber targetAccount;
+    private final Money amount;
+    private final RecurrenceRule rule;
+    private final int nextIndex;
+    private final Instant createdAt;
+
+    public RecurringTransfer(UUID id, AccountNumber sourceAccount, AccountNumber targetAccount, Money amount,
+                             RecurrenceRule rule, int nextIndex, Instant createdAt) {
+        this.id = id;
+        this.sourceAccount = sourceAccount;
+        this.targetAccount = targetAccount;
+        this.amount = amount;
+        this.rule = rule;
+        this.nextIndex = nextIndex;
+        this.createdAt = createdAt;
+    }
+
+    public static RecurringTransfer define(AccountNumber sourceAccount, AccountNumber targetAccount, Money amount,
+                                           RecurrenceRule rule, Instant createdAt) {
+        if (sourceAccount == null || targetAccount == null || amount == null || rule == null) {
+            throw new DomainException.InvalidTransferData("Accounts, amount and recurrence rule are required");
+        }
+        if (sourceAccount.equals(targetAccount)) {
+            throw new DomainException.SameAccountNotAllowed("Source and target accounts cannot be the same");
+        }
+        if (amount.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new DomainException.InvalidTransferAmount("Transfer amount must be greater than zero");
+        }
+        return new RecurringTransfer(UUID.randomUUID(), sourceAccount, targetAccount, amount, rule, 0, createdAt);
+    }
+
+    public RecurringTransfer advancedTo(int nextIndex) {
+        return new RecurringTransfer(id, sourceAccount, targetAccount, amount, rule, nextIndex, createdAt);
+    }
+
+    public LocalDate getNextOccurrence() {
+        return rule.occurrence(nextIndex);
+    }
+
+    public boolean isExhausted() {
+        return getNextOccurrence() == null;
+    }
+
+    public UUID getId() { return id; }
+
+    public AccountNumber getSourceAccount() { return sourceAccount; }
+
+    public AccountNumber getTargetAccount() { return targetAccount; }
+
+    public Money getAmount() { return amount; }
+
+    public RecurrenceRule getRule() { return rule; }
+
+    public int getNextIndex() { return nextIndex; }
+
+    public Instant getCreatedAt() { return createdAt; }
+}
@@ -3,8 +3,11 @@ package com.bank.scheduler.domain.entities;
 import com.bank.scheduler.domain.exceptions.DomainException;
 import com.bank.scheduler.domain.valueobjects.AccountNumber;
 import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.TransferIds;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Objects;
 import java.util.UUID;
@@ -17,11 +20,15 @@ import java.util.UUID;
  * - amount > 0 (positive transfer amounts)
  * - transferDate >= scheduleDate (no past-dated execution)
  * - fee >= 0 (non-negative fees)
+ * - status only moves forward (see TransferStatus)
  * 
  * This entity contains pure business logic with no framework dependencies.
  */
 @Entity
-@Table(name = "transfers")
+@Table(name = "transfers", indexes = {
+    @Index(name = "idx_transfers_status_date", columnList = "status, transfer_date"),
+    @Index(name = "idx_transfers_schedule_date", columnList = "schedule_date")
+})
 public final class Transfer {
     
     // Pure domain fields - no technical framework concerns
@@ -43,13 +50,15 @@ public final class Transfer {
     
     @Embedded
     @AttributeOverrides({
-        @AttributeOverride(name = "amount", column = @Column(name = "amount"))
+        @AttributeOverride(name = "amount", column = @Column(name = "amount")),
+        @AttributeOverride(name = "currency", column = @Column(name = "currency", length = 3))
     })
     private final Money amount;
     
     @Embedded
     @AttributeOverrides({
-        @AttributeOverride(name = "amount", column = @Column(name = "fee"))
+        @AttributeOverride(name = "amount", column = @Column(name = "fee")),
+        @AttributeOverride(name = "currency", column = @Column(name = "fee_currency", length = 3))
     })
     private final Money fee;
     
@@ -59,6 +68,13 @@ public final class Transfer {
     @Column(name = "transfer_date")
     private final LocalDate transferDate;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 16)
+    private final TransferStatus status;
+
+    @Column(name = "claimed_at")
+    private final Instant claimedAt;
+
     /**
      * Default constructor for JPA - not for direct use
      */
@@ -70,6 +86,8 @@ public final class Transfer {
         this.fee = null;
         this.scheduleDate = null;
         this.transferDate = null;
+        this.status = null;
+        this.claimedAt = null;
     }
 
     /**
@@ -85,10 +103,15 @@ public final class Transfer {
             Money amount,
             Money fee,
             LocalDate scheduleDate,
-            LocalDate transferDate) {
+            LocalDate transferDate,
+            TransferStatus status,
+            Instant claimedAt) {
         
         // Validate all business rules before creating object
         validateBusinessInvariants(sourceAccount, targetAccount, amount, fee, scheduleDate, transferDate);
+        if (status == null) {
+            throw new IllegalArgumentException("Transfer status must be provided");
+        }
         
         this.id = id;
         this.sourceAccount = sourceAccount;
@@ -97,6 +120,8 @@ public final class Transfer {
         this.fee = fee;
         this.scheduleDate = scheduleDate;
         this.transferDate = transferDate;
+        this.status = status;
+        this.claimedAt = claimedAt;
     }
 
     public static Transfer schedule(
@@ -107,16 +132,72 @@ public final class Transfer {
             LocalDate scheduleDate,
             LocalDate transferDate) {
         return new Transfer(
-            UUID.randomUUID(),
+            sourceAccount == null ? UUID.randomUUID() : TransferIds.generate(sourceAccount),
             sourceAccount,
             targetAccount,
             amount,
             fee,
             scheduleDate,
-            transferDate
+            transferDate,
+            TransferStatus.SCHEDULED,
+            null
         );
     }
 
+    /**
+     * Rehydrates a transfer that was already priced and identified elsewhere
+     * (write-ahead log replay, alternate stores). Invariants are re-checked.
+     */
+    public static Transfer restore(
+            UUID id,
+            AccountNumber sourceAccount,
+            AccountNumber targetAccount,
+            Money amount,
+            Money fee,
+            LocalDate scheduleDate,
+            LocalDate transferDate) {
+        return restore(id, sourceAccount, targetAccount, amount, fee, scheduleDate, transferDate,
+            TransferStatus.SCHEDULED, null);
+    }
+
+    public static Transfer restore(
+            UUID id,
+            AccountNumber sourceAccount,
+            AccountNumber targetAccount,
+            Money amount,
+            Money fee,
+            LocalDate scheduleDate,
+            LocalDate transferDate,
+            TransferStatus status,
+            Instant claimedAt) {
+        if (id == null) {
+            throw new IllegalArgumentException("Transfer id must be provided");
+        }
+        return new Transfer(
+            id,
+            sourceAccount,
+            targetAccount,
+            amount,
+            fee,
+            scheduleDate,
+            transferDate,
+            status,
+            claimedAt
+        );
+    }
+
+    /**
+     * Returns a copy in the next lifecycle status; the instance itself never changes.
+     */
+    public Transfer transitionTo(TransferStatus next, Instant at) {
+        if (!status.canTransitionTo(next)) {
+            throw new DomainException.InvalidStatusTransition(
+                "Transfer " + id + " cannot move from " + status + " to " + next);
+        }
+        Instant claim = next == TransferStatus.IN_PROGRESS ? at : claimedAt;
+        return new Transfer(id, sourceAccount, targetAccount, amount, fee, scheduleDate, transferDate, next, claim);
+    }
+
     /**
      * Validates all business invariants for transfer creation
      */
@@ -143,6 +224,9 @@ public final class Transfer {
         if (fee == null) {
             throw new IllegalArgumentException("Transfer fee must be provided");
         }
+        if (!fee.isSameCurrency(amount)) {
+            throw new IllegalArgumentException("Transfer fee must be in the transfer currency");
+        }
         
         // Validate dates
         if (scheduleDate == null || transferDate == null) {
@@ -210,6 +294,10 @@ public final class Transfer {
     
     public LocalDate getTransferDate() { return transferDate; }
 
+    public TransferStatus getStatus() { return status; }
+
+    public Instant getClaimedAt() { return claimedAt; }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -233,6 +321,7 @@ public final class Transfer {
                 ", fee=" + fee +
                 ", scheduleDate=" + scheduleDate +
                 ", transferDate=" + transferDate +
+                ", status=" + status +
                 '}';
     }
 }
@@ -0,0 +1,18 @@
+package com.bank.scheduler.domain.events;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+public final class TransferDeleted extends TransferEvent {
+    private final UUID transferId;
+
+    public TransferDeleted(UUID transferId, Instant occurredAt) {
+        super(occurredAt);
+        this.transferId = Objects.requireNonNull(transferId, "Transfer ID cannot be null");
+    }
+
+    public UUID getTransferId() {
+        return transferId;
+    }
+}
@@ -0,0 +1,22 @@
+package com.bank.scheduler.domain.events;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Base type for facts about transfers that other parts of the system react to.
+ *
+ * Events are published inside the transaction that produced them and are only
+ * delivered to asynchronous consumers after that transaction commits.
+ */
+public abstract class TransferEvent {
+    private final Instant occurredAt;
+
+    protected TransferEvent(Instant occurredAt) {
+        this.occurredAt = Objects.requireNonNull(occurredAt, "Event time cannot be null");
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+}
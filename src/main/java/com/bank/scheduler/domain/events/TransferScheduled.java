@@ -0,0 +1,18 @@
+package com.bank.scheduler.domain.events;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import java.time.Instant;
+import java.util.Objects;
+
+public final class TransferScheduled extends TransferEvent {
+    private final Transfer transfer;
+
+    public TransferScheduled(Transfer transfer, Instant occurredAt) {
+        super(occurredAt);
+        this.transfer = Objects.requireNonNull(transfer, "Transfer cannot be null");
+    }
+
+    public Transfer getTransfer() {
+        return transfer;
+    }
+}
@@ -0,0 +1,21 @@
+package com.bank.scheduler.domain.events;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * The transfer moved through its execution lifecycle; carries the transfer in its new status.
+ */
+public final class TransferStatusChanged extends TransferEvent {
+    private final Transfer transfer;
+
+    public TransferStatusChanged(Transfer transfer, Instant occurredAt) {
+        super(occurredAt);
+        this.transfer = Objects.requireNonNull(transfer, "Transfer cannot be null");
+    }
+
+    public Transfer getTransfer() {
+        return transfer;
+    }
+}
@@ -0,0 +1,10 @@
+package com.bank.scheduler.domain.events;
+
+import java.time.Instant;
+
+public final class TransfersCleared extends TransferEvent {
+
+    public TransfersCleared(Instant occurredAt) {
+        super(occurredAt);
+    }
+}
@@ -53,4 +53,52 @@ public class DomainException extends RuntimeException {
             super(message, "TRANSFER.NOT_FOUND");
         }
     }
+
+    public static class InvalidStatusTransition extends DomainException {
+        public InvalidStatusTransition(String message) {
+            super(message, "TRANSFER.INVALID_STATUS_TRANSITION");
+        }
+    }
+
+    public static class InsufficientFunds extends DomainException {
+        public InsufficientFunds(String message) {
+            super(message, "ACCOUNT.INSUFFICIENT_FUNDS");
+        }
+    }
+
+    public static class CapacityExceeded extends DomainException {
+        public CapacityExceeded(String message) {
+            super(message, "SYSTEM.CAPACITY_EXCEEDED");
+        }
+    }
+
+    public static class SettlementFailed extends DomainException {
+        public SettlementFailed(String message) {
+            super(message, "TRANSFER.SETTLEMENT_FAILED");
+        }
+    }
+
+    public static class DuplicateTransfer extends DomainException {
+        public DuplicateTransfer(String message) {
+            super(message, "TRANSFER.DUPLICATE");
+        }
+    }
+
+    public static class VelocityLimitExceeded extends DomainException {
+        public VelocityLimitExceeded(String message) {
+            super(message, "ACCOUNT.VELOCITY_LIMIT_EXCEEDED");
+        }
+    }
+
+    public static class UnsupportedCurrency extends DomainException {
+        public UnsupportedCurrency(String message) {
+            super(message, "TRANSFER.UNSUPPORTED_CURRENCY");
+        }
+    }
+
+    public static class AccountNotFound extends DomainException {
+        public AccountNotFound(String message) {
+            super(message, "ACCOUNT.NOT_FOUND");
+        }
+    }
 }
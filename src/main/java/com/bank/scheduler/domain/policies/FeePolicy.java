@@ -3,6 +3,11 @@ package com.bank.scheduler.domain.policies;
 import com.bank.scheduler.domain.valueobjects.Money;
 import java.time.LocalDate;
 
+/**
+ * One fee tier. Tiers are selected by the distance between schedule and transfer
+ * date; the built-in tiers measure it with a BusinessCalendar, which is
+ * BusinessCalendar.EVERY_DAY (plain calendar days) unless one is passed in.
+ */
 public interface FeePolicy {
     Money calculateFee(Money transferAmount, LocalDate scheduleDate, LocalDate transferDate);
     boolean isApplicable(LocalDate scheduleDate, LocalDate transferDate);
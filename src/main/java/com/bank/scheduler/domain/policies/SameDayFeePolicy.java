@@ -1,9 +1,9 @@
 package com.bank.scheduler.domain.policies;
 
+import com.bank.scheduler.domain.valueobjects.BusinessCalendar;
 import com.bank.scheduler.domain.valueobjects.Money;
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 
 /**
  * Same Day Fee Policy - Immediate Transfer Fee Calculation
@@ -26,6 +26,16 @@ public final class SameDayFeePolicy implements FeePolicy {
     private static final Money BASE_FEE = Money.of(new BigDecimal("3.00"));    // Fixed fee
     private static final int SAME_DAY = 0;                                     // Zero days difference
 
+    private final BusinessCalendar calendar;
+
+    public SameDayFeePolicy() {
+        this(BusinessCalendar.EVERY_DAY);
+    }
+
+    public SameDayFeePolicy(BusinessCalendar calendar) {
+        this.calendar = calendar;
+    }
+
     /**
      * Core fee calculation method.
      * 
@@ -60,6 +70,6 @@ public final class SameDayFeePolicy implements FeePolicy {
     }
 
     private long daysBetween(LocalDate start, LocalDate end) {
-        return ChronoUnit.DAYS.between(start, end);
+        return calendar.businessDaysBetween(start, end);
     }
 }
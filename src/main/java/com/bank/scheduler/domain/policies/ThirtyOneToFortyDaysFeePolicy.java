@@ -1,15 +1,25 @@
 package com.bank.scheduler.domain.policies;
 
+import com.bank.scheduler.domain.valueobjects.BusinessCalendar;
 import com.bank.scheduler.domain.valueobjects.Money;
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 
 public final class ThirtyOneToFortyDaysFeePolicy implements FeePolicy {
     private static final BigDecimal PERCENTAGE_RATE = new BigDecimal("0.047");
     private static final int MIN_DAYS = 31;
     private static final int MAX_DAYS = 40;
 
+    private final BusinessCalendar calendar;
+
+    public ThirtyOneToFortyDaysFeePolicy() {
+        this(BusinessCalendar.EVERY_DAY);
+    }
+
+    public ThirtyOneToFortyDaysFeePolicy(BusinessCalendar calendar) {
+        this.calendar = calendar;
+    }
+
     @Override
     public Money calculateFee(Money transferAmount, LocalDate scheduleDate, LocalDate transferDate) {
         if (!isApplicable(scheduleDate, transferDate)) {
@@ -20,7 +30,7 @@ public final class ThirtyOneToFortyDaysFeePolicy implements FeePolicy {
 
     @Override
     public boolean isApplicable(LocalDate scheduleDate, LocalDate transferDate) {
-        long days = ChronoUnit.DAYS.between(scheduleDate, transferDate);
+        long days = calendar.businessDaysBetween(scheduleDate, transferDate);
         return days >= MIN_DAYS && days <= MAX_DAYS;
     }
 }
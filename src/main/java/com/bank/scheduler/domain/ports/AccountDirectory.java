@@ -0,0 +1,16 @@
+package com.bank.scheduler.domain.ports;
+
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+
+/**
+ * Answers whether an account number belongs to an open account.
+ *
+ * AccountNumber only checks the format; the directory is what lets scheduling
+ * refuse a transfer to or from an account that does not exist, instead of the
+ * transfer failing when it executes.
+ */
+public interface AccountDirectory {
+    AccountDirectory NONE = account -> true;
+
+    boolean exists(AccountNumber account);
+}
@@ -0,0 +1,39 @@
+package com.bank.scheduler.domain.ports;
+
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+
+import java.util.UUID;
+
+/**
+ * Account balances and the postings that move them.
+ *
+ * Postings are atomic across their accounts and idempotent on the reference: a
+ * reference already posted is acknowledged without moving money again, so a
+ * reclaimed transfer can be settled twice safely. A debit that would take the
+ * source below zero is refused with DomainException.InsufficientFunds.
+ */
+public interface AccountLedger {
+
+    Money balanceOf(AccountNumber account);
+
+    void deposit(UUID reference, AccountNumber account, Money amount);
+
+    /**
+     * Debits amount + fee from source, credits amount to target and fee to the
+     * ledger's fee account.
+     *
+     * @return false when the reference had already been posted
+     */
+    boolean transfer(UUID reference, AccountNumber source, AccountNumber target, Money amount, Money fee);
+
+    /**
+     * Settles a netted pair in one posting: payer pays netAmount + payerFee,
+     * payee receives netAmount - payeeFee, and the fee account receives both fees.
+     * Either side may be refused with InsufficientFunds.
+     *
+     * @return false when the reference had already been posted
+     */
+    boolean transferNet(UUID reference, AccountNumber payer, AccountNumber payee,
+                        Money netAmount, Money payerFee, Money payeeFee);
+}
@@ -0,0 +1,17 @@
+package com.bank.scheduler.domain.ports;
+
+import com.bank.scheduler.domain.valueobjects.AuditAction;
+import com.bank.scheduler.domain.valueobjects.Money;
+
+import java.util.UUID;
+
+/**
+ * Compliance record of every change requested through the API.
+ *
+ * record() is called on request threads after the change succeeded and must not
+ * block on I/O; implementations persist asynchronously. transferId is null for
+ * CLEARED and amount is null when the action carries none.
+ */
+public interface AuditTrail {
+    void record(AuditAction action, UUID transferId, Money amount);
+}
@@ -0,0 +1,30 @@
+package com.bank.scheduler.domain.ports;
+
+import com.bank.scheduler.domain.valueobjects.DeadLetter;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Transfers that exhausted their execution attempts, kept until they are replayed.
+ *
+ * At most one dead letter exists per transfer; recording a transfer again
+ * replaces the previous entry.
+ */
+public interface DeadLetterStore {
+
+    void record(DeadLetter deadLetter);
+
+    Optional<DeadLetter> find(UUID transferId);
+
+    /**
+     * Oldest first; a null reason returns every dead letter.
+     */
+    List<DeadLetter> findAll(String reason, int limit);
+
+    /**
+     * Returns false when no dead letter existed for the transfer.
+     */
+    boolean remove(UUID transferId);
+}
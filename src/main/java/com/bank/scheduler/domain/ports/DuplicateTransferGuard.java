@@ -0,0 +1,21 @@
+package com.bank.scheduler.domain.ports;
+
+import com.bank.scheduler.domain.entities.Transfer;
+
+/**
+ * Screens a newly priced transfer for an identical one (same accounts, amount and
+ * transfer date) submitted shortly before.
+ *
+ * check() is called before the transfer is persisted. Depending on the configured
+ * policy an implementation throws DomainException.DuplicateTransfer, reports the
+ * duplicate or only counts it. accepted() is called once the transfer has been
+ * stored or logged for storage; only accepted transfers count as originals.
+ */
+public interface DuplicateTransferGuard {
+    DuplicateTransferGuard NONE = transfer -> { };
+
+    void check(Transfer transfer);
+
+    default void accepted(Transfer transfer) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.bank.scheduler.domain.ports;
+
+import com.bank.scheduler.domain.valueobjects.ExchangeRateSnapshot;
+
+/**
+ * Source of the exchange rates in force.
+ *
+ * current() returns the latest published snapshot. Callers that convert more
+ * than once for the same operation should read it once and reuse it, so every
+ * conversion in that operation uses the same rates.
+ */
+public interface ExchangeRates {
+    ExchangeRates NONE = () -> ExchangeRateSnapshot.BASE_ONLY;
+
+    ExchangeRateSnapshot current();
+}
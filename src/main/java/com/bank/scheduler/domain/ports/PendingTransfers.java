@@ -0,0 +1,16 @@
+package com.bank.scheduler.domain.ports;
+
+import com.bank.scheduler.domain.entities.Transfer;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Transfers that were accepted and acknowledged but are not stored yet, such as
+ * those waiting in the write-ahead log for a background batch.
+ */
+public interface PendingTransfers {
+    PendingTransfers NONE = List::of;
+
+    Collection<Transfer> pending();
+}
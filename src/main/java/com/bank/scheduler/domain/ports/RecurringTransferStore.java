@@ -0,0 +1,27 @@
+package com.bank.scheduler.domain.ports;
+
+import com.bank.scheduler.domain.entities.RecurringTransfer;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RecurringTransferStore {
+    void save(RecurringTransfer recurringTransfer);
+    Optional<RecurringTransfer> find(UUID id);
+    List<RecurringTransfer> findBySourceAccount(String sourceAccount);
+
+    /**
+     * Rules whose next occurrence is on or before {@code through}, earliest first.
+     * Exhausted rules are never returned.
+     */
+    List<RecurringTransfer> findDue(LocalDate through, int limit);
+
+    /**
+     * Compare-and-set on the watermark. Returns false when another materializer
+     * already moved it or the rule was cancelled.
+     */
+    boolean advance(UUID id, int expectedIndex, int nextIndex, LocalDate nextOccurrence);
+    boolean delete(UUID id);
+}
@@ -0,0 +1,26 @@
+package com.bank.scheduler.domain.ports;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.valueobjects.NetSettlement;
+
+/**
+ * Moves the money for a due transfer.
+ *
+ * Implementations must be idempotent on the transfer id: a claim abandoned by a
+ * crashed replica is taken over and settled again. Permanent failures are
+ * reported by throwing DomainException.SettlementFailed; any other exception
+ * (timeouts, connection errors) is treated as transient and retried.
+ */
+public interface SettlementGateway {
+    void settle(Transfer transfer);
+
+    /**
+     * Settles a netted group of transfers in one operation, idempotent on the
+     * settlement reference. Gateways that cannot net refuse, and the group is
+     * settled transfer by transfer instead.
+     */
+    default void settleNet(NetSettlement settlement) {
+        throw new DomainException.SettlementFailed("Settlement gateway does not support netting");
+    }
+}
@@ -0,0 +1,25 @@
+package com.bank.scheduler.domain.ports;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Durable log of transfers accepted for asynchronous persistence.
+ *
+ * A transfer is appended before the client is acknowledged and marked as
+ * persisted once it is safely stored in the TransferRepository. Entries that
+ * were appended but never marked are replayed after a restart.
+ */
+public interface TransferAcceptanceLog {
+    void append(Transfer transfer);
+    void markPersisted(Collection<UUID> transferIds);
+
+    /**
+     * Sets aside an entry the repository keeps refusing: it is kept for an operator
+     * with the reason, and no longer replayed.
+     */
+    void deadLetter(Transfer transfer, String reason);
+    List<Transfer> unpersisted();
+}
@@ -0,0 +1,9 @@
+package com.bank.scheduler.domain.ports;
+
+import com.bank.scheduler.domain.events.TransferEvent;
+
+public interface TransferEventPublisher {
+    TransferEventPublisher NONE = event -> { };
+
+    void publish(TransferEvent event);
+}
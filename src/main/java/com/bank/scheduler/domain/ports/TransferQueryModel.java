@@ -0,0 +1,27 @@
+package com.bank.scheduler.domain.ports;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.valueobjects.DailyTransferSummary;
+import com.bank.scheduler.domain.valueobjects.TransferSearchCriteria;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Query-optimized, eventually consistent view of scheduled transfers.
+ *
+ * Callers must check isCaughtUp() and fall back to the TransferRepository
+ * when the view has not yet applied every committed change.
+ */
+public interface TransferQueryModel {
+    TransferQueryModel NONE = new TransferQueryModel() {
+        @Override public boolean isCaughtUp() { return false; }
+        @Override public List<Transfer> findAll() { throw new UnsupportedOperationException(); }
+        @Override public List<Transfer> search(TransferSearchCriteria criteria) { throw new UnsupportedOperationException(); }
+        @Override public List<DailyTransferSummary> summarize(LocalDate from, LocalDate to) { throw new UnsupportedOperationException(); }
+    };
+
+    boolean isCaughtUp();
+    List<Transfer> findAll();
+    List<Transfer> search(TransferSearchCriteria criteria);
+    List<DailyTransferSummary> summarize(LocalDate from, LocalDate to);
+}
@@ -1,15 +1,82 @@
 package com.bank.scheduler.domain.ports;
 
 import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.valueobjects.TransferSearchCriteria;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface TransferRepository {
     Transfer save(Transfer transfer);
+    List<Transfer> saveAll(List<Transfer> transfers);
+
+    /**
+     * Inserts the transfers whose id is not stored yet and returns them. Rows that
+     * already exist are never overwritten, whatever their status; replaying a
+     * write-ahead log relies on this.
+     */
+    List<Transfer> insertAbsent(List<Transfer> transfers);
     Optional<Transfer> findById(UUID id);
+
+    /**
+     * Bulk lookup. The result has one element per requested id, in request order;
+     * ids that do not exist are returned as Optional.empty().
+     */
+    List<Optional<Transfer>> findAllById(List<UUID> ids);
     List<Transfer> findAll();
+    List<Transfer> search(TransferSearchCriteria criteria);
+
+    /**
+     * SCHEDULED transfers whose transfer date lies in [from, to]. Unlike search,
+     * this stays bounded by the open book instead of the whole history.
+     */
+    List<Transfer> findScheduledBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Transfers created (scheduled) on the given date, whatever their status.
+     */
+    List<Transfer> findByScheduleDate(LocalDate scheduleDate);
+
+    /**
+     * Account numbers on either side of SCHEDULED transfers dated on or after
+     * {@code from}, most transfers first, at most {@code limit} of them. Counting
+     * happens in the store; only the account numbers are returned.
+     */
+    List<String> findBusiestAccounts(LocalDate from, int limit);
     void deleteById(UUID id);
     void deleteAll();
     boolean existsById(UUID id);
+
+    /**
+     * Atomically claims up to {@code limit} transfers for execution and returns them
+     * as IN_PROGRESS. Candidates are SCHEDULED transfers due on or before
+     * {@code dueBy}, plus IN_PROGRESS claims older than {@code staleBefore}.
+     * Rows locked by a concurrent claimer are skipped, so concurrent callers
+     * (other threads or replicas) never receive the same transfer.
+     */
+    List<Transfer> claimDue(LocalDate dueBy, Instant claimedAt, Instant staleBefore, int limit);
+
+    /**
+     * Claims the given transfers that are still SCHEDULED and due on or before
+     * {@code dueBy}, with the same locking guarantees as claimDue. Ids that are
+     * missing, locked, not yet due or no longer SCHEDULED are skipped.
+     */
+    List<Transfer> claimByIds(Collection<UUID> ids, LocalDate dueBy, Instant claimedAt);
+
+    /**
+     * Compare-and-set on the status column. Returns false when the transfer no longer
+     * exists or is not in the {@code expected} status.
+     */
+    boolean updateStatus(UUID id, TransferStatus expected, TransferStatus next);
+
+    /**
+     * Moves the claim time of an IN_PROGRESS transfer forward so claimDue does not
+     * treat it as stale while its owner is still working on it (e.g. waiting to
+     * retry). Returns false when the transfer is no longer IN_PROGRESS.
+     */
+    boolean renewClaim(UUID id, Instant claimedAt);
 }
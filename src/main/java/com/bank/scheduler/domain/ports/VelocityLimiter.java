@@ -0,0 +1,21 @@
+package com.bank.scheduler.domain.ports;
+
+import com.bank.scheduler.domain.entities.Transfer;
+
+/**
+ * Caps how much a source account may schedule per hour and per day.
+ *
+ * admit() is called once per new transfer, right before it is persisted: it
+ * either records the transfer against the account's windows or throws
+ * DomainException.VelocityLimitExceeded without recording anything. When the
+ * write that follows fails, release() takes the admitted transfer back so the
+ * account is not charged for a transfer that was never accepted.
+ */
+public interface VelocityLimiter {
+    VelocityLimiter NONE = transfer -> { };
+
+    void admit(Transfer transfer);
+
+    default void release(Transfer transfer) {
+    }
+}
@@ -1,11 +1,28 @@
 package com.bank.scheduler.domain.specifications;
 
+import com.bank.scheduler.domain.valueobjects.BusinessCalendar;
+
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 
 public final class ValidTransferDateSpecification implements TransferSpecification {
-    private static final int MAX_SCHEDULE_DAYS = 50;
-    
+    public static final int MAX_SCHEDULE_DAYS = 50;
+
+    private final BusinessCalendar calendar;
+
+    public ValidTransferDateSpecification() {
+        this(BusinessCalendar.EVERY_DAY);
+    }
+
+    /**
+     * Additionally requires the transfer date to be a business day of the calendar.
+     * The horizon checked here stays in calendar days; SchedulingHorizon gives the
+     * window in the unit the fee tiers count in.
+     */
+    public ValidTransferDateSpecification(BusinessCalendar calendar) {
+        this.calendar = calendar;
+    }
+
     @Override
     public boolean isSatisfiedBy(LocalDate scheduleDate, LocalDate transferDate) {
         if (transferDate == null || scheduleDate == null) {
@@ -17,6 +34,6 @@ public final class ValidTransferDateSpecification implements TransferSpecificati
         }
         
         long daysBetween = ChronoUnit.DAYS.between(scheduleDate, transferDate);
-        return daysBetween <= MAX_SCHEDULE_DAYS;
+        return daysBetween <= MAX_SCHEDULE_DAYS && calendar.isBusinessDay(transferDate);
     }
 }
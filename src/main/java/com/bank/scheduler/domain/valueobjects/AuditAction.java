@@ -0,0 +1,10 @@
+package com.bank.scheduler.domain.valueobjects;
+
+/**
+ * What an audited request did to the transfer book.
+ */
+public enum AuditAction {
+    SCHEDULED,
+    DELETED,
+    CLEARED
+}
@@ -0,0 +1,171 @@
+package com.bank.scheduler.domain.valueobjects;
+
+import com.bank.scheduler.domain.exceptions.DomainException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Business days compiled into a bitset indexed by epoch day.
+ *
+ * Design:
+ * - Bit (day - firstDay) is set when the day is a business day; a century fits
+ *   in ~4.5 KB of longs
+ * - rank[w] holds the number of business days before word w, so
+ *   businessDaysBetween is two prefix lookups plus two popcounts: O(1)
+ * - nextBusinessDay scans forward word by word with numberOfTrailingZeros, which
+ *   is O(1) for any realistic run of holidays
+ *
+ * Lookups read two arrays and allocate nothing (the epoch-day variants return
+ * primitives). Dates outside the compiled range are refused rather than guessed.
+ *
+ * EVERY_DAY treats every calendar day as a business day, so code written against
+ * the calendar behaves exactly like plain calendar-day arithmetic until a real
+ * calendar is configured.
+ */
+public final class BusinessCalendar {
+
+    public static final BusinessCalendar EVERY_DAY = new BusinessCalendar(0, 0, null, null);
+
+    private final long firstDay;
+    private final int days;
+    private final long[] words;
+    private final int[] rank;
+
+    private BusinessCalendar(long firstDay, int days, long[] words, int[] rank) {
+        this.firstDay = firstDay;
+        this.days = days;
+        this.words = words;
+        this.rank = rank;
+    }
+
+    /**
+     * Compiles the calendar for [first, last]: every day is a business day except
+     * the given weekend days and holidays.
+     */
+    public static BusinessCalendar compile(LocalDate first, LocalDate last, Set<DayOfWeek> weekend,
+                                           Collection<LocalDate> holidays) {
+        if (last.isBefore(first)) {
+            throw new IllegalArgumentException("Calendar range ends before it starts");
+        }
+        long firstDay = first.toEpochDay();
+        int days = (int) (last.toEpochDay() - firstDay + 1);
+        long[] words = new long[(days + 63) >>> 6];
+        LocalDate day = first;
+        for (int i = 0; i < days; i++, day = day.plusDays(1)) {
+            if (!weekend.contains(day.getDayOfWeek())) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        for (LocalDate holiday : holidays) {
+            long index = holiday.toEpochDay() - firstDay;
+            if (index >= 0 && index < days) {
+                words[(int) (index >>> 6)] &= ~(1L << index);
+            }
+        }
+        int[] rank = new int[words.length + 1];
+        for (int w = 0; w < words.length; w++) {
+            rank[w + 1] = rank[w] + Long.bitCount(words[w]);
+        }
+        return new BusinessCalendar(firstDay, days, words, rank);
+    }
+
+    public boolean isBusinessDay(LocalDate date) {
+        return isBusinessDay(date.toEpochDay());
+    }
+
+    public boolean isBusinessDay(long epochDay) {
+        if (words == null) {
+            return true;
+        }
+        int index = indexOf(epochDay);
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Business days in (start, end]; negative when end is before start. Under
+     * EVERY_DAY this is the calendar-day difference.
+     */
+    public long businessDaysBetween(LocalDate start, LocalDate end) {
+        if (words == null) {
+            return ChronoUnit.DAYS.between(start, end);
+        }
+        long from = start.toEpochDay();
+        long to = end.toEpochDay();
+        if (to < from) {
+            return -(businessDaysBefore(from + 1) - businessDaysBefore(to + 1));
+        }
+        return businessDaysBefore(to + 1) - businessDaysBefore(from + 1);
+    }
+
+    /**
+     * The given date when it is a business day, otherwise the next one.
+     */
+    public LocalDate onOrNextBusinessDay(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        long next = nextBusinessEpochDay(epochDay - 1);
+        return next == epochDay ? date : LocalDate.ofEpochDay(next);
+    }
+
+    /**
+     * The date {@code days} business days after the given one; under EVERY_DAY
+     * simply date + days.
+     */
+    public LocalDate plusBusinessDays(LocalDate date, int days) {
+        if (words == null) {
+            return date.plusDays(days);
+        }
+        long epochDay = date.toEpochDay();
+        for (int i = 0; i < days; i++) {
+            epochDay = nextBusinessEpochDay(epochDay);
+        }
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * The first business day strictly after the given date.
+     */
+    public LocalDate nextBusinessDay(LocalDate date) {
+        return LocalDate.ofEpochDay(nextBusinessEpochDay(date.toEpochDay()));
+    }
+
+    public long nextBusinessEpochDay(long epochDay) {
+        if (words == null) {
+            return epochDay + 1;
+        }
+        int index = indexOf(epochDay + 1);
+        int w = index >>> 6;
+        long word = words[w] & (-1L << index);
+        while (word == 0) {
+            if (++w == words.length) {
+                throw new DomainException.InvalidTransferDate(
+                    "No business day after " + LocalDate.ofEpochDay(epochDay) + " in the business calendar");
+            }
+            word = words[w];
+        }
+        return firstDay + ((long) w << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Number of business days in [firstDay, epochDay).
+     */
+    private long businessDaysBefore(long epochDay) {
+        int i = epochDay - firstDay == days ? days : indexOf(epochDay);
+        if ((i >>> 6) == words.length) {
+            return rank[words.length];
+        }
+        return rank[i >>> 6] + Long.bitCount(words[i >>> 6] & ((1L << i) - 1));
+    }
+
+    private int indexOf(long epochDay) {
+        long index = epochDay - firstDay;
+        if (index < 0 || index >= days) {
+            throw new DomainException.InvalidTransferDate(
+                LocalDate.ofEpochDay(epochDay) + " is outside the business calendar");
+        }
+        return (int) index;
+    }
+}
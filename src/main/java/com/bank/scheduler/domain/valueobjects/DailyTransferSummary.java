@@ -0,0 +1,42 @@
+package com.bank.scheduler.domain.valueobjects;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Aggregate of the transfers in one currency due on one transfer date.
+ *
+ * Amounts of different currencies are never added together: a date with
+ * transfers in two currencies has two summaries. Fees are charged in the
+ * transfer's currency, so both totals are in {@code currency}.
+ */
+public final class DailyTransferSummary {
+    private final LocalDate transferDate;
+    private final String currency;
+    private final long count;
+    private final BigDecimal totalAmount;
+    private final BigDecimal totalFees;
+
+    public DailyTransferSummary(LocalDate transferDate, long count, BigDecimal totalAmount, BigDecimal totalFees) {
+        this(transferDate, Money.BASE_CURRENCY, count, totalAmount, totalFees);
+    }
+
+    public DailyTransferSummary(LocalDate transferDate, String currency, long count,
+            BigDecimal totalAmount, BigDecimal totalFees) {
+        this.transferDate = transferDate;
+        this.currency = currency;
+        this.count = count;
+        this.totalAmount = totalAmount;
+        this.totalFees = totalFees;
+    }
+
+    public LocalDate getTransferDate() { return transferDate; }
+
+    public String getCurrency() { return currency; }
+
+    public long getCount() { return count; }
+
+    public BigDecimal getTotalAmount() { return totalAmount; }
+
+    public BigDecimal getTotalFees() { return totalFees; }
+}
@@ -0,0 +1,36 @@
+package com.bank.scheduler.domain.valueobjects;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A transfer whose execution failed for good, with the reason it was given up on.
+ *
+ * The reason is a short, stable code (exception or error-code name) so dead
+ * letters can be grouped and replayed per cause; lastError keeps the message.
+ */
+public final class DeadLetter {
+    private final UUID transferId;
+    private final String reason;
+    private final int attempts;
+    private final String lastError;
+    private final Instant deadLetteredAt;
+
+    public DeadLetter(UUID transferId, String reason, int attempts, String lastError, Instant deadLetteredAt) {
+        this.transferId = transferId;
+        this.reason = reason;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.deadLetteredAt = deadLetteredAt;
+    }
+
+    public UUID getTransferId() { return transferId; }
+
+    public String getReason() { return reason; }
+
+    public int getAttempts() { return attempts; }
+
+    public String getLastError() { return lastError; }
+
+    public Instant getDeadLetteredAt() { return deadLetteredAt; }
+}
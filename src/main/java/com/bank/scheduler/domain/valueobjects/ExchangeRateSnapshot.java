@@ -0,0 +1,118 @@
+package com.bank.scheduler.domain.valueobjects;
+
+import com.bank.scheduler.domain.exceptions.DomainException;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One immutable set of exchange rates, with every cross rate computed up front.
+ *
+ * Design:
+ * - Each currency gets an index; cross[i][j] is the price of one unit of i in
+ *   units of j, derived once from the rates against the base currency
+ *   (DECIMAL64 precision)
+ * - convert() is two map lookups, one multiplication and the Money rounding:
+ *   no division and no locking, whatever the currency pair
+ * - A snapshot is never modified; a new rate set is published as a new snapshot
+ *
+ * The base currency is always present with rate 1, so BASE_ONLY converts nothing
+ * but still answers for the base currency.
+ */
+public final class ExchangeRateSnapshot {
+
+    public static final ExchangeRateSnapshot BASE_ONLY =
+        of(Money.BASE_CURRENCY, Map.of(), Instant.EPOCH);
+
+    private final String baseCurrency;
+    private final Map<String, Integer> index;
+    private final BigDecimal[][] cross;
+    private final Instant asOf;
+
+    private ExchangeRateSnapshot(String baseCurrency, Map<String, Integer> index, BigDecimal[][] cross, Instant asOf) {
+        this.baseCurrency = baseCurrency;
+        this.index = index;
+        this.cross = cross;
+        this.asOf = asOf;
+    }
+
+    /**
+     * Builds a snapshot from the value of one unit of each currency in the base
+     * currency. An entry for the base currency itself is ignored.
+     */
+    public static ExchangeRateSnapshot of(String baseCurrency, Map<String, BigDecimal> unitsOfBase, Instant asOf) {
+        Map<String, Integer> index = new HashMap<>();
+        BigDecimal[] toBase = new BigDecimal[unitsOfBase.size() + 1];
+        index.put(baseCurrency, 0);
+        toBase[0] = BigDecimal.ONE;
+        for (Map.Entry<String, BigDecimal> rate : unitsOfBase.entrySet()) {
+            if (rate.getKey().equals(baseCurrency)) {
+                continue;
+            }
+            if (!Money.isCurrencyCode(rate.getKey())) {
+                throw new IllegalArgumentException("Invalid currency code " + rate.getKey());
+            }
+            if (rate.getValue() == null || rate.getValue().signum() <= 0) {
+                throw new IllegalArgumentException("Exchange rate for " + rate.getKey() + " must be positive");
+            }
+            toBase[index.size()] = rate.getValue();
+            index.put(rate.getKey(), index.size());
+        }
+        int size = index.size();
+        BigDecimal[][] cross = new BigDecimal[size][size];
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                cross[from][to] = from == to ? BigDecimal.ONE : toBase[from].divide(toBase[to], MathContext.DECIMAL64);
+            }
+        }
+        return new ExchangeRateSnapshot(baseCurrency, Map.copyOf(index), cross, asOf);
+    }
+
+    public Money convert(Money money, String targetCurrency) {
+        String sourceCurrency = money.getCurrency();
+        if (sourceCurrency.equals(targetCurrency)) {
+            return money;
+        }
+        return Money.of(money.getAmount().multiply(cross[indexOf(sourceCurrency)][indexOf(targetCurrency)]),
+            targetCurrency);
+    }
+
+    public Money toBase(Money money) {
+        return convert(money, baseCurrency);
+    }
+
+    /**
+     * Units of the target currency one unit of the source currency buys.
+     */
+    public BigDecimal rate(String sourceCurrency, String targetCurrency) {
+        return cross[indexOf(sourceCurrency)][indexOf(targetCurrency)];
+    }
+
+    public boolean supports(String currency) {
+        return index.containsKey(currency);
+    }
+
+    public Set<String> currencies() {
+        return index.keySet();
+    }
+
+    public String getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    public Instant getAsOf() {
+        return asOf;
+    }
+
+    private int indexOf(String currency) {
+        Integer position = index.get(currency);
+        if (position == null) {
+            throw new DomainException.UnsupportedCurrency("No exchange rate for currency " + currency);
+        }
+        return position;
+    }
+}
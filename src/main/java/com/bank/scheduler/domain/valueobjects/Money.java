@@ -12,6 +12,8 @@ import java.util.Objects;
  * Core Properties:
  * - Invariant: amount >= 0 (non-negativity)  
  * - Invariant: scale = 2 decimal places (monetary precision)
+ * - Invariant: currency is an ISO 4217 alphabetic code; add and subtract only
+ *   combine amounts in the same currency
  * - Associative: (a + b) + c = a + (b + c)
  * - Commutative: a + b = b + a
  * - Identity: a + 0 = a
@@ -23,17 +25,27 @@ import java.util.Objects;
  */
 @Embeddable
 public final class Money {
+    /**
+     * Currency every fee policy prices in, and the one assumed for rows stored
+     * before amounts carried a currency.
+     */
+    public static final String BASE_CURRENCY = "BRL";
+
     private static final int DECIMAL_PLACES = 2;
     private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_EVEN; // IEEE 754 standard
     
     @Column(name = "amount", precision = 19, scale = 2)
     private final BigDecimal amount;
 
+    @Column(name = "currency", length = 3)
+    private final String currency;
+
     /**
      * Construtor padrão para JPA
      */
     protected Money() {
         this.amount = null;
+        this.currency = null;
     }
 
     /**
@@ -42,28 +54,61 @@ public final class Money {
      * Preconditions:
      * - amount != null
      * - amount >= 0
+     * - currency is three upper-case letters
      * 
      * Postconditions: 
      * - this.amount has exactly 2 decimal places
      * - this.amount >= 0
      */
-    private Money(BigDecimal amount) {
+    private Money(BigDecimal amount, String currency) {
         validatePreconditions(amount);
+        validateCurrency(currency);
         this.amount = amount.setScale(DECIMAL_PLACES, ROUNDING_MODE);
+        this.currency = currency;
     }
 
     /**
-     * Factory method for clearer object creation.
+     * Factory method for clearer object creation; the amount is in BASE_CURRENCY.
      */
     public static Money of(BigDecimal amount) {
-        return new Money(amount);
+        return new Money(amount, BASE_CURRENCY);
+    }
+
+    public static Money of(BigDecimal amount, String currency) {
+        return new Money(amount, currency);
     }
 
     /**
      * Zero Money constant - mathematical identity element.
      */
     public static Money zero() {
-        return new Money(BigDecimal.ZERO);
+        return new Money(BigDecimal.ZERO, BASE_CURRENCY);
+    }
+
+    public static Money zero(String currency) {
+        return new Money(BigDecimal.ZERO, currency);
+    }
+
+    /**
+     * True for three upper-case ASCII letters, the shape of an ISO 4217 alphabetic code.
+     */
+    public static boolean isCurrencyCode(String currency) {
+        if (currency == null || currency.length() != 3) {
+            return false;
+        }
+        for (int i = 0; i < 3; i++) {
+            char c = currency.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void validateCurrency(String currency) {
+        if (!isCurrencyCode(currency)) {
+            throw new IllegalArgumentException("Currency must be a three-letter ISO 4217 code");
+        }
     }
 
     private void validatePreconditions(BigDecimal amount) {
@@ -78,21 +123,23 @@ public final class Money {
 
     public Money add(Money other) {
         Objects.requireNonNull(other, "Cannot add null Money");
-        return new Money(this.amount.add(other.amount));
+        requireSameCurrency(other);
+        return new Money(this.amount.add(other.amount), getCurrency());
     }
 
     public Money subtract(Money other) {
         Objects.requireNonNull(other, "Cannot subtract null Money");
+        requireSameCurrency(other);
         BigDecimal result = this.amount.subtract(other.amount);
         if (result.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Money subtraction would result in negative amount");
         }
-        return new Money(result);
+        return new Money(result, getCurrency());
     }
 
     public Money multiply(BigDecimal multiplier) {
         Objects.requireNonNull(multiplier, "Multiplier cannot be null");
-        return new Money(this.amount.multiply(multiplier));
+        return new Money(this.amount.multiply(multiplier), getCurrency());
     }
 
     public Money percentage(BigDecimal percentage) {
@@ -105,16 +152,33 @@ public final class Money {
         return amount;
     }
 
+    /**
+     * Rows written before the currency column existed read back as BASE_CURRENCY.
+     */
+    public String getCurrency() {
+        return currency == null ? BASE_CURRENCY : currency;
+    }
+
+    public boolean isSameCurrency(Money other) {
+        return getCurrency().equals(other.getCurrency());
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (!isSameCurrency(other)) {
+            throw new IllegalArgumentException("Cannot combine " + getCurrency() + " with " + other.getCurrency());
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return amount.compareTo(money.amount) == 0;
+        return amount.compareTo(money.amount) == 0 && getCurrency().equals(money.getCurrency());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount);
+        return Objects.hash(amount, getCurrency());
     }
 }
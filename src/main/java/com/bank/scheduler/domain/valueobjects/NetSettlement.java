@@ -0,0 +1,53 @@
+package com.bank.scheduler.domain.valueobjects;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The single settlement that replaces a group of transfers between two accounts
+ * on one transfer date.
+ *
+ * The payer owes the payee the difference between what each sent the other;
+ * fees are not netted, each side pays the fees of the transfers it sent. The
+ * reference is derived from the transfer ids, so settling the same group twice
+ * posts once.
+ */
+public final class NetSettlement {
+    private final UUID reference;
+    private final LocalDate transferDate;
+    private final AccountNumber payer;
+    private final AccountNumber payee;
+    private final Money netAmount;
+    private final Money payerFee;
+    private final Money payeeFee;
+    private final List<UUID> transferIds;
+
+    public NetSettlement(UUID reference, LocalDate transferDate, AccountNumber payer, AccountNumber payee,
+                         Money netAmount, Money payerFee, Money payeeFee, List<UUID> transferIds) {
+        this.reference = reference;
+        this.transferDate = transferDate;
+        this.payer = payer;
+        this.payee = payee;
+        this.netAmount = netAmount;
+        this.payerFee = payerFee;
+        this.payeeFee = payeeFee;
+        this.transferIds = List.copyOf(transferIds);
+    }
+
+    public UUID getReference() { return reference; }
+
+    public LocalDate getTransferDate() { return transferDate; }
+
+    public AccountNumber getPayer() { return payer; }
+
+    public AccountNumber getPayee() { return payee; }
+
+    public Money getNetAmount() { return netAmount; }
+
+    public Money getPayerFee() { return payerFee; }
+
+    public Money getPayeeFee() { return payeeFee; }
+
+    public List<UUID> getTransferIds() { return transferIds; }
+}
@@ -0,0 +1,88 @@
+package com.bank.scheduler.domain.valueobjects;
+
+import com.bank.scheduler.domain.exceptions.DomainException;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * When the occurrences of a recurring transfer fall: every {@code interval} weeks
+ * or months from the first occurrence, up to and including the end date.
+ *
+ * Occurrence n is computed from the first occurrence, never from occurrence n-1,
+ * so a rule anchored on the 31st falls on the last day of shorter months and is
+ * back on the 31st afterwards instead of drifting to the 28th.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency {
+        WEEKLY,
+        MONTHLY
+    }
+
+    private final Frequency frequency;
+    private final int interval;
+    private final LocalDate firstOccurrence;
+    private final LocalDate endDate;
+
+    private RecurrenceRule(Frequency frequency, int interval, LocalDate firstOccurrence, LocalDate endDate) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.firstOccurrence = firstOccurrence;
+        this.endDate = endDate;
+    }
+
+    public static RecurrenceRule of(Frequency frequency, int interval, LocalDate firstOccurrence, LocalDate endDate) {
+        if (frequency == null || firstOccurrence == null || endDate == null) {
+            throw new DomainException.InvalidTransferData("Frequency, first occurrence and end date are required");
+        }
+        if (interval < 1) {
+            throw new DomainException.InvalidTransferData("Recurrence interval must be at least 1");
+        }
+        if (endDate.isBefore(firstOccurrence)) {
+            throw new DomainException.InvalidTransferDate("Recurrence ends before its first occurrence");
+        }
+        return new RecurrenceRule(frequency, interval, firstOccurrence, endDate);
+    }
+
+    /**
+     * Date of occurrence {@code index} (0 is the first one), or null once past the end date.
+     */
+    public LocalDate occurrence(int index) {
+        LocalDate date = frequency == Frequency.WEEKLY
+            ? firstOccurrence.plusWeeks((long) index * interval)
+            : firstOccurrence.plusMonths((long) index * interval);
+        return date.isAfter(endDate) ? null : date;
+    }
+
+    public Frequency getFrequency() { return frequency; }
+
+    public int getInterval() { return interval; }
+
+    public LocalDate getFirstOccurrence() { return firstOccurrence; }
+
+    public LocalDate getEndDate() { return endDate; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RecurrenceRule)) {
+            return false;
+        }
+        RecurrenceRule other = (RecurrenceRule) o;
+        return frequency == other.frequency && interval == other.interval
+            && firstOccurrence.equals(other.firstOccurrence) && endDate.equals(other.endDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(frequency, interval, firstOccurrence, endDate);
+    }
+
+    @Override
+    public String toString() {
+        return "every " + interval + " " + frequency + " from " + firstOccurrence + " to " + endDate;
+    }
+}
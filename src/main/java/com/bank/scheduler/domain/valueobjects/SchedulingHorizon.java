@@ -0,0 +1,37 @@
+package com.bank.scheduler.domain.valueobjects;
+
+import com.bank.scheduler.domain.specifications.ValidTransferDateSpecification;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * How far ahead transfers can be scheduled, counted in the same unit as the fee
+ * tiers: MAX_SCHEDULE_DAYS days of the calendar the tiers count in.
+ *
+ * With calendar-day tiers (EVERY_DAY) the horizon is 50 calendar days. With
+ * business-day tiers it is 50 business days, about ten calendar weeks, so the
+ * 41-50 day tier stays reachable; a calendar-day horizon would end around the
+ * 35th business day.
+ */
+public final class SchedulingHorizon {
+
+    public static final SchedulingHorizon CALENDAR_DAYS = new SchedulingHorizon(BusinessCalendar.EVERY_DAY);
+
+    private final BusinessCalendar tierCalendar;
+
+    private SchedulingHorizon(BusinessCalendar tierCalendar) {
+        this.tierCalendar = Objects.requireNonNull(tierCalendar, "Tier calendar cannot be null");
+    }
+
+    public static SchedulingHorizon countedIn(BusinessCalendar tierCalendar) {
+        return new SchedulingHorizon(tierCalendar);
+    }
+
+    /**
+     * The last date a transfer scheduled on {@code scheduleDate} may be due.
+     */
+    public LocalDate lastDate(LocalDate scheduleDate) {
+        return tierCalendar.plusBusinessDays(scheduleDate, ValidTransferDateSpecification.MAX_SCHEDULE_DAYS);
+    }
+}
@@ -0,0 +1,52 @@
+package com.bank.scheduler.domain.valueobjects;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Transfer identifier scheme with an embedded routing bucket.
+ *
+ * Layout: a random (version 4) UUID whose lowest BUCKET_BITS bits are replaced by
+ * bucketOf(sourceAccount). Version and variant bits are untouched, so ids stay
+ * valid RFC 4122 UUIDs with 118 - BUCKET_BITS random bits.
+ *
+ * Any storage layout that partitions by source account (shards, lanes, leases)
+ * can therefore locate a transfer from its id alone.
+ */
+public final class TransferIds {
+
+    public static final int BUCKET_BITS = 10;
+    public static final int BUCKETS = 1 << BUCKET_BITS;
+    private static final long BUCKET_MASK = BUCKETS - 1;
+
+    public static UUID generate(AccountNumber sourceAccount) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, (lsb & ~BUCKET_MASK) | bucketOf(sourceAccount));
+    }
+
+    public static int bucketOf(UUID transferId) {
+        return (int) (transferId.getLeastSignificantBits() & BUCKET_MASK);
+    }
+
+    public static int bucketOf(AccountNumber account) {
+        return mix(account.getValue().hashCode()) & (int) BUCKET_MASK;
+    }
+
+    /**
+     * MurmurHash3 finalizer: spreads the clustered hash codes of numeric account strings.
+     */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private TransferIds() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+}
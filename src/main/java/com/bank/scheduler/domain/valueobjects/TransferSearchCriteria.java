@@ -0,0 +1,46 @@
+package com.bank.scheduler.domain.valueobjects;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Optional filters for transfer searches. Absent filters match everything;
+ * the transfer date range is inclusive on both ends.
+ */
+public final class TransferSearchCriteria {
+    private final AccountNumber sourceAccount;
+    private final AccountNumber targetAccount;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+
+    private TransferSearchCriteria(AccountNumber sourceAccount, AccountNumber targetAccount,
+                                   LocalDate fromDate, LocalDate toDate) {
+        if (fromDate != null && toDate != null && toDate.isBefore(fromDate)) {
+            throw new IllegalArgumentException("Search range end cannot be before its start");
+        }
+        this.sourceAccount = sourceAccount;
+        this.targetAccount = targetAccount;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+    }
+
+    public static TransferSearchCriteria of(AccountNumber sourceAccount, AccountNumber targetAccount,
+                                            LocalDate fromDate, LocalDate toDate) {
+        return new TransferSearchCriteria(sourceAccount, targetAccount, fromDate, toDate);
+    }
+
+    public Optional<AccountNumber> getSourceAccount() { return Optional.ofNullable(sourceAccount); }
+
+    public Optional<AccountNumber> getTargetAccount() { return Optional.ofNullable(targetAccount); }
+
+    public Optional<LocalDate> getFromDate() { return Optional.ofNullable(fromDate); }
+
+    public Optional<LocalDate> getToDate() { return Optional.ofNullable(toDate); }
+
+    public boolean matches(AccountNumber source, AccountNumber target, LocalDate transferDate) {
+        return (sourceAccount == null || sourceAccount.equals(source))
+            && (targetAccount == null || targetAccount.equals(target))
+            && (fromDate == null || !transferDate.isBefore(fromDate))
+            && (toDate == null || !transferDate.isAfter(toDate));
+    }
+}
@@ -0,0 +1,36 @@
+package com.bank.scheduler.domain.valueobjects;
+
+/**
+ * Execution lifecycle of a scheduled transfer.
+ *
+ * SCHEDULED -> IN_PROGRESS -> EXECUTED | FAILED
+ *
+ * IN_PROGRESS -> IN_PROGRESS is allowed so that a claim abandoned by a crashed
+ * replica can be taken over once it is stale.
+ *
+ * FAILED -> SCHEDULED is allowed only to replay a dead-lettered transfer; the
+ * transfer then goes through a fresh claim.
+ */
+public enum TransferStatus {
+    SCHEDULED,
+    IN_PROGRESS,
+    EXECUTED,
+    FAILED;
+
+    public boolean canTransitionTo(TransferStatus next) {
+        switch (this) {
+            case SCHEDULED:
+                return next == IN_PROGRESS;
+            case IN_PROGRESS:
+                return next == IN_PROGRESS || next == EXECUTED || next == FAILED;
+            case FAILED:
+                return next == SCHEDULED;
+            default:
+                return false;
+        }
+    }
+
+    public boolean isTerminal() {
+        return this == EXECUTED || this == FAILED;
+    }
+}
@@ -0,0 +1,28 @@
+package com.bank.scheduler.domain.valueobjects;
+
+import com.bank.scheduler.domain.entities.Transfer;
+
+/**
+ * How soon the customer expected a transfer to move, derived from the lead time
+ * between scheduling and the transfer date, measured the same way the fee tiers
+ * measure it.
+ *
+ * PREMIUM: same day (the SameDayFeePolicy tier, the highest fee)
+ * STANDARD: 1 to 10 days ahead
+ * BULK: more than 10 days ahead
+ */
+public enum TransferUrgency {
+    PREMIUM,
+    STANDARD,
+    BULK;
+
+    private static final long STANDARD_MAX_LEAD_DAYS = 10;
+
+    public static TransferUrgency of(Transfer transfer, BusinessCalendar calendar) {
+        long leadDays = calendar.businessDaysBetween(transfer.getScheduleDate(), transfer.getTransferDate());
+        if (leadDays <= 0) {
+            return PREMIUM;
+        }
+        return leadDays <= STANDARD_MAX_LEAD_DAYS ? STANDARD : BULK;
+    }
+}
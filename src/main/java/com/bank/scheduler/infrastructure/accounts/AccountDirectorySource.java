@@ -0,0 +1,19 @@
+package com.bank.scheduler.infrastructure.accounts;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * The system of record for accounts: a core-banking service, a customer
+ * database, or the embedded table standing in for them.
+ *
+ * Lookups are bulk so a single round trip can answer for many accounts;
+ * CachingAccountDirectory sits in front and keeps most checks in memory.
+ */
+public interface AccountDirectorySource {
+
+    /**
+     * The subset of the given account numbers that belong to open accounts.
+     */
+    Set<String> findExisting(Collection<String> accountNumbers);
+}
@@ -0,0 +1,274 @@
+package com.bank.scheduler.infrastructure.accounts;
+
+import com.bank.scheduler.domain.ports.AccountDirectory;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read-through cache in front of the AccountDirectorySource, so the existence
+ * checks made while scheduling are answered from memory.
+ *
+ * Design:
+ * - Segmented LRU of account number to (exists, expiry), each segment an
+ *   access-ordered LinkedHashMap behind its own lock
+ * - Accounts that exist are kept for positive-ttl; accounts that do not are kept
+ *   only for negative-ttl, so a newly opened account becomes usable quickly while
+ *   a burst of requests for a mistyped number still costs one lookup. Nothing
+ *   tells this cache that an account was closed, so positive-ttl (5 minutes by
+ *   default) is how long a closed account can still be accepted
+ * - Concurrent misses for the same account share one in-flight lookup: the first
+ *   caller queries the source, later ones wait on its CompletableFuture
+ *
+ * Flow (on ApplicationReadyEvent):
+ * 1. Ask the repository for the preload-limit accounts with the most SCHEDULED
+ *    transfers from today onwards (counted in the database)
+ * 2. Look them up in bulk, 500 per query
+ * 3. Cache the ones that exist
+ *
+ * Disabled by default (scheduler.accounts.enabled=false): every account is then
+ * reported as existing and the source is never queried.
+ *
+ * Metrics: accounts.directory.requests (tagged hit / miss / collapsed),
+ * accounts.directory.preloaded and accounts.directory.size.
+ */
+@Component
+public class CachingAccountDirectory implements AccountDirectory {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingAccountDirectory.class);
+    private static final int SEGMENTS = 16;
+    private static final int PRELOAD_CHUNK = 500;
+
+    private final AccountDirectorySource source;
+    private final TransferRepository transferRepository;
+    private final Clock clock;
+    private final boolean enabled;
+    private final long positiveTtlMillis;
+    private final long negativeTtlMillis;
+    private final int preloadLimit;
+    private final Segment[] segments;
+    private final Map<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter collapsed;
+    private final Counter preloaded;
+
+    public CachingAccountDirectory(
+            AccountDirectorySource source,
+            TransferRepository transferRepository,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${scheduler.accounts.enabled:false}") boolean enabled,
+            @Value("${scheduler.accounts.positive-ttl:PT5M}") Duration positiveTtl,
+            @Value("${scheduler.accounts.negative-ttl:PT30S}") Duration negativeTtl,
+            @Value("${scheduler.accounts.max-entries:200000}") int maxEntries,
+            @Value("${scheduler.accounts.preload-limit:50000}") int preloadLimit) {
+        this.source = source;
+        this.transferRepository = transferRepository;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.positiveTtlMillis = positiveTtl.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+        this.preloadLimit = preloadLimit;
+        int perSegment = Math.max(1, maxEntries / SEGMENTS);
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+        this.hits = Counter.builder("accounts.directory.requests")
+            .description("Account existence checks")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("accounts.directory.requests")
+            .description("Account existence checks")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.collapsed = Counter.builder("accounts.directory.requests")
+            .description("Account existence checks")
+            .tag("result", "collapsed")
+            .register(meterRegistry);
+        this.preloaded = Counter.builder("accounts.directory.preloaded")
+            .description("Accounts loaded into the directory cache in bulk")
+            .register(meterRegistry);
+        Gauge.builder("accounts.directory.size", this, CachingAccountDirectory::size)
+            .description("Accounts currently cached, negative results included")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean exists(AccountNumber account) {
+        if (!enabled) {
+            return true;
+        }
+        String key = account.getValue();
+        Entry cached = fresh(key);
+        if (cached != null) {
+            hits.increment();
+            return cached.exists;
+        }
+        CompletableFuture<Boolean> lookup = new CompletableFuture<>();
+        CompletableFuture<Boolean> pending = inFlight.putIfAbsent(key, lookup);
+        if (pending != null) {
+            collapsed.increment();
+            return await(pending);
+        }
+        try {
+            cached = fresh(key);
+            if (cached != null) {
+                hits.increment();
+                lookup.complete(cached.exists);
+                return cached.exists;
+            }
+            misses.increment();
+            boolean exists = !source.findExisting(List.of(key)).isEmpty();
+            cache(key, exists);
+            lookup.complete(exists);
+            return exists;
+        } catch (RuntimeException e) {
+            lookup.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, lookup);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadHotAccounts() {
+        if (!enabled || preloadLimit <= 0) {
+            return;
+        }
+        int loaded = preload(transferRepository.findBusiestAccounts(LocalDate.now(clock), preloadLimit));
+        if (loaded > 0) {
+            log.info("Account directory cache preloaded with {} accounts", loaded);
+        }
+    }
+
+    /**
+     * Looks the accounts up in bulk and caches those that exist.
+     *
+     * @return the number of accounts cached
+     */
+    public int preload(Collection<String> accountNumbers) {
+        List<String> accounts = new ArrayList<>(accountNumbers);
+        int loaded = 0;
+        for (int from = 0; from < accounts.size(); from += PRELOAD_CHUNK) {
+            Set<String> existing = source.findExisting(
+                accounts.subList(from, Math.min(from + PRELOAD_CHUNK, accounts.size())));
+            existing.forEach(account -> cache(account, true));
+            loaded += existing.size();
+        }
+        preloaded.increment(loaded);
+        return loaded;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * The cached entry when it has not expired; a lookup that lost the race to
+     * another caller's completed lookup finds its result here.
+     */
+    private Entry fresh(String account) {
+        Entry cached = segmentFor(account).get(account);
+        return cached != null && cached.expiresAt > clock.millis() ? cached : null;
+    }
+
+    private void cache(String account, boolean exists) {
+        long ttl = exists ? positiveTtlMillis : negativeTtlMillis;
+        segmentFor(account).put(account, new Entry(exists, clock.millis() + ttl));
+    }
+
+    private static boolean await(CompletableFuture<Boolean> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private Segment segmentFor(String account) {
+        int hash = account.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    private static final class Entry {
+        private final boolean exists;
+        private final long expiresAt;
+
+        private Entry(boolean exists, long expiresAt) {
+            this.exists = exists;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Entry> entries;
+
+        Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(capacity, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        Entry get(String account) {
+            lock.lock();
+            try {
+                return entries.get(account);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(String account, Entry entry) {
+            lock.lock();
+            try {
+                entries.put(account, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
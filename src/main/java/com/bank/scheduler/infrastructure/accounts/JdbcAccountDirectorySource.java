@@ -0,0 +1,87 @@
+package com.bank.scheduler.infrastructure.accounts;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Stand-in account directory: an account_directory table in the primary
+ * database, seeded from a file of account numbers (one per line, # comments)
+ * when the table is empty.
+ *
+ * findExisting() issues one IN query per 500 accounts. Select it with
+ * scheduler.accounts.source=jdbc (the default); a deployment with a real
+ * account service provides its own AccountDirectorySource instead.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.accounts.source", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcAccountDirectorySource implements AccountDirectorySource {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcAccountDirectorySource.class);
+    private static final int IN_CLAUSE_CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcAccountDirectorySource(
+            DataSource dataSource,
+            @Value("${scheduler.accounts.seed:classpath:accounts/directory.txt}") Resource seed) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS account_directory ("
+            + "account_number VARCHAR(10) PRIMARY KEY, "
+            + "status VARCHAR(16) DEFAULT 'OPEN' NOT NULL)");
+        seedIfEmpty(seed);
+    }
+
+    @Override
+    public Set<String> findExisting(Collection<String> accountNumbers) {
+        List<String> accounts = new ArrayList<>(accountNumbers);
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < accounts.size(); from += IN_CLAUSE_CHUNK) {
+            List<String> chunk = accounts.subList(from, Math.min(from + IN_CLAUSE_CHUNK, accounts.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            existing.addAll(jdbcTemplate.queryForList("SELECT account_number FROM account_directory "
+                + "WHERE status = 'OPEN' AND account_number IN (" + placeholders + ")", String.class, chunk.toArray()));
+        }
+        return existing;
+    }
+
+    private void seedIfEmpty(Resource seed) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM account_directory", Long.class);
+        if ((count != null && count > 0) || !seed.exists()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>();
+        try (InputStream input = seed.getInputStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    rows.add(new Object[] {line});
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read account directory seed " + seed, e);
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO account_directory (account_number) VALUES (?)", rows);
+        log.info("Account directory seeded with {} accounts from {}", rows.size(), seed);
+    }
+}
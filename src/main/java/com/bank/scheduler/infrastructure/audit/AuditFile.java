@@ -0,0 +1,105 @@
+package com.bank.scheduler.infrastructure.audit;
+
+import com.bank.scheduler.domain.valueobjects.AuditAction;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Append-only audit log: one CSV line per record,
+ * {@code timestamp,action,transferId,amount}, fsynced once per batch.
+ *
+ * Lines are encoded into a pending buffer as the consumer drains the ring and
+ * written by flush(). A failed write keeps the buffer, and the consumer retries it
+ * before draining anything else, so records are never reordered or lost on an
+ * I/O error (the ring fills up instead).
+ */
+final class AuditFile implements AuditRingBuffer.EntryHandler {
+
+    private static final AuditAction[] ACTIONS = AuditAction.values();
+
+    private final Path file;
+    private final StringBuilder pending = new StringBuilder(64 * 1024);
+    private int pendingRecords;
+    private FileChannel channel;
+
+    AuditFile(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public void onEntry(long sequence, int action, long idHigh, long idLow, long amountCents, long timestampMillis) {
+        pending.append(Instant.ofEpochMilli(timestampMillis)).append(',')
+            .append(ACTIONS[action].name()).append(',');
+        if (idHigh != 0 || idLow != 0) {
+            pending.append(new UUID(idHigh, idLow));
+        }
+        pending.append(',');
+        if (amountCents >= 0) {
+            pending.append(BigDecimal.valueOf(amountCents, 2).toPlainString());
+        }
+        pending.append('\n');
+        pendingRecords++;
+    }
+
+    boolean hasPending() {
+        return pendingRecords > 0;
+    }
+
+    /**
+     * Writes and fsyncs the pending lines.
+     *
+     * @return the number of records made durable
+     */
+    int flush() throws IOException {
+        if (pendingRecords == 0) {
+            return 0;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(pending.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            FileChannel target = open();
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+            target.force(false);
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+        int written = pendingRecords;
+        pending.setLength(0);
+        pendingRecords = 0;
+        return written;
+    }
+
+    void close() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // reopened by the next flush
+            }
+            channel = null;
+        }
+    }
+
+    private FileChannel open() throws IOException {
+        if (channel == null) {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+}
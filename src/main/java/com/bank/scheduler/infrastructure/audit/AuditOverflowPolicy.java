@@ -0,0 +1,18 @@
+package com.bank.scheduler.infrastructure.audit;
+
+/**
+ * What a request thread does when the audit ring buffer is full.
+ */
+public enum AuditOverflowPolicy {
+
+    /**
+     * Wait up to scheduler.audit.block-timeout-ms for the consumer to free a slot,
+     * then drop. Rides out short bursts at the cost of request latency.
+     */
+    BLOCK,
+
+    /**
+     * Discard the record and count it in audit.records.dropped.
+     */
+    DROP
+}
@@ -0,0 +1,114 @@
+package com.bank.scheduler.infrastructure.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Preallocated multi-producer, single-consumer ring of fixed-size audit entries.
+ *
+ * Design:
+ * - Entries are stored column-wise in primitive arrays (no objects per record);
+ *   slot = sequence & mask
+ * - Producers claim a sequence with a CAS on head, refusing when the claim would
+ *   overwrite a slot the consumer has not read (head - tail == capacity)
+ * - After filling the slot the producer stores the sequence in published[slot]
+ *   with release semantics; the consumer reads a slot only once published[slot]
+ *   equals the sequence it expects, so partially written entries are never seen
+ *   and a slow producer simply holds back the entries behind it
+ * - The consumer advances tail after handling a run, which frees the slots
+ *
+ * publish() takes no lock and allocates nothing. drain() must only be called from
+ * one thread at a time.
+ */
+final class AuditRingBuffer {
+
+    /**
+     * Receives drained entries in sequence order.
+     */
+    interface EntryHandler {
+        void onEntry(long sequence, int action, long idHigh, long idLow, long amountCents, long timestampMillis);
+    }
+
+    private final int capacity;
+    private final int mask;
+    private final int[] actions;
+    private final long[] idHigh;
+    private final long[] idLow;
+    private final long[] amounts;
+    private final long[] timestamps;
+    private final AtomicLongArray published;
+    private final AtomicLong head = new AtomicLong();
+    private volatile long tail;
+
+    AuditRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("Audit ring buffer needs at least 2 slots");
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.actions = new int[capacity];
+        this.idHigh = new long[capacity];
+        this.idLow = new long[capacity];
+        this.amounts = new long[capacity];
+        this.timestamps = new long[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * @return false when the ring is full and nothing was written
+     */
+    boolean publish(int action, long high, long low, long amountCents, long timestampMillis) {
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail >= capacity) {
+                return false;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+        int slot = (int) (sequence & mask);
+        actions[slot] = action;
+        idHigh[slot] = high;
+        idLow[slot] = low;
+        amounts[slot] = amountCents;
+        timestamps[slot] = timestampMillis;
+        published.lazySet(slot, sequence);
+        return true;
+    }
+
+    /**
+     * Hands up to maxEntries published entries to the handler in order.
+     *
+     * @return the number of entries drained
+     */
+    int drain(EntryHandler handler, int maxEntries) {
+        long next = tail;
+        int drained = 0;
+        while (drained < maxEntries) {
+            int slot = (int) (next & mask);
+            if (published.get(slot) != next) {
+                break;
+            }
+            handler.onEntry(next, actions[slot], idHigh[slot], idLow[slot], amounts[slot], timestamps[slot]);
+            next++;
+            drained++;
+        }
+        if (drained > 0) {
+            tail = next;
+        }
+        return drained;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Claimed but not yet drained entries (includes entries still being written).
+     */
+    int size() {
+        return (int) Math.max(0, head.get() - tail);
+    }
+}
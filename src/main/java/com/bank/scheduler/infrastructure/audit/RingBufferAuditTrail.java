@@ -0,0 +1,203 @@
+package com.bank.scheduler.infrastructure.audit;
+
+import com.bank.scheduler.domain.ports.AuditTrail;
+import com.bank.scheduler.domain.valueobjects.AuditAction;
+import com.bank.scheduler.domain.valueobjects.Money;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Audit trail backed by a lock-free ring buffer and an append-only file.
+ *
+ * Flow:
+ * 1. Request threads pack the record into primitives and publish it into the ring
+ *    (a CAS and five array stores)
+ * 2. A drain task on auditExecutor, submitted every flush interval and whenever
+ *    the ring is half full, moves published entries into the audit file in
+ *    batches and fsyncs each batch
+ * 3. On a full ring the overflow policy applies: DROP (default) discards the
+ *    record and counts it, BLOCK parks the request thread until the drain frees a
+ *    slot (up to block-timeout, a few ms by default, then the record is dropped and
+ *    logged). A full ring means the audit file is failing or cannot keep up, and
+ *    waiting longer would only stall every controller thread with it
+ *
+ * The drain lock keeps a single consumer even when several drain tasks are queued
+ * on auditExecutor. Shutdown drains whatever is left.
+ *
+ * Metrics: audit.ring.fill (0..1), audit.ring.pending, audit.records.written,
+ * audit.records.dropped, audit.producer.waits and audit.flush.
+ */
+@Component
+public class RingBufferAuditTrail implements AuditTrail {
+
+    private static final Logger log = LoggerFactory.getLogger(RingBufferAuditTrail.class);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final AuditRingBuffer ring;
+    private final AuditFile auditFile;
+    private final Executor auditExecutor;
+    private final boolean enabled;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final int batchSize;
+    private final int drainThreshold;
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter waits;
+    private final Timer flushTimer;
+
+    public RingBufferAuditTrail(
+            @Qualifier("auditExecutor") Executor auditExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${scheduler.audit.enabled:true}") boolean enabled,
+            @Value("${scheduler.audit.file:data/audit/transfers.audit}") String file,
+            @Value("${scheduler.audit.ring-capacity:8192}") int ringCapacity,
+            @Value("${scheduler.audit.batch-size:1024}") int batchSize,
+            @Value("${scheduler.audit.overflow:DROP}") AuditOverflowPolicy overflowPolicy,
+            @Value("${scheduler.audit.block-timeout-ms:2}") long blockTimeoutMillis) {
+        this.ring = new AuditRingBuffer(ringCapacity);
+        this.auditFile = new AuditFile(Paths.get(file));
+        this.auditExecutor = auditExecutor;
+        this.enabled = enabled;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+        this.batchSize = batchSize;
+        this.drainThreshold = ring.capacity() / 2;
+        this.written = Counter.builder("audit.records.written")
+            .description("Audit records made durable in the audit file")
+            .register(meterRegistry);
+        this.dropped = Counter.builder("audit.records.dropped")
+            .description("Audit records discarded because the ring buffer was full")
+            .register(meterRegistry);
+        this.waits = Counter.builder("audit.producer.waits")
+            .description("Request threads that waited for space in the audit ring buffer")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.flush")
+            .description("Time to write and fsync one batch of audit records")
+            .register(meterRegistry);
+        Gauge.builder("audit.ring.fill", ring, buffer -> (double) buffer.size() / buffer.capacity())
+            .description("Fraction of the audit ring buffer holding undrained records")
+            .register(meterRegistry);
+        Gauge.builder("audit.ring.pending", ring, AuditRingBuffer::size)
+            .description("Audit records published but not yet drained")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void record(AuditAction action, UUID transferId, Money amount) {
+        if (!enabled) {
+            return;
+        }
+        long high = transferId == null ? 0 : transferId.getMostSignificantBits();
+        long low = transferId == null ? 0 : transferId.getLeastSignificantBits();
+        long cents = amount == null ? -1 : amount.getAmount().movePointRight(2).longValue();
+        long now = System.currentTimeMillis();
+        if (!ring.publish(action.ordinal(), high, low, cents, now)) {
+            overflow(action, high, low, cents, now);
+        }
+        if (ring.size() >= drainThreshold) {
+            requestDrain();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.audit.flush-interval-ms:100}")
+    public void flush() {
+        if (ring.size() > 0 || auditFile.hasPending()) {
+            requestDrain();
+        }
+    }
+
+    /**
+     * Moves every published record into the audit file. Safe to call from any
+     * thread; concurrent calls return immediately.
+     *
+     * @return the number of records made durable
+     */
+    public int drain() {
+        drainRequested.set(false);
+        if (!drainLock.tryLock()) {
+            return 0;
+        }
+        int total = 0;
+        try {
+            total += writePending();
+            while (ring.drain(auditFile, batchSize) > 0) {
+                total += writePending();
+            }
+        } catch (IOException e) {
+            log.error("Failed to write audit records, keeping them for the next flush", e);
+        } finally {
+            drainLock.unlock();
+        }
+        return total;
+    }
+
+    @PreDestroy
+    public void close() {
+        drainLock.lock();
+        try {
+            drain();
+        } finally {
+            drainLock.unlock();
+            auditFile.close();
+        }
+    }
+
+    private int writePending() throws IOException {
+        if (!auditFile.hasPending()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        int records = auditFile.flush();
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        written.increment(records);
+        return records;
+    }
+
+    private void overflow(AuditAction action, long high, long low, long cents, long timestamp) {
+        if (overflowPolicy == AuditOverflowPolicy.BLOCK) {
+            waits.increment();
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            do {
+                requestDrain();
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                if (ring.publish(action.ordinal(), high, low, cents, timestamp)) {
+                    return;
+                }
+            } while (System.nanoTime() < deadline);
+            log.error("Audit ring buffer still full after {} ms, dropping {} record for {}",
+                TimeUnit.NANOSECONDS.toMillis(blockTimeoutNanos), action, high == 0 && low == 0 ? "-" : new UUID(high, low));
+        }
+        dropped.increment();
+    }
+
+    private void requestDrain() {
+        if (drainRequested.compareAndSet(false, true)) {
+            try {
+                auditExecutor.execute(this::drain);
+            } catch (RuntimeException e) {
+                drainRequested.set(false);
+            }
+        }
+    }
+}
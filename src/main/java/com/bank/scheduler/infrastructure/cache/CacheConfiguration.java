@@ -23,9 +23,9 @@ import java.util.Map;
  * - Graceful degradation on cache failures
  * 
  * Performance Design:
- * - Account validation: High frequency, short TTL (5min)
  * - Fee calculations: Medium frequency, longer TTL (15min) 
- * - Exchange rates: Low frequency, extended TTL (1hour)
+ * - Exchange rates are not cached here: AtomicExchangeRateTable holds them in memory
+ * - Nor are account existence checks: CachingAccountDirectory answers them in-process
  */
 @Configuration
 @EnableCaching
@@ -50,18 +50,10 @@ public class CacheConfiguration {
         // Different cache strategies for different data types
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
         
-        // High-frequency, short-lived: Account validation results
-        cacheConfigurations.put("accountValidation", defaultConfig
-            .entryTtl(Duration.ofMinutes(5)));
-        
         // Medium-frequency, business-critical: Fee calculation results  
         cacheConfigurations.put("feeCalculations", defaultConfig
             .entryTtl(Duration.ofMinutes(15)));
         
-        // Low-frequency, stable: Exchange rate data
-        cacheConfigurations.put("exchangeRates", defaultConfig
-            .entryTtl(Duration.ofHours(1)));
-        
         // User perms cache - 10 minutes is plenty
         cacheConfigurations.put("userPermissions", defaultConfig
             .entryTtl(Duration.ofMinutes(10)));
@@ -0,0 +1,209 @@
+package com.bank.scheduler.infrastructure.cache;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded second-level cache for Transfer entities.
+ *
+ * Design:
+ * - Segmented LRU: each segment is an access-ordered LinkedHashMap behind its own lock,
+ *   so concurrent lookups for different ids rarely contend
+ * - Capacity is split evenly across segments; the eldest entry of a full segment is evicted
+ * - Entries expire ttl after they were cached; an expired entry counts as a miss
+ * - Hit, miss and eviction counters plus a size gauge are published to Micrometer
+ *
+ * Entries are detached, immutable snapshots; writers on this replica keep the cache
+ * coherent through put/evict/clear (see CachingTransferRepository). Changes made by
+ * other replicas are evicted when the read model polls the change log
+ * (TransferProjection); the ttl bounds staleness when that poll is late or failing.
+ */
+@Component
+public class TransferEntityCache {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final long ttlNanos;
+
+    public TransferEntityCache(
+            MeterRegistry meterRegistry,
+            @Value("${scheduler.cache.transfers.max-entries:10000}") int maxEntries,
+            @Value("${scheduler.cache.transfers.ttl:PT5S}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+        int perSegment = Math.max(1, maxEntries / SEGMENTS);
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+        this.hits = Counter.builder("transfers.cache.requests")
+            .description("Transfer entity cache lookups")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("transfers.cache.requests")
+            .description("Transfer entity cache lookups")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.evictions = Counter.builder("transfers.cache.evictions")
+            .description("Transfer entities evicted to respect the cache bound")
+            .register(meterRegistry);
+        Gauge.builder("transfers.cache.size", this, TransferEntityCache::size)
+            .description("Transfer entities currently cached")
+            .register(meterRegistry);
+    }
+
+    public Optional<Transfer> get(UUID id) {
+        Transfer cached = segmentFor(id).get(id);
+        if (cached == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(cached);
+    }
+
+    public void put(Transfer transfer) {
+        segmentFor(transfer.getId()).put(transfer.getId(), new Entry(transfer, System.nanoTime() + ttlNanos));
+    }
+
+    public void evict(UUID id) {
+        segmentFor(id).remove(id);
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Cached ids, least recently used first within each segment, so putting them
+     * back in this order rebuilds the same recency.
+     */
+    public List<UUID> keys() {
+        List<UUID> keys = new ArrayList<>();
+        for (Segment segment : segments) {
+            segment.copyKeysTo(keys);
+        }
+        return keys;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(UUID id) {
+        int hash = id.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    private final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<UUID, Entry> entries;
+
+        Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(capacity, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                    boolean full = size() > capacity;
+                    if (full) {
+                        evictions.increment();
+                    }
+                    return full;
+                }
+            };
+        }
+
+        Transfer get(UUID id) {
+            lock.lock();
+            try {
+                Entry entry = entries.get(id);
+                if (entry == null) {
+                    return null;
+                }
+                if (System.nanoTime() - entry.expiresAtNanos >= 0) {
+                    entries.remove(id);
+                    return null;
+                }
+                return entry.transfer;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(UUID id, Entry entry) {
+            lock.lock();
+            try {
+                entries.put(id, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(UUID id) {
+            lock.lock();
+            try {
+                entries.remove(id);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                entries.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void copyKeysTo(List<UUID> keys) {
+            lock.lock();
+            try {
+                keys.addAll(entries.keySet());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Transfer transfer;
+        private final long expiresAtNanos;
+
+        private Entry(Transfer transfer, long expiresAtNanos) {
+            this.transfer = transfer;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.bank.scheduler.infrastructure.calendar;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Holiday definitions, one per line, expanded into concrete dates for a year range.
+ *
+ * Formats:
+ * - MM-DD: the same day every year
+ * - YYYY-MM-DD: a single date
+ * - EASTER+N / EASTER-N: N days from Easter Sunday (Carnival, Good Friday, Corpus Christi)
+ *
+ * Blank lines and lines starting with # are ignored.
+ */
+public final class HolidayDefinitions {
+
+    private final List<MonthDay> everyYear = new ArrayList<>();
+    private final List<LocalDate> fixed = new ArrayList<>();
+    private final List<Integer> easterOffsets = new ArrayList<>();
+
+    private HolidayDefinitions() {
+    }
+
+    public static HolidayDefinitions parse(InputStream input) {
+        HolidayDefinitions definitions = new HolidayDefinitions();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                definitions.add(line.trim(), lineNumber);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read holiday definitions", e);
+        }
+        return definitions;
+    }
+
+    public Set<LocalDate> expand(int fromYear, int toYear) {
+        Set<LocalDate> holidays = new HashSet<>();
+        for (int year = fromYear; year <= toYear; year++) {
+            for (MonthDay monthDay : everyYear) {
+                if (monthDay.isValidYear(year)) {
+                    holidays.add(monthDay.atYear(year));
+                }
+            }
+            LocalDate easter = easterSunday(year);
+            for (int offset : easterOffsets) {
+                holidays.add(easter.plusDays(offset));
+            }
+        }
+        for (LocalDate date : fixed) {
+            if (date.getYear() >= fromYear && date.getYear() <= toYear) {
+                holidays.add(date);
+            }
+        }
+        return holidays;
+    }
+
+    /**
+     * Anonymous Gregorian algorithm (Meeus/Jones/Butcher).
+     */
+    static LocalDate easterSunday(int year) {
+        int a = year % 19;
+        int b = year / 100;
+        int c = year % 100;
+        int d = b / 4;
+        int e = b % 4;
+        int f = (b + 8) / 25;
+        int g = (b - f + 1) / 3;
+        int h = (19 * a + b - d - g + 15) % 30;
+        int i = c / 4;
+        int k = c % 4;
+        int l = (32 + 2 * e + 2 * i - h - k) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int month = (h + l - 7 * m + 114) / 31;
+        int day = ((h + l - 7 * m + 114) % 31) + 1;
+        return LocalDate.of(year, month, day);
+    }
+
+    private void add(String definition, int lineNumber) {
+        if (definition.isEmpty() || definition.startsWith("#")) {
+            return;
+        }
+        try {
+            if (definition.toUpperCase().startsWith("EASTER")) {
+                String offset = definition.substring("EASTER".length()).trim();
+                easterOffsets.add(offset.isEmpty() ? 0 : Integer.parseInt(offset.replace("+", "")));
+            } else if (definition.length() == 5) {
+                everyYear.add(MonthDay.parse("--" + definition));
+            } else {
+                fixed.add(LocalDate.parse(definition));
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(
+                "Invalid holiday definition on line " + lineNumber + ": " + definition, e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.bank.scheduler.infrastructure.configuration;
+
+import com.bank.scheduler.domain.valueobjects.BusinessCalendar;
+import com.bank.scheduler.infrastructure.calendar.HolidayDefinitions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compiles the business calendar once at startup.
+ *
+ * With scheduler.calendar.enabled=false (the default) the calendar is
+ * BusinessCalendar.EVERY_DAY and scheduling behaves as before. When enabled,
+ * execution only runs on business days and transfers cannot be scheduled for a
+ * weekend or holiday; scheduler.calendar.fee-tiers=business-days additionally
+ * counts fee tiers, and with them the scheduling horizon, in business days.
+ */
+@Configuration
+public class BusinessCalendarConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(BusinessCalendarConfiguration.class);
+
+    @Bean
+    public BusinessCalendar businessCalendar(
+            Clock clock,
+            @Value("${scheduler.calendar.enabled:false}") boolean enabled,
+            @Value("${scheduler.calendar.weekend:SATURDAY,SUNDAY}") List<DayOfWeek> weekend,
+            @Value("${scheduler.calendar.holidays:classpath:calendar/holidays-br.txt}") Resource holidays,
+            @Value("${scheduler.calendar.years-back:1}") int yearsBack,
+            @Value("${scheduler.calendar.years-ahead:10}") int yearsAhead) {
+        if (!enabled) {
+            return BusinessCalendar.EVERY_DAY;
+        }
+        int currentYear = LocalDate.now(clock).getYear();
+        int fromYear = currentYear - yearsBack;
+        int toYear = currentYear + yearsAhead;
+        Set<LocalDate> holidayDates;
+        try (InputStream input = holidays.getInputStream()) {
+            holidayDates = HolidayDefinitions.parse(input).expand(fromYear, toYear);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load holidays from " + holidays, e);
+        }
+        Set<DayOfWeek> weekendDays = weekend.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekend);
+        log.info("Business calendar {}..{}: {} weekend days per week, {} holidays",
+            fromYear, toYear, weekendDays.size(), holidayDates.size());
+        return BusinessCalendar.compile(LocalDate.of(fromYear, 1, 1), LocalDate.of(toYear, 12, 31),
+            weekendDays, holidayDates);
+    }
+}
@@ -0,0 +1,26 @@
+package com.bank.scheduler.infrastructure.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * The clock behind every business "now": today's date for scheduling and fee
+ * tiers, due dates for execution, claim and event timestamps.
+ *
+ * Production uses the system clock in the default zone (what LocalDate.now()
+ * used before). Tests and the simulation harness replace the bean, or pass
+ * their own Clock, to move time at will. Lease expiry and executor timings stay
+ * on real time: they measure liveness between replicas, not business time.
+ */
+@Configuration
+public class ClockConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(Clock.class)
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
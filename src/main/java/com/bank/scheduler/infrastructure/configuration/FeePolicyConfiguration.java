@@ -1,6 +1,9 @@
 package com.bank.scheduler.infrastructure.configuration;
 
 import com.bank.scheduler.domain.policies.*;
+import com.bank.scheduler.domain.valueobjects.BusinessCalendar;
+import com.bank.scheduler.domain.valueobjects.SchedulingHorizon;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -22,34 +25,55 @@ import java.util.Set;
 @Configuration
 public class FeePolicyConfiguration {
 
+    private final BusinessCalendar feeCalendar;
+
+    /**
+     * scheduler.calendar.fee-tiers=business-days counts tier boundaries in
+     * business days; the default keeps calendar days.
+     */
+    public FeePolicyConfiguration(
+            BusinessCalendar businessCalendar,
+            @Value("${scheduler.calendar.fee-tiers:calendar-days}") String feeTiers) {
+        this.feeCalendar = "business-days".equals(feeTiers) ? businessCalendar : BusinessCalendar.EVERY_DAY;
+    }
+
+    /**
+     * The scheduling window in the tiers' unit, so the last tier stays reachable
+     * when tiers count business days.
+     */
+    @Bean
+    public SchedulingHorizon schedulingHorizon() {
+        return SchedulingHorizon.countedIn(feeCalendar);
+    }
+
     @Bean
     public SameDayFeePolicy sameDayFeePolicy() {
-        return new SameDayFeePolicy();
+        return new SameDayFeePolicy(feeCalendar);
     }
 
     @Bean
     public TenDaysFeePolicy tenDaysFeePolicy() {
-        return new TenDaysFeePolicy();
+        return new TenDaysFeePolicy(feeCalendar);
     }
 
     @Bean
     public ElevenToTwentyDaysFeePolicy elevenToTwentyDaysFeePolicy() {
-        return new ElevenToTwentyDaysFeePolicy();
+        return new ElevenToTwentyDaysFeePolicy(feeCalendar);
     }
 
     @Bean
     public TwentyOneToThirtyDaysFeePolicy twentyOneToThirtyDaysFeePolicy() {
-        return new TwentyOneToThirtyDaysFeePolicy();
+        return new TwentyOneToThirtyDaysFeePolicy(feeCalendar);
     }
 
     @Bean
     public ThirtyOneToFortyDaysFeePolicy thirtyOneToFortyDaysFeePolicy() {
-        return new ThirtyOneToFortyDaysFeePolicy();
+        return new ThirtyOneToFortyDaysFeePolicy(feeCalendar);
     }
 
     @Bean
     public FortyOneToFiftyDaysFeePolicy fortyOneToFiftyDaysFeePolicy() {
-        return new FortyOneToFiftyDaysFeePolicy();
+        return new FortyOneToFiftyDaysFeePolicy(feeCalendar);
     }
 
     /**
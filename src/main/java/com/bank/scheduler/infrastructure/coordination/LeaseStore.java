@@ -0,0 +1,138 @@
+package com.bank.scheduler.infrastructure.coordination;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lease and membership tables in the primary database.
+ *
+ * Tables:
+ * - scheduler_members: one row per live replica, refreshed every heartbeat
+ * - partition_leases: one row per (job, partition) with owner, epoch and expiry
+ *
+ * Every ownership change is a single conditional UPDATE, so two replicas can
+ * never both believe they won the same partition at the same epoch. Callers pass
+ * database time (databaseTime()) as "now", so a replica whose clock runs ahead
+ * cannot see a live lease as expired.
+ */
+public class LeaseStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LeaseStore(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public void initializeSchema() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS scheduler_members ("
+            + "member_id VARCHAR(128) PRIMARY KEY, "
+            + "expires_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS partition_leases ("
+            + "job VARCHAR(64) NOT NULL, "
+            + "partition_id INT NOT NULL, "
+            + "owner VARCHAR(128), "
+            + "epoch BIGINT DEFAULT 0 NOT NULL, "
+            + "expires_at TIMESTAMP NOT NULL, "
+            + "PRIMARY KEY (job, partition_id))");
+    }
+
+    public Instant databaseTime() {
+        return jdbcTemplate.queryForObject("SELECT CURRENT_TIMESTAMP", OffsetDateTime.class).toInstant();
+    }
+
+    public void heartbeat(String memberId, Instant expiresAt) {
+        int updated = jdbcTemplate.update("UPDATE scheduler_members SET expires_at = ? WHERE member_id = ?",
+            Timestamp.from(expiresAt), memberId);
+        if (updated == 0) {
+            insertIgnoringDuplicate("INSERT INTO scheduler_members (member_id, expires_at) VALUES (?, ?)",
+                memberId, Timestamp.from(expiresAt));
+        }
+    }
+
+    public int liveMembers(Instant now) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM scheduler_members WHERE expires_at > ?", Integer.class, Timestamp.from(now));
+        return count == null ? 0 : count;
+    }
+
+    public void leave(String memberId) {
+        jdbcTemplate.update("DELETE FROM scheduler_members WHERE member_id = ?", memberId);
+    }
+
+    public void ensurePartitions(String job, int partitionCount) {
+        Integer existing = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM partition_leases WHERE job = ?", Integer.class, job);
+        if (existing != null && existing >= partitionCount) {
+            return;
+        }
+        Timestamp epochStart = Timestamp.from(Instant.EPOCH);
+        for (int partition = 0; partition < partitionCount; partition++) {
+            insertIgnoringDuplicate(
+                "INSERT INTO partition_leases (job, partition_id, owner, epoch, expires_at) VALUES (?, ?, NULL, 0, ?)",
+                job, partition, epochStart);
+        }
+    }
+
+    /**
+     * Takes a partition that is free or whose lease has expired, bumping its epoch.
+     */
+    public Optional<PartitionLease> tryClaim(String job, int partition, String owner, Instant now, Instant expiresAt) {
+        int updated = jdbcTemplate.update(
+            "UPDATE partition_leases SET owner = ?, epoch = epoch + 1, expires_at = ? "
+                + "WHERE job = ? AND partition_id = ? AND (owner IS NULL OR expires_at <= ?)",
+            owner, Timestamp.from(expiresAt), job, partition, Timestamp.from(now));
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        List<Long> epochs = jdbcTemplate.queryForList(
+            "SELECT epoch FROM partition_leases WHERE job = ? AND partition_id = ? AND owner = ?",
+            Long.class, job, partition, owner);
+        return epochs.stream().findFirst()
+            .map(epoch -> new PartitionLease(job, partition, owner, epoch, expiresAt));
+    }
+
+    /**
+     * Extends a lease that is still held at the same epoch and has not expired.
+     */
+    public boolean renew(PartitionLease lease, Instant now, Instant expiresAt) {
+        return jdbcTemplate.update(
+            "UPDATE partition_leases SET expires_at = ? "
+                + "WHERE job = ? AND partition_id = ? AND owner = ? AND epoch = ? AND expires_at > ?",
+            Timestamp.from(expiresAt), lease.getJob(), lease.getPartition(), lease.getOwner(), lease.getEpoch(),
+            Timestamp.from(now)) > 0;
+    }
+
+    public void release(PartitionLease lease, Instant now) {
+        jdbcTemplate.update(
+            "UPDATE partition_leases SET owner = NULL, expires_at = ? "
+                + "WHERE job = ? AND partition_id = ? AND owner = ? AND epoch = ?",
+            Timestamp.from(now), lease.getJob(), lease.getPartition(), lease.getOwner(), lease.getEpoch());
+    }
+
+    /**
+     * Fencing check: true only if the lease is still the current, unexpired grant.
+     */
+    public boolean isCurrent(PartitionLease lease, Instant now) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM partition_leases "
+                + "WHERE job = ? AND partition_id = ? AND owner = ? AND epoch = ? AND expires_at > ?",
+            Integer.class, lease.getJob(), lease.getPartition(), lease.getOwner(), lease.getEpoch(),
+            Timestamp.from(now));
+        return count != null && count > 0;
+    }
+
+    private void insertIgnoringDuplicate(String sql, Object... args) {
+        try {
+            jdbcTemplate.update(sql, args);
+        } catch (DuplicateKeyException e) {
+            // another replica created the row first
+        }
+    }
+}
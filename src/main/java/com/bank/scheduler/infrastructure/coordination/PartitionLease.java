@@ -0,0 +1,61 @@
+package com.bank.scheduler.infrastructure.coordination;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Ownership of one work partition of a job, as granted by the lease table.
+ *
+ * The epoch grows every time the partition changes hands (or is re-claimed after
+ * expiring), so a replica that paused past its lease can tell, and be told, that
+ * its view is stale: fencing compares epochs, never owner names alone.
+ */
+public final class PartitionLease {
+
+    private final String job;
+    private final int partition;
+    private final String owner;
+    private final long epoch;
+    private final Instant expiresAt;
+
+    public PartitionLease(String job, int partition, String owner, long epoch, Instant expiresAt) {
+        this.job = Objects.requireNonNull(job);
+        this.partition = partition;
+        this.owner = Objects.requireNonNull(owner);
+        this.epoch = epoch;
+        this.expiresAt = Objects.requireNonNull(expiresAt);
+    }
+
+    public String getJob() {
+        return job;
+    }
+
+    public int getPartition() {
+        return partition;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isValidAt(Instant now) {
+        return now.isBefore(expiresAt);
+    }
+
+    PartitionLease renewedUntil(Instant newExpiry) {
+        return new PartitionLease(job, partition, owner, epoch, newExpiry);
+    }
+
+    @Override
+    public String toString() {
+        return job + "#" + partition + "@" + owner + " epoch " + epoch;
+    }
+}
@@ -0,0 +1,240 @@
+package com.bank.scheduler.infrastructure.coordination;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Spreads the partitions of every PartitionedJob over the live replicas.
+ *
+ * Flow (every heartbeat, on every replica):
+ * 1. Refresh this replica's membership row and count live members
+ * 2. Renew held leases; a lease that cannot be renewed at its epoch is revoked
+ * 3. Fair share = ceil(partitions / live members): release partitions above it
+ *    (a replica joined) and claim free or expired ones up to it (a replica left)
+ * 4. Notify the job of revoked, then assigned, partitions
+ *
+ * Time: lease expiry is always judged on database time. Each heartbeat reads it
+ * and remembers the offset to the injected Clock; local checks (owns, heldLeases)
+ * use Clock + offset and treat a lease as gone skew-margin before it expires, so
+ * a replica stops acting on a partition before another one may claim it.
+ *
+ * The heartbeat runs on its own thread, not on the shared @Scheduled thread: a
+ * slow job there (a long due-transfer poll) must not delay renewals past the TTL.
+ *
+ * Claims start at a member-specific offset so replicas rarely race for the same
+ * partition. Before committing work a job can call isCurrent(lease), which checks
+ * owner, epoch and expiry in the database and so fences a replica that stalled
+ * past its lease. Shutdown releases everything so a rolling update rebalances
+ * within one heartbeat instead of one lease TTL.
+ *
+ * With scheduler.leases.enabled=false (single replica) every partition is owned
+ * locally and no table is touched.
+ */
+@Component
+public class PartitionLeaseCoordinator {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionLeaseCoordinator.class);
+
+    private final LeaseStore leaseStore;
+    private final ObjectProvider<PartitionedJob> jobs;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final long heartbeatMs;
+    private final Duration skewMargin;
+    private final String memberId;
+    private final Map<String, Map<Integer, PartitionLease>> held = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService heartbeatThread;
+    private volatile Duration databaseOffset = Duration.ZERO;
+
+    public PartitionLeaseCoordinator(
+            DataSource dataSource,
+            ObjectProvider<PartitionedJob> jobs,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${scheduler.leases.enabled:true}") boolean enabled,
+            @Value("${scheduler.leases.ttl:PT30S}") Duration ttl,
+            @Value("${scheduler.leases.heartbeat-ms:10000}") long heartbeatMs,
+            @Value("${scheduler.leases.skew-margin:PT2S}") Duration skewMargin,
+            @Value("${scheduler.leases.member-id:${HOSTNAME:local}}") String memberPrefix) {
+        this.leaseStore = new LeaseStore(dataSource);
+        this.jobs = jobs;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.heartbeatMs = heartbeatMs;
+        this.skewMargin = skewMargin;
+        this.memberId = memberPrefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.heartbeatThread = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "lease-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            leaseStore.initializeSchema();
+        }
+        Gauge.builder("scheduler.leases.held", held, leases -> leases.values().stream().mapToInt(Map::size).sum())
+            .description("Work partitions leased by this replica")
+            .register(meterRegistry);
+    }
+
+    public String memberId() {
+        return memberId;
+    }
+
+    /**
+     * Leases this replica currently holds for a job (local view, valid until expiry).
+     */
+    public Collection<PartitionLease> heldLeases(String job) {
+        Instant cutoff = now().plus(skewMargin);
+        return held.getOrDefault(job, Map.of()).values().stream()
+            .filter(lease -> lease.isValidAt(cutoff))
+            .collect(Collectors.toList());
+    }
+
+    public boolean owns(String job, int partition) {
+        PartitionLease lease = held.getOrDefault(job, Map.of()).get(partition);
+        return lease != null && lease.isValidAt(now().plus(skewMargin));
+    }
+
+    public PartitionLease leaseFor(String job, int partition) {
+        return held.getOrDefault(job, Map.of()).get(partition);
+    }
+
+    /**
+     * Fencing check against the lease table; call right before committing work.
+     */
+    public boolean isCurrent(PartitionLease lease) {
+        if (lease == null || !lease.isValidAt(now().plus(skewMargin))) {
+            return false;
+        }
+        return !enabled || leaseStore.isCurrent(lease, leaseStore.databaseTime());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startHeartbeat() {
+        heartbeatThread.scheduleWithFixedDelay(this::heartbeat, 0, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void heartbeat() {
+        try {
+            Instant now = now();
+            int members = 1;
+            if (enabled) {
+                now = leaseStore.databaseTime();
+                databaseOffset = Duration.between(clock.instant(), now);
+                leaseStore.heartbeat(memberId, now.plus(ttl));
+                members = Math.max(1, leaseStore.liveMembers(now));
+            }
+            for (PartitionedJob job : jobs.orderedStream().collect(Collectors.toList())) {
+                rebalance(job, members, now);
+            }
+        } catch (RuntimeException e) {
+            log.error("Lease heartbeat of {} failed", memberId, e);
+        }
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        heartbeatThread.shutdownNow();
+        if (!enabled) {
+            return;
+        }
+        Instant now = leaseStore.databaseTime();
+        held.values().forEach(leases -> leases.values().forEach(lease -> leaseStore.release(lease, now)));
+        held.clear();
+        leaseStore.leave(memberId);
+    }
+
+    /**
+     * Database time as estimated from the injected Clock at the last heartbeat.
+     */
+    private Instant now() {
+        return clock.instant().plus(databaseOffset);
+    }
+
+    private void rebalance(PartitionedJob job, int members, Instant now) {
+        String name = job.jobName();
+        int partitions = job.partitionCount();
+        Map<Integer, PartitionLease> leases = held.computeIfAbsent(name, key -> new ConcurrentHashMap<>());
+        List<PartitionLease> revoked = new ArrayList<>();
+        List<PartitionLease> assigned = new ArrayList<>();
+        Instant expiresAt = now.plus(ttl);
+
+        if (!enabled) {
+            for (int partition = 0; partition < partitions; partition++) {
+                PartitionLease previous = leases.put(partition, new PartitionLease(name, partition, memberId, 0, Instant.MAX));
+                if (previous == null) {
+                    assigned.add(leases.get(partition));
+                }
+            }
+            notify(job, revoked, assigned);
+            return;
+        }
+
+        leaseStore.ensurePartitions(name, partitions);
+        for (PartitionLease lease : new ArrayList<>(leases.values())) {
+            if (leaseStore.renew(lease, now, expiresAt)) {
+                leases.put(lease.getPartition(), lease.renewedUntil(expiresAt));
+            } else {
+                leases.remove(lease.getPartition());
+                revoked.add(lease);
+            }
+        }
+
+        int fairShare = (partitions + members - 1) / members;
+        List<Integer> owned = new ArrayList<>(leases.keySet());
+        owned.sort(null);
+        for (int i = owned.size() - 1; i >= 0 && leases.size() > fairShare; i--) {
+            PartitionLease lease = leases.remove(owned.get(i));
+            leaseStore.release(lease, now);
+            revoked.add(lease);
+        }
+
+        int offset = Math.floorMod(memberId.hashCode(), partitions);
+        for (int i = 0; i < partitions && leases.size() < fairShare; i++) {
+            int partition = (offset + i) % partitions;
+            if (!leases.containsKey(partition)) {
+                leaseStore.tryClaim(name, partition, memberId, now, expiresAt).ifPresent(lease -> {
+                    leases.put(partition, lease);
+                    assigned.add(lease);
+                });
+            }
+        }
+        notify(job, revoked, assigned);
+    }
+
+    private void notify(PartitionedJob job, List<PartitionLease> revoked, List<PartitionLease> assigned) {
+        if (!revoked.isEmpty()) {
+            log.info("{} released {} partitions of {}", memberId, revoked.size(), job.jobName());
+            job.onPartitionsRevoked(revoked);
+        }
+        if (!assigned.isEmpty()) {
+            log.info("{} acquired {} partitions of {}", memberId, assigned.size(), job.jobName());
+            job.onPartitionsAssigned(assigned);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.bank.scheduler.infrastructure.coordination;
+
+import java.util.Collection;
+
+/**
+ * A background job whose work is split into numbered partitions, each owned by
+ * exactly one replica at a time through PartitionLeaseCoordinator.
+ *
+ * Partitions are usually derived from the account hash embedded in transfer ids
+ * (TransferIds.bucketOf(id) % partitionCount()) or from a date bucket. Callbacks
+ * run on the coordinator's heartbeat thread; revocations are delivered before
+ * assignments, and a job must stop touching a revoked partition immediately.
+ */
+public interface PartitionedJob {
+
+    String jobName();
+
+    int partitionCount();
+
+    default void onPartitionsAssigned(Collection<PartitionLease> assigned) {
+    }
+
+    default void onPartitionsRevoked(Collection<PartitionLease> revoked) {
+    }
+}
@@ -0,0 +1,230 @@
+package com.bank.scheduler.infrastructure.duplicates;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.ports.DuplicateTransferGuard;
+import com.bank.scheduler.domain.ports.PendingTransfers;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.TransferSearchCriteria;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Catches double-submits of the same transfer without a database query per request.
+ *
+ * Flow (every transfer about to be persisted):
+ * 1. Hash (source, target, amount, currency, transfer date) into two 64-bit values
+ * 2. Ask the rotating Bloom filter; a miss is a guaranteed first submission
+ *    within the window, so the request goes on
+ * 3. On a hit, confirm against the transfers still pending persistence and then
+ *    with a search on the source account, target account and transfer date; a
+ *    hit without a matching transfer is a false positive
+ * 4. Apply the DuplicatePolicy to a confirmed duplicate
+ * 5. Once the transfer is stored or logged for storage (accepted()), record its
+ *    hash, so a rejected or failed request never shadows a later one
+ *
+ * With the default sizing (1% false positives) about one non-duplicate request in
+ * a hundred pays for the confirming query, and the filter costs about two bytes
+ * per transfer in the window. Segments rotate lazily on the next check once
+ * window / (segments - 1) has passed on the injected Clock.
+ *
+ * The filter is local to the replica. Pending transfers are those of this
+ * replica's asynchronous acceptance queue, which are recorded before they leave
+ * it, so every hash in the filter has a row or a pending entry to confirm
+ * against. Identical requests that land on different replicas, or that are
+ * checked concurrently before either is accepted, are not caught.
+ *
+ * Metrics: transfers.duplicates.suspected (filter hits),
+ * transfers.duplicates.false-positives, transfers.duplicates.detected (tagged
+ * with the policy) and transfers.duplicates.filter.bytes.
+ */
+@Component
+public class BloomDuplicateTransferGuard implements DuplicateTransferGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(BloomDuplicateTransferGuard.class);
+
+    private final TransferRepository transferRepository;
+    private final ObjectProvider<PendingTransfers> pendingTransfers;
+    private final Clock clock;
+    private final boolean enabled;
+    private final DuplicatePolicy policy;
+    private final long rotationMillis;
+    private final RotatingBloomFilter filter;
+    private final AtomicLong nextRotation;
+    private final Counter suspected;
+    private final Counter falsePositives;
+    private final Counter detected;
+
+    public BloomDuplicateTransferGuard(
+            TransferRepository transferRepository,
+            ObjectProvider<PendingTransfers> pendingTransfers,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${scheduler.duplicates.enabled:true}") boolean enabled,
+            @Value("${scheduler.duplicates.policy:FLAG}") DuplicatePolicy policy,
+            @Value("${scheduler.duplicates.window:PT10M}") Duration window,
+            @Value("${scheduler.duplicates.segments:4}") int segments,
+            @Value("${scheduler.duplicates.expected-per-window:100000}") long expectedPerWindow,
+            @Value("${scheduler.duplicates.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${scheduler.duplicates.max-bytes:1048576}") long maxBytes) {
+        this.transferRepository = transferRepository;
+        this.pendingTransfers = pendingTransfers;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.policy = policy;
+        this.rotationMillis = Math.max(1, window.toMillis() / (segments - 1));
+        long keysPerSegment = (expectedPerWindow + segments - 2) / (segments - 1);
+        this.filter = enabled
+            ? RotatingBloomFilter.sized(segments, keysPerSegment, falsePositiveRate, maxBytes)
+            : new RotatingBloomFilter(2, Long.SIZE, 1);
+        this.nextRotation = new AtomicLong(clock.millis() + rotationMillis);
+        this.suspected = Counter.builder("transfers.duplicates.suspected")
+            .description("Transfers the duplicate filter reported as possibly seen before")
+            .register(meterRegistry);
+        this.falsePositives = Counter.builder("transfers.duplicates.false-positives")
+            .description("Filter hits the confirming lookup found no matching transfer for")
+            .register(meterRegistry);
+        this.detected = Counter.builder("transfers.duplicates.detected")
+            .tag("policy", policy.name())
+            .description("Transfers confirmed to duplicate one submitted within the window")
+            .register(meterRegistry);
+        Gauge.builder("transfers.duplicates.filter.bytes", filter, RotatingBloomFilter::sizeInBytes)
+            .description("Memory held by the duplicate-detection filter")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        if (enabled) {
+            log.info("Duplicate detection: {} over {} in {} segments, {} hashes, {} bytes",
+                policy, window, segments, filter.hashCount(), filter.sizeInBytes());
+        }
+    }
+
+    @Override
+    public void check(Transfer transfer) {
+        if (!enabled) {
+            return;
+        }
+        rotateIfDue();
+        long hash1 = fingerprint(transfer);
+        if (!filter.mightContain(hash1, secondHash(hash1))) {
+            return;
+        }
+        suspected.increment();
+        Optional<Transfer> original = findIdentical(transfer);
+        if (original.isEmpty()) {
+            falsePositives.increment();
+            return;
+        }
+        detected.increment();
+        switch (policy) {
+            case REJECT:
+                throw new DomainException.DuplicateTransfer("An identical transfer " + original.get().getId()
+                    + " is already scheduled for " + transfer.getTransferDate());
+            case FLAG:
+                log.warn("Transfer {} duplicates {} ({} -> {}, {} on {})", transfer.getId(), original.get().getId(),
+                    transfer.getSourceAccount().getValue(), transfer.getTargetAccount().getValue(),
+                    transfer.getAmount().getAmount() + " " + transfer.getAmount().getCurrency(),
+                    transfer.getTransferDate());
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void accepted(Transfer transfer) {
+        if (!enabled) {
+            return;
+        }
+        rotateIfDue();
+        long hash1 = fingerprint(transfer);
+        filter.put(hash1, secondHash(hash1));
+    }
+
+    private Optional<Transfer> findIdentical(Transfer transfer) {
+        Optional<Transfer> pending = pendingTransfers.getIfAvailable(() -> PendingTransfers.NONE).pending().stream()
+            .filter(candidate -> isIdentical(candidate, transfer))
+            .findFirst();
+        if (pending.isPresent()) {
+            return pending;
+        }
+        TransferSearchCriteria criteria = TransferSearchCriteria.of(transfer.getSourceAccount(),
+            transfer.getTargetAccount(), transfer.getTransferDate(), transfer.getTransferDate());
+        return transferRepository.search(criteria).stream()
+            .filter(candidate -> !candidate.getId().equals(transfer.getId()))
+            .filter(candidate -> candidate.getAmount().equals(transfer.getAmount()))
+            .findFirst();
+    }
+
+    private static boolean isIdentical(Transfer candidate, Transfer transfer) {
+        return !candidate.getId().equals(transfer.getId())
+            && candidate.getSourceAccount().equals(transfer.getSourceAccount())
+            && candidate.getTargetAccount().equals(transfer.getTargetAccount())
+            && candidate.getTransferDate().equals(transfer.getTransferDate())
+            && candidate.getAmount().equals(transfer.getAmount());
+    }
+
+    private void rotateIfDue() {
+        long now = clock.millis();
+        long due = nextRotation.get();
+        if (now < due) {
+            return;
+        }
+        long periods = Math.min((now - due) / rotationMillis + 1, filter.segmentCount());
+        if (nextRotation.compareAndSet(due, now - (now - due) % rotationMillis + rotationMillis)) {
+            for (long i = 0; i < periods; i++) {
+                filter.rotate();
+            }
+        }
+    }
+
+    /**
+     * FNV-1a over the identifying fields, finished with a 64-bit mixer. The amount
+     * is normalized so 100.0 and 100.00 hash alike.
+     */
+    private static long fingerprint(Transfer transfer) {
+        long hash = 0xCBF29CE484222325L;
+        hash = fnv(hash, transfer.getSourceAccount().getValue());
+        hash = fnv(hash, transfer.getTargetAccount().getValue());
+        hash = fnv(hash, transfer.getAmount().getAmount().stripTrailingZeros().toPlainString());
+        hash = fnv(hash, transfer.getAmount().getCurrency());
+        long epochDay = transfer.getTransferDate().toEpochDay();
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = (hash ^ ((epochDay >>> shift) & 0xFF)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long secondHash(long hash1) {
+        return mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+    }
+
+    private static long fnv(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return (hash ^ 0xFF) * 0x100000001B3L;
+    }
+
+    /**
+     * MurmurHash3 fmix64.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB93FE1A85EC3L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,23 @@
+package com.bank.scheduler.infrastructure.duplicates;
+
+/**
+ * What the schedule path does with a transfer confirmed to duplicate one
+ * submitted within the detection window.
+ */
+public enum DuplicatePolicy {
+
+    /**
+     * Refuse it with DomainException.DuplicateTransfer (HTTP 409).
+     */
+    REJECT,
+
+    /**
+     * Accept it, log a warning naming both transfers and count it.
+     */
+    FLAG,
+
+    /**
+     * Accept it and only count it, to measure duplicates before enforcing anything.
+     */
+    ALLOW
+}
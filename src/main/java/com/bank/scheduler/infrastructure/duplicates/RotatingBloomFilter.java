@@ -0,0 +1,113 @@
+package com.bank.scheduler.infrastructure.duplicates;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sliding-window set membership: a ring of Bloom filters, newest first.
+ *
+ * Design:
+ * - put() sets k bits in the newest segment; mightContain() asks every segment,
+ *   so a key is remembered until the segment it went into is rotated out
+ * - rotate() drops the oldest segment and starts an empty one; with S segments
+ *   rotated every W / (S - 1), a key is kept for at least W and at most
+ *   W * S / (S - 1)
+ * - Bit positions use double hashing (h1 + i * h2) over two 64-bit hashes,
+ *   which keeps the false-positive rate of k independent hash functions
+ * - Bits are set with an atomic OR, so put() and mightContain() take no lock;
+ *   rotate() swaps the segment array in one volatile write
+ *
+ * Sized with sized(): each segment holds the keys of one rotation period at
+ * falsePositiveRate / S, so the rate across all segments stays near the target.
+ * A byte budget caps the total; past it the false-positive rate rises instead of
+ * memory. There are no false negatives inside the window.
+ */
+final class RotatingBloomFilter {
+
+    private final long bitsPerSegment;
+    private final int hashes;
+    private volatile AtomicLongArray[] segments;
+
+    RotatingBloomFilter(int segmentCount, long bitsPerSegment, int hashes) {
+        if (segmentCount < 2) {
+            throw new IllegalArgumentException("A rotating filter needs at least two segments");
+        }
+        this.bitsPerSegment = Math.max(Long.SIZE, bitsPerSegment / Long.SIZE * Long.SIZE);
+        this.hashes = Math.max(1, hashes);
+        AtomicLongArray[] initial = new AtomicLongArray[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            initial[i] = new AtomicLongArray((int) (this.bitsPerSegment / Long.SIZE));
+        }
+        this.segments = initial;
+    }
+
+    /**
+     * Sizes segments for {@code keysPerSegment} keys each at an overall false
+     * positive rate of {@code falsePositiveRate}, within {@code maxBytes} in total.
+     */
+    static RotatingBloomFilter sized(int segmentCount, long keysPerSegment, double falsePositiveRate, long maxBytes) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        long keys = Math.max(1, keysPerSegment);
+        double segmentRate = falsePositiveRate / segmentCount;
+        long bits = (long) Math.ceil(-keys * Math.log(segmentRate) / (Math.log(2) * Math.log(2)));
+        long maxBitsPerSegment = maxBytes * Byte.SIZE / segmentCount;
+        if (bits > maxBitsPerSegment) {
+            bits = maxBitsPerSegment;
+        }
+        bits = Math.min(bits, (long) Integer.MAX_VALUE * Long.SIZE);
+        int hashes = (int) Math.round((double) bits / keys * Math.log(2));
+        return new RotatingBloomFilter(segmentCount, bits, Math.min(hashes, 16));
+    }
+
+    void put(long hash1, long hash2) {
+        AtomicLongArray newest = segments[0];
+        for (int i = 0; i < hashes; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitsPerSegment);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((newest.get(word) & mask) == 0) {
+                newest.getAndAccumulate(word, mask, (current, add) -> current | add);
+            }
+        }
+    }
+
+    boolean mightContain(long hash1, long hash2) {
+        for (AtomicLongArray segment : segments) {
+            if (contains(segment, hash1, hash2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized void rotate() {
+        AtomicLongArray[] current = segments;
+        AtomicLongArray[] rotated = new AtomicLongArray[current.length];
+        rotated[0] = new AtomicLongArray(current[0].length());
+        System.arraycopy(current, 0, rotated, 1, current.length - 1);
+        segments = rotated;
+    }
+
+    int segmentCount() {
+        return segments.length;
+    }
+
+    int hashCount() {
+        return hashes;
+    }
+
+    long sizeInBytes() {
+        return bitsPerSegment / Byte.SIZE * segments.length;
+    }
+
+    private boolean contains(AtomicLongArray segment, long hash1, long hash2) {
+        for (int i = 0; i < hashes; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitsPerSegment);
+            if ((segment.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,27 @@
+package com.bank.scheduler.infrastructure.events;
+
+import com.bank.scheduler.domain.events.TransferEvent;
+import com.bank.scheduler.domain.ports.TransferEventPublisher;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes domain events on the Spring application event bus.
+ *
+ * Publication happens inside the caller's transaction; listeners that must only
+ * see committed facts use @TransactionalEventListener (see TransferProjection).
+ */
+@Component
+public class SpringTransferEventPublisher implements TransferEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public SpringTransferEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void publish(TransferEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
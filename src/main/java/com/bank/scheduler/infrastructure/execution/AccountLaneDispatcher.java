@@ -0,0 +1,229 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.TransferIds;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Striped single-writer lanes keyed by source account.
+ *
+ * Design:
+ * - N lanes, each one thread draining its own FIFO deque
+ * - A transfer goes to lane bucketOf(sourceAccount) % N (the same hash used for
+ *   sharding), so debits of one account run one after another, in dispatch order,
+ *   without any lock, while different accounts run in parallel
+ * - Per-account bookkeeping (tasks queued or running, and the lane that owns them)
+ *   lives in a ConcurrentHashMap and is only changed through atomic compute calls
+ *
+ * Work stealing: a lane that finds its deque empty may take a task from the
+ * deepest lane, but only when that task is the sole pending task of its account.
+ * The account's remaining work then follows it to the thief lane until the
+ * account drains, so per-account order is never broken.
+ *
+ * Backlog: a transfer is already claimed when it reaches a lane, so lanes never
+ * refuse one. Instead hasCapacity() turns false once all lanes together hold
+ * scheduler.execution.lanes.max-queued tasks and the execution engine stops
+ * claiming until they drain; the lanes overshoot the limit by at most one batch.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.execution.dispatcher", havingValue = "lanes", matchIfMissing = true)
+public class AccountLaneDispatcher implements TransferExecutionDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountLaneDispatcher.class);
+    private static final int STEAL_SCAN_LIMIT = 64;
+
+    private final Lane[] lanes;
+    private final Map<AccountNumber, AccountState> accounts = new ConcurrentHashMap<>();
+    private final long idlePollMillis;
+    private final int maxQueued;
+    private final Counter steals;
+    private volatile boolean running = true;
+
+    public AccountLaneDispatcher(
+            MeterRegistry meterRegistry,
+            @Value("${scheduler.execution.lanes.count:16}") int laneCount,
+            @Value("${scheduler.execution.lanes.idle-poll-ms:50}") long idlePollMillis,
+            @Value("${scheduler.execution.lanes.max-queued:10000}") int maxQueued) {
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("Lane count must be positive");
+        }
+        this.idlePollMillis = idlePollMillis;
+        this.maxQueued = maxQueued;
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(i);
+            Gauge.builder("transfers.lanes.depth", lanes[i].queue, LinkedBlockingDeque::size)
+                .description("Transfers waiting in an account lane")
+                .tag("lane", String.valueOf(i))
+                .register(meterRegistry);
+        }
+        this.steals = Counter.builder("transfers.lanes.steals")
+            .description("Transfers executed by a lane other than their home lane")
+            .register(meterRegistry);
+        for (Lane lane : lanes) {
+            lane.worker.start();
+        }
+    }
+
+    @Override
+    public void dispatch(Transfer transfer, Runnable execution) {
+        submit(transfer.getSourceAccount(), execution);
+    }
+
+    public void submit(AccountNumber account, Runnable work) {
+        AccountState state = accounts.compute(account, (key, current) -> current == null
+            ? new AccountState(homeLane(key), 1)
+            : new AccountState(current.lane, current.pending + 1));
+        lanes[state.lane].queue.offerLast(new LaneTask(account, work));
+    }
+
+    @Override
+    public boolean hasCapacity() {
+        return queued() < maxQueued;
+    }
+
+    public int queued() {
+        int queued = 0;
+        for (Lane lane : lanes) {
+            queued += lane.queue.size();
+        }
+        return queued;
+    }
+
+    public int homeLane(AccountNumber account) {
+        return TransferIds.bucketOf(account) % lanes.length;
+    }
+
+    public int depth(int lane) {
+        return lanes[lane].queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (Lane lane : lanes) {
+            lane.worker.interrupt();
+        }
+    }
+
+    private void runLane(Lane lane) {
+        while (running) {
+            LaneTask task;
+            try {
+                task = lane.queue.pollFirst(idlePollMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (task == null) {
+                task = steal(lane.index);
+                if (task == null) {
+                    continue;
+                }
+                steals.increment();
+            }
+            try {
+                task.work.run();
+            } catch (RuntimeException e) {
+                log.error("Lane task for account {} failed", task.account, e);
+            } finally {
+                accounts.computeIfPresent(task.account, (key, current) -> current.pending == 1
+                    ? null
+                    : new AccountState(current.lane, current.pending - 1));
+            }
+        }
+    }
+
+    private LaneTask steal(int thief) {
+        Lane victim = deepestLaneExcept(thief);
+        if (victim == null) {
+            return null;
+        }
+        Iterator<LaneTask> candidates = victim.queue.iterator();
+        for (int scanned = 0; scanned < STEAL_SCAN_LIMIT && candidates.hasNext(); scanned++) {
+            LaneTask candidate = candidates.next();
+            AccountState state = accounts.get(candidate.account);
+            if (state == null || state.pending != 1 || state.lane != victim.index) {
+                continue;
+            }
+            if (!victim.queue.removeFirstOccurrence(candidate)) {
+                continue;
+            }
+            boolean[] moved = new boolean[1];
+            accounts.computeIfPresent(candidate.account, (key, current) -> {
+                if (current.pending == 1 && current.lane == victim.index) {
+                    moved[0] = true;
+                    return new AccountState(thief, 1);
+                }
+                return current;
+            });
+            if (moved[0]) {
+                return candidate;
+            }
+            // Another task of the account arrived behind it: hand it back, still ahead of that task
+            victim.queue.offerFirst(candidate);
+            return null;
+        }
+        return null;
+    }
+
+    private Lane deepestLaneExcept(int excluded) {
+        Lane deepest = null;
+        int depth = 0;
+        for (Lane lane : lanes) {
+            int size = lane.queue.size();
+            if (lane.index != excluded && size > depth) {
+                deepest = lane;
+                depth = size;
+            }
+        }
+        return deepest;
+    }
+
+    private final class Lane {
+        private final int index;
+        private final LinkedBlockingDeque<LaneTask> queue = new LinkedBlockingDeque<>();
+        private final Thread worker;
+
+        private Lane(int index) {
+            this.index = index;
+            this.worker = new Thread(() -> runLane(this), "AccountLane-" + index);
+            this.worker.setDaemon(true);
+        }
+    }
+
+    private static final class LaneTask {
+        private final AccountNumber account;
+        private final Runnable work;
+
+        private LaneTask(AccountNumber account, Runnable work) {
+            this.account = account;
+            this.work = work;
+        }
+    }
+
+    private static final class AccountState {
+        private final int lane;
+        private final int pending;
+
+        private AccountState(int lane, int pending) {
+            this.lane = lane;
+            this.pending = pending;
+        }
+    }
+}
@@ -0,0 +1,473 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.events.TransferStatusChanged;
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.ports.DeadLetterStore;
+import com.bank.scheduler.domain.ports.SettlementGateway;
+import com.bank.scheduler.domain.ports.TransferEventPublisher;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.BusinessCalendar;
+import com.bank.scheduler.domain.valueobjects.DeadLetter;
+import com.bank.scheduler.domain.valueobjects.NetSettlement;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
+import com.bank.scheduler.infrastructure.coordination.PartitionLease;
+import com.bank.scheduler.infrastructure.coordination.PartitionLeaseCoordinator;
+import com.bank.scheduler.infrastructure.coordination.PartitionedJob;
+import com.bank.scheduler.infrastructure.monitoring.MetricsCollector;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Executes transfers whose transfer date has arrived.
+ *
+ * Flow (every poll, on every replica):
+ * 1. Claim a batch of due transfers: SELECT ... FOR UPDATE SKIP LOCKED, then mark
+ *    IN_PROGRESS in the same transaction, so concurrent replicas get disjoint batches
+ * 2. Settle each claimed transfer through the TransferExecutionDispatcher (account
+ *    lanes by default, so debits of one account never run concurrently)
+ * 3. Record EXECUTED, or on failure retry or record FAILED (below), with a
+ *    compare-and-set on IN_PROGRESS
+ * 4. Repeat while full batches come back
+ *
+ * Failures: domain errors (e.g. insufficient funds) are permanent; anything else
+ * (timeouts, connection errors, capacity) is treated as transient. A transient
+ * failure keeps the transfer IN_PROGRESS, pushes its claim time to the retry
+ * time so it is not reclaimed as stale meanwhile, and hands it to the
+ * RetryScheduler. A permanent failure, or a transient one on the last of
+ * scheduler.execution.retry.max-attempts, marks the transfer FAILED and records
+ * a dead letter in the same transaction.
+ *
+ * A replica that dies mid-batch leaves IN_PROGRESS rows behind; they become
+ * claimable again after scheduler.execution.claim-timeout, which is why the
+ * settlement gateway must be idempotent.
+ *
+ * With scheduler.execution.netting.enabled, claimed transfers are not settled
+ * one by one: the poll accumulates every batch it claims (up to
+ * netting.max-transfers) and SettlementNetting replaces each group of transfers
+ * between the same two accounts on the same date with one net settlement.
+ *
+ * The poll does nothing on days the BusinessCalendar marks as non-business;
+ * transfers due on them are picked up by the first poll of the next business day.
+ * "Today" and claim times come from the injected Clock, so a virtual clock can
+ * drive the engine through weeks of due dates in seconds.
+ *
+ * Claiming also pauses while the dispatcher reports no capacity (lanes full), so
+ * a backlog waits in the database as SCHEDULED rather than claimed in memory.
+ *
+ * The poll is a single-partition PartitionedJob: only the replica holding its
+ * lease polls, and it stops between batches once the lease is no longer current.
+ *
+ * Shutdown: quiesce() stops claiming; settlements already running finish, and
+ * releaseUnstarted() hands back every claimed transfer whose settlement has not
+ * started yet (queued on a lane or executor, or waiting for a retry) by backdating
+ * its claim, so the next poll of any replica takes it over instead of waiting out
+ * the claim timeout. A released settlement that is dequeued later does nothing.
+ */
+@Component
+public class DueTransferExecutionEngine implements PartitionedJob {
+
+    private static final String JOB_NAME = "due-transfer-poll";
+
+    private static final Logger log = LoggerFactory.getLogger(DueTransferExecutionEngine.class);
+
+    private final TransferRepository transferRepository;
+    private final SettlementGateway settlementGateway;
+    private final TransferEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransferExecutionDispatcher dispatcher;
+    private final MetricsCollector metricsCollector;
+    private final PartitionLeaseCoordinator leaseCoordinator;
+    private final RetryScheduler retryScheduler;
+    private final DeadLetterStore deadLetterStore;
+    private final SettlementNetting settlementNetting;
+    private final BusinessCalendar businessCalendar;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration claimTimeout;
+    private final int maxAttempts;
+    private final Map<UUID, Instant> unstarted = new ConcurrentHashMap<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private volatile boolean quiesced;
+
+    public DueTransferExecutionEngine(
+            TransferRepository transferRepository,
+            SettlementGateway settlementGateway,
+            TransferEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            TransferExecutionDispatcher dispatcher,
+            MetricsCollector metricsCollector,
+            PartitionLeaseCoordinator leaseCoordinator,
+            RetryScheduler retryScheduler,
+            DeadLetterStore deadLetterStore,
+            SettlementNetting settlementNetting,
+            BusinessCalendar businessCalendar,
+            Clock clock,
+            @Value("${scheduler.execution.enabled:true}") boolean enabled,
+            @Value("${scheduler.execution.batch-size:100}") int batchSize,
+            @Value("${scheduler.execution.claim-timeout:PT5M}") Duration claimTimeout,
+            @Value("${scheduler.execution.retry.max-attempts:5}") int maxAttempts) {
+        this.transferRepository = transferRepository;
+        this.settlementGateway = settlementGateway;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.dispatcher = dispatcher;
+        this.metricsCollector = metricsCollector;
+        this.leaseCoordinator = leaseCoordinator;
+        this.retryScheduler = retryScheduler;
+        this.deadLetterStore = deadLetterStore;
+        this.settlementNetting = settlementNetting;
+        this.businessCalendar = businessCalendar;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.claimTimeout = claimTimeout;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public String jobName() {
+        return JOB_NAME;
+    }
+
+    @Override
+    public int partitionCount() {
+        return 1;
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.execution.poll-interval-ms:60000}")
+    public void pollDueTransfers() {
+        LocalDate today = LocalDate.now(clock);
+        if (!enabled || quiesced || !businessCalendar.isBusinessDay(today)) {
+            return;
+        }
+        for (PartitionLease lease : leaseCoordinator.heldLeases(JOB_NAME)) {
+            dispatchDue(today, () -> leaseCoordinator.isCurrent(lease));
+        }
+    }
+
+    /**
+     * Claims and dispatches everything due on or before the given date.
+     *
+     * @return number of transfers handed to the dispatcher
+     */
+    public int dispatchDue(LocalDate dueBy) {
+        return dispatchDue(dueBy, () -> true);
+    }
+
+    private int dispatchDue(LocalDate dueBy, BooleanSupplier stillOwner) {
+        int dispatched = 0;
+        List<Transfer> toNet = new ArrayList<>();
+        List<Transfer> batch;
+        do {
+            if (quiesced) {
+                break;
+            }
+            if (!stillOwner.getAsBoolean()) {
+                log.info("Poll lease lost after dispatching {} transfers, stopping", dispatched);
+                break;
+            }
+            if (!dispatcher.hasCapacity()) {
+                log.debug("Dispatcher backlog full after dispatching {} transfers, claiming the rest later", dispatched);
+                break;
+            }
+            batch = claimBatch(dueBy);
+            if (settlementNetting.isEnabled()) {
+                toNet.addAll(batch);
+                if (toNet.size() >= settlementNetting.maxTransfers()) {
+                    dispatchNetted(toNet);
+                    toNet = new ArrayList<>();
+                }
+            } else {
+                batch.forEach(transfer -> dispatch(transfer, 1));
+            }
+            dispatched += batch.size();
+        } while (batch.size() >= batchSize);
+        if (!toNet.isEmpty()) {
+            dispatchNetted(toNet);
+        }
+        return dispatched;
+    }
+
+    /**
+     * Claims and dispatches specific transfers, e.g. the ones a timing wheel found due.
+     * Transfers another replica already claimed are skipped.
+     *
+     * @return number of transfers this call claimed
+     */
+    public int executeDue(Collection<UUID> transferIds) {
+        if (quiesced || !dispatcher.hasCapacity()) {
+            return 0;
+        }
+        Instant now = Instant.now(clock);
+        List<Transfer> claimed = transactionTemplate.execute(status -> {
+            List<Transfer> transfers = transferRepository.claimByIds(transferIds, LocalDate.now(clock), now);
+            transfers.forEach(transfer -> eventPublisher.publish(new TransferStatusChanged(transfer, now)));
+            return transfers;
+        });
+        if (claimed == null) {
+            return 0;
+        }
+        if (settlementNetting.isEnabled()) {
+            dispatchNetted(claimed);
+        } else {
+            claimed.forEach(transfer -> dispatch(transfer, 1));
+        }
+        return claimed.size();
+    }
+
+    /**
+     * Whether the dispatcher can take more claimed transfers right now.
+     */
+    public boolean hasDispatchCapacity() {
+        return dispatcher.hasCapacity();
+    }
+
+    /**
+     * Stops claiming; polls and executeDue return at once from now on.
+     */
+    public void quiesce() {
+        quiesced = true;
+    }
+
+    /**
+     * Settlements running now or due to start: claimed and queued ones, but not
+     * transfers waiting for a retry that is still in the future.
+     */
+    public int activeSettlements() {
+        Instant now = Instant.now(clock);
+        int ready = (int) unstarted.values().stream().filter(readyAt -> !readyAt.isAfter(now)).count();
+        return running.get() + ready;
+    }
+
+    /**
+     * Backdates the claim of every transfer whose settlement has not started, so
+     * it turns stale exactly when it would have run here: at once for queued
+     * settlements, at the retry time for pending retries.
+     *
+     * @return ids of the transfers handed back
+     */
+    public List<UUID> releaseUnstarted() {
+        List<UUID> released = new ArrayList<>();
+        for (UUID id : new ArrayList<>(unstarted.keySet())) {
+            Instant readyAt = unstarted.remove(id);
+            if (readyAt != null && transferRepository.renewClaim(id, readyAt.minus(claimTimeout))) {
+                released.add(id);
+            }
+        }
+        if (!released.isEmpty()) {
+            log.info("Handed back {} claimed transfers whose settlement had not started", released.size());
+        }
+        return released;
+    }
+
+    private void dispatchNetted(List<Transfer> claimed) {
+        for (NettingGroup group : settlementNetting.group(claimed)) {
+            if (group.isNetted()) {
+                try {
+                    dispatcher.dispatch(group.laneKey(), () -> executeNetted(group));
+                } catch (TaskRejectedException e) {
+                    log.warn("Net settlement of {} transfers not dispatched, they will be reclaimed",
+                        group.transfers().size());
+                }
+            } else {
+                group.transfers().forEach(transfer -> dispatch(transfer, 1));
+            }
+        }
+    }
+
+    /**
+     * Posts a net settlement and completes all of its transfers in one transaction.
+     * A refused settlement falls back to settling the transfers one by one; any
+     * other failure leaves them claimed, and stale-claim recovery re-posts the
+     * same reference.
+     */
+    void executeNetted(NettingGroup group) {
+        NetSettlement settlement = group.settlement();
+        Timer.Sample sample = metricsCollector.startTransferProcessingTimer();
+        try {
+            settlementGateway.settleNet(settlement);
+        } catch (DomainException e) {
+            log.info("Net settlement {} refused ({}), settling its {} transfers individually",
+                settlement.getReference(), e.getCode(), group.transfers().size());
+            settlementNetting.abandon(settlement.getReference());
+            group.transfers().forEach(this::execute);
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Net settlement {} failed, its transfers stay claimed until recovered",
+                settlement.getReference(), e);
+            metricsCollector.incrementTransfersFailed(reasonOf(e));
+            return;
+        } finally {
+            metricsCollector.recordTransferProcessing(sample);
+        }
+        Instant now = Instant.now(clock);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Transfer transfer : group.transfers()) {
+                if (transferRepository.updateStatus(transfer.getId(), TransferStatus.IN_PROGRESS, TransferStatus.EXECUTED)) {
+                    eventPublisher.publish(new TransferStatusChanged(
+                        transfer.transitionTo(TransferStatus.EXECUTED, now), now));
+                    metricsCollector.incrementTransfersProcessed();
+                } else {
+                    log.warn("Transfer {} was deleted or reclaimed before it could be marked EXECUTED",
+                        transfer.getId());
+                }
+            }
+            settlementNetting.markSettled(settlement.getReference(), now);
+        });
+    }
+
+    void execute(Transfer transfer) {
+        execute(transfer, 1);
+    }
+
+    /**
+     * Hands the settlement to the dispatcher; whichever comes first, the
+     * settlement starting or releaseUnstarted(), removes the transfer from
+     * unstarted and so owns it.
+     */
+    private void dispatch(Transfer transfer, int attempt) {
+        unstarted.put(transfer.getId(), Instant.now(clock));
+        handOver(transfer, attempt);
+    }
+
+    /**
+     * A dispatch the dispatcher refuses will never start, so it leaves unstarted
+     * (a drain would otherwise wait for it) and stale-claim recovery picks it up.
+     */
+    private void handOver(Transfer transfer, int attempt) {
+        try {
+            dispatcher.dispatch(transfer, () -> startUnlessReleased(transfer, attempt));
+        } catch (TaskRejectedException e) {
+            unstarted.remove(transfer.getId());
+        }
+    }
+
+    private void startUnlessReleased(Transfer transfer, int attempt) {
+        if (unstarted.remove(transfer.getId()) == null) {
+            return;
+        }
+        running.incrementAndGet();
+        try {
+            execute(transfer, attempt);
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    private void execute(Transfer transfer, int attempt) {
+        Timer.Sample sample = metricsCollector.startTransferProcessingTimer();
+        try {
+            settlementGateway.settle(transfer);
+            complete(transfer, TransferStatus.EXECUTED);
+            metricsCollector.incrementTransfersProcessed();
+        } catch (RuntimeException e) {
+            String reason = reasonOf(e);
+            if (isTransient(e) && attempt < maxAttempts && retryLater(transfer, attempt + 1, reason)) {
+                return;
+            }
+            log.warn("Settlement of transfer {} failed for good after {} attempts", transfer.getId(), attempt, e);
+            if (fail(transfer, new DeadLetter(transfer.getId(), reason, attempt, e.getMessage(), Instant.now(clock)))) {
+                metricsCollector.incrementTransfersDeadLettered(reason);
+            }
+            metricsCollector.incrementTransfersFailed(reason);
+        } finally {
+            metricsCollector.recordTransferProcessing(sample);
+        }
+    }
+
+    /**
+     * Keeps the claim alive until the retry is due and queues it.
+     *
+     * @return false when the retry queue is full and the transfer must be given up
+     */
+    private boolean retryLater(Transfer transfer, int nextAttempt, String reason) {
+        Duration delay = retryScheduler.backoff(nextAttempt);
+        Instant retryAt = Instant.now(clock).plus(delay);
+        if (!transferRepository.renewClaim(transfer.getId(), retryAt)) {
+            log.warn("Transfer {} was deleted or reclaimed before its retry, dropping it", transfer.getId());
+            return true;
+        }
+        unstarted.put(transfer.getId(), retryAt);
+        if (!retryScheduler.schedule(delay, () -> handOver(transfer, nextAttempt))) {
+            unstarted.remove(transfer.getId());
+            log.warn("Retry queue is full, giving up transfer {}", transfer.getId());
+            return false;
+        }
+        log.info("Settlement of transfer {} failed ({}), attempt {} of {} in {} ms",
+            transfer.getId(), reason, nextAttempt, maxAttempts, delay.toMillis());
+        metricsCollector.incrementTransferRetries(reason);
+        return true;
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return !(e instanceof DomainException) || e instanceof DomainException.CapacityExceeded;
+    }
+
+    private static String reasonOf(RuntimeException e) {
+        return e instanceof DomainException ? ((DomainException) e).getCode() : e.getClass().getSimpleName();
+    }
+
+    private List<Transfer> claimBatch(LocalDate dueBy) {
+        Instant now = Instant.now(clock);
+        List<Transfer> claimed = transactionTemplate.execute(status -> {
+            List<Transfer> transfers = transferRepository.claimDue(dueBy, now, now.minus(claimTimeout), batchSize);
+            transfers.forEach(transfer ->
+                eventPublisher.publish(new TransferStatusChanged(transfer, now)));
+            return transfers;
+        });
+        return claimed == null ? Collections.emptyList() : claimed;
+    }
+
+    private boolean fail(Transfer transfer, DeadLetter deadLetter) {
+        Instant now = Instant.now(clock);
+        Boolean updated = transactionTemplate.execute(status -> {
+            if (!transferRepository.updateStatus(transfer.getId(), TransferStatus.IN_PROGRESS, TransferStatus.FAILED)) {
+                return false;
+            }
+            deadLetterStore.record(deadLetter);
+            eventPublisher.publish(new TransferStatusChanged(transfer.transitionTo(TransferStatus.FAILED, now), now));
+            return true;
+        });
+        if (!Boolean.TRUE.equals(updated)) {
+            log.warn("Transfer {} was deleted or reclaimed before it could be marked FAILED", transfer.getId());
+            return false;
+        }
+        return true;
+    }
+
+    private void complete(Transfer transfer, TransferStatus outcome) {
+        Instant now = Instant.now(clock);
+        Boolean updated = transactionTemplate.execute(status -> {
+            if (!transferRepository.updateStatus(transfer.getId(), TransferStatus.IN_PROGRESS, outcome)) {
+                return false;
+            }
+            eventPublisher.publish(new TransferStatusChanged(transfer.transitionTo(outcome, now), now));
+            return true;
+        });
+        if (!Boolean.TRUE.equals(updated)) {
+            log.warn("Transfer {} was deleted or reclaimed before it could be marked {}", transfer.getId(), outcome);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Runs every settlement directly on transferProcessingExecutor, with no ordering
+ * between transfers of the same account.
+ *
+ * A refusal by a saturated executor is passed on to the execution engine as
+ * TaskRejectedException; the transfer stays IN_PROGRESS and is reclaimed once
+ * scheduler.execution.claim-timeout has passed.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.execution.dispatcher", havingValue = "executor")
+public class ExecutorTransferDispatcher implements TransferExecutionDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutorTransferDispatcher.class);
+
+    private final Executor transferProcessingExecutor;
+
+    public ExecutorTransferDispatcher(@Qualifier("transferProcessingExecutor") Executor transferProcessingExecutor) {
+        this.transferProcessingExecutor = transferProcessingExecutor;
+    }
+
+    @Override
+    public void dispatch(Transfer transfer, Runnable execution) {
+        try {
+            transferProcessingExecutor.execute(execution);
+        } catch (TaskRejectedException e) {
+            log.warn("Transfer {} not dispatched, executor saturated; it will be reclaimed", transfer.getId());
+            throw e;
+        }
+    }
+}
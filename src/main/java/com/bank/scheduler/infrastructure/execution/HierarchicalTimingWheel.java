@@ -0,0 +1,230 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Hierarchical timing wheel keyed by an identifier.
+ *
+ * Design:
+ * - Level i has wheelSize slots of wheelSize^i ticks each; the whole wheel covers
+ *   wheelSize^levels ticks ahead of the current tick
+ * - An entry goes to the lowest level whose span still reaches its deadline and
+ *   cascades down one level each time its slot comes around
+ * - Slots are intrusive doubly-linked lists and entries are indexed by key, so
+ *   schedule and cancel are O(1); advancing costs O(1) per elapsed tick plus the
+ *   entries that expire or cascade
+ *
+ * Deadlines that are already due land in a separate overdue slot and fire on the
+ * next advance. Deadlines beyond the horizon are rejected. All methods are
+ * synchronized; the critical sections never block.
+ */
+public final class HierarchicalTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] ticksPerSlot;
+    private final Slot<K>[][] levels;
+    private final Slot<K> overdue = new Slot<>();
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levelCount < 1) {
+            throw new IllegalArgumentException("Tick, wheel size and level count must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.ticksPerSlot = new long[levelCount];
+        this.levels = new Slot[levelCount][wheelSize];
+        long span = 1;
+        for (int level = 0; level < levelCount; level++) {
+            ticksPerSlot[level] = span;
+            span = Math.multiplyExact(span, wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                levels[level][slot] = new Slot<>();
+            }
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    public long horizonMillis() {
+        return ticksPerSlot[ticksPerSlot.length - 1] * wheelSize * tickMillis;
+    }
+
+    /**
+     * Schedules (or reschedules) a key.
+     *
+     * @return false when the deadline is beyond the horizon
+     */
+    public synchronized boolean schedule(K key, long deadlineMillis) {
+        long deadlineTick = deadlineMillis / tickMillis;
+        if (deadlineTick - currentTick >= ticksPerSlot[ticksPerSlot.length - 1] * wheelSize) {
+            return false;
+        }
+        Entry<K> previous = entries.remove(key);
+        if (previous != null) {
+            previous.unlink();
+        }
+        Entry<K> entry = new Entry<>(key, deadlineTick);
+        entries.put(key, entry);
+        place(entry);
+        return true;
+    }
+
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.unlink();
+        return true;
+    }
+
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Cancels every key matching the filter.
+     *
+     * @return number of keys cancelled
+     */
+    public synchronized int cancelIf(Predicate<K> filter) {
+        int cancelled = 0;
+        for (Iterator<Entry<K>> it = entries.values().iterator(); it.hasNext(); ) {
+            Entry<K> entry = it.next();
+            if (filter.test(entry.key)) {
+                entry.unlink();
+                it.remove();
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    public synchronized void clear() {
+        entries.values().forEach(Entry::unlink);
+        entries.clear();
+    }
+
+    /**
+     * Moves the wheel to {@code nowMillis} and returns the keys that became due,
+     * ordered by tick.
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        drain(overdue, expired);
+        long nowTick = nowMillis / tickMillis;
+        if (entries.isEmpty()) {
+            currentTick = Math.max(currentTick, nowTick);
+            return expired;
+        }
+        while (currentTick < nowTick) {
+            currentTick++;
+            for (int level = ticksPerSlot.length - 1; level > 0; level--) {
+                if (currentTick % ticksPerSlot[level] == 0) {
+                    cascade(levels[level][slotIndex(currentTick, level)]);
+                }
+            }
+            drain(overdue, expired);
+            drain(levels[0][slotIndex(currentTick, 0)], expired);
+        }
+        return expired;
+    }
+
+    private void place(Entry<K> entry) {
+        if (entry.deadlineTick <= currentTick) {
+            overdue.add(entry);
+            return;
+        }
+        for (int level = 0; level < ticksPerSlot.length; level++) {
+            if (entry.deadlineTick / ticksPerSlot[level] - currentTick / ticksPerSlot[level] < wheelSize) {
+                levels[level][slotIndex(entry.deadlineTick, level)].add(entry);
+                return;
+            }
+        }
+        throw new IllegalStateException("Deadline beyond horizon: " + entry.deadlineTick);
+    }
+
+    private int slotIndex(long tick, int level) {
+        return (int) ((tick / ticksPerSlot[level]) % wheelSize);
+    }
+
+    private void cascade(Slot<K> slot) {
+        Entry<K> entry;
+        while ((entry = slot.poll()) != null) {
+            place(entry);
+        }
+    }
+
+    private void drain(Slot<K> slot, List<K> expired) {
+        Entry<K> entry;
+        while ((entry = slot.poll()) != null) {
+            entries.remove(entry.key);
+            expired.add(entry.key);
+        }
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long deadlineTick;
+        private Slot<K> slot;
+        private Entry<K> prev;
+        private Entry<K> next;
+
+        private Entry(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+
+        private void unlink() {
+            if (slot != null) {
+                slot.remove(this);
+            }
+        }
+    }
+
+    private static final class Slot<K> {
+        private final Entry<K> head = new Entry<>(null, 0);
+
+        private Slot() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        private void add(Entry<K> entry) {
+            entry.slot = this;
+            entry.prev = head.prev;
+            entry.next = head;
+            head.prev.next = entry;
+            head.prev = entry;
+        }
+
+        private void remove(Entry<K> entry) {
+            entry.prev.next = entry.next;
+            entry.next.prev = entry.prev;
+            entry.prev = null;
+            entry.next = null;
+            entry.slot = null;
+        }
+
+        private Entry<K> poll() {
+            Entry<K> first = head.next;
+            if (first == head) {
+                return null;
+            }
+            remove(first);
+            return first;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.valueobjects.NetSettlement;
+
+import java.util.List;
+
+/**
+ * Claimed transfers that settle together, with the net settlement replacing them.
+ * A group of one has no settlement and is executed like any other transfer.
+ */
+final class NettingGroup {
+    private final List<Transfer> transfers;
+    private final NetSettlement settlement;
+
+    NettingGroup(List<Transfer> transfers, NetSettlement settlement) {
+        this.transfers = transfers;
+        this.settlement = settlement;
+    }
+
+    List<Transfer> transfers() {
+        return transfers;
+    }
+
+    NetSettlement settlement() {
+        return settlement;
+    }
+
+    boolean isNetted() {
+        return settlement != null;
+    }
+
+    /**
+     * A transfer sent by the payer, so account lanes serialize the group with the
+     * payer's other debits.
+     */
+    Transfer laneKey() {
+        if (settlement != null) {
+            for (Transfer transfer : transfers) {
+                if (transfer.getSourceAccount().equals(settlement.getPayer())) {
+                    return transfer;
+                }
+            }
+        }
+        return transfers.get(0);
+    }
+}
@@ -0,0 +1,287 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.valueobjects.BusinessCalendar;
+import com.bank.scheduler.domain.valueobjects.TransferUrgency;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Feeds transferProcessingExecutor from one lane per TransferUrgency, so same-day
+ * transfers overtake the bulk of future-dated ones due at midnight.
+ *
+ * Design:
+ * - The dispatcher keeps at most scheduler.execution.priority.concurrency
+ *   settlements in flight; everything else waits in its lane, not in the
+ *   executor's FIFO queue, which is what makes reordering possible
+ * - When a slot frees, the next lane is chosen by smooth weighted round robin over
+ *   the non-empty lanes (default weights 8:3:1), so lower lanes keep a fixed share
+ *   of the slots while PREMIUM is backlogged and never starve
+ * - reserved-premium slots are never given to STANDARD or BULK: a premium transfer
+ *   arriving in the middle of the midnight batch starts at once instead of
+ *   waiting for a bulk settlement to finish, which is what lets its SLO hold
+ *
+ * Per-lane timer transfers.priority.latency (dispatch to completion, with p50,
+ * p95 and p99) and gauge transfers.priority.depth; premium settlements slower than
+ * scheduler.execution.priority.premium-slo count in transfers.priority.slo.breaches.
+ *
+ * The lanes are unbounded, so hasCapacity() turns false once they hold
+ * scheduler.execution.priority.max-queued tasks together and the execution engine
+ * stops claiming; otherwise a midnight backlog would sit in the lanes past the
+ * claim timeout and be reclaimed and dispatched a second time.
+ *
+ * A task refused by a saturated executor goes back to the head of its lane and the
+ * lanes are pumped again on the next completion or repump tick. That needs the
+ * executor to reject loudly (FAIL_FAST): a task silently dropped would hold its
+ * slot forever. Queued tasks are lost on shutdown; their transfers stay
+ * IN_PROGRESS and are reclaimed.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.execution.dispatcher", havingValue = "priority")
+public class PriorityLaneDispatcher implements TransferExecutionDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(PriorityLaneDispatcher.class);
+
+    private final Executor transferProcessingExecutor;
+    private final BusinessCalendar calendar;
+    private final Lane[] lanes;
+    private final int concurrency;
+    private final int sharedSlots;
+    private final int maxQueued;
+    private final Duration premiumSlo;
+    private final Counter sloBreaches;
+    private final ReentrantLock pumpLock = new ReentrantLock();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger sharedInFlight = new AtomicInteger();
+
+    public PriorityLaneDispatcher(
+            @Qualifier("transferProcessingExecutor") Executor transferProcessingExecutor,
+            BusinessCalendar calendar,
+            MeterRegistry meterRegistry,
+            @Value("${scheduler.execution.priority.concurrency:10}") int concurrency,
+            @Value("${scheduler.execution.priority.reserved-premium:2}") int reservedPremium,
+            @Value("${scheduler.execution.priority.weights:8,3,1}") int[] weights,
+            @Value("${scheduler.execution.priority.premium-slo:PT2S}") Duration premiumSlo,
+            @Value("${scheduler.execution.priority.max-queued:10000}") int maxQueued) {
+        TransferUrgency[] classes = TransferUrgency.values();
+        if (weights.length != classes.length) {
+            throw new IllegalArgumentException("Expected one priority weight per urgency class " + classes.length);
+        }
+        if (reservedPremium < 0 || reservedPremium >= concurrency) {
+            throw new IllegalArgumentException("Reserved premium slots must be below the concurrency");
+        }
+        this.transferProcessingExecutor = transferProcessingExecutor;
+        this.calendar = calendar;
+        this.concurrency = concurrency;
+        this.sharedSlots = concurrency - reservedPremium;
+        this.premiumSlo = premiumSlo;
+        this.maxQueued = maxQueued;
+        this.lanes = new Lane[classes.length];
+        for (TransferUrgency urgency : classes) {
+            Lane lane = new Lane(urgency, weights[urgency.ordinal()], Timer.builder("transfers.priority.latency")
+                .description("Time from dispatch to completed settlement, per urgency lane")
+                .tag("lane", urgency.name())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .serviceLevelObjectives(urgency == TransferUrgency.PREMIUM ? new Duration[] {premiumSlo} : new Duration[0])
+                .register(meterRegistry));
+            lanes[urgency.ordinal()] = lane;
+            Gauge.builder("transfers.priority.depth", lane.queue, ConcurrentLinkedDeque::size)
+                .description("Transfers waiting in an urgency lane")
+                .tag("lane", urgency.name())
+                .register(meterRegistry);
+        }
+        this.sloBreaches = Counter.builder("transfers.priority.slo.breaches")
+            .description("Premium settlements that took longer than the premium SLO")
+            .register(meterRegistry);
+        Gauge.builder("transfers.priority.in.flight", inFlight, AtomicInteger::get)
+            .description("Settlements handed to transferProcessingExecutor and not finished")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void dispatch(Transfer transfer, Runnable execution) {
+        TransferUrgency urgency;
+        try {
+            urgency = TransferUrgency.of(transfer, calendar);
+        } catch (DomainException.InvalidTransferDate e) {
+            urgency = TransferUrgency.BULK;
+        }
+        lanes[urgency.ordinal()].queue.offerLast(new Task(execution, System.nanoTime()));
+        pump();
+    }
+
+    /**
+     * Starts queued tasks while slots are free. Also runs on a timer so lanes
+     * refused by a saturated executor are retried even when nothing completes.
+     */
+    @Scheduled(fixedDelayString = "${scheduler.execution.priority.repump-ms:100}")
+    public void pump() {
+        while (hasStartableWork()) {
+            if (!pumpLock.tryLock()) {
+                return;
+            }
+            try {
+                if (!startQueued()) {
+                    return;
+                }
+            } finally {
+                pumpLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public boolean hasCapacity() {
+        return queued() < maxQueued;
+    }
+
+    public int queued() {
+        int queued = 0;
+        for (Lane lane : lanes) {
+            queued += lane.queue.size();
+        }
+        return queued;
+    }
+
+    public int depth(TransferUrgency urgency) {
+        return lanes[urgency.ordinal()].queue.size();
+    }
+
+    /**
+     * Starts tasks until no slot or no eligible task is left.
+     *
+     * @return false when the executor refused a task
+     */
+    private boolean startQueued() {
+        while (inFlight.get() < concurrency) {
+            Lane lane = nextLane();
+            if (lane == null) {
+                return true;
+            }
+            Task task = lane.queue.pollFirst();
+            if (task == null) {
+                continue;
+            }
+            boolean shared = lane.urgency != TransferUrgency.PREMIUM;
+            inFlight.incrementAndGet();
+            if (shared) {
+                sharedInFlight.incrementAndGet();
+            }
+            try {
+                transferProcessingExecutor.execute(() -> run(lane, task, shared));
+            } catch (TaskRejectedException e) {
+                release(shared);
+                lane.queue.offerFirst(task);
+                log.debug("transferProcessingExecutor saturated, {} lane waits for the next pump", lane.urgency);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Smooth weighted round robin over the lanes that have work and may take a slot.
+     */
+    private Lane nextLane() {
+        boolean sharedSlotFree = sharedInFlight.get() < sharedSlots;
+        Lane selected = null;
+        int totalWeight = 0;
+        for (Lane lane : lanes) {
+            if (lane.queue.isEmpty() || (lane.urgency != TransferUrgency.PREMIUM && !sharedSlotFree)) {
+                continue;
+            }
+            lane.currentWeight += lane.weight;
+            totalWeight += lane.weight;
+            if (selected == null || lane.currentWeight > selected.currentWeight) {
+                selected = lane;
+            }
+        }
+        if (selected != null) {
+            selected.currentWeight -= totalWeight;
+        }
+        return selected;
+    }
+
+    private boolean hasStartableWork() {
+        if (inFlight.get() >= concurrency) {
+            return false;
+        }
+        if (!lanes[TransferUrgency.PREMIUM.ordinal()].queue.isEmpty()) {
+            return true;
+        }
+        if (sharedInFlight.get() >= sharedSlots) {
+            return false;
+        }
+        for (Lane lane : lanes) {
+            if (!lane.queue.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void run(Lane lane, Task task, boolean shared) {
+        try {
+            task.execution.run();
+        } catch (RuntimeException e) {
+            log.error("Settlement in the {} lane failed", lane.urgency, e);
+        } finally {
+            long elapsed = System.nanoTime() - task.dispatchedAtNanos;
+            lane.latency.record(elapsed, TimeUnit.NANOSECONDS);
+            if (lane.urgency == TransferUrgency.PREMIUM && elapsed > premiumSlo.toNanos()) {
+                sloBreaches.increment();
+            }
+            release(shared);
+            pump();
+        }
+    }
+
+    private void release(boolean shared) {
+        if (shared) {
+            sharedInFlight.decrementAndGet();
+        }
+        inFlight.decrementAndGet();
+    }
+
+    private static final class Lane {
+        private final TransferUrgency urgency;
+        private final int weight;
+        private final Timer latency;
+        private final ConcurrentLinkedDeque<Task> queue = new ConcurrentLinkedDeque<>();
+        private int currentWeight;
+
+        private Lane(TransferUrgency urgency, int weight, Timer latency) {
+            this.urgency = urgency;
+            this.weight = weight;
+            this.latency = latency;
+        }
+    }
+
+    private static final class Task {
+        private final Runnable execution;
+        private final long dispatchedAtNanos;
+
+        private Task(Runnable execution, long dispatchedAtNanos) {
+            this.execution = execution;
+            this.dispatchedAtNanos = dispatchedAtNanos;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import com.bank.scheduler.application.usecases.RecurringTransferService;
+import com.bank.scheduler.domain.entities.RecurringTransfer;
+import com.bank.scheduler.domain.ports.RecurringTransferStore;
+import com.bank.scheduler.infrastructure.coordination.PartitionLeaseCoordinator;
+import com.bank.scheduler.infrastructure.coordination.PartitionedJob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Moves the scheduling window forward over the recurring-transfer rules.
+ *
+ * Flow (every materialize interval, on the replica holding the single
+ * "recurring-materializer" lease):
+ * 1. Skip the pass when the window end (RecurringTransferService.windowEnd) has already
+ *    been covered today
+ * 2. Read up to batch-size rules whose next occurrence falls inside the window,
+ *    earliest first, and materialize each through RecurringTransferService
+ * 3. Repeat while batches come back full and some rule's watermark moved
+ *
+ * Each rule carries its own watermark (next_occurrence, indexed), so a pass only
+ * touches rules that actually have an occurrence entering the window: about one
+ * row per rule per period, independent of how far the rules run. Rules created
+ * through the API are materialized on creation, so outside a missed pass the job
+ * reads a handful of rows once a day.
+ *
+ * A rule that fails is logged and retried next pass; the covered window end is
+ * only recorded after a pass in which nothing failed.
+ *
+ * Metrics: transfers.recurring.materialized, transfers.recurring.skipped (tagged
+ * missed / rejected) and transfers.recurring.window (epoch day of the covered
+ * window end).
+ */
+@Component
+public class RecurringTransferMaterializer implements PartitionedJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurringTransferMaterializer.class);
+    private static final String JOB_NAME = "recurring-materializer";
+
+    private final RecurringTransferStore recurringTransferStore;
+    private final RecurringTransferService recurringTransferService;
+    private final PartitionLeaseCoordinator leaseCoordinator;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Counter materialized;
+    private final Counter missed;
+    private final Counter rejected;
+
+    private volatile LocalDate coveredThrough = LocalDate.MIN;
+
+    public RecurringTransferMaterializer(
+            RecurringTransferStore recurringTransferStore,
+            RecurringTransferService recurringTransferService,
+            PartitionLeaseCoordinator leaseCoordinator,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${scheduler.recurring.enabled:true}") boolean enabled,
+            @Value("${scheduler.recurring.batch-size:500}") int batchSize) {
+        this.recurringTransferStore = recurringTransferStore;
+        this.recurringTransferService = recurringTransferService;
+        this.leaseCoordinator = leaseCoordinator;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.materialized = Counter.builder("transfers.recurring.materialized")
+            .description("Transfers created from recurring-transfer rules")
+            .register(meterRegistry);
+        this.missed = Counter.builder("transfers.recurring.skipped")
+            .tag("reason", "missed")
+            .description("Recurring occurrences skipped")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("transfers.recurring.skipped")
+            .tag("reason", "rejected")
+            .description("Recurring occurrences skipped")
+            .register(meterRegistry);
+        Gauge.builder("transfers.recurring.window", this, job -> job.coveredThrough.equals(LocalDate.MIN)
+                ? 0 : job.coveredThrough.toEpochDay())
+            .description("Epoch day up to which every recurring rule has been materialized")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String jobName() {
+        return JOB_NAME;
+    }
+
+    @Override
+    public int partitionCount() {
+        return 1;
+    }
+
+    @Scheduled(initialDelayString = "${scheduler.recurring.initial-delay-ms:30000}",
+        fixedDelayString = "${scheduler.recurring.materialize-interval-ms:600000}")
+    public void scheduledRun() {
+        if (!enabled || !leaseCoordinator.owns(JOB_NAME, 0)) {
+            return;
+        }
+        LocalDate today = LocalDate.now(clock);
+        if (!coveredThrough.isBefore(recurringTransferService.windowEnd(today))) {
+            return;
+        }
+        try {
+            materializeDue();
+        } catch (RuntimeException e) {
+            log.error("Recurring transfer materialization failed", e);
+        }
+    }
+
+    /**
+     * Materializes every rule with an occurrence inside today's window.
+     *
+     * @return the number of transfers created
+     */
+    public int materializeDue() {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate windowEnd = recurringTransferService.windowEnd(today);
+        int created = 0;
+        boolean failed = false;
+        while (true) {
+            List<RecurringTransfer> batch = recurringTransferStore.findDue(windowEnd, batchSize);
+            boolean progressed = false;
+            for (RecurringTransfer rule : batch) {
+                try {
+                    RecurringTransferService.Materialization result = recurringTransferService.materialize(rule);
+                    progressed |= result.getNextIndex() != rule.getNextIndex();
+                    created += result.getTransfers().size();
+                    materialized.increment(result.getTransfers().size());
+                    missed.increment(result.getMissed());
+                    rejected.increment(result.getRejected());
+                } catch (RuntimeException e) {
+                    failed = true;
+                    log.warn("Materializing recurring transfer {} failed, retrying next pass", rule.getId(), e);
+                }
+            }
+            if (batch.size() < batchSize || !progressed) {
+                break;
+            }
+        }
+        if (!failed) {
+            coveredThrough = windowEnd;
+        }
+        if (created > 0) {
+            log.info("Materialized {} recurring transfers through {}", created, windowEnd);
+        }
+        return created;
+    }
+}
@@ -0,0 +1,173 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Holds failed executions until their backoff has elapsed, then hands them back.
+ *
+ * Design:
+ * - Pending retries sit in a DelayQueue drained by one daemon thread, so waiting
+ *   never occupies an executor or lane thread
+ * - Backoff is exponential with equal jitter: half of base * 2^(attempt-1)
+ *   (capped at max-delay) is fixed, the other half random, so retries of
+ *   transfers that failed together spread out instead of hitting the
+ *   recovering dependency in lock-step
+ * - The drain thread releases at most max-per-second retries; a backlog waits in
+ *   the queue rather than bursting onto the executors
+ * - Beyond max-pending, schedule() refuses and the caller gives the transfer up
+ * - Due times are measured on the injected Clock, and the drain thread re-reads
+ *   it at least every 100 ms (at once after recheckClock()), so under a virtual
+ *   clock a retry runs once the clock has been moved past it. The max-per-second pacing stays in wall time:
+ *   it protects the gateway, which does not run on the virtual clock
+ *
+ * Pending retries live in memory only. After a restart the stale-claim recovery
+ * of DueTransferExecutionEngine picks the transfers up again.
+ */
+@Component
+public class RetryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryScheduler.class);
+    private static final long CLOCK_RECHECK_MILLIS = 100;
+
+    private final DelayQueue<PendingRetry> queue = new DelayQueue<>();
+    private final Clock clock;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final int maxPending;
+    private final long releaseIntervalNanos;
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+    public RetryScheduler(
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${scheduler.execution.retry.base-delay:PT1S}") Duration baseDelay,
+            @Value("${scheduler.execution.retry.max-delay:PT5M}") Duration maxDelay,
+            @Value("${scheduler.execution.retry.max-pending:10000}") int maxPending,
+            @Value("${scheduler.execution.retry.max-per-second:50}") int maxPerSecond) {
+        this.clock = clock;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.maxPending = maxPending;
+        this.releaseIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, maxPerSecond);
+        Gauge.builder("transfers.retry.pending", queue, DelayQueue::size)
+            .description("Failed executions waiting for their next attempt")
+            .register(meterRegistry);
+        this.drainer = new Thread(this::drain, "TransferRetry");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    /**
+     * Jittered delay before the given attempt (attempt 2 is the first retry).
+     */
+    public Duration backoff(int attempt) {
+        int exponent = Math.min(Math.max(attempt - 2, 0), 30);
+        long ceiling = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << exponent);
+        long half = ceiling / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(ceiling - half + 1));
+    }
+
+    /**
+     * Runs the retry once the delay has elapsed.
+     *
+     * @return false when too many retries are already pending
+     */
+    public boolean schedule(Duration delay, Runnable retry) {
+        if (queue.size() >= maxPending) {
+            return false;
+        }
+        queue.put(new PendingRetry(clock.millis() + delay.toMillis(), retry));
+        return true;
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    /**
+     * When the earliest pending retry becomes due, on the clock.
+     */
+    public Optional<Instant> nextDue() {
+        PendingRetry head = queue.peek();
+        return head == null ? Optional.empty() : Optional.of(Instant.ofEpochMilli(head.dueAtMillis));
+    }
+
+    /**
+     * Makes the drain thread re-read the clock now rather than at its next
+     * periodic check; for callers that move a virtual clock.
+     */
+    public void recheckClock() {
+        queue.put(new PendingRetry(0, null));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        drainer.interrupt();
+        if (!queue.isEmpty()) {
+            log.info("Dropping {} pending retries; stale-claim recovery will pick them up", queue.size());
+        }
+    }
+
+    private void drain() {
+        long nextRelease = System.nanoTime();
+        while (running) {
+            PendingRetry retry;
+            try {
+                retry = queue.poll(CLOCK_RECHECK_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (retry == null || retry.task == null) {
+                continue;
+            }
+            long wait = nextRelease - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            nextRelease = Math.max(nextRelease, System.nanoTime()) + releaseIntervalNanos;
+            try {
+                retry.task.run();
+            } catch (RuntimeException e) {
+                log.error("Retry could not be dispatched", e);
+            }
+        }
+    }
+
+    private final class PendingRetry implements Delayed {
+        private final long dueAtMillis;
+        private final Runnable task;
+
+        private PendingRetry(long dueAtMillis, Runnable task) {
+            this.dueAtMillis = dueAtMillis;
+            this.task = task;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - clock.millis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtMillis, ((PendingRetry) other).dueAtMillis);
+        }
+    }
+}
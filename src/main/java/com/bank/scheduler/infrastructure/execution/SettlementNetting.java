@@ -0,0 +1,324 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.NetSettlement;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Optional netting stage between claiming and settling due transfers.
+ *
+ * Flow:
+ * 1. group() makes one pass over the claimed transfers, accumulating per
+ *    (lower account, higher account, transfer date, currency) what each side
+ *    sent the other and the fees each side owes; transfers in different
+ *    currencies are never netted against each other
+ * 2. Every group of two or more transfers becomes one NetSettlement: the side
+ *    that sent more pays the difference. Its audit rows (net_settlements and
+ *    net_settlement_transfers, primary database) are written before anything is
+ *    settled
+ * 3. The engine posts the net settlement and marks its transfers EXECUTED
+ *
+ * A settlement's net_settlements row and its net_settlement_transfers rows are
+ * written, and deleted, in one transaction, so a crash never leaves a settlement
+ * that covers only some of its transfers.
+ *
+ * The audit rows make recovery exact: a reclaimed transfer that is already
+ * mapped to a net settlement is grouped under that settlement again and re-posts
+ * the same reference, which the gateway acknowledges without moving money twice.
+ * A settlement the gateway refuses is abandoned (rows deleted) and its transfers
+ * are settled one by one.
+ */
+@Component
+public class SettlementNetting {
+
+    private static final int IN_CLAUSE_CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int maxTransfers;
+    private final Counter groups;
+    private final Counter nettedTransfers;
+
+    public SettlementNetting(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${scheduler.execution.netting.enabled:false}") boolean enabled,
+            @Value("${scheduler.execution.netting.max-transfers:100000}") int maxTransfers) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.clock = clock;
+        this.enabled = enabled;
+        this.maxTransfers = maxTransfers;
+        this.groups = Counter.builder("transfers.netting.settlements")
+            .description("Net settlements posted in place of two or more transfers")
+            .register(meterRegistry);
+        this.nettedTransfers = Counter.builder("transfers.netting.transfers")
+            .description("Transfers settled through a net settlement")
+            .register(meterRegistry);
+        if (enabled) {
+            initializeSchema();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Claimed transfers to accumulate before netting them, bounding memory on
+     * busy dates.
+     */
+    public int maxTransfers() {
+        return maxTransfers;
+    }
+
+    /**
+     * Groups claimed transfers and records the audit mapping of every new net
+     * settlement.
+     */
+    List<NettingGroup> group(List<Transfer> claimed) {
+        List<UUID> claimedIds = new ArrayList<>(claimed.size());
+        claimed.forEach(transfer -> claimedIds.add(transfer.getId()));
+        Map<UUID, NetSettlement> recorded = findCovering(claimedIds);
+        Map<UUID, List<Transfer>> resumed = new LinkedHashMap<>();
+        Map<PairKey, Position> positions = new LinkedHashMap<>();
+        for (Transfer transfer : claimed) {
+            NetSettlement previous = recorded.get(transfer.getId());
+            if (previous != null) {
+                resumed.computeIfAbsent(previous.getReference(), key -> new ArrayList<>()).add(transfer);
+            } else {
+                positions.computeIfAbsent(PairKey.of(transfer), Position::new).add(transfer);
+            }
+        }
+
+        List<NettingGroup> result = new ArrayList<>(positions.size() + resumed.size());
+        Map<UUID, NetSettlement> byReference = new HashMap<>();
+        recorded.values().forEach(settlement -> byReference.put(settlement.getReference(), settlement));
+        resumed.forEach((reference, transfers) -> result.add(new NettingGroup(transfers, byReference.get(reference))));
+        for (Position position : positions.values()) {
+            if (position.transfers.size() == 1) {
+                result.add(new NettingGroup(position.transfers, null));
+                continue;
+            }
+            NetSettlement settlement = position.toSettlement();
+            record(settlement);
+            groups.increment();
+            nettedTransfers.increment(position.transfers.size());
+            result.add(new NettingGroup(position.transfers, settlement));
+        }
+        return result;
+    }
+
+    void markSettled(UUID reference, Instant settledAt) {
+        jdbcTemplate.update("UPDATE net_settlements SET settled_at = ? WHERE reference = ?",
+            Timestamp.from(settledAt), reference);
+    }
+
+    /**
+     * Forgets a settlement the gateway refused, so its transfers settle individually.
+     */
+    void abandon(UUID reference) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM net_settlement_transfers WHERE reference = ?", reference);
+            jdbcTemplate.update("DELETE FROM net_settlements WHERE reference = ?", reference);
+        });
+    }
+
+    /**
+     * Audit lookup: the net settlement a transfer was settled through, if any.
+     */
+    public Optional<NetSettlement> settlementOf(UUID transferId) {
+        return Optional.ofNullable(findCovering(List.of(transferId)).get(transferId));
+    }
+
+    private void initializeSchema() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS net_settlements ("
+            + "reference UUID PRIMARY KEY, "
+            + "transfer_date DATE NOT NULL, "
+            + "payer VARCHAR(10) NOT NULL, "
+            + "payee VARCHAR(10) NOT NULL, "
+            + "net_amount DECIMAL(19, 2) NOT NULL, "
+            + "payer_fee DECIMAL(19, 2) NOT NULL, "
+            + "payee_fee DECIMAL(19, 2) NOT NULL, "
+            + "created_at TIMESTAMP NOT NULL, "
+            + "settled_at TIMESTAMP)");
+        jdbcTemplate.execute("ALTER TABLE net_settlements ADD COLUMN IF NOT EXISTS "
+            + "currency VARCHAR(3) DEFAULT 'BRL' NOT NULL");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS net_settlement_transfers ("
+            + "transfer_id UUID PRIMARY KEY, "
+            + "reference UUID NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_net_settlement_transfers_reference "
+            + "ON net_settlement_transfers (reference)");
+    }
+
+    private void record(NetSettlement settlement) {
+        List<Object[]> rows = new ArrayList<>(settlement.getTransferIds().size());
+        settlement.getTransferIds().forEach(id -> rows.add(new Object[] {id, settlement.getReference()}));
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO net_settlements (reference, transfer_date, payer, payee, net_amount, "
+                    + "payer_fee, payee_fee, currency, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                settlement.getReference(), Date.valueOf(settlement.getTransferDate()),
+                settlement.getPayer().getValue(), settlement.getPayee().getValue(),
+                settlement.getNetAmount().getAmount(), settlement.getPayerFee().getAmount(),
+                settlement.getPayeeFee().getAmount(), settlement.getNetAmount().getCurrency(),
+                Timestamp.from(Instant.now(clock)));
+            jdbcTemplate.batchUpdate("INSERT INTO net_settlement_transfers (transfer_id, reference) VALUES (?, ?)",
+                rows);
+        });
+    }
+
+    /**
+     * Net settlements already recorded for any of the transfers, keyed by transfer id.
+     */
+    private Map<UUID, NetSettlement> findCovering(List<UUID> ids) {
+        if (!enabled || ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, UUID> referenceByTransfer = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT transfer_id, reference FROM net_settlement_transfers "
+                    + "WHERE transfer_id IN (" + placeholders + ")",
+                rs -> {
+                    referenceByTransfer.put(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class));
+                }, chunk.toArray());
+        }
+        Map<UUID, NetSettlement> settlements = new HashMap<>();
+        for (UUID reference : new HashSet<>(referenceByTransfer.values())) {
+            List<UUID> transferIds = jdbcTemplate.queryForList(
+                "SELECT transfer_id FROM net_settlement_transfers WHERE reference = ?", UUID.class, reference);
+            jdbcTemplate.query("SELECT * FROM net_settlements WHERE reference = ?", rs -> {
+                String currency = rs.getString("currency");
+                settlements.put(reference, new NetSettlement(reference, rs.getDate("transfer_date").toLocalDate(),
+                    AccountNumber.of(rs.getString("payer")), AccountNumber.of(rs.getString("payee")),
+                    Money.of(rs.getBigDecimal("net_amount"), currency), Money.of(rs.getBigDecimal("payer_fee"), currency),
+                    Money.of(rs.getBigDecimal("payee_fee"), currency), transferIds));
+            }, reference);
+        }
+        Map<UUID, NetSettlement> covering = new HashMap<>();
+        referenceByTransfer.forEach((transferId, reference) -> {
+            NetSettlement settlement = settlements.get(reference);
+            if (settlement != null) {
+                covering.put(transferId, settlement);
+            }
+        });
+        return covering;
+    }
+
+    private static final class PairKey {
+        private final String lower;
+        private final String higher;
+        private final LocalDate transferDate;
+        private final String currency;
+
+        private PairKey(String lower, String higher, LocalDate transferDate, String currency) {
+            this.lower = lower;
+            this.higher = higher;
+            this.transferDate = transferDate;
+            this.currency = currency;
+        }
+
+        static PairKey of(Transfer transfer) {
+            String source = transfer.getSourceAccount().getValue();
+            String target = transfer.getTargetAccount().getValue();
+            String currency = transfer.getAmount().getCurrency();
+            return source.compareTo(target) <= 0
+                ? new PairKey(source, target, transfer.getTransferDate(), currency)
+                : new PairKey(target, source, transfer.getTransferDate(), currency);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PairKey)) return false;
+            PairKey other = (PairKey) o;
+            return lower.equals(other.lower) && higher.equals(other.higher) && transferDate.equals(other.transferDate)
+                && currency.equals(other.currency);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lower, higher, transferDate, currency);
+        }
+    }
+
+    /**
+     * Running totals of one account pair; amounts are seen from the lower account.
+     */
+    private static final class Position {
+        private final PairKey key;
+        private final List<Transfer> transfers = new ArrayList<>();
+        private BigDecimal lowerSent = BigDecimal.ZERO;
+        private BigDecimal higherSent = BigDecimal.ZERO;
+        private BigDecimal lowerFees = BigDecimal.ZERO;
+        private BigDecimal higherFees = BigDecimal.ZERO;
+
+        private Position(PairKey key) {
+            this.key = key;
+        }
+
+        void add(Transfer transfer) {
+            transfers.add(transfer);
+            if (transfer.getSourceAccount().getValue().equals(key.lower)) {
+                lowerSent = lowerSent.add(transfer.getAmount().getAmount());
+                lowerFees = lowerFees.add(transfer.getFee().getAmount());
+            } else {
+                higherSent = higherSent.add(transfer.getAmount().getAmount());
+                higherFees = higherFees.add(transfer.getFee().getAmount());
+            }
+        }
+
+        NetSettlement toSettlement() {
+            List<UUID> ids = new ArrayList<>(transfers.size());
+            transfers.forEach(transfer -> ids.add(transfer.getId()));
+            ids.sort(null);
+            boolean lowerPays = lowerSent.compareTo(higherSent) >= 0;
+            AccountNumber lower = AccountNumber.of(key.lower);
+            AccountNumber higher = AccountNumber.of(key.higher);
+            return new NetSettlement(referenceOf(ids), key.transferDate,
+                lowerPays ? lower : higher,
+                lowerPays ? higher : lower,
+                Money.of(lowerSent.subtract(higherSent).abs(), key.currency),
+                Money.of(lowerPays ? lowerFees : higherFees, key.currency),
+                Money.of(lowerPays ? higherFees : lowerFees, key.currency),
+                ids);
+        }
+
+        private static UUID referenceOf(List<UUID> sortedIds) {
+            ByteBuffer bytes = ByteBuffer.allocate(sortedIds.size() * 16);
+            sortedIds.forEach(id -> bytes.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()));
+            return UUID.nameUUIDFromBytes(bytes.array());
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.events.TransferDeleted;
+import com.bank.scheduler.domain.events.TransferEvent;
+import com.bank.scheduler.domain.events.TransferScheduled;
+import com.bank.scheduler.domain.events.TransferStatusChanged;
+import com.bank.scheduler.domain.events.TransfersCleared;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.BusinessCalendar;
+import com.bank.scheduler.domain.valueobjects.TransferIds;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
+import com.bank.scheduler.infrastructure.coordination.PartitionLease;
+import com.bank.scheduler.infrastructure.coordination.PartitionLeaseCoordinator;
+import com.bank.scheduler.infrastructure.coordination.PartitionedJob;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory dispatch of due transfers through a HierarchicalTimingWheel.
+ *
+ * Flow:
+ * 1. When partitions are assigned (and every reload interval) SCHEDULED transfers
+ *    of the owned partitions dated from today to the wheel horizon are loaded from
+ *    the database; overdue ones are left to the database poll
+ * 2. Committed TransferScheduled / TransferDeleted events insert and cancel entries;
+ *    a TransferStatusChanged back to SCHEDULED (dead-letter replay) inserts again
+ * 3. A ticker advances the wheel; expired ids are grouped by partition, fenced
+ *    against the partition lease, cut into batches and each batch is claimed and
+ *    settled on transferProcessingExecutor
+ *
+ * Partitioning: a transfer belongs to partition bucketOf(id) % scheduler.wheel.partitions
+ * and only the replica leasing that partition keeps it in its wheel, so dispatch
+ * is spread over replicas instead of every replica firing every transfer. Revoked
+ * partitions are dropped from the wheel at once.
+ *
+ * A transfer is due at the start of its transfer date in the clock's zone (the
+ * same zone that dates transfers and the database poll), or of the next business
+ * day when the transfer date is not one. The wheel only decides when to try:
+ * claimByIds re-checks transfer_date against today under the row lock, and claims
+ * still go through SKIP LOCKED, so neither an early tick nor a stale owner firing
+ * during a rebalance executes a transfer early or twice. The reload covers transfers created
+ * on other replicas; the database poll in DueTransferExecutionEngine remains the
+ * safety net and can run at a much lower frequency.
+ *
+ * Due transfers found while the dispatcher has no capacity, and batches refused by
+ * a saturated transferProcessingExecutor, go back into the wheel as overdue and
+ * are offered again on the next tick.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.wheel.enabled", havingValue = "true", matchIfMissing = true)
+public class TimingWheelDispatcher implements PartitionedJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TimingWheelDispatcher.class);
+    private static final String JOB_NAME = "timing-wheel";
+
+    private final TransferRepository transferRepository;
+    private final DueTransferExecutionEngine executionEngine;
+    private final Executor transferProcessingExecutor;
+    private final PartitionLeaseCoordinator leaseCoordinator;
+    private final BusinessCalendar businessCalendar;
+    private final Clock clock;
+    private final HierarchicalTimingWheel<UUID> wheel;
+    private final ScheduledExecutorService ticker;
+    private final ZoneId zone;
+    private final int batchSize;
+    private final int partitions;
+
+    public TimingWheelDispatcher(
+            TransferRepository transferRepository,
+            DueTransferExecutionEngine executionEngine,
+            @Qualifier("transferProcessingExecutor") Executor transferProcessingExecutor,
+            PartitionLeaseCoordinator leaseCoordinator,
+            BusinessCalendar businessCalendar,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${scheduler.wheel.tick-ms:1000}") long tickMillis,
+            @Value("${scheduler.wheel.size:64}") int wheelSize,
+            @Value("${scheduler.wheel.levels:4}") int levels,
+            @Value("${scheduler.wheel.batch-size:500}") int batchSize,
+            @Value("${scheduler.wheel.partitions:16}") int partitions) {
+        this.transferRepository = transferRepository;
+        this.executionEngine = executionEngine;
+        this.transferProcessingExecutor = transferProcessingExecutor;
+        this.leaseCoordinator = leaseCoordinator;
+        this.businessCalendar = businessCalendar;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, levels, clock.millis());
+        this.zone = clock.getZone();
+        this.batchSize = batchSize;
+        this.partitions = partitions;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("TimingWheel-"));
+        this.ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        Gauge.builder("transfers.wheel.pending", wheel, HierarchicalTimingWheel::size)
+            .description("Transfers waiting in the in-memory timing wheel")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        ticker.shutdownNow();
+    }
+
+    @Override
+    public String jobName() {
+        return JOB_NAME;
+    }
+
+    @Override
+    public int partitionCount() {
+        return partitions;
+    }
+
+    @Override
+    public void onPartitionsAssigned(Collection<PartitionLease> assigned) {
+        Set<Integer> gained = assigned.stream().map(PartitionLease::getPartition).collect(Collectors.toSet());
+        load(gained::contains);
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<PartitionLease> revoked) {
+        Set<Integer> lost = revoked.stream().map(PartitionLease::getPartition).collect(Collectors.toSet());
+        int dropped = wheel.cancelIf(id -> lost.contains(partitionOf(id)));
+        log.info("Timing wheel dropped {} transfers of {} revoked partitions", dropped, lost.size());
+    }
+
+    @Scheduled(initialDelayString = "${scheduler.wheel.reload-interval-ms:3600000}",
+        fixedDelayString = "${scheduler.wheel.reload-interval-ms:3600000}")
+    public void reload() {
+        load(partition -> leaseCoordinator.owns(JOB_NAME, partition));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TransferEvent event) {
+        Transfer scheduled = null;
+        if (event instanceof TransferScheduled) {
+            scheduled = ((TransferScheduled) event).getTransfer();
+        } else if (event instanceof TransferStatusChanged
+                && ((TransferStatusChanged) event).getTransfer().getStatus() == TransferStatus.SCHEDULED) {
+            scheduled = ((TransferStatusChanged) event).getTransfer();
+        }
+        if (scheduled != null) {
+            if (leaseCoordinator.owns(JOB_NAME, partitionOf(scheduled.getId()))) {
+                schedule(scheduled);
+            }
+        } else if (event instanceof TransferDeleted) {
+            wheel.cancel(((TransferDeleted) event).getTransferId());
+        } else if (event instanceof TransfersCleared) {
+            wheel.clear();
+        }
+    }
+
+    public int pending() {
+        return wheel.size();
+    }
+
+    void tick() {
+        try {
+            long now = clock.millis();
+            Map<Integer, List<UUID>> dueByPartition = wheel.advance(now).stream()
+                .collect(Collectors.groupingBy(this::partitionOf, TreeMap::new, Collectors.toList()));
+            if (!dueByPartition.isEmpty() && !executionEngine.hasDispatchCapacity()) {
+                dueByPartition.values().forEach(ids -> ids.forEach(id -> wheel.schedule(id, now)));
+                log.debug("Dispatcher backlog full, due transfers deferred");
+                return;
+            }
+            List<UUID> due = new ArrayList<>();
+            dueByPartition.forEach((partition, ids) -> {
+                if (leaseCoordinator.isCurrent(leaseCoordinator.leaseFor(JOB_NAME, partition))) {
+                    due.addAll(ids);
+                } else {
+                    log.debug("Lease on partition {} lost, leaving {} due transfers to its new owner",
+                        partition, ids.size());
+                }
+            });
+            for (int from = 0; from < due.size(); from += batchSize) {
+                List<UUID> batch = new ArrayList<>(due.subList(from, Math.min(from + batchSize, due.size())));
+                try {
+                    transferProcessingExecutor.execute(() -> executionEngine.executeDue(batch));
+                } catch (TaskRejectedException e) {
+                    due.subList(from, due.size()).forEach(id -> wheel.schedule(id, now));
+                    log.debug("Transfer processing executor saturated, {} due transfers deferred", due.size() - from);
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Timing wheel tick failed", e);
+        }
+    }
+
+    private void load(IntPredicate ownedPartition) {
+        long horizonEnd = clock.millis() + wheel.horizonMillis();
+        LocalDate lastDate = LocalDate.ofInstant(Instant.ofEpochMilli(horizonEnd), zone).minusDays(1);
+        LocalDate today = LocalDate.now(clock);
+        if (lastDate.isBefore(today)) {
+            return;
+        }
+        int loaded = 0;
+        for (Transfer transfer : transferRepository.findScheduledBetween(today, lastDate)) {
+            if (ownedPartition.test(partitionOf(transfer.getId())) && schedule(transfer)) {
+                loaded++;
+            }
+        }
+        log.info("Timing wheel loaded {} scheduled transfers due by {}", loaded, lastDate);
+    }
+
+    private int partitionOf(UUID transferId) {
+        return TransferIds.bucketOf(transferId) % partitions;
+    }
+
+    private boolean schedule(Transfer transfer) {
+        long dueAt = businessCalendar.onOrNextBusinessDay(transfer.getTransferDate()).atStartOfDay(zone).toInstant().toEpochMilli();
+        return wheel.schedule(transfer.getId(), dueAt);
+    }
+}
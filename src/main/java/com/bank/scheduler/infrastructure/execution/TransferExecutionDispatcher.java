@@ -0,0 +1,19 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import com.bank.scheduler.domain.entities.Transfer;
+
+/**
+ * Decides where the settlement of a claimed transfer runs.
+ */
+public interface TransferExecutionDispatcher {
+    void dispatch(Transfer transfer, Runnable execution);
+
+    /**
+     * Whether more claimed transfers can be queued. The execution engine stops
+     * claiming while this is false, so a backlog stays SCHEDULED in the database
+     * instead of IN_PROGRESS in memory.
+     */
+    default boolean hasCapacity() {
+        return true;
+    }
+}
@@ -0,0 +1,97 @@
+package com.bank.scheduler.infrastructure.fx;
+
+import com.bank.scheduler.domain.ports.ExchangeRates;
+import com.bank.scheduler.domain.valueobjects.ExchangeRateSnapshot;
+import com.bank.scheduler.domain.valueobjects.Money;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The exchange rates in force, published as one immutable ExchangeRateSnapshot
+ * behind a single AtomicReference.
+ *
+ * Flow (at startup and every scheduler.fx.refresh-interval-ms):
+ * 1. Fetch the rates from the ExchangeRateProvider
+ * 2. Build a new snapshot, cross rates included, off to the side
+ * 3. set() it: readers switch to the new rates on their next current() call
+ *
+ * current() is a single volatile read, so the fee path converts with no lock, no
+ * cache lookup and no I/O, and never sees a half-applied update. When a fetch or
+ * build fails the previous snapshot stays in force; if the very first load fails
+ * only the base currency is accepted until a refresh succeeds.
+ *
+ * Metrics: fx.rates.currencies, fx.rates.age (seconds since the snapshot was
+ * built) and fx.rates.refresh.failures.
+ */
+@Component
+public class AtomicExchangeRateTable implements ExchangeRates {
+
+    private static final Logger log = LoggerFactory.getLogger(AtomicExchangeRateTable.class);
+
+    private final ExchangeRateProvider provider;
+    private final Clock clock;
+    private final AtomicReference<ExchangeRateSnapshot> snapshot =
+        new AtomicReference<>(ExchangeRateSnapshot.BASE_ONLY);
+    private final Counter refreshFailures;
+
+    public AtomicExchangeRateTable(ExchangeRateProvider provider, MeterRegistry meterRegistry, Clock clock) {
+        this.provider = provider;
+        this.clock = clock;
+        this.refreshFailures = Counter.builder("fx.rates.refresh.failures")
+            .description("Exchange rate refreshes that kept the previous rates")
+            .register(meterRegistry);
+        Gauge.builder("fx.rates.currencies", snapshot, ref -> ref.get().currencies().size())
+            .description("Currencies the published exchange rates cover, base included")
+            .register(meterRegistry);
+        Gauge.builder("fx.rates.age", this, table -> table.age().toSeconds())
+            .description("Time since the published exchange rates were built")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        refresh();
+    }
+
+    @Override
+    public ExchangeRateSnapshot current() {
+        return snapshot.get();
+    }
+
+    @Scheduled(initialDelayString = "${scheduler.fx.refresh-interval-ms:3600000}",
+        fixedDelayString = "${scheduler.fx.refresh-interval-ms:3600000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * Fetches and publishes a new snapshot.
+     *
+     * @return true when new rates were published
+     */
+    public boolean refresh() {
+        ExchangeRateSnapshot next;
+        try {
+            next = ExchangeRateSnapshot.of(Money.BASE_CURRENCY, provider.fetch(), clock.instant());
+        } catch (RuntimeException e) {
+            refreshFailures.increment();
+            log.warn("Exchange rate refresh failed, keeping rates as of {}", current().getAsOf(), e);
+            return false;
+        }
+        snapshot.set(next);
+        log.info("Published exchange rates for {} currencies", next.currencies().size());
+        return true;
+    }
+
+    Duration age() {
+        ExchangeRateSnapshot current = current();
+        return current == ExchangeRateSnapshot.BASE_ONLY
+            ? Duration.ZERO : Duration.between(current.getAsOf(), clock.instant());
+    }
+}
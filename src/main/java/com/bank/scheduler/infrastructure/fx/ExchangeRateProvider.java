@@ -0,0 +1,16 @@
+package com.bank.scheduler.infrastructure.fx;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Where exchange rates come from: a file, a market-data feed, a treasury service.
+ *
+ * fetch() returns the value of one unit of each currency in Money.BASE_CURRENCY
+ * and throws when the source cannot be read; AtomicExchangeRateTable keeps the
+ * previous rates in that case.
+ */
+public interface ExchangeRateProvider {
+
+    Map<String, BigDecimal> fetch();
+}
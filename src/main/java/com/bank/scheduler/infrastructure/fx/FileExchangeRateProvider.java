@@ -0,0 +1,68 @@
+package com.bank.scheduler.infrastructure.fx;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads rates from a file of CURRENCY=rate lines, the rate being the value of one
+ * unit of the currency in Money.BASE_CURRENCY (USD=5.0123).
+ *
+ * Blank lines and lines starting with # are ignored. The file is re-read on every
+ * fetch, so editing it takes effect at the next refresh. Stands in for a
+ * market-data feed; select it with scheduler.fx.provider=file (the default).
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.fx.provider", havingValue = "file", matchIfMissing = true)
+public class FileExchangeRateProvider implements ExchangeRateProvider {
+
+    private final Resource rates;
+
+    public FileExchangeRateProvider(@Value("${scheduler.fx.file:classpath:fx/rates.txt}") Resource rates) {
+        this.rates = rates;
+    }
+
+    @Override
+    public Map<String, BigDecimal> fetch() {
+        try (InputStream input = rates.getInputStream()) {
+            return parse(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read exchange rates from " + rates, e);
+        }
+    }
+
+    static Map<String, BigDecimal> parse(InputStream input) throws IOException {
+        Map<String, BigDecimal> parsed = new LinkedHashMap<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int separator = line.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid exchange rate on line " + lineNumber + ": " + line);
+            }
+            try {
+                parsed.put(line.substring(0, separator).trim(), new BigDecimal(line.substring(separator + 1).trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid exchange rate on line " + lineNumber + ": " + line, e);
+            }
+        }
+        return parsed;
+    }
+}
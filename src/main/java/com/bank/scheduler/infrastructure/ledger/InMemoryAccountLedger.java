@@ -0,0 +1,297 @@
+package com.bank.scheduler.infrastructure.ledger;
+
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.ports.AccountLedger;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.TransferIds;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+/**
+ * Account balances held in memory as long cents, journaled and snapshotted on disk.
+ *
+ * Design:
+ * - One Balance cell per account; writers hold the account's stripe lock
+ *   (bucketOf(account) % stripes), readers just read the volatile cell, so balance
+ *   queries never lock
+ * - A posting locks the stripes of all its accounts in ascending order (no
+ *   deadlocks), checks the funds of every debited account and the reference, appends to the journal and only
+ *   then applies the deltas, so the journal order of any two postings touching
+ *   the same account matches the order they were applied in
+ * - With sync-commit the caller waits for the journal fsync after the locks are
+ *   released; concurrent postings share one fsync (group commit)
+ * - Credits to the fee account take no lock: nearly every posting carries one, so
+ *   its stripe would serialize them all. They go to a LongAdder that is summed with
+ *   the fee account's cell on read. Credits commute and never need a funds check;
+ *   debits of the fee account still lock its stripe and check cell + adder, which
+ *   can only grow meanwhile
+ *
+ * Snapshots briefly take every stripe, roll the journal to a new segment and copy
+ * the balances; the copy is written outside the locks and older segments are then
+ * deleted. Recovery loads the snapshot and replays the segments after it.
+ * Posted references are kept for scheduler.ledger.reference-retention to make
+ * postings idempotent.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.settlement.gateway", havingValue = "ledger")
+public class InMemoryAccountLedger implements AccountLedger {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryAccountLedger.class);
+
+    private final Map<AccountNumber, Balance> balances = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> references = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes;
+    private final Path directory;
+    private final AccountNumber feeAccount;
+    private final LongAdder feeCredits = new LongAdder();
+    private final boolean syncCommit;
+    private final Duration referenceRetention;
+    private final LedgerJournal journal;
+    private final Counter postings;
+    private final Counter rejections;
+    private long snapshotSequence;
+
+    public InMemoryAccountLedger(
+            MeterRegistry meterRegistry,
+            @Value("${scheduler.ledger.directory:data/ledger}") String directory,
+            @Value("${scheduler.ledger.fee-account:0000000000}") String feeAccount,
+            @Value("${scheduler.ledger.stripes:1024}") int stripeCount,
+            @Value("${scheduler.ledger.flush-interval-ms:2}") long flushIntervalMillis,
+            @Value("${scheduler.ledger.sync-commit:true}") boolean syncCommit,
+            @Value("${scheduler.ledger.reference-retention:P7D}") Duration referenceRetention) {
+        this.directory = Paths.get(directory);
+        this.feeAccount = AccountNumber.of(feeAccount);
+        this.syncCommit = syncCommit;
+        this.referenceRetention = referenceRetention;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        long lastSequence = recover();
+        this.snapshotSequence = lastSequence;
+        this.journal = new LedgerJournal(this.directory, lastSequence + 1, flushIntervalMillis);
+        this.postings = Counter.builder("ledger.postings.total")
+            .description("Postings applied to the account ledger")
+            .register(meterRegistry);
+        this.rejections = Counter.builder("ledger.postings.rejected")
+            .description("Postings refused for insufficient funds")
+            .register(meterRegistry);
+        Gauge.builder("ledger.accounts", balances, Map::size)
+            .description("Accounts held by the in-memory ledger")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Money balanceOf(AccountNumber account) {
+        return fromCents(centsOf(account));
+    }
+
+    @Override
+    public void deposit(UUID reference, AccountNumber account, Money amount) {
+        post(reference, new AccountNumber[] {account}, new long[] {toCents(amount)});
+    }
+
+    @Override
+    public boolean transfer(UUID reference, AccountNumber source, AccountNumber target, Money amount, Money fee) {
+        long amountCents = toCents(amount);
+        long feeCents = toCents(fee);
+        if (feeCents == 0) {
+            return post(reference, new AccountNumber[] {source, target}, new long[] {-amountCents, amountCents});
+        }
+        return post(reference, new AccountNumber[] {source, target, feeAccount},
+            new long[] {-(amountCents + feeCents), amountCents, feeCents});
+    }
+
+    @Override
+    public boolean transferNet(UUID reference, AccountNumber payer, AccountNumber payee,
+                               Money netAmount, Money payerFee, Money payeeFee) {
+        long netCents = toCents(netAmount);
+        long payerFeeCents = toCents(payerFee);
+        long payeeFeeCents = toCents(payeeFee);
+        return post(reference, new AccountNumber[] {payer, payee, feeAccount},
+            new long[] {-(netCents + payerFeeCents), netCents - payeeFeeCents, payerFeeCents + payeeFeeCents});
+    }
+
+    /**
+     * Takes a snapshot if anything was posted since the last one.
+     */
+    @Scheduled(initialDelayString = "${scheduler.ledger.snapshot-interval-ms:60000}",
+        fixedDelayString = "${scheduler.ledger.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        if (journal.lastSequence() == snapshotSequence) {
+            return;
+        }
+        long newSegmentStart;
+        Map<String, Long> balanceCopy = new HashMap<>(balances.size() * 2);
+        Map<UUID, Long> referenceCopy;
+        lockAll();
+        try {
+            newSegmentStart = journal.roll();
+            balances.forEach((account, balance) -> balanceCopy.put(account.getValue(), balance.cents));
+            balanceCopy.put(feeAccount.getValue(), centsOf(feeAccount));
+            long cutoff = System.currentTimeMillis() - referenceRetention.toMillis();
+            references.values().removeIf(postedAt -> postedAt < cutoff);
+            referenceCopy = new HashMap<>(references);
+        } finally {
+            unlockAll();
+        }
+        new LedgerSnapshot(newSegmentStart - 1, balanceCopy, referenceCopy).write(directory);
+        journal.deleteSegmentsBefore(newSegmentStart);
+        snapshotSequence = newSegmentStart - 1;
+        log.info("Ledger snapshot of {} accounts taken at sequence {}", balanceCopy.size(), snapshotSequence);
+    }
+
+    @PreDestroy
+    public void close() {
+        snapshot();
+        journal.close();
+    }
+
+    private boolean post(UUID reference, AccountNumber[] accounts, long[] deltas) {
+        if (reference == null) {
+            throw new DomainException.InvalidTransferData("Posting reference cannot be null");
+        }
+        boolean[] feeCredit = new boolean[accounts.length];
+        for (int i = 0; i < accounts.length; i++) {
+            feeCredit[i] = deltas[i] >= 0 && accounts[i].equals(feeAccount);
+        }
+        int[] locked = stripesOf(accounts, feeCredit);
+        long sequence;
+        lockStripes(locked);
+        try {
+            if (references.containsKey(reference)) {
+                return false;
+            }
+            Balance[] cells = new Balance[accounts.length];
+            for (int i = 0; i < accounts.length; i++) {
+                if (!feeCredit[i]) {
+                    cells[i] = balances.computeIfAbsent(accounts[i], key -> new Balance());
+                }
+            }
+            for (int i = 0; i < cells.length; i++) {
+                if (deltas[i] < 0 && centsOf(accounts[i]) < -deltas[i]) {
+                    rejections.increment();
+                    throw new DomainException.InsufficientFunds("Account " + accounts[i].getValue()
+                        + " has insufficient funds for " + fromCents(-deltas[i]).getAmount());
+                }
+            }
+            String[] accountValues = new String[accounts.length];
+            for (int i = 0; i < accounts.length; i++) {
+                accountValues[i] = accounts[i].getValue();
+            }
+            sequence = journal.append(reference, accountValues, deltas);
+            for (int i = 0; i < cells.length; i++) {
+                if (feeCredit[i]) {
+                    feeCredits.add(deltas[i]);
+                } else {
+                    cells[i].cents += deltas[i];
+                }
+            }
+            references.put(reference, System.currentTimeMillis());
+        } finally {
+            unlockStripes(locked);
+        }
+        postings.increment();
+        if (syncCommit) {
+            journal.awaitDurable(sequence);
+        }
+        return true;
+    }
+
+    private long recover() {
+        LedgerSnapshot snapshot = LedgerSnapshot.load(directory);
+        snapshot.balances.forEach((account, cents) -> balances.computeIfAbsent(AccountNumber.of(account),
+            key -> new Balance()).cents = cents);
+        references.putAll(snapshot.references);
+        long now = System.currentTimeMillis();
+        long last = LedgerJournal.replay(directory, snapshot.sequence, record -> {
+            for (int i = 0; i < record.accounts.length; i++) {
+                balances.computeIfAbsent(AccountNumber.of(record.accounts[i]), key -> new Balance()).cents +=
+                    record.deltas[i];
+            }
+            references.put(record.reference, now);
+        });
+        if (last > 0) {
+            log.info("Ledger recovered {} accounts from snapshot #{} and journal up to #{}",
+                balances.size(), snapshot.sequence, last);
+        }
+        return last;
+    }
+
+    private long centsOf(AccountNumber account) {
+        Balance balance = balances.get(account);
+        long cents = balance == null ? 0 : balance.cents;
+        return account.equals(feeAccount) ? cents + feeCredits.sum() : cents;
+    }
+
+    private int[] stripesOf(AccountNumber[] accounts, boolean[] lockFree) {
+        return IntStream.range(0, accounts.length)
+            .filter(i -> !lockFree[i])
+            .map(i -> TransferIds.bucketOf(accounts[i]) % stripes.length)
+            .sorted().distinct().toArray();
+    }
+
+    private void lockStripes(int[] indexes) {
+        for (int index : indexes) {
+            stripes[index].lock();
+        }
+    }
+
+    private void unlockStripes(int[] indexes) {
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            stripes[indexes[i]].unlock();
+        }
+    }
+
+    private void lockAll() {
+        for (ReentrantLock stripe : stripes) {
+            stripe.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            stripes[i].unlock();
+        }
+    }
+
+    private static long toCents(Money money) {
+        if (!Money.BASE_CURRENCY.equals(money.getCurrency())) {
+            throw new IllegalArgumentException("Ledger balances are kept in " + Money.BASE_CURRENCY
+                + ", not " + money.getCurrency());
+        }
+        return money.getAmount().movePointRight(2).longValueExact();
+    }
+
+    private static Money fromCents(long cents) {
+        return Money.of(BigDecimal.valueOf(cents, 2));
+    }
+
+    /**
+     * Written only under the account's stripe lock; read without locking.
+     */
+    private static final class Balance {
+        private volatile long cents;
+    }
+}
@@ -0,0 +1,354 @@
+package com.bank.scheduler.infrastructure.ledger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, segmented journal of ledger postings with group commit.
+ *
+ * Record layout: {@code length:int | payload | crc32:int}, payload =
+ * {@code seq:long | referenceMsb:long | referenceLsb:long | legs:byte | (accountLength:byte | account | deltaCents:long)*}.
+ * Segments are named after the first sequence they may contain, so a snapshot
+ * taken at sequence S allows deleting every segment that ends before S.
+ *
+ * append() only copies the record into a buffer; a flusher thread writes and
+ * fsyncs accumulated records every flush interval (or at once when someone waits
+ * in awaitDurable), so one fsync covers every posting made in between.
+ */
+class LedgerJournal implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerJournal.class);
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final long flushIntervalMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushRequested = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Thread flusher;
+
+    private ByteBuffer pending = ByteBuffer.allocate(1 << 20);
+    private FileChannel segment;
+    private long nextSequence;
+    private long durableSequence;
+    private volatile boolean running = true;
+
+    LedgerJournal(Path directory, long nextSequence, long flushIntervalMillis) {
+        this.directory = directory;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.nextSequence = nextSequence;
+        this.durableSequence = nextSequence - 1;
+        this.segment = openSegment(nextSequence);
+        this.flusher = new Thread(this::runFlusher, "LedgerJournalFlusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Replays every intact record with a sequence above {@code afterSequence},
+     * segment by segment. A torn or corrupt record ends its segment.
+     *
+     * @return the highest sequence seen, or afterSequence if none
+     */
+    static long replay(Path directory, long afterSequence, Consumer<JournalRecord> consumer) {
+        long last = afterSequence;
+        for (Path segmentFile : segments(directory)) {
+            ByteBuffer buffer;
+            try {
+                buffer = ByteBuffer.wrap(Files.readAllBytes(segmentFile));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read ledger journal " + segmentFile, e);
+            }
+            while (buffer.remaining() >= Integer.BYTES) {
+                JournalRecord record = JournalRecord.read(buffer);
+                if (record == null) {
+                    log.warn("Ledger journal {} ends with a torn record, ignoring the remainder", segmentFile);
+                    break;
+                }
+                if (record.sequence > afterSequence) {
+                    consumer.accept(record);
+                    last = Math.max(last, record.sequence);
+                }
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Buffers a record and returns its sequence. Callers serialize appends per
+     * account themselves; the journal only guarantees a total order.
+     */
+    long append(UUID reference, String[] accounts, long[] deltas) {
+        lock.lock();
+        try {
+            long sequence = nextSequence++;
+            byte[] record = JournalRecord.encode(sequence, reference, accounts, deltas);
+            if (pending.remaining() < record.length) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + record.length));
+                pending.flip();
+                larger.put(pending);
+                pending = larger;
+            }
+            pending.put(record);
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the record with the given sequence has been fsynced.
+     */
+    void awaitDurable(long sequence) {
+        lock.lock();
+        try {
+            while (durableSequence < sequence && running) {
+                flushRequested.signal();
+                flushed.await(flushIntervalMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the current segment and starts a new one. Must be called while no
+     * append can run (the ledger holds every stripe), so the boundary is exact.
+     *
+     * @return the first sequence of the new segment
+     */
+    long roll() {
+        flush();
+        writeLock.lock();
+        try {
+            closeQuietly(segment);
+            lock.lock();
+            try {
+                segment = openSegment(nextSequence);
+                return nextSequence;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    void deleteSegmentsBefore(long firstSequence) {
+        for (Path segmentFile : segments(directory)) {
+            if (firstSequenceOf(segmentFile) < firstSequence) {
+                try {
+                    Files.deleteIfExists(segmentFile);
+                } catch (IOException e) {
+                    log.warn("Failed to delete ledger journal segment {}", segmentFile, e);
+                }
+            }
+        }
+    }
+
+    long lastSequence() {
+        lock.lock();
+        try {
+            return nextSequence - 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        flusher.interrupt();
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        closeQuietly(segment);
+    }
+
+    private void runFlusher() {
+        while (running) {
+            lock.lock();
+            try {
+                flushRequested.await(flushIntervalMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                flush();
+            } catch (UncheckedIOException e) {
+                log.error("Ledger journal flush failed", e);
+            }
+        }
+    }
+
+    private void flush() {
+        writeLock.lock();
+        try {
+            ByteBuffer batch;
+            long upTo;
+            lock.lock();
+            try {
+                if (pending.position() == 0) {
+                    return;
+                }
+                batch = pending;
+                batch.flip();
+                pending = ByteBuffer.allocate(batch.capacity());
+                upTo = nextSequence - 1;
+            } finally {
+                lock.unlock();
+            }
+            while (batch.hasRemaining()) {
+                segment.write(batch);
+            }
+            segment.force(false);
+            lock.lock();
+            try {
+                durableSequence = upTo;
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write ledger journal in " + directory, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private FileChannel openSegment(long firstSequence) {
+        try {
+            Files.createDirectories(directory);
+            return FileChannel.open(directory.resolve(SEGMENT_PREFIX + firstSequence + SEGMENT_SUFFIX),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open ledger journal in " + directory, e);
+        }
+    }
+
+    private static List<Path> segments(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                .sorted((a, b) -> Long.compare(firstSequenceOf(a), firstSequenceOf(b)))
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list ledger journal segments in " + directory, e);
+        }
+    }
+
+    private static long firstSequenceOf(Path segmentFile) {
+        String name = segmentFile.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close ledger journal segment", e);
+        }
+    }
+
+    static final class JournalRecord {
+        final long sequence;
+        final UUID reference;
+        final String[] accounts;
+        final long[] deltas;
+
+        private JournalRecord(long sequence, UUID reference, String[] accounts, long[] deltas) {
+            this.sequence = sequence;
+            this.reference = reference;
+            this.accounts = accounts;
+            this.deltas = deltas;
+        }
+
+        static byte[] encode(long sequence, UUID reference, String[] accounts, long[] deltas) {
+            int payloadLength = Long.BYTES * 3 + 1;
+            byte[][] encodedAccounts = new byte[accounts.length][];
+            for (int i = 0; i < accounts.length; i++) {
+                encodedAccounts[i] = accounts[i].getBytes(StandardCharsets.US_ASCII);
+                payloadLength += 1 + encodedAccounts[i].length + Long.BYTES;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + payloadLength + Integer.BYTES);
+            buffer.putInt(payloadLength);
+            buffer.putLong(sequence);
+            buffer.putLong(reference.getMostSignificantBits());
+            buffer.putLong(reference.getLeastSignificantBits());
+            buffer.put((byte) accounts.length);
+            for (int i = 0; i < accounts.length; i++) {
+                buffer.put((byte) encodedAccounts[i].length);
+                buffer.put(encodedAccounts[i]);
+                buffer.putLong(deltas[i]);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), Integer.BYTES, payloadLength);
+            buffer.putInt((int) crc.getValue());
+            return buffer.array();
+        }
+
+        static JournalRecord read(ByteBuffer buffer) {
+            try {
+                int start = buffer.position();
+                int payloadLength = buffer.getInt();
+                if (payloadLength <= 0 || payloadLength + Integer.BYTES > buffer.remaining()) {
+                    return null;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(buffer.array(), start + Integer.BYTES, payloadLength);
+                int expected = buffer.getInt(start + Integer.BYTES + payloadLength);
+                if ((int) crc.getValue() != expected) {
+                    return null;
+                }
+                long sequence = buffer.getLong();
+                UUID reference = new UUID(buffer.getLong(), buffer.getLong());
+                int legs = buffer.get();
+                String[] accounts = new String[legs];
+                long[] deltas = new long[legs];
+                for (int i = 0; i < legs; i++) {
+                    byte[] account = new byte[buffer.get()];
+                    buffer.get(account);
+                    accounts[i] = new String(account, StandardCharsets.US_ASCII);
+                    deltas[i] = buffer.getLong();
+                }
+                buffer.getInt();
+                return new JournalRecord(sequence, reference, accounts, deltas);
+            } catch (BufferUnderflowException e) {
+                return null;
+            }
+        }
+    }
+}
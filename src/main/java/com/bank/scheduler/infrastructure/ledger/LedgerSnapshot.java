@@ -0,0 +1,118 @@
+package com.bank.scheduler.infrastructure.ledger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Point-in-time copy of every balance plus the recently posted references, valid
+ * as of one journal sequence.
+ *
+ * Written to a temporary file, fsynced and atomically renamed, so the snapshot on
+ * disk is always either the previous one or the new one. A checksum mismatch is
+ * treated as fatal: the journal segments it replaced are gone.
+ */
+final class LedgerSnapshot {
+
+    private static final int MAGIC = 0x4C444753;
+    private static final String FILE_NAME = "snapshot.bin";
+
+    final long sequence;
+    final Map<String, Long> balances;
+    final Map<UUID, Long> references;
+
+    LedgerSnapshot(long sequence, Map<String, Long> balances, Map<UUID, Long> references) {
+        this.sequence = sequence;
+        this.balances = balances;
+        this.references = references;
+    }
+
+    static LedgerSnapshot empty() {
+        return new LedgerSnapshot(0, new HashMap<>(), new HashMap<>());
+    }
+
+    static LedgerSnapshot load(Path directory) {
+        Path file = directory.resolve(FILE_NAME);
+        if (!Files.exists(file)) {
+            return empty();
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 0, bytes.length - Integer.BYTES);
+            if ((int) crc.getValue() != ByteBuffer.wrap(bytes, bytes.length - Integer.BYTES, Integer.BYTES).getInt()) {
+                throw new IllegalStateException("Ledger snapshot " + file + " is corrupt");
+            }
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            if (in.readInt() != MAGIC) {
+                throw new IllegalStateException("Ledger snapshot " + file + " has an unknown format");
+            }
+            long sequence = in.readLong();
+            int accountCount = in.readInt();
+            Map<String, Long> balances = new HashMap<>(accountCount * 2);
+            for (int i = 0; i < accountCount; i++) {
+                balances.put(in.readUTF(), in.readLong());
+            }
+            int referenceCount = in.readInt();
+            Map<UUID, Long> references = new HashMap<>(referenceCount * 2);
+            for (int i = 0; i < referenceCount; i++) {
+                references.put(new UUID(in.readLong(), in.readLong()), in.readLong());
+            }
+            return new LedgerSnapshot(sequence, balances, references);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read ledger snapshot " + file, e);
+        }
+    }
+
+    void write(Path directory) {
+        Path file = directory.resolve(FILE_NAME);
+        Path temporary = directory.resolve(FILE_NAME + ".tmp");
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + balances.size() * 24);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeLong(sequence);
+            out.writeInt(balances.size());
+            for (Map.Entry<String, Long> balance : balances.entrySet()) {
+                out.writeUTF(balance.getKey());
+                out.writeLong(balance.getValue());
+            }
+            out.writeInt(references.size());
+            for (Map.Entry<UUID, Long> reference : references.entrySet()) {
+                out.writeLong(reference.getKey().getMostSignificantBits());
+                out.writeLong(reference.getKey().getLeastSignificantBits());
+                out.writeLong(reference.getValue());
+            }
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeInt((int) crc.getValue());
+            out.flush();
+
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(temporary,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write ledger snapshot " + file, e);
+        }
+    }
+}
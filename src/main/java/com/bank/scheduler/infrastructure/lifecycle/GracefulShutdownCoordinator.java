@@ -0,0 +1,174 @@
+package com.bank.scheduler.infrastructure.lifecycle;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.infrastructure.cache.TransferEntityCache;
+import com.bank.scheduler.infrastructure.execution.DueTransferExecutionEngine;
+import com.bank.scheduler.infrastructure.performance.BackpressureExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stops background work in order on shutdown and warms the next start.
+ *
+ * Flow on shutdown (e.g. a rolling update sending SIGTERM):
+ * 1. Context close: readiness turns REFUSING_TRAFFIC, then the pod keeps serving
+ *    for scheduler.shutdown.readiness-grace while the load balancer catches up
+ * 2. The web server finishes in-flight requests (server.shutdown=graceful); this
+ *    lifecycle runs in the phase right after it
+ * 3. The three background executors close admission and the execution engine
+ *    stops claiming; queued and running work gets until drain-timeout to finish
+ * 4. Whatever has not started by then is given back: unstarted settlements are
+ *    released to the other replicas, executor queues are abandoned (SpillableTasks
+ *    go to their spill file and are replayed after the restart)
+ * 5. The ids held by TransferEntityCache are checkpointed
+ *
+ * On start the checkpointed ids are reloaded through the repository, so the cache
+ * is warm before readiness turns ACCEPTING_TRAFFIC. The checkpoint lives in a
+ * local directory (the pod's data volume in k8s/deployment.yaml): it warms a
+ * container restarted in the same pod. A new pod of a rolling update does not
+ * see it and starts cold. A checkpoint that cannot be written is logged and skipped.
+ *
+ * Timing: readiness-grace + HTTP drain (spring.lifecycle.timeout-per-shutdown-phase)
+ * + drain-timeout must fit in the pod's terminationGracePeriodSeconds, minus its
+ * preStop sleep; otherwise the kubelet kills the JVM mid-drain.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.shutdown.enabled", havingValue = "true", matchIfMissing = true)
+public class GracefulShutdownCoordinator implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(GracefulShutdownCoordinator.class);
+    private static final String CACHE_CHECKPOINT = "transfer-cache";
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final List<BackpressureExecutor> executors;
+    private final DueTransferExecutionEngine executionEngine;
+    private final TransferEntityCache cache;
+    private final TransferRepository transferRepository;
+    private final WarmRestartCheckpoint checkpoint;
+    private final Duration drainTimeout;
+    private final Duration readinessGrace;
+    private volatile boolean running;
+
+    public GracefulShutdownCoordinator(
+            ApplicationEventPublisher eventPublisher,
+            List<BackpressureExecutor> executors,
+            DueTransferExecutionEngine executionEngine,
+            TransferEntityCache cache,
+            TransferRepository transferRepository,
+            @Value("${scheduler.shutdown.drain-timeout:PT15S}") Duration drainTimeout,
+            @Value("${scheduler.shutdown.readiness-grace:PT5S}") Duration readinessGrace,
+            @Value("${scheduler.shutdown.checkpoint-directory:data/checkpoint}") String checkpointDirectory) {
+        this.eventPublisher = eventPublisher;
+        this.executors = executors;
+        this.executionEngine = executionEngine;
+        this.cache = cache;
+        this.transferRepository = transferRepository;
+        this.checkpoint = new WarmRestartCheckpoint(Paths.get(checkpointDirectory));
+        this.drainTimeout = drainTimeout;
+        this.readinessGrace = readinessGrace;
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void refuseTraffic() {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        if (readinessGrace.isZero()) {
+            return;
+        }
+        log.info("Readiness down, serving for another {} ms before shutting down", readinessGrace.toMillis());
+        try {
+            TimeUnit.MILLISECONDS.sleep(readinessGrace.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void start() {
+        List<UUID> ids = checkpoint.take(CACHE_CHECKPOINT);
+        if (!ids.isEmpty()) {
+            int warmed = 0;
+            for (Optional<Transfer> transfer : transferRepository.findAllById(ids)) {
+                if (transfer.isPresent()) {
+                    cache.put(transfer.get());
+                    warmed++;
+                }
+            }
+            log.info("Warmed the transfer cache with {} of {} checkpointed transfers", warmed, ids.size());
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        long started = System.nanoTime();
+        executors.forEach(BackpressureExecutor::closeAdmission);
+        executionEngine.quiesce();
+        boolean drained = awaitDrained(started + drainTimeout.toNanos());
+        int released = executionEngine.releaseUnstarted().size();
+        int abandoned = executors.stream().mapToInt(BackpressureExecutor::shutdownNow).sum();
+        List<UUID> cached = cache.keys();
+        try {
+            checkpoint.write(CACHE_CHECKPOINT, cached);
+        } catch (UncheckedIOException e) {
+            log.warn("Skipping the cache checkpoint, the next start is cold: {}", e.getMessage());
+        }
+        log.info("Background work {} in {} ms: {} settlements released, {} queued tasks abandoned, "
+                + "{} cached transfers checkpointed", drained ? "drained" : "drain timed out",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), released, abandoned, cached.size());
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Runs after the web server's graceful shutdown, so requests accepted before
+     * it can still hand work to the executors.
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1;
+    }
+
+    private boolean awaitDrained(long deadlineNanos) {
+        while (true) {
+            boolean idle = true;
+            for (BackpressureExecutor executor : executors) {
+                idle &= executor.awaitIdle(Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime())));
+            }
+            if (idle && executionEngine.activeSettlements() == 0) {
+                return true;
+            }
+            if (System.nanoTime() - deadlineNanos >= 0) {
+                return false;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.bank.scheduler.infrastructure.lifecycle;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Named id lists kept in a local directory between a graceful stop and the next start.
+ *
+ * Each list is one file with one UUID per line, written to a temporary file and
+ * atomically renamed, so a crash mid-write leaves the previous checkpoint or none.
+ * take() deletes the file it reads: a checkpoint describes the moment of one
+ * shutdown and is applied at most once. Unreadable lines are skipped.
+ */
+class WarmRestartCheckpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmRestartCheckpoint.class);
+    private static final String SUFFIX = ".ids";
+
+    private final Path directory;
+
+    WarmRestartCheckpoint(Path directory) {
+        this.directory = directory;
+    }
+
+    void write(String name, List<UUID> ids) {
+        Path file = directory.resolve(name + SUFFIX);
+        Path temporary = directory.resolve(name + SUFFIX + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            Files.write(temporary, ids.stream().map(UUID::toString).collect(Collectors.toList()),
+                StandardCharsets.US_ASCII);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write checkpoint " + file, e);
+        }
+    }
+
+    List<UUID> take(String name) {
+        Path file = directory.resolve(name + SUFFIX);
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        List<UUID> ids = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.US_ASCII)) {
+                try {
+                    ids.add(UUID.fromString(line.trim()));
+                } catch (IllegalArgumentException e) {
+                    log.debug("Skipping unreadable line in checkpoint {}", file);
+                }
+            }
+            Files.delete(file);
+        } catch (IOException e) {
+            log.warn("Failed to read checkpoint {}, starting cold", file, e);
+            return List.of();
+        }
+        return ids;
+    }
+}
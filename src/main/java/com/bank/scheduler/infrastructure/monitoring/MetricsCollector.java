@@ -8,14 +8,15 @@ import org.springframework.stereotype.Component;
 @Component
 public class MetricsCollector {
 
+    private final MeterRegistry meterRegistry;
     private final Counter transfersCreatedCounter;
     private final Counter transfersProcessedCounter;
-    private final Counter transfersFailedCounter;
     private final Timer transferProcessingTimer;
     private final Timer feeCalculationTimer;
     private final Counter securityViolationsCounter;
 
     public MetricsCollector(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
         this.transfersCreatedCounter = Counter.builder("transfers.created.total")
             .description("Total number of transfers created")
             .tag("service", "transfer-scheduler")
@@ -26,11 +27,6 @@ public class MetricsCollector {
             .tag("service", "transfer-scheduler")
             .register(meterRegistry);
 
-        this.transfersFailedCounter = Counter.builder("transfers.failed.total")
-            .description("Total number of failed transfers")
-            .tag("service", "transfer-scheduler")
-            .register(meterRegistry);
-
         this.transferProcessingTimer = Timer.builder("transfer.processing.duration")
             .description("Time taken to process a transfer")
             .tag("service", "transfer-scheduler")
@@ -56,13 +52,25 @@ public class MetricsCollector {
     }
 
     public void incrementTransfersFailed(String reason) {
-        transfersFailedCounter.increment();
+        reasonCounter("transfers.failed.total", "Total number of failed transfers", reason).increment();
+    }
+
+    public void incrementTransferRetries(String reason) {
+        reasonCounter("transfers.retries.total", "Failed executions re-queued for another attempt", reason).increment();
+    }
+
+    public void incrementTransfersDeadLettered(String reason) {
+        reasonCounter("transfers.dead.letters.total", "Transfers moved to the dead-letter store", reason).increment();
     }
 
     public Timer.Sample startTransferProcessingTimer() {
         return Timer.start();
     }
 
+    public void recordTransferProcessing(Timer.Sample sample) {
+        sample.stop(transferProcessingTimer);
+    }
+
     public Timer.Sample startFeeCalculationTimer() {
         return Timer.start();
     }
@@ -74,4 +82,16 @@ public class MetricsCollector {
     public void recordCustomMetric(String metricName, double value, String... tags) {
         // Custom metric recording for business-specific metrics
     }
-}
\ No newline at end of file
+
+    /**
+     * Reasons are exception or error-code names, so the tag stays low-cardinality;
+     * the registry returns the existing counter for a known reason.
+     */
+    private Counter reasonCounter(String name, String description, String reason) {
+        return Counter.builder(name)
+            .description(description)
+            .tag("service", "transfer-scheduler")
+            .tag("reason", reason == null ? "unknown" : reason)
+            .register(meterRegistry);
+    }
+}
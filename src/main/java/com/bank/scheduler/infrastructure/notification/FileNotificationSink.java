@@ -0,0 +1,97 @@
+package com.bank.scheduler.infrastructure.notification;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appends notifications as JSON lines to a local file, fsyncing once per batch.
+ *
+ * Stands in for the mail/webhook integration listed in TODO.md; a downstream
+ * mailer can tail the file and deduplicate on the "id" field that
+ * TransferOutboxWriter puts in every payload.
+ *
+ * Writes are serialized by a ReentrantLock rather than synchronized, so a
+ * virtual-thread relay blocked in write/force does not pin its carrier.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.notifications.sink", havingValue = "file", matchIfMissing = true)
+public class FileNotificationSink implements NotificationSink {
+
+    private final Path file;
+    private final ReentrantLock lock = new ReentrantLock();
+    private FileChannel channel;
+
+    public FileNotificationSink(
+            @Value("${scheduler.notifications.file:data/notifications/transfers.jsonl}") String file) {
+        this.file = Paths.get(file);
+    }
+
+    @Override
+    public void deliver(List<OutboxMessage> messages) {
+        StringBuilder lines = new StringBuilder(messages.size() * 256);
+        for (OutboxMessage message : messages) {
+            lines.append(message.getPayload()).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        lock.lock();
+        try {
+            FileChannel target = open();
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+            target.force(false);
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException("Failed to write notifications to " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.lock();
+        try {
+            closeQuietly();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private FileChannel open() throws IOException {
+        if (channel == null) {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    private void closeQuietly() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // the next delivery reopens the file
+            }
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.bank.scheduler.infrastructure.notification;
+
+import java.util.List;
+
+/**
+ * Destination of transfer notifications drained from the outbox.
+ *
+ * deliver() receives messages in outbox order and must not return before they are
+ * durably handed over: the relay marks them dispatched as soon as it returns. Any
+ * exception leaves the whole batch pending and it is offered again on the next
+ * relay cycle, so a sink sees every message at least once and must tolerate
+ * duplicates (the message id is stable across redeliveries).
+ */
+public interface NotificationSink {
+
+    void deliver(List<OutboxMessage> messages);
+}
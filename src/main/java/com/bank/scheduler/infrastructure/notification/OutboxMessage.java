@@ -0,0 +1,47 @@
+package com.bank.scheduler.infrastructure.notification;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * One row of the transfer outbox: a notification recorded in the transaction that
+ * changed the transfer, waiting to be handed to the NotificationSink.
+ *
+ * The id is the outbox sequence; sinks can use it to drop redeliveries.
+ */
+public final class OutboxMessage {
+    private final long id;
+    private final UUID transferId;
+    private final String eventType;
+    private final String payload;
+    private final Instant createdAt;
+
+    public OutboxMessage(long id, UUID transferId, String eventType, String payload, Instant createdAt) {
+        this.id = id;
+        this.transferId = Objects.requireNonNull(transferId, "Transfer ID cannot be null");
+        this.eventType = Objects.requireNonNull(eventType, "Event type cannot be null");
+        this.payload = Objects.requireNonNull(payload, "Payload cannot be null");
+        this.createdAt = Objects.requireNonNull(createdAt, "Creation time cannot be null");
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public UUID getTransferId() {
+        return transferId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
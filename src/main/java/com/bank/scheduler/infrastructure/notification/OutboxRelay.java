@@ -0,0 +1,173 @@
+package com.bank.scheduler.infrastructure.notification;
+
+import com.bank.scheduler.infrastructure.coordination.PartitionLeaseCoordinator;
+import com.bank.scheduler.infrastructure.coordination.PartitionedJob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Drains the transfer outbox into the NotificationSink on notificationExecutor.
+ *
+ * Flow (every relay interval, on the replica holding the single "outbox-relay" lease):
+ * 1. Submit a drain task to notificationExecutor
+ * 2. The drain reads up to batch-size pending rows in id order, delivers them in
+ *    one sink call and marks them dispatched, repeating while batches come back full
+ * 3. A sink failure stops the drain; the batch stays pending for the next cycle
+ *
+ * Only one drain runs at a time (drainLock), so messages reach the sink in outbox
+ * order. Successive events of one transfer come from transactions serialized on
+ * that transfer's status, so their ids are ascending and per-transfer order holds.
+ * A crash between delivery and marking redelivers the batch: at-least-once.
+ *
+ * notificationExecutor drops tasks when its queue is full; a dropped drain is
+ * harmless because the rows stay pending and the next cycle submits another one.
+ *
+ * Metrics: transfers.outbox.pending, transfers.outbox.lag (age in seconds of the
+ * oldest pending row), transfers.outbox.delivery.delay (commit-to-delivery),
+ * transfers.outbox.delivered and transfers.outbox.failures.
+ */
+@Component
+public class OutboxRelay implements PartitionedJob {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final String JOB_NAME = "outbox-relay";
+
+    private final OutboxStore outboxStore;
+    private final NotificationSink sink;
+    private final Executor notificationExecutor;
+    private final PartitionLeaseCoordinator leaseCoordinator;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration retention;
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final Timer deliveryDelay;
+    private final Counter delivered;
+    private final Counter failures;
+
+    private volatile long pending;
+    private volatile double lagSeconds;
+
+    public OutboxRelay(
+            OutboxStore outboxStore,
+            NotificationSink sink,
+            @Qualifier("notificationExecutor") Executor notificationExecutor,
+            PartitionLeaseCoordinator leaseCoordinator,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${scheduler.outbox.enabled:true}") boolean enabled,
+            @Value("${scheduler.outbox.batch-size:200}") int batchSize,
+            @Value("${scheduler.outbox.retention:P1D}") Duration retention) {
+        this.outboxStore = outboxStore;
+        this.sink = sink;
+        this.notificationExecutor = notificationExecutor;
+        this.leaseCoordinator = leaseCoordinator;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.deliveryDelay = Timer.builder("transfers.outbox.delivery.delay")
+            .description("Time between recording a notification and handing it to the sink")
+            .register(meterRegistry);
+        this.delivered = Counter.builder("transfers.outbox.delivered")
+            .description("Notifications handed to the sink")
+            .register(meterRegistry);
+        this.failures = Counter.builder("transfers.outbox.failures")
+            .description("Outbox batches the sink refused")
+            .register(meterRegistry);
+        Gauge.builder("transfers.outbox.pending", this, relay -> relay.pending)
+            .description("Notifications recorded but not yet delivered")
+            .register(meterRegistry);
+        Gauge.builder("transfers.outbox.lag", this, relay -> relay.lagSeconds)
+            .description("Age in seconds of the oldest undelivered notification")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String jobName() {
+        return JOB_NAME;
+    }
+
+    @Override
+    public int partitionCount() {
+        return 1;
+    }
+
+    @Scheduled(initialDelayString = "${scheduler.outbox.relay-interval-ms:1000}",
+        fixedDelayString = "${scheduler.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        if (!enabled || !leaseCoordinator.owns(JOB_NAME, 0)) {
+            return;
+        }
+        try {
+            notificationExecutor.execute(this::drain);
+        } catch (RuntimeException e) {
+            log.debug("Outbox drain not admitted, retrying next cycle: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Delivers pending notifications until the outbox is empty or the sink fails.
+     *
+     * @return the number of notifications delivered
+     */
+    public int drain() {
+        if (!drainLock.tryLock()) {
+            return 0;
+        }
+        int total = 0;
+        try {
+            while (true) {
+                List<OutboxMessage> batch = outboxStore.fetchPending(batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                try {
+                    sink.deliver(batch);
+                } catch (RuntimeException e) {
+                    failures.increment();
+                    log.warn("Notification sink refused {} messages starting at #{}, retrying next cycle",
+                        batch.size(), batch.get(0).getId(), e);
+                    break;
+                }
+                Instant now = Instant.now(clock);
+                outboxStore.markDispatched(batch, now);
+                for (OutboxMessage message : batch) {
+                    deliveryDelay.record(Duration.between(message.getCreatedAt(), now));
+                }
+                delivered.increment(batch.size());
+                total += batch.size();
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+            Instant now = Instant.now(clock);
+            outboxStore.purgeDispatchedBefore(now.minus(retention));
+            pending = outboxStore.pendingCount();
+            lagSeconds = outboxStore.oldestPendingCreatedAt()
+                .map(oldest -> Duration.between(oldest, now).toMillis() / 1000.0)
+                .orElse(0.0);
+        } catch (RuntimeException e) {
+            log.error("Outbox relay failed", e);
+        } finally {
+            drainLock.unlock();
+        }
+        return total;
+    }
+}
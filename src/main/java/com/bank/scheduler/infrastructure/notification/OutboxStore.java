@@ -0,0 +1,82 @@
+package com.bank.scheduler.infrastructure.notification;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * The transfer_outbox table in the primary database.
+ *
+ * Rows are appended through a JdbcTemplate on the primary DataSource, which joins
+ * the surrounding JPA transaction: a notification exists exactly when the change
+ * that caused it committed. Pending rows are those with dispatched_at NULL; they
+ * are read in id order and marked after delivery, and dispatched rows are purged
+ * once older than the retention.
+ */
+@Component
+public class OutboxStore {
+
+    private static final RowMapper<OutboxMessage> MESSAGE_MAPPER = (rs, rowNum) -> new OutboxMessage(
+        rs.getLong("id"),
+        rs.getObject("transfer_id", UUID.class),
+        rs.getString("event_type"),
+        rs.getString("payload"),
+        rs.getTimestamp("created_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxStore(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS transfer_outbox ("
+            + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+            + "transfer_id UUID NOT NULL, "
+            + "event_type VARCHAR(64) NOT NULL, "
+            + "payload VARCHAR(4000) NOT NULL, "
+            + "created_at TIMESTAMP NOT NULL, "
+            + "dispatched_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_outbox_pending ON transfer_outbox (dispatched_at, id)");
+    }
+
+    public void append(UUID transferId, String eventType, String payload, Instant createdAt) {
+        jdbcTemplate.update(
+            "INSERT INTO transfer_outbox (transfer_id, event_type, payload, created_at) VALUES (?, ?, ?, ?)",
+            transferId, eventType, payload, Timestamp.from(createdAt));
+    }
+
+    public List<OutboxMessage> fetchPending(int limit) {
+        return jdbcTemplate.query(
+            "SELECT id, transfer_id, event_type, payload, created_at FROM transfer_outbox "
+                + "WHERE dispatched_at IS NULL ORDER BY id LIMIT ?",
+            MESSAGE_MAPPER, limit);
+    }
+
+    public void markDispatched(List<OutboxMessage> messages, Instant dispatchedAt) {
+        Timestamp at = Timestamp.from(dispatchedAt);
+        jdbcTemplate.batchUpdate("UPDATE transfer_outbox SET dispatched_at = ? WHERE id = ?",
+            messages.stream().map(message -> new Object[] {at, message.getId()}).collect(Collectors.toList()));
+    }
+
+    public long pendingCount() {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM transfer_outbox WHERE dispatched_at IS NULL", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    public Optional<Instant> oldestPendingCreatedAt() {
+        return jdbcTemplate.query(
+            "SELECT created_at FROM transfer_outbox WHERE dispatched_at IS NULL ORDER BY id LIMIT 1",
+            (rs, rowNum) -> rs.getTimestamp("created_at").toInstant()).stream().findFirst();
+    }
+
+    public int purgeDispatchedBefore(Instant cutoff) {
+        return jdbcTemplate.update("DELETE FROM transfer_outbox WHERE dispatched_at < ?", Timestamp.from(cutoff));
+    }
+}
@@ -0,0 +1,94 @@
+package com.bank.scheduler.infrastructure.notification;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.events.TransferDeleted;
+import com.bank.scheduler.domain.events.TransferEvent;
+import com.bank.scheduler.domain.events.TransferScheduled;
+import com.bank.scheduler.domain.events.TransferStatusChanged;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Records a notification in the outbox for every transfer event worth telling the
+ * account holder about: scheduled, executed, failed, rescheduled (replayed) and
+ * deleted. Claims (IN_PROGRESS) and bulk clears are not notified.
+ *
+ * Every payload starts with an "id" (a UUID minted here) that stays the same
+ * across redeliveries of the row, so consumers can drop duplicates on it.
+ *
+ * A plain @EventListener, so it runs synchronously inside the publishing
+ * transaction and the row rolls back with the change. The request thread pays one
+ * insert; delivery happens later in OutboxRelay.
+ */
+@Component
+public class TransferOutboxWriter {
+
+    private final OutboxStore outboxStore;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public TransferOutboxWriter(
+            OutboxStore outboxStore,
+            ObjectMapper objectMapper,
+            @Value("${scheduler.outbox.enabled:true}") boolean enabled) {
+        this.outboxStore = outboxStore;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @EventListener
+    public void on(TransferEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event instanceof TransferScheduled scheduled) {
+            record("TRANSFER_SCHEDULED", scheduled.getTransfer(), event);
+        } else if (event instanceof TransferStatusChanged changed
+                && changed.getTransfer().getStatus() != TransferStatus.IN_PROGRESS) {
+            Transfer transfer = changed.getTransfer();
+            String type = transfer.getStatus() == TransferStatus.SCHEDULED
+                ? "TRANSFER_RESCHEDULED" : "TRANSFER_" + transfer.getStatus().name();
+            record(type, transfer, event);
+        } else if (event instanceof TransferDeleted deleted) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("event", "TRANSFER_DELETED");
+            payload.put("transferId", deleted.getTransferId().toString());
+            payload.put("occurredAt", event.getOccurredAt().toString());
+            append(deleted.getTransferId(), "TRANSFER_DELETED", payload, event);
+        }
+    }
+
+    private void record(String type, Transfer transfer, TransferEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("event", type);
+        payload.put("transferId", transfer.getId().toString());
+        payload.put("status", transfer.getStatus().name());
+        payload.put("sourceAccount", transfer.getSourceAccount().getValue());
+        payload.put("targetAccount", transfer.getTargetAccount().getValue());
+        payload.put("amount", transfer.getAmount().getAmount().toPlainString());
+        payload.put("fee", transfer.getFee().getAmount().toPlainString());
+        payload.put("currency", transfer.getAmount().getCurrency());
+        payload.put("transferDate", transfer.getTransferDate().toString());
+        payload.put("occurredAt", event.getOccurredAt().toString());
+        append(transfer.getId(), type, payload, event);
+    }
+
+    private void append(UUID transferId, String type, Map<String, Object> payload, TransferEvent event) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("id", UUID.randomUUID().toString());
+        line.putAll(payload);
+        try {
+            outboxStore.append(transferId, type, objectMapper.writeValueAsString(line), event.getOccurredAt());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize notification for transfer " + transferId, e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.bank.scheduler.infrastructure.performance;
+
+/**
+ * What a BackpressureExecutor does with a task once its queue is full.
+ *
+ * None of them runs the task on the submitting thread, so a saturated background
+ * executor never adds latency to the request that happened to submit work.
+ */
+public enum AdmissionPolicy {
+
+    /**
+     * Throw ExecutorSaturatedException; the producer backs off, and an API caller
+     * gets 503 with Retry-After.
+     */
+    FAIL_FAST,
+
+    /**
+     * Discard the task and count it. For best-effort work only.
+     */
+    DROP,
+
+    /**
+     * Append the task to a spill file and replay it once the queue drains. Tasks
+     * that are not SpillableTask are handled as FAIL_FAST.
+     */
+    SPILL
+}
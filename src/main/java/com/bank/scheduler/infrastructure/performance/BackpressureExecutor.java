@@ -0,0 +1,262 @@
+package com.bank.scheduler.infrastructure.performance;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ExecutorConfigurationSupport;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * Bounded executor whose saturation is measured and pushed back to producers.
+ *
+ * Design:
+ * - Wraps a delegate that rejects once its queue is full (a ThreadPoolTaskExecutor
+ *   with AbortPolicy, or a BoundedVirtualThreadExecutor with a waiting limit)
+ * - A rejected task is handled by the executor's AdmissionPolicy: never on the
+ *   submitting thread, unlike the CallerRunsPolicy it replaces
+ * - Spilled tasks are replayed by replaySpilled() once the queue is below half its
+ *   capacity, through the decoder registered by the producer
+ *
+ * Shutdown (see GracefulShutdownCoordinator): closeAdmission() turns every new
+ * task into a rejection under the same policy, awaitIdle() waits for queued and
+ * running tasks to finish, and shutdownNow() gives up what is still queued,
+ * spilling SpillableTasks so they are replayed after the restart.
+ *
+ * Metrics, tagged with the executor name: scheduler.executor.queue.depth,
+ * scheduler.executor.wait (submit-to-start), scheduler.executor.rejected (tagged
+ * with the policy applied) and scheduler.executor.spilled (records on disk).
+ */
+public class BackpressureExecutor implements TaskExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(BackpressureExecutor.class);
+
+    private final String name;
+    private final Executor delegate;
+    private final IntSupplier queueDepth;
+    private final int queueCapacity;
+    private final AdmissionPolicy policy;
+    private final TaskSpillFile spillFile;
+    private final Timer waitTimer;
+    private final Counter rejected;
+    private final AtomicInteger unfinished = new AtomicInteger();
+    private volatile Function<String, Runnable> spillDecoder;
+    private volatile boolean admissionClosed;
+
+    public BackpressureExecutor(
+            String name,
+            Executor delegate,
+            IntSupplier queueDepth,
+            int queueCapacity,
+            AdmissionPolicy policy,
+            Path spillFile,
+            MeterRegistry meterRegistry) {
+        if (policy == AdmissionPolicy.SPILL && spillFile == null) {
+            throw new IllegalArgumentException("Executor " + name + " spills but has no spill file");
+        }
+        this.name = name;
+        this.delegate = delegate;
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.policy = policy;
+        this.spillFile = spillFile == null ? null : new TaskSpillFile(spillFile);
+        this.waitTimer = Timer.builder("scheduler.executor.wait")
+            .description("Time a background task waits between submission and start")
+            .tag("executor", name)
+            .register(meterRegistry);
+        this.rejected = Counter.builder("scheduler.executor.rejected")
+            .description("Tasks refused by a saturated background executor")
+            .tag("executor", name)
+            .tag("policy", policy.name())
+            .register(meterRegistry);
+        Gauge.builder("scheduler.executor.queue.depth", queueDepth, IntSupplier::getAsInt)
+            .description("Tasks queued on a background executor")
+            .tag("executor", name)
+            .register(meterRegistry);
+        if (this.spillFile != null) {
+            Gauge.builder("scheduler.executor.spilled", this.spillFile, TaskSpillFile::size)
+                .description("Tasks spilled to disk by a saturated background executor")
+                .tag("executor", name)
+                .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (admissionClosed) {
+            reject(task);
+            return;
+        }
+        TimedTask timed = new TimedTask(task, System.nanoTime());
+        unfinished.incrementAndGet();
+        try {
+            delegate.execute(timed);
+        } catch (RejectedExecutionException e) {
+            unfinished.decrementAndGet();
+            reject(task);
+        }
+    }
+
+    /**
+     * Registers how spilled records are turned back into tasks.
+     */
+    public void setSpillDecoder(Function<String, Runnable> spillDecoder) {
+        this.spillDecoder = spillDecoder;
+    }
+
+    /**
+     * Resubmits spilled tasks while there is room; a task rejected again is spilled again.
+     * When a record cannot be decoded or resubmitted, it and every record after it are
+     * written back to the spill file for the next replay.
+     *
+     * @return number of records resubmitted
+     */
+    public int replaySpilled() {
+        Function<String, Runnable> decoder = spillDecoder;
+        if (spillFile == null || decoder == null || admissionClosed || spillFile.size() == 0
+                || queueDepth.getAsInt() > queueCapacity / 2) {
+            return 0;
+        }
+        List<String> records = spillFile.drain();
+        int replayed = 0;
+        try {
+            for (String record : records) {
+                execute(decoder.apply(record));
+                replayed++;
+            }
+        } catch (RuntimeException e) {
+            records.subList(replayed, records.size()).forEach(spillFile::append);
+            log.warn("Replay on executor {} stopped after {} tasks, {} kept on disk: {}",
+                name, replayed, records.size() - replayed, e.getMessage());
+        }
+        log.info("Replayed {} spilled tasks on executor {}", replayed, name);
+        return replayed;
+    }
+
+    /**
+     * Refuses every task submitted from now on, as if the queue were full.
+     */
+    public void closeAdmission() {
+        admissionClosed = true;
+    }
+
+    /**
+     * Waits until every accepted task has finished.
+     *
+     * @return false when tasks were still queued or running at the timeout
+     */
+    public boolean awaitIdle(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (unfinished.get() > 0) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops the delegate without running what is still queued. Queued
+     * SpillableTasks are written to the spill file when there is one.
+     *
+     * @return number of queued tasks given up without a spill record
+     */
+    public int shutdownNow() {
+        if (!(delegate instanceof ThreadPoolTaskExecutor)) {
+            int abandoned = Math.max(0, unfinished.get());
+            shutdown();
+            return abandoned;
+        }
+        int abandoned = 0;
+        for (Runnable queued : ((ThreadPoolTaskExecutor) delegate).getThreadPoolExecutor().shutdownNow()) {
+            Runnable task = queued instanceof TimedTask ? ((TimedTask) queued).task : queued;
+            if (spillFile != null && task instanceof SpillableTask) {
+                spillFile.append(((SpillableTask) task).spillRecord());
+            } else {
+                abandoned++;
+            }
+        }
+        if (abandoned > 0) {
+            log.warn("Executor {} gave up {} queued tasks at shutdown", name, abandoned);
+        }
+        return abandoned;
+    }
+
+    public void shutdown() {
+        if (delegate instanceof ExecutorConfigurationSupport) {
+            ((ExecutorConfigurationSupport) delegate).shutdown();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public AdmissionPolicy getPolicy() {
+        return policy;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.getAsInt();
+    }
+
+    public int getSpilledCount() {
+        return spillFile == null ? 0 : spillFile.size();
+    }
+
+    private void reject(Runnable task) {
+        rejected.increment();
+        switch (policy) {
+            case DROP:
+                log.debug("Executor {} saturated, dropping task", name);
+                return;
+            case SPILL:
+                if (task instanceof SpillableTask) {
+                    spillFile.append(((SpillableTask) task).spillRecord());
+                    return;
+                }
+                throw new ExecutorSaturatedException(name);
+            default:
+                throw new ExecutorSaturatedException(name);
+        }
+    }
+
+    private final class TimedTask implements Runnable {
+        private final Runnable task;
+        private final long submittedAtNanos;
+
+        private TimedTask(Runnable task, long submittedAtNanos) {
+            this.task = task;
+            this.submittedAtNanos = submittedAtNanos;
+        }
+
+        @Override
+        public void run() {
+            waitTimer.record(System.nanoTime() - submittedAtNanos, TimeUnit.NANOSECONDS);
+            try {
+                task.run();
+            } finally {
+                unfinished.decrementAndGet();
+            }
+        }
+    }
+}
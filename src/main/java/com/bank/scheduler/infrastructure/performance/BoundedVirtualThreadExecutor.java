@@ -0,0 +1,75 @@
+package com.bank.scheduler.infrastructure.performance;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One virtual thread per task, with a semaphore capping how many tasks run at once.
+ *
+ * The permit is taken inside the virtual thread, never by the submitter, so callers
+ * (request threads included) are not blocked when the limit is reached; excess
+ * tasks simply park cheaply until a permit frees up. Sizing the limit to the
+ * connection pool keeps blocked tasks from piling up on Hikari's connection timeout.
+ * An optional waiting limit plays the part of a pool's queue capacity: beyond it,
+ * execute() rejects so a BackpressureExecutor can apply its admission policy.
+ *
+ * Requires Java 21; see PerformanceConfiguration for the fallback.
+ */
+public class BoundedVirtualThreadExecutor implements TaskExecutor {
+
+    private final VirtualThreadTaskExecutor delegate;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final int maxWaiting;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency) {
+        this(threadNamePrefix, maxConcurrency, Integer.MAX_VALUE);
+    }
+
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency, int maxWaiting) {
+        this.delegate = new VirtualThreadTaskExecutor(threadNamePrefix);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.maxWaiting = maxWaiting;
+    }
+
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (waiting.incrementAndGet() > maxWaiting && permits.availablePermits() == 0) {
+            waiting.decrementAndGet();
+            throw new RejectedExecutionException("More than " + maxWaiting + " tasks waiting");
+        }
+        delegate.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                waiting.decrementAndGet();
+            }
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public int getWaitingCount() {
+        return waiting.get();
+    }
+}
@@ -0,0 +1,20 @@
+package com.bank.scheduler.infrastructure.performance;
+
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * Raised when a background executor refuses a task because its queue is full.
+ */
+public class ExecutorSaturatedException extends TaskRejectedException {
+
+    private final String executorName;
+
+    public ExecutorSaturatedException(String executorName) {
+        super("Executor " + executorName + " is saturated");
+        this.executorName = executorName;
+    }
+
+    public String getExecutorName() {
+        return executorName;
+    }
+}
@@ -1,50 +1,121 @@
 package com.bank.scheduler.infrastructure.performance;
 
-import org.springframework.boot.actuate.metrics.MetricsEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
 
+/**
+ * Executors for background work.
+ *
+ * Thread mode follows spring.threads.virtual.enabled (which also switches Tomcat):
+ * - platform (default): bounded ThreadPoolTaskExecutors
+ * - virtual (Java 21, see the java21 Maven profile): one virtual thread per task,
+ *   with a per-executor concurrency limit instead of a pool size
+ *
+ * Virtual mode requested on an older runtime falls back to platform pools.
+ *
+ * Either way every executor is a BackpressureExecutor: the queue (or the number of
+ * parked virtual threads) is bounded by scheduler.executors.*.queue-capacity and a
+ * full queue is handled by scheduler.executors.*.admission. Defaults:
+ * - transfer-processing: FAIL_FAST (producers back off and retry from the database
+ *   or the acceptance log)
+ * - notification: DROP (best effort)
+ * - audit: DROP. Its tasks are drain requests of RingBufferAuditTrail; a dropped
+ *   request loses no record, which stays in the ring until the next flush tick
+ *
+ * SPILL only helps tasks that implement SpillableTask and executors with a
+ * registered spill decoder; none of the built-in executors has both.
+ */
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class PerformanceConfiguration {
 
+    private static final Logger log = LoggerFactory.getLogger(PerformanceConfiguration.class);
+
+    private final boolean virtualThreads;
+    private final MeterRegistry meterRegistry;
+    private final Path spillDirectory;
+    private final List<BackpressureExecutor> executors = new ArrayList<>();
+
+    public PerformanceConfiguration(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsRequested,
+            @Value("${scheduler.executors.spill-directory:data/spill}") String spillDirectory,
+            MeterRegistry meterRegistry) {
+        this.virtualThreads = virtualThreadsRequested && BoundedVirtualThreadExecutor.isSupported();
+        this.meterRegistry = meterRegistry;
+        this.spillDirectory = Paths.get(spillDirectory);
+        if (virtualThreadsRequested && !virtualThreads) {
+            log.warn("Virtual threads requested but Java {} does not support them; using platform thread pools",
+                Runtime.version().feature());
+        }
+    }
+
     @Bean(name = "transferProcessingExecutor")
-    public Executor transferProcessingExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);
-        executor.setMaxPoolSize(50);
-        executor.setQueueCapacity(200);
-        executor.setThreadNamePrefix("TransferProcessor-");
-        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
-        executor.initialize();
-        return executor;
+    public BackpressureExecutor transferProcessingExecutor(
+            @Value("${scheduler.threads.virtual.max-concurrency.transfer-processing:10}") int maxConcurrency,
+            @Value("${scheduler.executors.transfer-processing.queue-capacity:200}") int queueCapacity,
+            @Value("${scheduler.executors.transfer-processing.admission:FAIL_FAST}") AdmissionPolicy admission) {
+        return backpressure("transfer-processing", "TransferProcessor-", 10, 50, maxConcurrency,
+            queueCapacity, admission);
     }
 
     @Bean(name = "notificationExecutor")
-    public Executor notificationExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(20);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("Notification-");
-        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
-        executor.initialize();
-        return executor;
+    public BackpressureExecutor notificationExecutor(
+            @Value("${scheduler.threads.virtual.max-concurrency.notification:20}") int maxConcurrency,
+            @Value("${scheduler.executors.notification.queue-capacity:100}") int queueCapacity,
+            @Value("${scheduler.executors.notification.admission:DROP}") AdmissionPolicy admission) {
+        return backpressure("notification", "Notification-", 5, 20, maxConcurrency, queueCapacity, admission);
     }
 
     @Bean(name = "auditExecutor")
-    public Executor auditExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(3);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(50);
-        executor.setThreadNamePrefix("Audit-");
-        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
-        executor.initialize();
+    public BackpressureExecutor auditExecutor(
+            @Value("${scheduler.threads.virtual.max-concurrency.audit:10}") int maxConcurrency,
+            @Value("${scheduler.executors.audit.queue-capacity:50}") int queueCapacity,
+            @Value("${scheduler.executors.audit.admission:DROP}") AdmissionPolicy admission) {
+        return backpressure("audit", "Audit-", 3, 10, maxConcurrency, queueCapacity, admission);
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.executors.spill-replay-interval-ms:5000}")
+    public void replaySpilledTasks() {
+        executors.forEach(BackpressureExecutor::replaySpilled);
+    }
+
+    private BackpressureExecutor backpressure(
+            String name, String threadNamePrefix, int corePoolSize, int maxPoolSize,
+            int maxConcurrency, int queueCapacity, AdmissionPolicy admission) {
+        Path spillFile = admission == AdmissionPolicy.SPILL ? spillDirectory.resolve(name + ".spill") : null;
+        BackpressureExecutor executor;
+        if (virtualThreads) {
+            BoundedVirtualThreadExecutor delegate =
+                new BoundedVirtualThreadExecutor(threadNamePrefix, maxConcurrency, queueCapacity);
+            executor = new BackpressureExecutor(name, delegate, delegate::getWaitingCount,
+                queueCapacity, admission, spillFile, meterRegistry);
+        } else {
+            ThreadPoolTaskExecutor delegate = new ThreadPoolTaskExecutor();
+            delegate.setCorePoolSize(corePoolSize);
+            delegate.setMaxPoolSize(maxPoolSize);
+            delegate.setQueueCapacity(queueCapacity);
+            delegate.setThreadNamePrefix(threadNamePrefix);
+            delegate.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+            delegate.initialize();
+            executor = new BackpressureExecutor(name, delegate, delegate::getQueueSize,
+                queueCapacity, admission, spillFile, meterRegistry);
+        }
+        executors.add(executor);
         return executor;
     }
-}
\ No newline at end of file
+}
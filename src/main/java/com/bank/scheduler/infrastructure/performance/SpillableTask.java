@@ -0,0 +1,12 @@
+package com.bank.scheduler.infrastructure.performance;
+
+/**
+ * A task that can be written to disk when its executor is saturated.
+ *
+ * The record must hold everything needed to rebuild the task; the executor's
+ * spill decoder turns it back into a Runnable on replay.
+ */
+public interface SpillableTask extends Runnable {
+
+    String spillRecord();
+}
@@ -0,0 +1,83 @@
+package com.bank.scheduler.infrastructure.performance;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Line-oriented overflow file for one executor.
+ *
+ * Each record is Base64-encoded on its own line, so producers may spill arbitrary
+ * text. drain() hands back everything spilled so far and empties the file.
+ *
+ * The directory is only created by the first append, so an executor that never
+ * spills does not need a writable filesystem.
+ */
+class TaskSpillFile {
+
+    private final Path file;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int size;
+
+    TaskSpillFile(Path file) {
+        this.file = file;
+        try {
+            this.size = Files.exists(file) ? Files.readAllLines(file, StandardCharsets.US_ASCII).size() : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open spill file " + file, e);
+        }
+    }
+
+    void append(String record) {
+        String line = Base64.getEncoder().encodeToString(record.getBytes(StandardCharsets.UTF_8)) + '\n';
+        lock.lock();
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, line.getBytes(StandardCharsets.US_ASCII),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            size++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to spill to " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<String> drain() {
+        lock.lock();
+        try {
+            if (size == 0) {
+                return List.of();
+            }
+            List<String> records = new ArrayList<>(size);
+            for (String line : Files.readAllLines(file, StandardCharsets.US_ASCII)) {
+                records.add(new String(Base64.getDecoder().decode(line), StandardCharsets.UTF_8));
+            }
+            Files.write(file, new byte[0], StandardOpenOption.TRUNCATE_EXISTING);
+            size = 0;
+            return records;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to drain spill file " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.bank.scheduler.infrastructure.persistence.adapters;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.TransferSearchCriteria;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
+import com.bank.scheduler.infrastructure.cache.TransferEntityCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-through cache in front of the persistent TransferRepository.
+ *
+ * Cache coherence:
+ * - findById and findAllById serve hits from memory and populate on miss
+ * - writes are applied to the cache only after the surrounding transaction commits,
+ *   so rolled-back saves never become visible
+ * - deletes evict immediately and again after commit, closing the window where a
+ *   concurrent reader re-caches the row that is being deleted
+ * - status changes (claims, status updates) are handled like deletes, since the
+ *   cached snapshot no longer reflects the row
+ * - existsById always asks the store: a hit only proves the row existed when it was
+ *   cached, and another replica may have deleted it since
+ * - changes made by other replicas reach the cache through TransferEntityCache's
+ *   ttl and change-log eviction
+ */
+@Primary
+@Repository
+public class CachingTransferRepository implements TransferRepository {
+
+    private final TransferRepository delegate;
+    private final TransferEntityCache cache;
+
+    public CachingTransferRepository(@Qualifier("transferStore") TransferRepository delegate, TransferEntityCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Transfer save(Transfer transfer) {
+        Transfer saved = delegate.save(transfer);
+        afterCommit(() -> cache.put(saved));
+        return saved;
+    }
+
+    @Override
+    public List<Transfer> saveAll(List<Transfer> transfers) {
+        List<Transfer> saved = delegate.saveAll(transfers);
+        afterCommit(() -> saved.forEach(cache::put));
+        return saved;
+    }
+
+    @Override
+    public List<Transfer> insertAbsent(List<Transfer> transfers) {
+        List<Transfer> inserted = delegate.insertAbsent(transfers);
+        afterCommit(() -> inserted.forEach(cache::put));
+        return inserted;
+    }
+
+    @Override
+    public Optional<Transfer> findById(UUID id) {
+        Optional<Transfer> cached = cache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<Transfer> loaded = delegate.findById(id);
+        loaded.ifPresent(cache::put);
+        return loaded;
+    }
+
+    @Override
+    public List<Optional<Transfer>> findAllById(List<UUID> ids) {
+        List<Optional<Transfer>> results = new ArrayList<>(ids.size());
+        List<UUID> misses = new ArrayList<>();
+        for (UUID id : ids) {
+            Optional<Transfer> cached = cache.get(id);
+            results.add(cached);
+            if (cached.isEmpty()) {
+                misses.add(id);
+            }
+        }
+        if (misses.isEmpty()) {
+            return results;
+        }
+        Map<UUID, Transfer> loaded = new HashMap<>(misses.size() * 2);
+        for (Optional<Transfer> transfer : delegate.findAllById(misses)) {
+            transfer.ifPresent(found -> {
+                loaded.put(found.getId(), found);
+                cache.put(found);
+            });
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            if (results.get(i).isEmpty()) {
+                results.set(i, Optional.ofNullable(loaded.get(ids.get(i))));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public List<Transfer> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Transfer> search(TransferSearchCriteria criteria) {
+        return delegate.search(criteria);
+    }
+
+    @Override
+    public List<Transfer> findScheduledBetween(LocalDate from, LocalDate to) {
+        return delegate.findScheduledBetween(from, to);
+    }
+
+    @Override
+    public List<Transfer> findByScheduleDate(LocalDate scheduleDate) {
+        return delegate.findByScheduleDate(scheduleDate);
+    }
+
+    @Override
+    public List<String> findBusiestAccounts(LocalDate from, int limit) {
+        return delegate.findBusiestAccounts(from, limit);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        cache.evict(id);
+        delegate.deleteById(id);
+        afterCommit(() -> cache.evict(id));
+    }
+
+    @Override
+    public void deleteAll() {
+        cache.clear();
+        delegate.deleteAll();
+        afterCommit(cache::clear);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public List<Transfer> claimDue(LocalDate dueBy, Instant claimedAt, Instant staleBefore, int limit) {
+        List<Transfer> claimed = delegate.claimDue(dueBy, claimedAt, staleBefore, limit);
+        claimed.forEach(transfer -> cache.evict(transfer.getId()));
+        return claimed;
+    }
+
+    @Override
+    public List<Transfer> claimByIds(Collection<UUID> ids, LocalDate dueBy, Instant claimedAt) {
+        List<Transfer> claimed = delegate.claimByIds(ids, dueBy, claimedAt);
+        claimed.forEach(transfer -> cache.evict(transfer.getId()));
+        return claimed;
+    }
+
+    @Override
+    public boolean updateStatus(UUID id, TransferStatus expected, TransferStatus next) {
+        cache.evict(id);
+        boolean updated = delegate.updateStatus(id, expected, next);
+        afterCommit(() -> cache.evict(id));
+        return updated;
+    }
+
+    @Override
+    public boolean renewClaim(UUID id, Instant claimedAt) {
+        cache.evict(id);
+        return delegate.renewClaim(id, claimedAt);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -3,36 +3,124 @@ package com.bank.scheduler.infrastructure.persistence.adapters;
 import com.bank.scheduler.domain.entities.Transfer;
 import com.bank.scheduler.domain.ports.TransferRepository;
 import com.bank.scheduler.infrastructure.persistence.repositories.JpaTransferRepository;
+import com.bank.scheduler.domain.valueobjects.TransferSearchCriteria;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
-@Repository
+@Repository("transferStore")
+@ConditionalOnProperty(name = "scheduler.sharding.enabled", havingValue = "false", matchIfMissing = true)
 public class TransferRepositoryAdapter implements TransferRepository {
     
     private final JpaTransferRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final int inClauseChunkSize;
     
-    public TransferRepositoryAdapter(JpaTransferRepository jpaRepository) {
+    public TransferRepositoryAdapter(
+            JpaTransferRepository jpaRepository,
+            EntityManager entityManager,
+            @Value("${scheduler.lookup.in-clause-chunk-size:500}") int inClauseChunkSize) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.inClauseChunkSize = inClauseChunkSize;
     }
     
     @Override
     public Transfer save(Transfer transfer) {
         return jpaRepository.save(transfer);
     }
+
+    @Override
+    public List<Transfer> saveAll(List<Transfer> transfers) {
+        return jpaRepository.saveAll(transfers);
+    }
     
+    /**
+     * One IN query per chunk finds the ids already stored; the rest are persisted,
+     * never merged, so an existing row keeps its current status.
+     */
+    @Override
+    @Transactional
+    public List<Transfer> insertAbsent(List<Transfer> transfers) {
+        List<UUID> ids = transfers.stream().map(Transfer::getId).collect(Collectors.toList());
+        List<Optional<Transfer>> existing = findAllById(ids);
+        List<Transfer> inserted = new ArrayList<>(transfers.size());
+        for (int i = 0; i < transfers.size(); i++) {
+            if (existing.get(i).isEmpty()) {
+                entityManager.persist(transfers.get(i));
+                inserted.add(transfers.get(i));
+            }
+        }
+        return inserted;
+    }
+
     @Override
     public Optional<Transfer> findById(UUID id) {
         return jpaRepository.findById(id);
     }
     
+    /**
+     * Resolves ids with one IN query per chunk. The chunk size keeps each statement
+     * well below the bind-parameter limits of the supported databases
+     * (Oracle: 1000 IN-list items, SQL Server: 2100 parameters).
+     */
+    @Override
+    public List<Optional<Transfer>> findAllById(List<UUID> ids) {
+        List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<UUID, Transfer> found = new HashMap<>(distinctIds.size() * 2);
+        for (int from = 0; from < distinctIds.size(); from += inClauseChunkSize) {
+            List<UUID> chunk = distinctIds.subList(from, Math.min(from + inClauseChunkSize, distinctIds.size()));
+            jpaRepository.findAllById(chunk).forEach(transfer -> found.put(transfer.getId(), transfer));
+        }
+        List<Optional<Transfer>> results = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            results.add(Optional.ofNullable(found.get(id)));
+        }
+        return results;
+    }
+
     @Override
     public List<Transfer> findAll() {
         return jpaRepository.findAll();
     }
 
+    @Override
+    public List<Transfer> search(TransferSearchCriteria criteria) {
+        return jpaRepository.findAll(matching(criteria));
+    }
+
+    @Override
+    public List<Transfer> findScheduledBetween(LocalDate from, LocalDate to) {
+        return jpaRepository.findByStatusAndTransferDateBetween(TransferStatus.SCHEDULED, from, to);
+    }
+
+    @Override
+    public List<Transfer> findByScheduleDate(LocalDate scheduleDate) {
+        return jpaRepository.findByScheduleDate(scheduleDate);
+    }
+
+    @Override
+    public List<String> findBusiestAccounts(LocalDate from, int limit) {
+        return jpaRepository.findBusiestAccounts(from, limit);
+    }
+
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
@@ -47,4 +135,69 @@ public class TransferRepositoryAdapter implements TransferRepository {
     public boolean existsById(UUID id) {
         return jpaRepository.existsById(id);
     }
+
+    /**
+     * Lock, mark and reload in one transaction: the row locks taken by
+     * FOR UPDATE SKIP LOCKED are held until the IN_PROGRESS update commits.
+     */
+    @Override
+    @Transactional
+    public List<Transfer> claimDue(LocalDate dueBy, Instant claimedAt, Instant staleBefore, int limit) {
+        List<UUID> ids = jpaRepository.lockClaimable(dueBy, staleBefore, limit).stream()
+            .map(Transfer::getId)
+            .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        jpaRepository.markClaimed(ids, TransferStatus.IN_PROGRESS, claimedAt);
+        return jpaRepository.findAllById(ids);
+    }
+
+    @Override
+    @Transactional
+    public List<Transfer> claimByIds(Collection<UUID> ids, LocalDate dueBy, Instant claimedAt) {
+        List<UUID> claimable = new ArrayList<>(ids.size());
+        List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        for (int from = 0; from < distinctIds.size(); from += inClauseChunkSize) {
+            List<UUID> chunk = distinctIds.subList(from, Math.min(from + inClauseChunkSize, distinctIds.size()));
+            jpaRepository.lockScheduled(chunk, dueBy).forEach(transfer -> claimable.add(transfer.getId()));
+        }
+        if (claimable.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Transfer> claimed = new ArrayList<>(claimable.size());
+        for (int from = 0; from < claimable.size(); from += inClauseChunkSize) {
+            List<UUID> chunk = claimable.subList(from, Math.min(from + inClauseChunkSize, claimable.size()));
+            jpaRepository.markClaimed(chunk, TransferStatus.IN_PROGRESS, claimedAt);
+            claimed.addAll(jpaRepository.findAllById(chunk));
+        }
+        return claimed;
+    }
+
+    @Override
+    @Transactional
+    public boolean updateStatus(UUID id, TransferStatus expected, TransferStatus next) {
+        return jpaRepository.updateStatus(id, expected, next) > 0;
+    }
+
+    @Override
+    @Transactional
+    public boolean renewClaim(UUID id, Instant claimedAt) {
+        return jpaRepository.renewClaim(id, claimedAt) > 0;
+    }
+
+    private static Specification<Transfer> matching(TransferSearchCriteria criteria) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>(4);
+            criteria.getSourceAccount().ifPresent(account ->
+                predicates.add(builder.equal(root.get("sourceAccount").get("value"), account.getValue())));
+            criteria.getTargetAccount().ifPresent(account ->
+                predicates.add(builder.equal(root.get("targetAccount").get("value"), account.getValue())));
+            criteria.getFromDate().ifPresent(from ->
+                predicates.add(builder.greaterThanOrEqualTo(root.get("transferDate"), from)));
+            criteria.getToDate().ifPresent(to ->
+                predicates.add(builder.lessThanOrEqualTo(root.get("transferDate"), to)));
+            return builder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
 }
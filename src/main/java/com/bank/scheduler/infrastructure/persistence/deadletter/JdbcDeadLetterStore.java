@@ -0,0 +1,91 @@
+package com.bank.scheduler.infrastructure.persistence.deadletter;
+
+import com.bank.scheduler.domain.ports.DeadLetterStore;
+import com.bank.scheduler.domain.valueobjects.DeadLetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Dead letters in the transfer_dead_letters table of the primary database.
+ *
+ * Kept next to the transfers (not in a shard) so operators can list them by
+ * reason with one query; the volume is small by construction.
+ */
+@Component
+public class JdbcDeadLetterStore implements DeadLetterStore {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final RowMapper<DeadLetter> DEAD_LETTER_MAPPER = (rs, rowNum) -> new DeadLetter(
+        rs.getObject("transfer_id", UUID.class),
+        rs.getString("reason"),
+        rs.getInt("attempts"),
+        rs.getString("last_error"),
+        rs.getTimestamp("dead_lettered_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcDeadLetterStore(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS transfer_dead_letters ("
+            + "transfer_id UUID PRIMARY KEY, "
+            + "reason VARCHAR(128) NOT NULL, "
+            + "attempts INT NOT NULL, "
+            + "last_error VARCHAR(" + MAX_ERROR_LENGTH + "), "
+            + "dead_lettered_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_dead_letters_reason "
+            + "ON transfer_dead_letters (reason, dead_lettered_at)");
+    }
+
+    @Override
+    public void record(DeadLetter deadLetter) {
+        String lastError = truncate(deadLetter.getLastError());
+        Timestamp at = Timestamp.from(deadLetter.getDeadLetteredAt());
+        int updated = jdbcTemplate.update(
+            "UPDATE transfer_dead_letters SET reason = ?, attempts = ?, last_error = ?, dead_lettered_at = ? "
+                + "WHERE transfer_id = ?",
+            deadLetter.getReason(), deadLetter.getAttempts(), lastError, at, deadLetter.getTransferId());
+        if (updated == 0) {
+            jdbcTemplate.update(
+                "INSERT INTO transfer_dead_letters (transfer_id, reason, attempts, last_error, dead_lettered_at) "
+                    + "VALUES (?, ?, ?, ?, ?)",
+                deadLetter.getTransferId(), deadLetter.getReason(), deadLetter.getAttempts(), lastError, at);
+        }
+    }
+
+    @Override
+    public Optional<DeadLetter> find(UUID transferId) {
+        return jdbcTemplate.query("SELECT * FROM transfer_dead_letters WHERE transfer_id = ?",
+            DEAD_LETTER_MAPPER, transferId).stream().findFirst();
+    }
+
+    @Override
+    public List<DeadLetter> findAll(String reason, int limit) {
+        if (reason == null) {
+            return jdbcTemplate.query(
+                "SELECT * FROM transfer_dead_letters ORDER BY dead_lettered_at LIMIT ?", DEAD_LETTER_MAPPER, limit);
+        }
+        return jdbcTemplate.query(
+            "SELECT * FROM transfer_dead_letters WHERE reason = ? ORDER BY dead_lettered_at LIMIT ?",
+            DEAD_LETTER_MAPPER, reason, limit);
+    }
+
+    @Override
+    public boolean remove(UUID transferId) {
+        return jdbcTemplate.update("DELETE FROM transfer_dead_letters WHERE transfer_id = ?", transferId) > 0;
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
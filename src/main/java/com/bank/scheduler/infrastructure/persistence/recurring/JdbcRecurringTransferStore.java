@@ -0,0 +1,124 @@
+package com.bank.scheduler.infrastructure.persistence.recurring;
+
+import com.bank.scheduler.domain.entities.RecurringTransfer;
+import com.bank.scheduler.domain.ports.RecurringTransferStore;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.RecurrenceRule;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Recurring transfer definitions in the recurring_transfers table of the primary database.
+ *
+ * One row per rule however many occurrences it has. next_occurrence duplicates
+ * the date of occurrence next_index so the materializer finds the rules entering
+ * the scheduling window with one index range scan; exhausted rules keep their row
+ * with a null next_occurrence and drop out of that index.
+ */
+@Component
+public class JdbcRecurringTransferStore implements RecurringTransferStore {
+
+    private static final RowMapper<RecurringTransfer> RECURRING_MAPPER = (rs, rowNum) -> new RecurringTransfer(
+        rs.getObject("id", UUID.class),
+        AccountNumber.of(rs.getString("source_account")),
+        AccountNumber.of(rs.getString("target_account")),
+        Money.of(rs.getBigDecimal("amount"), rs.getString("currency")),
+        RecurrenceRule.of(
+            RecurrenceRule.Frequency.valueOf(rs.getString("frequency")),
+            rs.getInt("interval_count"),
+            rs.getDate("first_occurrence").toLocalDate(),
+            rs.getDate("end_date").toLocalDate()),
+        rs.getInt("next_index"),
+        rs.getTimestamp("created_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcRecurringTransferStore(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS recurring_transfers ("
+            + "id UUID PRIMARY KEY, "
+            + "source_account VARCHAR(10) NOT NULL, "
+            + "target_account VARCHAR(10) NOT NULL, "
+            + "amount DECIMAL(19, 2) NOT NULL, "
+            + "frequency VARCHAR(16) NOT NULL, "
+            + "interval_count INT NOT NULL, "
+            + "first_occurrence DATE NOT NULL, "
+            + "end_date DATE NOT NULL, "
+            + "next_index INT NOT NULL, "
+            + "next_occurrence DATE, "
+            + "created_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("ALTER TABLE recurring_transfers ADD COLUMN IF NOT EXISTS "
+            + "currency VARCHAR(3) DEFAULT 'BRL' NOT NULL");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_recurring_next_occurrence "
+            + "ON recurring_transfers (next_occurrence)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_recurring_source_account "
+            + "ON recurring_transfers (source_account)");
+    }
+
+    @Override
+    public void save(RecurringTransfer recurringTransfer) {
+        RecurrenceRule rule = recurringTransfer.getRule();
+        jdbcTemplate.update(
+            "INSERT INTO recurring_transfers (id, source_account, target_account, amount, currency, frequency, "
+                + "interval_count, first_occurrence, end_date, next_index, next_occurrence, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            recurringTransfer.getId(),
+            recurringTransfer.getSourceAccount().getValue(),
+            recurringTransfer.getTargetAccount().getValue(),
+            recurringTransfer.getAmount().getAmount(),
+            recurringTransfer.getAmount().getCurrency(),
+            rule.getFrequency().name(),
+            rule.getInterval(),
+            Date.valueOf(rule.getFirstOccurrence()),
+            Date.valueOf(rule.getEndDate()),
+            recurringTransfer.getNextIndex(),
+            toDate(recurringTransfer.getNextOccurrence()),
+            Timestamp.from(recurringTransfer.getCreatedAt()));
+    }
+
+    @Override
+    public Optional<RecurringTransfer> find(UUID id) {
+        return jdbcTemplate.query("SELECT * FROM recurring_transfers WHERE id = ?", RECURRING_MAPPER, id)
+            .stream().findFirst();
+    }
+
+    @Override
+    public List<RecurringTransfer> findBySourceAccount(String sourceAccount) {
+        return jdbcTemplate.query(
+            "SELECT * FROM recurring_transfers WHERE source_account = ? ORDER BY created_at",
+            RECURRING_MAPPER, sourceAccount);
+    }
+
+    @Override
+    public List<RecurringTransfer> findDue(LocalDate through, int limit) {
+        return jdbcTemplate.query(
+            "SELECT * FROM recurring_transfers WHERE next_occurrence <= ? ORDER BY next_occurrence LIMIT ?",
+            RECURRING_MAPPER, Date.valueOf(through), limit);
+    }
+
+    @Override
+    public boolean advance(UUID id, int expectedIndex, int nextIndex, LocalDate nextOccurrence) {
+        return jdbcTemplate.update(
+            "UPDATE recurring_transfers SET next_index = ?, next_occurrence = ? WHERE id = ? AND next_index = ?",
+            nextIndex, toDate(nextOccurrence), id, expectedIndex) > 0;
+    }
+
+    @Override
+    public boolean delete(UUID id) {
+        return jdbcTemplate.update("DELETE FROM recurring_transfers WHERE id = ?", id) > 0;
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date == null ? null : Date.valueOf(date);
+    }
+}
@@ -1,11 +1,76 @@
 package com.bank.scheduler.infrastructure.persistence.repositories;
 
 import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface JpaTransferRepository extends JpaRepository<Transfer, UUID> {
+public interface JpaTransferRepository extends JpaRepository<Transfer, UUID>, JpaSpecificationExecutor<Transfer> {
+
+    /**
+     * Locks claimable rows, skipping rows already locked by another claimer.
+     * No ORDER BY: every candidate is already due, and H2 does not skip locked
+     * rows when the result is sorted.
+     */
+    @Query(value = "SELECT * FROM transfers "
+        + "WHERE (status = 'SCHEDULED' AND transfer_date <= :dueBy) "
+        + "OR (status = 'IN_PROGRESS' AND claimed_at < :staleBefore) "
+        + "FETCH FIRST :limit ROWS ONLY FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Transfer> lockClaimable(
+        @Param("dueBy") LocalDate dueBy,
+        @Param("staleBefore") Instant staleBefore,
+        @Param("limit") int limit);
+
+    /**
+     * The transfer_date bound is the authoritative due check for callers that
+     * already picked the ids, such as the timing wheel.
+     */
+    @Query(value = "SELECT * FROM transfers WHERE id IN (:ids) AND status = 'SCHEDULED' "
+        + "AND transfer_date <= :dueBy FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Transfer> lockScheduled(@Param("ids") Collection<UUID> ids, @Param("dueBy") LocalDate dueBy);
+
+    @Query("SELECT t FROM Transfer t WHERE t.status = :status AND t.transferDate BETWEEN :from AND :to")
+    List<Transfer> findByStatusAndTransferDateBetween(
+        @Param("status") TransferStatus status,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to);
+
+    List<Transfer> findByScheduleDate(LocalDate scheduleDate);
+
+    @Query(value = "SELECT account FROM ("
+        + "SELECT source_account AS account FROM transfers WHERE status = 'SCHEDULED' AND transfer_date >= :from "
+        + "UNION ALL "
+        + "SELECT target_account AS account FROM transfers WHERE status = 'SCHEDULED' AND transfer_date >= :from"
+        + ") accounts GROUP BY account ORDER BY COUNT(*) DESC FETCH FIRST :limit ROWS ONLY", nativeQuery = true)
+    List<String> findBusiestAccounts(@Param("from") LocalDate from, @Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Transfer t SET t.status = :status, t.claimedAt = :claimedAt WHERE t.id IN :ids")
+    int markClaimed(
+        @Param("ids") Collection<UUID> ids,
+        @Param("status") TransferStatus status,
+        @Param("claimedAt") Instant claimedAt);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Transfer t SET t.status = :next WHERE t.id = :id AND t.status = :expected")
+    int updateStatus(
+        @Param("id") UUID id,
+        @Param("expected") TransferStatus expected,
+        @Param("next") TransferStatus next);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Transfer t SET t.claimedAt = :claimedAt WHERE t.id = :id "
+        + "AND t.status = com.bank.scheduler.domain.valueobjects.TransferStatus.IN_PROGRESS")
+    int renewClaim(@Param("id") UUID id, @Param("claimedAt") Instant claimedAt);
 }
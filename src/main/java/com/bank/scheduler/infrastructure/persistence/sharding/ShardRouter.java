@@ -0,0 +1,45 @@
+package com.bank.scheduler.infrastructure.persistence.sharding;
+
+import com.bank.scheduler.domain.valueobjects.TransferIds;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maps the routing bucket embedded in a transfer id onto a physical shard.
+ *
+ * bucket = TransferIds.bucketOf(id)  (derived from the source account at creation)
+ * shard  = shards[bucket % shards.size()]
+ */
+public final class ShardRouter implements AutoCloseable {
+    private final List<TransferShard> shards;
+
+    public ShardRouter(List<TransferShard> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard must be configured");
+        }
+        if (shards.size() > TransferIds.BUCKETS) {
+            throw new IllegalArgumentException("Cannot use more shards than routing buckets (" + TransferIds.BUCKETS + ")");
+        }
+        this.shards = List.copyOf(shards);
+    }
+
+    public TransferShard shardFor(UUID transferId) {
+        return shards.get(indexFor(transferId));
+    }
+
+    public int indexFor(UUID transferId) {
+        return TransferIds.bucketOf(transferId) % shards.size();
+    }
+
+    public List<TransferShard> shards() {
+        return shards;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (TransferShard shard : shards) {
+            shard.close();
+        }
+    }
+}
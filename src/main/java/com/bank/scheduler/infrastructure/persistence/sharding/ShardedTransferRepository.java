@@ -0,0 +1,211 @@
+package com.bank.scheduler.infrastructure.persistence.sharding;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.TransferSearchCriteria;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * TransferRepository over N account-hash shards.
+ *
+ * Routing:
+ * - Point operations (save, findById, deleteById, existsById) go to exactly one
+ *   shard, located from the bucket embedded in the transfer id
+ * - findAllById groups ids per shard and queries the involved shards in parallel
+ * - findAll, search, the date lookups and deleteAll fan out to every shard in parallel and merge
+ * - claimDue claims up to the limit on every shard, so one poll may return up to
+ *   limit x shards transfers
+ *
+ * Transactions: every shard write commits on its own shard connection and does
+ * not join the caller's transaction on the primary datasource. Anything written
+ * there alongside a transfer is therefore not atomic with it. That covers outbox
+ * rows and the events that feed the read model and timing wheel. For this reason
+ * ShardingConfiguration refuses to start with the transactional outbox enabled.
+ */
+public class ShardedTransferRepository implements TransferRepository {
+
+    private final ShardRouter router;
+    private final ExecutorService fanOutExecutor;
+
+    public ShardedTransferRepository(ShardRouter router, ExecutorService fanOutExecutor) {
+        this.router = router;
+        this.fanOutExecutor = fanOutExecutor;
+    }
+
+    @Override
+    public Transfer save(Transfer transfer) {
+        router.shardFor(transfer.getId()).upsert(transfer);
+        return transfer;
+    }
+
+    @Override
+    public List<Transfer> saveAll(List<Transfer> transfers) {
+        Map<TransferShard, List<Transfer>> byShard = new LinkedHashMap<>();
+        for (Transfer transfer : transfers) {
+            byShard.computeIfAbsent(router.shardFor(transfer.getId()), shard -> new ArrayList<>()).add(transfer);
+        }
+        onEachShard(byShard.keySet(), shard -> {
+            byShard.get(shard).forEach(shard::upsert);
+            return null;
+        });
+        return transfers;
+    }
+
+    @Override
+    public List<Transfer> insertAbsent(List<Transfer> transfers) {
+        Map<TransferShard, List<Transfer>> byShard = new LinkedHashMap<>();
+        for (Transfer transfer : transfers) {
+            byShard.computeIfAbsent(router.shardFor(transfer.getId()), shard -> new ArrayList<>()).add(transfer);
+        }
+        List<Transfer> inserted = new ArrayList<>(transfers.size());
+        onEachShard(byShard.keySet(), shard -> byShard.get(shard).stream()
+                .filter(shard::insertIfAbsent)
+                .collect(Collectors.toList()))
+            .forEach(inserted::addAll);
+        return inserted;
+    }
+
+    @Override
+    public Optional<Transfer> findById(UUID id) {
+        return router.shardFor(id).findById(id);
+    }
+
+    @Override
+    public List<Optional<Transfer>> findAllById(List<UUID> ids) {
+        Map<TransferShard, List<UUID>> byShard = new LinkedHashMap<>();
+        for (UUID id : new LinkedHashSet<>(ids)) {
+            byShard.computeIfAbsent(router.shardFor(id), shard -> new ArrayList<>()).add(id);
+        }
+        Map<UUID, Transfer> found = new HashMap<>(ids.size() * 2);
+        for (List<Transfer> shardResult : onEachShard(byShard.keySet(), shard -> shard.findAllById(byShard.get(shard)))) {
+            shardResult.forEach(transfer -> found.put(transfer.getId(), transfer));
+        }
+        List<Optional<Transfer>> results = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            results.add(Optional.ofNullable(found.get(id)));
+        }
+        return results;
+    }
+
+    @Override
+    public List<Transfer> findAll() {
+        return merge(onEachShard(router.shards(), TransferShard::findAll));
+    }
+
+    @Override
+    public List<Transfer> search(TransferSearchCriteria criteria) {
+        return merge(onEachShard(router.shards(), shard -> shard.search(criteria)));
+    }
+
+    @Override
+    public List<Transfer> findScheduledBetween(LocalDate from, LocalDate to) {
+        return merge(onEachShard(router.shards(), shard -> shard.findScheduledBetween(from, to)));
+    }
+
+    @Override
+    public List<Transfer> findByScheduleDate(LocalDate scheduleDate) {
+        return merge(onEachShard(router.shards(), shard -> shard.findByScheduleDate(scheduleDate)));
+    }
+
+    /**
+     * Sums the per-shard top lists. An account that is just below the limit on
+     * several shards can be missed, which is fine for choosing what to preload.
+     */
+    @Override
+    public List<String> findBusiestAccounts(LocalDate from, int limit) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Map<String, Long> shardCounts : onEachShard(router.shards(), shard -> shard.countBusiestAccounts(from, limit))) {
+            shardCounts.forEach((account, count) -> counts.merge(account, count, Long::sum));
+        }
+        return counts.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .limit(limit)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        router.shardFor(id).deleteById(id);
+    }
+
+    @Override
+    public void deleteAll() {
+        onEachShard(router.shards(), shard -> {
+            shard.deleteAll();
+            return null;
+        });
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return router.shardFor(id).existsById(id);
+    }
+
+    @Override
+    public List<Transfer> claimDue(LocalDate dueBy, Instant claimedAt, Instant staleBefore, int limit) {
+        return merge(onEachShard(router.shards(), shard -> shard.claimDue(dueBy, claimedAt, staleBefore, limit)));
+    }
+
+    @Override
+    public List<Transfer> claimByIds(Collection<UUID> ids, LocalDate dueBy, Instant claimedAt) {
+        Map<TransferShard, List<UUID>> byShard = new LinkedHashMap<>();
+        for (UUID id : new LinkedHashSet<>(ids)) {
+            byShard.computeIfAbsent(router.shardFor(id), shard -> new ArrayList<>()).add(id);
+        }
+        return merge(onEachShard(byShard.keySet(), shard -> shard.claimByIds(byShard.get(shard), dueBy, claimedAt)));
+    }
+
+    @Override
+    public boolean updateStatus(UUID id, TransferStatus expected, TransferStatus next) {
+        return router.shardFor(id).updateStatus(id, expected, next);
+    }
+
+    @Override
+    public boolean renewClaim(UUID id, Instant claimedAt) {
+        return router.shardFor(id).renewClaim(id, claimedAt);
+    }
+
+    private <T> List<T> onEachShard(Iterable<TransferShard> shards, Function<TransferShard, T> operation) {
+        List<CompletableFuture<T>> futures = new ArrayList<>();
+        for (TransferShard shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(() -> operation.apply(shard), fanOutExecutor));
+        }
+        try {
+            List<T> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+            return results;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static List<Transfer> merge(List<List<Transfer>> shardResults) {
+        int size = shardResults.stream().mapToInt(List::size).sum();
+        List<Transfer> merged = new ArrayList<>(size);
+        shardResults.forEach(merged::addAll);
+        return merged;
+    }
+}
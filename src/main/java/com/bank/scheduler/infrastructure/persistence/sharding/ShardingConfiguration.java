@@ -0,0 +1,81 @@
+package com.bank.scheduler.infrastructure.persistence.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Account-hash sharding across multiple datasources.
+ *
+ * Active only with scheduler.sharding.enabled=true. The transfer store then
+ * becomes a ShardedTransferRepository; the primary datasource keeps serving
+ * everything that is not a transfer row.
+ *
+ * Shard writes commit outside the primary transaction, so the transactional
+ * outbox cannot be atomic with them. Startup fails unless
+ * scheduler.outbox.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "scheduler.sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfiguration {
+
+    public ShardingConfiguration(@Value("${scheduler.outbox.enabled:true}") boolean outboxEnabled) {
+        if (outboxEnabled) {
+            throw new IllegalStateException("scheduler.sharding.enabled requires scheduler.outbox.enabled=false: "
+                + "shard writes commit outside the primary transaction, so outbox rows would not be atomic "
+                + "with the transfers they describe");
+        }
+    }
+
+    @Bean
+    public ShardRouter shardRouter(
+            ShardingProperties properties,
+            @Value("${scheduler.lookup.in-clause-chunk-size:500}") int inClauseChunkSize) {
+        List<TransferShard> shards = new ArrayList<>();
+        for (int i = 0; i < properties.getShards().size(); i++) {
+            ShardingProperties.Shard shard = properties.getShards().get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(shard.getUrl())
+                .username(shard.getUsername())
+                .password(shard.getPassword())
+                .build();
+            dataSource.setMaximumPoolSize(shard.getMaxPoolSize());
+            dataSource.setPoolName("TransferShard-" + i);
+
+            TransferShard transferShard = new TransferShard("shard-" + i, dataSource, inClauseChunkSize);
+            transferShard.initializeSchema();
+            shards.add(transferShard);
+        }
+        return new ShardRouter(shards);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService shardFanOutExecutor(ShardRouter shardRouter) {
+        return Executors.newFixedThreadPool(
+            shardRouter.shards().size(), new CustomizableThreadFactory("ShardQuery-"));
+    }
+
+    @Bean(name = "transferStore")
+    public ShardedTransferRepository shardedTransferRepository(
+            ShardRouter shardRouter, ExecutorService shardFanOutExecutor) {
+        return new ShardedTransferRepository(shardRouter, shardFanOutExecutor);
+    }
+
+    @Bean
+    public TransferReshardingTool transferReshardingTool(
+            @Value("${scheduler.sharding.reshard-page-size:1000}") int pageSize) {
+        return new TransferReshardingTool(pageSize);
+    }
+}
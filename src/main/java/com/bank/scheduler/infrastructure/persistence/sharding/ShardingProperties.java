@@ -0,0 +1,46 @@
+package com.bank.scheduler.infrastructure.persistence.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sharding topology. Example:
+ * <pre>
+ * scheduler.sharding.enabled=true
+ * scheduler.sharding.shards[0].url=jdbc:h2:mem:shard0
+ * scheduler.sharding.shards[1].url=jdbc:h2:mem:shard1
+ * </pre>
+ * Shard order is significant: a transfer lives on shards[bucket % shards.size()].
+ */
+@ConfigurationProperties(prefix = "scheduler.sharding")
+public class ShardingProperties {
+    private boolean enabled;
+    private List<Shard> shards = new ArrayList<>();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public List<Shard> getShards() { return shards; }
+    public void setShards(List<Shard> shards) { this.shards = shards; }
+
+    public static class Shard {
+        private String url;
+        private String username = "sa";
+        private String password = "";
+        private int maxPoolSize = 10;
+
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+
+        public int getMaxPoolSize() { return maxPoolSize; }
+        public void setMaxPoolSize(int maxPoolSize) { this.maxPoolSize = maxPoolSize; }
+    }
+}
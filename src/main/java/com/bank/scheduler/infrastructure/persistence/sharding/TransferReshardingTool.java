@@ -0,0 +1,79 @@
+package com.bank.scheduler.infrastructure.persistence.sharding;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves transfers between shards when the shard count changes.
+ *
+ * Procedure for every source shard, page by page (keyset on id):
+ * 1. Compute the target shard with the new router
+ * 2. Upsert the row into the target shard
+ * 3. Delete it from the source shard
+ *
+ * Each step is idempotent, so an interrupted run can simply be restarted.
+ * Transfer traffic must be paused until it completes. The running router
+ * already uses the new layout, so a lookup by id goes to the target shard and
+ * finds nothing until the row has been moved there. A scan over all shards
+ * sees every row, but can return one twice between steps 2 and 3.
+ *
+ * Operators run it through POST /api/admin/sharding/reshard after restarting
+ * with the new shard list. The endpoint rebalances every configured shard onto
+ * the running router, so shards can be added but not removed this way.
+ */
+public class TransferReshardingTool {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferReshardingTool.class);
+
+    private final int pageSize;
+
+    public TransferReshardingTool(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public ReshardingReport reshard(List<TransferShard> currentShards, ShardRouter targetRouter) {
+        long scanned = 0;
+        long moved = 0;
+        for (TransferShard source : currentShards) {
+            UUID cursor = null;
+            List<Transfer> page;
+            while (!(page = source.page(cursor, pageSize)).isEmpty()) {
+                List<Transfer> misplaced = new ArrayList<>();
+                for (Transfer transfer : page) {
+                    if (!targetRouter.shardFor(transfer.getId()).name().equals(source.name())) {
+                        misplaced.add(transfer);
+                    }
+                }
+                for (Transfer transfer : misplaced) {
+                    targetRouter.shardFor(transfer.getId()).upsert(transfer);
+                    source.deleteById(transfer.getId());
+                }
+                scanned += page.size();
+                moved += misplaced.size();
+                cursor = page.get(page.size() - 1).getId();
+            }
+            log.info("Resharding scanned shard {}", source.name());
+        }
+        log.info("Resharding complete: {} transfers scanned, {} moved", scanned, moved);
+        return new ReshardingReport(scanned, moved);
+    }
+
+    public static final class ReshardingReport {
+        private final long scanned;
+        private final long moved;
+
+        public ReshardingReport(long scanned, long moved) {
+            this.scanned = scanned;
+            this.moved = moved;
+        }
+
+        public long getScanned() { return scanned; }
+
+        public long getMoved() { return moved; }
+    }
+}
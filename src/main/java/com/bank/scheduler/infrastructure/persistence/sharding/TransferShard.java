@@ -0,0 +1,315 @@
+package com.bank.scheduler.infrastructure.persistence.sharding;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.TransferSearchCriteria;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * One physical shard: a datasource holding its own {@code transfers} table.
+ *
+ * Uses plain JDBC rather than JPA because the persistence unit is bound to the
+ * primary datasource. Every statement touches a single shard, so each write is
+ * atomic on its own; cross-shard atomicity is never required since a transfer
+ * lives on exactly one shard. Claiming uses a shard-local transaction so the
+ * SKIP LOCKED row locks are held until the claim is recorded.
+ */
+public class TransferShard implements AutoCloseable {
+
+    private static final String COLUMNS =
+        "id, source_account, target_account, amount, fee, schedule_date, transfer_date, status, claimed_at, currency";
+
+    private static final RowMapper<Transfer> TRANSFER_MAPPER = (rs, rowNum) -> Transfer.restore(
+        rs.getObject("id", UUID.class),
+        AccountNumber.of(rs.getString("source_account")),
+        AccountNumber.of(rs.getString("target_account")),
+        Money.of(rs.getBigDecimal("amount"), rs.getString("currency")),
+        Money.of(rs.getBigDecimal("fee"), rs.getString("currency")),
+        rs.getDate("schedule_date").toLocalDate(),
+        rs.getDate("transfer_date").toLocalDate(),
+        TransferStatus.valueOf(rs.getString("status")),
+        toInstant(rs.getTimestamp("claimed_at")));
+
+    private final String name;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int inClauseChunkSize;
+
+    public TransferShard(String name, DataSource dataSource, int inClauseChunkSize) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.inClauseChunkSize = inClauseChunkSize;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public void initializeSchema() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS transfers ("
+            + "id UUID PRIMARY KEY, "
+            + "source_account VARCHAR(10) NOT NULL, "
+            + "target_account VARCHAR(10) NOT NULL, "
+            + "amount DECIMAL(19,2) NOT NULL, "
+            + "fee DECIMAL(19,2) NOT NULL, "
+            + "schedule_date DATE NOT NULL, "
+            + "transfer_date DATE NOT NULL, "
+            + "status VARCHAR(16) DEFAULT 'SCHEDULED' NOT NULL, "
+            + "claimed_at TIMESTAMP)");
+        jdbcTemplate.execute("ALTER TABLE transfers ADD COLUMN IF NOT EXISTS "
+            + "currency VARCHAR(3) DEFAULT 'BRL' NOT NULL");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_transfers_source_date "
+            + "ON transfers (source_account, transfer_date)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_transfers_status_date "
+            + "ON transfers (status, transfer_date)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_transfers_schedule_date "
+            + "ON transfers (schedule_date)");
+    }
+
+    public void upsert(Transfer transfer) {
+        int updated = jdbcTemplate.update(
+            "UPDATE transfers SET source_account = ?, target_account = ?, amount = ?, fee = ?, "
+                + "schedule_date = ?, transfer_date = ?, status = ?, claimed_at = ?, currency = ? WHERE id = ?",
+            transfer.getSourceAccount().getValue(),
+            transfer.getTargetAccount().getValue(),
+            transfer.getAmount().getAmount(),
+            transfer.getFee().getAmount(),
+            Date.valueOf(transfer.getScheduleDate()),
+            Date.valueOf(transfer.getTransferDate()),
+            transfer.getStatus().name(),
+            toTimestamp(transfer.getClaimedAt()),
+            transfer.getAmount().getCurrency(),
+            transfer.getId());
+        if (updated == 0) {
+            insert(transfer);
+        }
+    }
+
+    /**
+     * Inserts the transfer unless a row with its id exists; an existing row is
+     * left as it is.
+     */
+    public boolean insertIfAbsent(Transfer transfer) {
+        try {
+            insert(transfer);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private void insert(Transfer transfer) {
+        jdbcTemplate.update("INSERT INTO transfers (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            transfer.getId(),
+            transfer.getSourceAccount().getValue(),
+            transfer.getTargetAccount().getValue(),
+            transfer.getAmount().getAmount(),
+            transfer.getFee().getAmount(),
+            Date.valueOf(transfer.getScheduleDate()),
+            Date.valueOf(transfer.getTransferDate()),
+            transfer.getStatus().name(),
+            toTimestamp(transfer.getClaimedAt()),
+            transfer.getAmount().getCurrency());
+    }
+
+    public Optional<Transfer> findById(UUID id) {
+        List<Transfer> rows = jdbcTemplate.query(
+            "SELECT " + COLUMNS + " FROM transfers WHERE id = ?", TRANSFER_MAPPER, id);
+        return rows.stream().findFirst();
+    }
+
+    public List<Transfer> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<UUID> idList = new ArrayList<>(ids);
+        List<Transfer> found = new ArrayList<>(idList.size());
+        for (int from = 0; from < idList.size(); from += inClauseChunkSize) {
+            List<UUID> chunk = idList.subList(from, Math.min(from + inClauseChunkSize, idList.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            found.addAll(jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM transfers WHERE id IN (" + placeholders + ")",
+                TRANSFER_MAPPER, chunk.toArray()));
+        }
+        return found;
+    }
+
+    public List<Transfer> findAll() {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM transfers", TRANSFER_MAPPER);
+    }
+
+    public List<Transfer> search(TransferSearchCriteria criteria) {
+        StringBuilder sql = new StringBuilder("SELECT " + COLUMNS + " FROM transfers WHERE 1 = 1");
+        List<Object> args = new ArrayList<>(4);
+        criteria.getSourceAccount().ifPresent(account -> {
+            sql.append(" AND source_account = ?");
+            args.add(account.getValue());
+        });
+        criteria.getTargetAccount().ifPresent(account -> {
+            sql.append(" AND target_account = ?");
+            args.add(account.getValue());
+        });
+        criteria.getFromDate().ifPresent(from -> {
+            sql.append(" AND transfer_date >= ?");
+            args.add(Date.valueOf(from));
+        });
+        criteria.getToDate().ifPresent(to -> {
+            sql.append(" AND transfer_date <= ?");
+            args.add(Date.valueOf(to));
+        });
+        return jdbcTemplate.query(sql.toString(), TRANSFER_MAPPER, args.toArray());
+    }
+
+    public List<Transfer> findScheduledBetween(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM transfers "
+                + "WHERE status = 'SCHEDULED' AND transfer_date BETWEEN ? AND ?",
+            TRANSFER_MAPPER, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    public List<Transfer> findByScheduleDate(LocalDate scheduleDate) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM transfers WHERE schedule_date = ?",
+            TRANSFER_MAPPER, Date.valueOf(scheduleDate));
+    }
+
+    /**
+     * The {@code limit} busiest accounts of this shard with their SCHEDULED transfer count.
+     */
+    public Map<String, Long> countBusiestAccounts(LocalDate from, int limit) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT account, COUNT(*) AS transfers FROM ("
+                + "SELECT source_account AS account FROM transfers WHERE status = 'SCHEDULED' AND transfer_date >= ? "
+                + "UNION ALL "
+                + "SELECT target_account AS account FROM transfers WHERE status = 'SCHEDULED' AND transfer_date >= ?"
+                + ") accounts GROUP BY account ORDER BY transfers DESC LIMIT ?",
+            rs -> {
+                counts.put(rs.getString("account"), rs.getLong("transfers"));
+            }, Date.valueOf(from), Date.valueOf(from), limit);
+        return counts;
+    }
+
+    /**
+     * Keyset-paginated scan ordered by id, used by the resharding tool.
+     */
+    public List<Transfer> page(UUID after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM transfers ORDER BY id LIMIT ?", TRANSFER_MAPPER, limit);
+        }
+        return jdbcTemplate.query(
+            "SELECT " + COLUMNS + " FROM transfers WHERE id > ? ORDER BY id LIMIT ?", TRANSFER_MAPPER, after, limit);
+    }
+
+    public boolean existsById(UUID id) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transfers WHERE id = ?", Integer.class, id);
+        return count != null && count > 0;
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transfers", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    public List<Transfer> claimDue(LocalDate dueBy, Instant claimedAt, Instant staleBefore, int limit) {
+        return transactionTemplate.execute(status -> {
+            List<UUID> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM transfers "
+                    + "WHERE (status = 'SCHEDULED' AND transfer_date <= ?) "
+                    + "OR (status = 'IN_PROGRESS' AND claimed_at < ?) "
+                    + "FETCH FIRST ? ROWS ONLY FOR UPDATE SKIP LOCKED",
+                UUID.class, Date.valueOf(dueBy), toTimestamp(staleBefore), limit);
+            if (ids.isEmpty()) {
+                return new ArrayList<Transfer>();
+            }
+            markClaimed(ids, claimedAt);
+            return findAllById(ids);
+        });
+    }
+
+    public List<Transfer> claimByIds(Collection<UUID> ids, LocalDate dueBy, Instant claimedAt) {
+        return transactionTemplate.execute(status -> {
+            List<UUID> idList = new ArrayList<>(ids);
+            List<UUID> claimable = new ArrayList<>(idList.size());
+            for (int from = 0; from < idList.size(); from += inClauseChunkSize) {
+                List<UUID> chunk = idList.subList(from, Math.min(from + inClauseChunkSize, idList.size()));
+                String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+                List<Object> params = new ArrayList<>(chunk);
+                params.add(Date.valueOf(dueBy));
+                claimable.addAll(jdbcTemplate.queryForList(
+                    "SELECT id FROM transfers WHERE id IN (" + placeholders + ") AND status = 'SCHEDULED' "
+                        + "AND transfer_date <= ? FOR UPDATE SKIP LOCKED",
+                    UUID.class, params.toArray()));
+            }
+            for (int from = 0; from < claimable.size(); from += inClauseChunkSize) {
+                List<UUID> chunk = claimable.subList(from, Math.min(from + inClauseChunkSize, claimable.size()));
+                markClaimed(chunk, claimedAt);
+            }
+            return findAllById(claimable);
+        });
+    }
+
+    public boolean updateStatus(UUID id, TransferStatus expected, TransferStatus next) {
+        return jdbcTemplate.update("UPDATE transfers SET status = ? WHERE id = ? AND status = ?",
+            next.name(), id, expected.name()) > 0;
+    }
+
+    public boolean renewClaim(UUID id, Instant claimedAt) {
+        return jdbcTemplate.update("UPDATE transfers SET claimed_at = ? WHERE id = ? AND status = ?",
+            toTimestamp(claimedAt), id, TransferStatus.IN_PROGRESS.name()) > 0;
+    }
+
+    public void deleteById(UUID id) {
+        jdbcTemplate.update("DELETE FROM transfers WHERE id = ?", id);
+    }
+
+    public void deleteAll() {
+        jdbcTemplate.update("DELETE FROM transfers");
+    }
+
+    private void markClaimed(List<UUID> ids, Instant claimedAt) {
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids.size() + 2);
+        args.add(TransferStatus.IN_PROGRESS.name());
+        args.add(toTimestamp(claimedAt));
+        args.addAll(ids);
+        jdbcTemplate.update("UPDATE transfers SET status = ?, claimed_at = ? WHERE id IN (" + placeholders + ")",
+            args.toArray());
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return instant == null ? null : Timestamp.from(instant);
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (dataSource instanceof AutoCloseable) {
+            ((AutoCloseable) dataSource).close();
+        }
+    }
+}
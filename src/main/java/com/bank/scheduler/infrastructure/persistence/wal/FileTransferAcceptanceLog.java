@@ -0,0 +1,283 @@
+package com.bank.scheduler.infrastructure.persistence.wal;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.ports.TransferAcceptanceLog;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, line-oriented write-ahead log on the local filesystem.
+ *
+ * Record layout (one per line): {@code crc32|A|id|source|target|amount|fee|scheduleDate|transferDate|currency}
+ * for accepted transfers and {@code crc32|P|id} for persisted markers. A record whose
+ * checksum does not match, or that lacks its trailing newline (torn write at crash
+ * time), ends the replay, and the file is truncated back to the end of the last
+ * valid record before anything new is appended; otherwise new records would land
+ * behind the bad one and be skipped by every later replay. Records written before
+ * the currency field existed replay in Money.BASE_CURRENCY.
+ *
+ * The file is truncated whenever every accepted entry has been persisted,
+ * so it only ever holds the current backlog. Entries the repository refuses are
+ * moved to {@code transfers.dead} in the same directory ({@code crc32|id|...|reason}).
+ *
+ * The directory must be on storage that outlives the process: accepted (202)
+ * transfers exist only here until persisted. k8s/deployment.yaml mounts it at
+ * /app/data; that volume has to be a persistent one for accepted transfers to
+ * survive the pod being replaced, an emptyDir only covers container restarts.
+ *
+ * Guarded by a ReentrantLock rather than synchronized: appends fsync while holding
+ * the lock, and a virtual thread blocked inside a monitor would pin its carrier.
+ */
+@Component
+public class FileTransferAcceptanceLog implements TransferAcceptanceLog {
+
+    private static final Logger log = LoggerFactory.getLogger(FileTransferAcceptanceLog.class);
+    private static final String FILE_NAME = "transfers.wal";
+    private static final String DEAD_LETTER_FILE_NAME = "transfers.dead";
+    private static final String SEPARATOR = "|";
+    private static final String ACCEPTED = "A";
+    private static final String PERSISTED = "P";
+
+    private final Path logFile;
+    private final Path deadLetterFile;
+    private final boolean fsync;
+    private final Map<UUID, Transfer> outstanding = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private FileChannel channel;
+
+    public FileTransferAcceptanceLog(
+            @Value("${scheduler.wal.directory:data/wal}") String directory,
+            @Value("${scheduler.wal.fsync:true}") boolean fsync) {
+        this.logFile = Paths.get(directory).resolve(FILE_NAME);
+        this.deadLetterFile = Paths.get(directory).resolve(DEAD_LETTER_FILE_NAME);
+        this.fsync = fsync;
+        open();
+    }
+
+    @Override
+    public void append(Transfer transfer) {
+        lock.lock();
+        try {
+            write(ACCEPTED + SEPARATOR + encode(transfer));
+            outstanding.put(transfer.getId(), transfer);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void markPersisted(Collection<UUID> transferIds) {
+        if (transferIds.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            StringBuilder records = new StringBuilder();
+            for (UUID id : transferIds) {
+                records.append(checksummed(PERSISTED + SEPARATOR + id)).append('\n');
+                outstanding.remove(id);
+            }
+            if (outstanding.isEmpty()) {
+                truncate();
+            } else {
+                writeRaw(records.toString());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void deadLetter(Transfer transfer, String reason) {
+        String record = checksummed(encode(transfer) + SEPARATOR + reason.replaceAll("[|\\r\\n]", " ")) + '\n';
+        lock.lock();
+        try (FileChannel deadLetters = FileChannel.open(deadLetterFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(record.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                deadLetters.write(buffer);
+            }
+            if (fsync) {
+                deadLetters.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dead-letter transfer " + transfer.getId() + " to " + deadLetterFile, e);
+        } finally {
+            lock.unlock();
+        }
+        markPersisted(List.of(transfer.getId()));
+    }
+
+    @Override
+    public List<Transfer> unpersisted() {
+        lock.lock();
+        try {
+            return new ArrayList<>(outstanding.values());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.lock();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close write-ahead log " + logFile, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void open() {
+        try {
+            Files.createDirectories(logFile.getParent());
+            long validLength = Files.exists(logFile) ? replay(Files.readAllBytes(logFile)) : 0;
+            channel = FileChannel.open(logFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            if (channel.size() > validLength) {
+                log.warn("Write-ahead log {} truncated from {} to {} bytes past its last valid record",
+                    logFile, channel.size(), validLength);
+                channel.truncate(validLength);
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open write-ahead log " + logFile, e);
+        }
+    }
+
+    /**
+     * Applies every valid record and returns the byte length they occupy.
+     */
+    private long replay(byte[] content) {
+        int offset = 0;
+        while (offset < content.length) {
+            int end = offset;
+            while (end < content.length && content[end] != '\n') {
+                end++;
+            }
+            if (end == content.length || !apply(new String(content, offset, end - offset, StandardCharsets.UTF_8))) {
+                log.warn("Write-ahead log {} has a corrupt or torn record at byte {}, ignoring the remainder",
+                    logFile, offset);
+                break;
+            }
+            offset = end + 1;
+        }
+        if (!outstanding.isEmpty()) {
+            log.info("Recovered {} unpersisted transfers from write-ahead log", outstanding.size());
+        }
+        return offset;
+    }
+
+    private boolean apply(String line) {
+        int split = line.indexOf(SEPARATOR);
+        if (split < 0 || !verify(line.substring(0, split), line.substring(split + 1))) {
+            return false;
+        }
+        String[] fields = line.substring(split + 1).split("\\" + SEPARATOR);
+        try {
+            if (ACCEPTED.equals(fields[0])) {
+                Transfer transfer = decode(fields);
+                outstanding.put(transfer.getId(), transfer);
+            } else if (PERSISTED.equals(fields[0])) {
+                outstanding.remove(UUID.fromString(fields[1]));
+            }
+        } catch (RuntimeException e) {
+            return false;
+        }
+        return true;
+    }
+
+    private void write(String payload) {
+        writeRaw(checksummed(payload) + '\n');
+    }
+
+    private void writeRaw(String records) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(records.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to write-ahead log " + logFile, e);
+        }
+    }
+
+    private void truncate() {
+        try {
+            channel.truncate(0);
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to truncate write-ahead log " + logFile, e);
+        }
+    }
+
+    private static String encode(Transfer transfer) {
+        return String.join(SEPARATOR,
+            transfer.getId().toString(),
+            transfer.getSourceAccount().getValue(),
+            transfer.getTargetAccount().getValue(),
+            transfer.getAmount().getAmount().toPlainString(),
+            transfer.getFee().getAmount().toPlainString(),
+            transfer.getScheduleDate().toString(),
+            transfer.getTransferDate().toString(),
+            transfer.getAmount().getCurrency());
+    }
+
+    private static Transfer decode(String[] fields) {
+        String currency = fields.length > 8 ? fields[8] : Money.BASE_CURRENCY;
+        return Transfer.restore(
+            UUID.fromString(fields[1]),
+            AccountNumber.of(fields[2]),
+            AccountNumber.of(fields[3]),
+            Money.of(new BigDecimal(fields[4]), currency),
+            Money.of(new BigDecimal(fields[5]), currency),
+            LocalDate.parse(fields[6]),
+            LocalDate.parse(fields[7]));
+    }
+
+    private static String checksummed(String payload) {
+        return crc(payload) + SEPARATOR + payload;
+    }
+
+    private static boolean verify(String checksum, String payload) {
+        return checksum.equals(crc(payload));
+    }
+
+    private static String crc(String payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+}
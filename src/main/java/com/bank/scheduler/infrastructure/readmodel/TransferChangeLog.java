@@ -0,0 +1,98 @@
+package com.bank.scheduler.infrastructure.readmodel;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The transfer_changes table in the primary database: an append-only log of which
+ * transfers changed and on which replica.
+ *
+ * Entries are appended through a JdbcTemplate on the primary DataSource, which
+ * joins the surrounding JPA transaction, so an entry exists exactly when its change
+ * committed. Appends are plain inserts into an identity-keyed table: concurrent
+ * writers never wait on a shared row. A null transfer id stands for "every
+ * transfer" (deleteAll).
+ *
+ * Identity values are handed out at insert, not at commit, so an entry can become
+ * visible after one with a higher id. Readers re-read entries younger than their
+ * commit window instead of trusting the highest id they have seen. Timestamps are
+ * database time (LOCALTIMESTAMP), so replica clocks do not matter.
+ */
+@Component
+public class TransferChangeLog {
+
+    private static final RowMapper<Change> CHANGE_MAPPER = (rs, rowNum) -> new Change(
+        rs.getLong("id"),
+        rs.getObject("transfer_id", UUID.class),
+        rs.getTimestamp("changed_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TransferChangeLog(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS transfer_changes ("
+            + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+            + "transfer_id UUID, "
+            + "replica VARCHAR(64) NOT NULL, "
+            + "changed_at TIMESTAMP DEFAULT LOCALTIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_transfer_changes_changed_at "
+            + "ON transfer_changes (changed_at)");
+    }
+
+    public void append(UUID transferId, String replica) {
+        jdbcTemplate.update("INSERT INTO transfer_changes (transfer_id, replica) VALUES (?, ?)", transferId, replica);
+    }
+
+    /**
+     * Entries written by other replicas after {@code afterId}, in id order.
+     */
+    public List<Change> foreignSince(long afterId, String replica) {
+        return jdbcTemplate.query(
+            "SELECT id, transfer_id, changed_at FROM transfer_changes WHERE id > ? AND replica <> ? ORDER BY id",
+            CHANGE_MAPPER, afterId, replica);
+    }
+
+    public long lastId() {
+        Long id = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM transfer_changes", Long.class);
+        return id == null ? 0 : id;
+    }
+
+    /**
+     * The database's current time, on the same scale as changed_at.
+     */
+    public Instant now() {
+        return jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", Timestamp.class).toInstant();
+    }
+
+    public int purgeBefore(Instant cutoff) {
+        return jdbcTemplate.update("DELETE FROM transfer_changes WHERE changed_at < ?", Timestamp.from(cutoff));
+    }
+
+    public static final class Change {
+        private final long id;
+        private final UUID transferId;
+        private final Instant changedAt;
+
+        Change(long id, UUID transferId, Instant changedAt) {
+            this.id = id;
+            this.transferId = transferId;
+            this.changedAt = changedAt;
+        }
+
+        public long getId() { return id; }
+
+        /**
+         * Null when every transfer changed.
+         */
+        public UUID getTransferId() { return transferId; }
+
+        public Instant getChangedAt() { return changedAt; }
+    }
+}
@@ -0,0 +1,328 @@
+package com.bank.scheduler.infrastructure.readmodel;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.events.TransferDeleted;
+import com.bank.scheduler.domain.events.TransferEvent;
+import com.bank.scheduler.domain.events.TransferScheduled;
+import com.bank.scheduler.domain.events.TransferStatusChanged;
+import com.bank.scheduler.domain.events.TransfersCleared;
+import com.bank.scheduler.domain.ports.TransferQueryModel;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.DailyTransferSummary;
+import com.bank.scheduler.domain.valueobjects.TransferSearchCriteria;
+import com.bank.scheduler.infrastructure.cache.TransferEntityCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous projection of transfer domain events into the read model.
+ *
+ * Flow:
+ * 1. After the publishing transaction commits, the event gets the next sequence
+ *    number and is queued (sequence order therefore follows commit order)
+ * 2. A single projector thread applies queued events in sequence order
+ * 3. Readers use the read model only while applied == published and the change
+ *    log was polled recently; otherwise the service falls back to the write store
+ *
+ * Every replica keeps its own model and receives only its own events. Before each
+ * change commits, its transfer id is appended to the shared TransferChangeLog.
+ * Every poll-interval the projection reads the entries other replicas appended
+ * and queues them; the projector reloads those transfers from the write store. A
+ * change made elsewhere is therefore reflected within about one poll interval,
+ * without any per-read or per-write coordination between replicas. Entries
+ * younger than the commit window are re-read on every poll (already applied ones
+ * are skipped), so an entry that commits after a higher id is not missed. The
+ * same poll evicts those transfers from this replica's TransferEntityCache.
+ *
+ * A rebuild is queued like any other event: the projector reloads the write store
+ * and keeps applying the events behind it, which converges because every update
+ * is idempotent. The model is rebuilt on startup since it lives in memory.
+ *
+ * Metrics: transfers.projection.lag (events published but not yet applied),
+ * transfers.projection.apply.delay (commit-to-apply latency) and
+ * transfers.projection.remote.changes (changes applied from other replicas).
+ */
+@Component
+public class TransferProjection implements TransferQueryModel {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferProjection.class);
+
+    private final String replica = UUID.randomUUID().toString();
+    private final TransferRepository transferRepository;
+    private final TransferChangeLog changeLog;
+    private final TransferEntityCache entityCache;
+    private final TransferReadModel readModel = new TransferReadModel();
+    private final BlockingQueue<Envelope> queue = new LinkedBlockingQueue<>();
+    private final AtomicLong publishedSequence = new AtomicLong();
+    private final Timer applyDelay;
+    private final Counter remoteChanges;
+    private final long stalePollNanos;
+    private final Duration commitWindow;
+    private final Duration changeRetention;
+
+    // poller state, only touched by the scheduled poll
+    private final Set<Long> seenAboveMark = new HashSet<>();
+    private long settledMark;
+
+    private volatile long appliedSequence;
+    private volatile long lastPollNanos;
+    private volatile boolean initialized;
+    private volatile boolean running = true;
+    private Thread projector;
+
+    public TransferProjection(
+            TransferRepository transferRepository,
+            TransferChangeLog changeLog,
+            TransferEntityCache entityCache,
+            MeterRegistry meterRegistry,
+            @Value("${scheduler.read-model.poll-interval-ms:1000}") long pollIntervalMs,
+            @Value("${scheduler.read-model.commit-window:PT10S}") Duration commitWindow,
+            @Value("${scheduler.read-model.change-retention:PT1H}") Duration changeRetention) {
+        this.transferRepository = transferRepository;
+        this.changeLog = changeLog;
+        this.entityCache = entityCache;
+        this.stalePollNanos = TimeUnit.MILLISECONDS.toNanos(3 * pollIntervalMs);
+        this.commitWindow = commitWindow;
+        this.changeRetention = changeRetention;
+        this.applyDelay = Timer.builder("transfers.projection.apply.delay")
+            .description("Time between commit of a transfer change and its application to the read model")
+            .register(meterRegistry);
+        this.remoteChanges = Counter.builder("transfers.projection.remote.changes")
+            .description("Transfer changes made by other replicas and applied to this read model")
+            .register(meterRegistry);
+        Gauge.builder("transfers.projection.lag", this, TransferProjection::lag)
+            .description("Committed transfer events not yet applied to the read model")
+            .register(meterRegistry);
+        Gauge.builder("transfers.projection.size", readModel, TransferReadModel::size)
+            .description("Transfers held by the read model")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        settledMark = changeLog.lastId();
+        lastPollNanos = System.nanoTime();
+        projector = new Thread(this::runProjector, "TransferProjector");
+        projector.setDaemon(true);
+        projector.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        projector.interrupt();
+    }
+
+    /**
+     * Records the change in the shared log as part of the writing transaction, so
+     * an entry exists exactly when the change committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void record(TransferEvent event) {
+        changeLog.append(transferIdOf(event), replica);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TransferEvent event) {
+        enqueue(event, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        enqueue(null, null);
+    }
+
+    /**
+     * Queues the transfers other replicas changed since the last poll and purges
+     * log entries past the retention.
+     */
+    @Scheduled(initialDelayString = "${scheduler.read-model.poll-interval-ms:1000}",
+        fixedDelayString = "${scheduler.read-model.poll-interval-ms:1000}")
+    public void pollChanges() {
+        List<TransferChangeLog.Change> changes;
+        Instant databaseNow;
+        try {
+            changes = changeLog.foreignSince(settledMark, replica);
+            databaseNow = changeLog.now();
+        } catch (DataAccessException e) {
+            log.warn("Failed to read the transfer change log, serving reads from the write store: {}", e.getMessage());
+            return;
+        }
+        Instant settledBefore = databaseNow.minus(commitWindow);
+        Set<UUID> changed = new LinkedHashSet<>();
+        boolean everything = false;
+        boolean settled = true;
+        for (TransferChangeLog.Change change : changes) {
+            if (seenAboveMark.add(change.getId())) {
+                if (change.getTransferId() == null) {
+                    everything = true;
+                } else {
+                    changed.add(change.getTransferId());
+                }
+            }
+            if (settled && change.getChangedAt().isBefore(settledBefore)) {
+                settledMark = change.getId();
+            } else {
+                settled = false;
+            }
+        }
+        seenAboveMark.removeIf(id -> id <= settledMark);
+        if (everything) {
+            entityCache.clear();
+            enqueue(null, null);
+        } else if (!changed.isEmpty()) {
+            changed.forEach(entityCache::evict);
+            enqueue(null, new ArrayList<>(changed));
+        }
+        lastPollNanos = System.nanoTime();
+        try {
+            changeLog.purgeBefore(databaseNow.minus(changeRetention));
+        } catch (DataAccessException e) {
+            log.debug("Failed to purge the transfer change log: {}", e.getMessage());
+        }
+    }
+
+    public long lag() {
+        return publishedSequence.get() - appliedSequence;
+    }
+
+    @Override
+    public boolean isCaughtUp() {
+        return initialized && lag() == 0 && System.nanoTime() - lastPollNanos < stalePollNanos;
+    }
+
+    @Override
+    public List<Transfer> findAll() {
+        return readModel.findAll();
+    }
+
+    @Override
+    public List<Transfer> search(TransferSearchCriteria criteria) {
+        return readModel.search(criteria);
+    }
+
+    @Override
+    public List<DailyTransferSummary> summarize(LocalDate from, LocalDate to) {
+        return readModel.summarize(from, to);
+    }
+
+    private void enqueue(TransferEvent event, List<UUID> remoteChanges) {
+        queue.add(new Envelope(publishedSequence.incrementAndGet(), event, remoteChanges, System.nanoTime()));
+    }
+
+    private void runProjector() {
+        while (running) {
+            Envelope envelope;
+            try {
+                envelope = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                if (envelope.remoteChanges != null) {
+                    refresh(envelope.remoteChanges);
+                } else {
+                    apply(envelope.event);
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to apply transfer event #{}, scheduling a rebuild", envelope.sequence, e);
+                initialized = false;
+                enqueue(null, null);
+            }
+            appliedSequence = envelope.sequence;
+            applyDelay.record(System.nanoTime() - envelope.enqueuedAtNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void apply(TransferEvent event) {
+        if (event == null) {
+            reload();
+        } else if (event instanceof TransferScheduled) {
+            readModel.upsert(((TransferScheduled) event).getTransfer());
+        } else if (event instanceof TransferStatusChanged) {
+            readModel.upsert(((TransferStatusChanged) event).getTransfer());
+        } else if (event instanceof TransferDeleted) {
+            readModel.remove(((TransferDeleted) event).getTransferId());
+        } else if (event instanceof TransfersCleared) {
+            readModel.clear();
+        }
+    }
+
+    /**
+     * Reloads transfers changed by another replica; ids no longer stored were deleted.
+     */
+    private void refresh(List<UUID> ids) {
+        List<Optional<Transfer>> stored = transferRepository.findAllById(ids);
+        for (int i = 0; i < ids.size(); i++) {
+            if (stored.get(i).isPresent()) {
+                readModel.upsert(stored.get(i).get());
+            } else {
+                readModel.remove(ids.get(i));
+            }
+        }
+        remoteChanges.increment(ids.size());
+    }
+
+    private void reload() {
+        List<Transfer> transfers = transferRepository.findAll();
+        readModel.clear();
+        transfers.forEach(readModel::upsert);
+        initialized = true;
+        log.info("Transfer read model rebuilt from {} stored transfers", transfers.size());
+    }
+
+    private static UUID transferIdOf(TransferEvent event) {
+        if (event instanceof TransferScheduled) {
+            return ((TransferScheduled) event).getTransfer().getId();
+        } else if (event instanceof TransferStatusChanged) {
+            return ((TransferStatusChanged) event).getTransfer().getId();
+        } else if (event instanceof TransferDeleted) {
+            return ((TransferDeleted) event).getTransferId();
+        }
+        return null;
+    }
+
+    private static final class Envelope {
+        private final long sequence;
+        private final TransferEvent event;
+        private final List<UUID> remoteChanges;
+        private final long enqueuedAtNanos;
+
+        private Envelope(long sequence, TransferEvent event, List<UUID> remoteChanges, long enqueuedAtNanos) {
+            this.sequence = sequence;
+            this.event = event;
+            this.remoteChanges = remoteChanges;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+    }
+}
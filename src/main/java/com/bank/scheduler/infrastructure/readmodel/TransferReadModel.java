@@ -0,0 +1,164 @@
+package com.bank.scheduler.infrastructure.readmodel;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.DailyTransferSummary;
+import com.bank.scheduler.domain.valueobjects.TransferSearchCriteria;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Denormalized in-memory store behind the transfer query model.
+ *
+ * Design:
+ * - Transfers indexed by id, by transfer date (sorted) and by source account
+ * - Per-date, per-currency aggregates (count, amount and fee in cents) maintained
+ *   on every change, so summaries never scan individual transfers and never add
+ *   amounts of different currencies
+ * - Single writer (the projection thread), any number of concurrent readers;
+ *   every structure is a concurrent collection so readers never block
+ *
+ * Upserts and removals are idempotent, which lets a rebuild overlap with events
+ * that are still queued.
+ */
+class TransferReadModel {
+
+    private final Map<UUID, Transfer> byId = new ConcurrentHashMap<>();
+    private final NavigableMap<LocalDate, Map<UUID, Transfer>> byTransferDate = new ConcurrentSkipListMap<>();
+    private final Map<AccountNumber, Map<UUID, Transfer>> bySourceAccount = new ConcurrentHashMap<>();
+    private final NavigableMap<LocalDate, Map<String, DailyTotals>> dailyTotals = new ConcurrentSkipListMap<>();
+
+    void upsert(Transfer transfer) {
+        Transfer previous = byId.put(transfer.getId(), transfer);
+        if (previous != null) {
+            unindex(previous);
+        }
+        byTransferDate.computeIfAbsent(transfer.getTransferDate(), date -> new ConcurrentHashMap<>())
+            .put(transfer.getId(), transfer);
+        bySourceAccount.computeIfAbsent(transfer.getSourceAccount(), account -> new ConcurrentHashMap<>())
+            .put(transfer.getId(), transfer);
+        dailyTotals.computeIfAbsent(transfer.getTransferDate(), date -> new ConcurrentHashMap<>())
+            .computeIfAbsent(transfer.getAmount().getCurrency(), currency -> new DailyTotals())
+            .add(transfer, 1);
+    }
+
+    void remove(UUID transferId) {
+        Transfer previous = byId.remove(transferId);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    void clear() {
+        byId.clear();
+        byTransferDate.clear();
+        bySourceAccount.clear();
+        dailyTotals.clear();
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    List<Transfer> findAll() {
+        return flatten(byTransferDate.values());
+    }
+
+    List<Transfer> search(TransferSearchCriteria criteria) {
+        Collection<Transfer> candidates;
+        if (criteria.getSourceAccount().isPresent()) {
+            candidates = bySourceAccount
+                .getOrDefault(criteria.getSourceAccount().get(), Collections.emptyMap())
+                .values();
+        } else {
+            candidates = flatten(dateRange(byTransferDate,
+                criteria.getFromDate().orElse(null), criteria.getToDate().orElse(null)).values());
+        }
+        return candidates.stream()
+            .filter(t -> criteria.matches(t.getSourceAccount(), t.getTargetAccount(), t.getTransferDate()))
+            .sorted((a, b) -> a.getTransferDate().compareTo(b.getTransferDate()))
+            .collect(Collectors.toList());
+    }
+
+    List<DailyTransferSummary> summarize(LocalDate from, LocalDate to) {
+        List<DailyTransferSummary> summaries = new ArrayList<>();
+        dateRange(dailyTotals, from, to).forEach((date, byCurrency) ->
+            new TreeMap<>(byCurrency).forEach((currency, totals) -> {
+                if (totals.count.get() > 0) {
+                    summaries.add(totals.toSummary(date, currency));
+                }
+            }));
+        return summaries;
+    }
+
+    private void unindex(Transfer transfer) {
+        Map<UUID, Transfer> sameDate = byTransferDate.get(transfer.getTransferDate());
+        if (sameDate != null) {
+            sameDate.remove(transfer.getId());
+        }
+        Map<UUID, Transfer> sameSource = bySourceAccount.get(transfer.getSourceAccount());
+        if (sameSource != null) {
+            sameSource.remove(transfer.getId());
+        }
+        Map<String, DailyTotals> byCurrency = dailyTotals.get(transfer.getTransferDate());
+        DailyTotals totals = byCurrency == null ? null : byCurrency.get(transfer.getAmount().getCurrency());
+        if (totals != null) {
+            totals.add(transfer, -1);
+        }
+    }
+
+    private static <V> NavigableMap<LocalDate, V> dateRange(NavigableMap<LocalDate, V> map, LocalDate from, LocalDate to) {
+        NavigableMap<LocalDate, V> range = map;
+        if (from != null) {
+            range = range.tailMap(from, true);
+        }
+        if (to != null) {
+            range = range.headMap(to, true);
+        }
+        return range;
+    }
+
+    private static List<Transfer> flatten(Collection<Map<UUID, Transfer>> groups) {
+        List<Transfer> transfers = new ArrayList<>();
+        groups.forEach(group -> transfers.addAll(group.values()));
+        return transfers;
+    }
+
+    private static final class DailyTotals {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong amountCents = new AtomicLong();
+        private final AtomicLong feeCents = new AtomicLong();
+
+        void add(Transfer transfer, int sign) {
+            count.addAndGet(sign);
+            amountCents.addAndGet(sign * toCents(transfer.getAmount().getAmount()));
+            feeCents.addAndGet(sign * toCents(transfer.getFee().getAmount()));
+        }
+
+        DailyTransferSummary toSummary(LocalDate date, String currency) {
+            return new DailyTransferSummary(
+                date,
+                currency,
+                count.get(),
+                BigDecimal.valueOf(amountCents.get(), 2),
+                BigDecimal.valueOf(feeCents.get(), 2));
+        }
+
+        private static long toCents(BigDecimal value) {
+            return value.movePointRight(2).longValueExact();
+        }
+    }
+}
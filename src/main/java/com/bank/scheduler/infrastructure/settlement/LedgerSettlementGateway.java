@@ -0,0 +1,67 @@
+package com.bank.scheduler.infrastructure.settlement;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.ports.AccountLedger;
+import com.bank.scheduler.domain.ports.ExchangeRates;
+import com.bank.scheduler.domain.ports.SettlementGateway;
+import com.bank.scheduler.domain.valueobjects.ExchangeRateSnapshot;
+import com.bank.scheduler.domain.valueobjects.NetSettlement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settles transfers against the account ledger: checks available balance, then
+ * debits amount + fee and credits the target and the fee account in one posting.
+ *
+ * The transfer id is the posting reference, so settling a reclaimed transfer a
+ * second time is a no-op.
+ *
+ * Ledger balances are in Money.BASE_CURRENCY; a transfer in another currency is
+ * posted at the rates in force when it settles.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.settlement.gateway", havingValue = "ledger")
+public class LedgerSettlementGateway implements SettlementGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerSettlementGateway.class);
+
+    private final AccountLedger accountLedger;
+    private final ExchangeRates exchangeRates;
+
+    public LedgerSettlementGateway(AccountLedger accountLedger, ExchangeRates exchangeRates) {
+        this.accountLedger = accountLedger;
+        this.exchangeRates = exchangeRates;
+    }
+
+    @Override
+    public void settle(Transfer transfer) {
+        try {
+            ExchangeRateSnapshot rates = exchangeRates.current();
+            boolean posted = accountLedger.transfer(transfer.getId(), transfer.getSourceAccount(),
+                transfer.getTargetAccount(), rates.toBase(transfer.getAmount()), rates.toBase(transfer.getFee()));
+            if (!posted) {
+                log.info("Transfer {} was already posted to the ledger", transfer.getId());
+            }
+        } catch (DomainException.InsufficientFunds e) {
+            throw new DomainException.SettlementFailed(e.getMessage());
+        }
+    }
+
+    @Override
+    public void settleNet(NetSettlement settlement) {
+        try {
+            ExchangeRateSnapshot rates = exchangeRates.current();
+            boolean posted = accountLedger.transferNet(settlement.getReference(), settlement.getPayer(),
+                settlement.getPayee(), rates.toBase(settlement.getNetAmount()), rates.toBase(settlement.getPayerFee()),
+                rates.toBase(settlement.getPayeeFee()));
+            if (!posted) {
+                log.info("Net settlement {} was already posted to the ledger", settlement.getReference());
+            }
+        } catch (DomainException.InsufficientFunds e) {
+            throw new DomainException.SettlementFailed(e.getMessage());
+        }
+    }
+}
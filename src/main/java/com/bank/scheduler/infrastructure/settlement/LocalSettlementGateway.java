@@ -0,0 +1,31 @@
+package com.bank.scheduler.infrastructure.settlement;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.ports.SettlementGateway;
+import com.bank.scheduler.domain.valueobjects.NetSettlement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stand-in settlement for local runs and tests: accepts every transfer.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.settlement.gateway", havingValue = "local", matchIfMissing = true)
+public class LocalSettlementGateway implements SettlementGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalSettlementGateway.class);
+
+    @Override
+    public void settle(Transfer transfer) {
+        log.info("Settled transfer {}: {} -> {} amount {}",
+            transfer.getId(), transfer.getSourceAccount(), transfer.getTargetAccount(), transfer.getAmount());
+    }
+
+    @Override
+    public void settleNet(NetSettlement settlement) {
+        log.info("Settled {} netted transfers {}: {} -> {} amount {}", settlement.getTransferIds().size(),
+            settlement.getReference(), settlement.getPayer(), settlement.getPayee(), settlement.getNetAmount());
+    }
+}
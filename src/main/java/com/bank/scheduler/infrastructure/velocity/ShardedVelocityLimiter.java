@@ -0,0 +1,255 @@
+package com.bank.scheduler.infrastructure.velocity;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.ports.ExchangeRates;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.ports.VelocityLimiter;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.TransferIds;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-source-account hourly and daily limits on scheduled count and amount, held
+ * entirely in memory.
+ *
+ * Design:
+ * - Accounts are spread over shards (bucketOf(account) % shards), each a plain
+ *   HashMap behind its own lock; only accounts that hash to the same shard ever
+ *   wait for each other
+ * - Each account keeps two SlidingWindowCounters: 12 five-minute buckets for the
+ *   hour and 24 one-hour buckets for the day, about 450 bytes in all
+ * - admit() advances both windows, checks all four limits and records the
+ *   transfer under the shard lock: a map lookup and a few additions, no I/O
+ * - release() undoes an admit() whose persistence failed, taking the transfer
+ *   out of the newest bucket that holds activity
+ *
+ * Idle accounts (both windows empty) are removed by expireIdle() every
+ * scheduler.velocity.expiry-interval-ms, so memory follows the accounts active in
+ * the last day.
+ *
+ * On startup the daily windows are rebuilt from transfers the repository shows
+ * as scheduled today. Transfers only record the schedule date, so they are
+ * counted as of the restart and stay in the daily window for a full day from
+ * then; hourly windows start empty. Counters are per replica: with N replicas
+ * behind a balancer an account can reach up to N times a limit.
+ *
+ * Amount limits are in Money.BASE_CURRENCY; transfers in other currencies count
+ * at the rates in force when they are admitted.
+ *
+ * A limit of 0 disables it. Metrics: transfers.velocity.rejected (tagged with the
+ * window) and transfers.velocity.accounts.
+ */
+@Component
+public class ShardedVelocityLimiter implements VelocityLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedVelocityLimiter.class);
+    private static final int HOUR_BUCKETS = 12;
+    private static final long HOUR_BUCKET_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final int DAY_BUCKETS = 24;
+    private static final long DAY_BUCKET_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final TransferRepository transferRepository;
+    private final ExchangeRates exchangeRates;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int hourlyCount;
+    private final long hourlyCents;
+    private final int dailyCount;
+    private final long dailyCents;
+    private final Shard[] shards;
+    private final Counter hourlyRejections;
+    private final Counter dailyRejections;
+
+    public ShardedVelocityLimiter(
+            TransferRepository transferRepository,
+            ExchangeRates exchangeRates,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${scheduler.velocity.enabled:true}") boolean enabled,
+            @Value("${scheduler.velocity.shards:64}") int shardCount,
+            @Value("${scheduler.velocity.hourly-count:500}") int hourlyCount,
+            @Value("${scheduler.velocity.hourly-amount:1000000.00}") BigDecimal hourlyAmount,
+            @Value("${scheduler.velocity.daily-count:2000}") int dailyCount,
+            @Value("${scheduler.velocity.daily-amount:5000000.00}") BigDecimal dailyAmount) {
+        this.transferRepository = transferRepository;
+        this.exchangeRates = exchangeRates;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.hourlyCount = hourlyCount;
+        this.hourlyCents = toCents(hourlyAmount);
+        this.dailyCount = dailyCount;
+        this.dailyCents = toCents(dailyAmount);
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+        this.hourlyRejections = Counter.builder("transfers.velocity.rejected")
+            .tag("window", "hour")
+            .description("Transfers refused by a per-account velocity limit")
+            .register(meterRegistry);
+        this.dailyRejections = Counter.builder("transfers.velocity.rejected")
+            .tag("window", "day")
+            .description("Transfers refused by a per-account velocity limit")
+            .register(meterRegistry);
+        Gauge.builder("transfers.velocity.accounts", this, ShardedVelocityLimiter::trackedAccounts)
+            .description("Source accounts with activity in the velocity windows")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void admit(Transfer transfer) {
+        if (!enabled) {
+            return;
+        }
+        AccountNumber account = transfer.getSourceAccount();
+        long cents = baseCents(transfer);
+        long now = clock.millis();
+        Shard shard = shardOf(account);
+        shard.lock.lock();
+        try {
+            AccountWindows windows = shard.accounts.computeIfAbsent(account.getValue(), key -> new AccountWindows());
+            windows.advance(now);
+            if (!windows.hour.fits(cents, hourlyCount, hourlyCents)) {
+                hourlyRejections.increment();
+                throw new DomainException.VelocityLimitExceeded("Account " + account.getValue()
+                    + " has reached its hourly scheduling limit");
+            }
+            if (!windows.day.fits(cents, dailyCount, dailyCents)) {
+                dailyRejections.increment();
+                throw new DomainException.VelocityLimitExceeded("Account " + account.getValue()
+                    + " has reached its daily scheduling limit");
+            }
+            windows.hour.add(cents);
+            windows.day.add(cents);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    @Override
+    public void release(Transfer transfer) {
+        if (!enabled) {
+            return;
+        }
+        AccountNumber account = transfer.getSourceAccount();
+        long cents = baseCents(transfer);
+        Shard shard = shardOf(account);
+        shard.lock.lock();
+        try {
+            AccountWindows windows = shard.accounts.get(account.getValue());
+            if (windows != null) {
+                windows.advance(clock.millis());
+                windows.hour.remove(cents);
+                windows.day.remove(cents);
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Seeds the daily windows with the transfers scheduled today.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate today = LocalDate.now(clock);
+        long now = clock.millis();
+        int seeded = 0;
+        for (Transfer transfer : transferRepository.findByScheduleDate(today)) {
+            Shard shard = shardOf(transfer.getSourceAccount());
+            shard.lock.lock();
+            try {
+                AccountWindows windows = shard.accounts.computeIfAbsent(
+                    transfer.getSourceAccount().getValue(), key -> new AccountWindows());
+                windows.advance(now);
+                windows.day.add(baseCents(transfer));
+            } finally {
+                shard.lock.unlock();
+            }
+            seeded++;
+        }
+        if (seeded > 0) {
+            log.info("Velocity windows rebuilt from {} transfers scheduled today", seeded);
+        }
+    }
+
+    /**
+     * Drops accounts with no activity left in either window.
+     */
+    @Scheduled(fixedDelayString = "${scheduler.velocity.expiry-interval-ms:600000}")
+    public void expireIdle() {
+        long now = clock.millis();
+        for (Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                shard.accounts.values().removeIf(windows -> {
+                    windows.advance(now);
+                    return windows.day.isEmpty() && windows.hour.isEmpty();
+                });
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+    }
+
+    int trackedAccounts() {
+        int total = 0;
+        for (Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                total += shard.accounts.size();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return total;
+    }
+
+    private Shard shardOf(AccountNumber account) {
+        return shards[TransferIds.bucketOf(account) % shards.length];
+    }
+
+    private long baseCents(Transfer transfer) {
+        return toCents(exchangeRates.current().toBase(transfer.getAmount()).getAmount());
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    private static final class Shard {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, AccountWindows> accounts = new HashMap<>();
+    }
+
+    private static final class AccountWindows {
+        private final SlidingWindowCounter hour = new SlidingWindowCounter(HOUR_BUCKETS, HOUR_BUCKET_MILLIS);
+        private final SlidingWindowCounter day = new SlidingWindowCounter(DAY_BUCKETS, DAY_BUCKET_MILLIS);
+
+        void advance(long now) {
+            hour.advance(now);
+            day.advance(now);
+        }
+    }
+}
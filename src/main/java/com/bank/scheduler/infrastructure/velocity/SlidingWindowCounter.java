@@ -0,0 +1,100 @@
+package com.bank.scheduler.infrastructure.velocity;
+
+import java.util.Arrays;
+
+/**
+ * Count and amount (in cents) over a sliding window of fixed-width buckets.
+ *
+ * The window is buckets x bucketMillis wide. advance() zeroes the buckets the
+ * clock has moved past and subtracts them from the running totals, so a check
+ * is two comparisons and an update is two additions. Activity is expired at
+ * bucket granularity: the window may hold up to one bucket's worth of older
+ * activity, never less than the full window.
+ *
+ * Not thread-safe; ShardedVelocityLimiter guards every instance with its shard lock.
+ */
+final class SlidingWindowCounter {
+
+    private final long bucketMillis;
+    private final int[] counts;
+    private final long[] cents;
+    private long newestBucket = Long.MIN_VALUE;
+    private int totalCount;
+    private long totalCents;
+
+    SlidingWindowCounter(int buckets, long bucketMillis) {
+        this.bucketMillis = bucketMillis;
+        this.counts = new int[buckets];
+        this.cents = new long[buckets];
+    }
+
+    void advance(long nowMillis) {
+        long bucket = nowMillis / bucketMillis;
+        if (bucket <= newestBucket) {
+            return;
+        }
+        if (newestBucket == Long.MIN_VALUE || bucket - newestBucket >= counts.length) {
+            Arrays.fill(counts, 0);
+            Arrays.fill(cents, 0);
+            totalCount = 0;
+            totalCents = 0;
+        } else {
+            for (long expired = newestBucket + 1; expired <= bucket; expired++) {
+                int slot = (int) Math.floorMod(expired, (long) counts.length);
+                totalCount -= counts[slot];
+                totalCents -= cents[slot];
+                counts[slot] = 0;
+                cents[slot] = 0;
+            }
+        }
+        newestBucket = bucket;
+    }
+
+    /**
+     * Whether one more transfer of {@code amountCents} stays within the limits;
+     * a limit of 0 or less means unlimited.
+     */
+    boolean fits(long amountCents, int maxCount, long maxCents) {
+        return (maxCount <= 0 || totalCount + 1 <= maxCount)
+            && (maxCents <= 0 || totalCents + amountCents <= maxCents);
+    }
+
+    void add(long amountCents) {
+        int slot = (int) Math.floorMod(newestBucket, (long) counts.length);
+        counts[slot]++;
+        cents[slot] += amountCents;
+        totalCount++;
+        totalCents += amountCents;
+    }
+
+    /**
+     * Takes one transfer of {@code amountCents} back out of the newest bucket
+     * that holds activity. Meant for undoing an add() moments after it was made;
+     * nothing is removed once that activity has left the window.
+     */
+    void remove(long amountCents) {
+        for (int back = 0; back < counts.length; back++) {
+            int slot = (int) Math.floorMod(newestBucket - back, (long) counts.length);
+            if (counts[slot] > 0) {
+                long removed = Math.min(cents[slot], amountCents);
+                counts[slot]--;
+                cents[slot] -= removed;
+                totalCount--;
+                totalCents -= removed;
+                return;
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return totalCount == 0;
+    }
+
+    int count() {
+        return totalCount;
+    }
+
+    long amountCents() {
+        return totalCents;
+    }
+}
@@ -0,0 +1,46 @@
+package com.bank.scheduler.infrastructure.web.controllers;
+
+import com.bank.scheduler.domain.ports.AccountLedger;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.infrastructure.web.dtos.AccountBalanceResponse;
+import com.bank.scheduler.infrastructure.web.dtos.DepositRequest;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Balance queries and deposits against the account ledger.
+ */
+@RestController
+@RequestMapping("/api/accounts/{accountNumber}")
+@ConditionalOnProperty(name = "scheduler.settlement.gateway", havingValue = "ledger")
+public class AccountLedgerController {
+    private final AccountLedger accountLedger;
+
+    public AccountLedgerController(AccountLedger accountLedger) {
+        this.accountLedger = accountLedger;
+    }
+
+    @GetMapping("/balance")
+    public ResponseEntity<AccountBalanceResponse> getBalance(@PathVariable String accountNumber) {
+        AccountNumber account = AccountNumber.of(accountNumber);
+        return ResponseEntity.ok(AccountBalanceResponse.of(
+            account.getValue(), accountLedger.balanceOf(account).getAmount()));
+    }
+
+    @PostMapping("/deposits")
+    public ResponseEntity<AccountBalanceResponse> deposit(
+            @PathVariable String accountNumber, @Valid @RequestBody DepositRequest request) {
+        AccountNumber account = AccountNumber.of(accountNumber);
+        accountLedger.deposit(request.getReference(), account, Money.of(request.getAmount()));
+        return ResponseEntity.ok(AccountBalanceResponse.of(
+            account.getValue(), accountLedger.balanceOf(account).getAmount()));
+    }
+}
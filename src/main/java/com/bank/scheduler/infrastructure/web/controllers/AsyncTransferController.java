@@ -0,0 +1,70 @@
+package com.bank.scheduler.infrastructure.web.controllers;
+
+import com.bank.scheduler.application.usecases.AsyncTransferAcceptanceService;
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.ports.AuditTrail;
+import com.bank.scheduler.domain.valueobjects.AuditAction;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.infrastructure.web.dtos.ScheduleTransferRequest;
+import com.bank.scheduler.infrastructure.web.dtos.TransferAcceptedResponse;
+import com.bank.scheduler.infrastructure.web.dtos.TransferStatusResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Asynchronous scheduling endpoints for bulk channels.
+ *
+ * POST returns 202 as soon as the transfer is priced and durably logged;
+ * the status endpoint reports when it has reached the database.
+ */
+@RestController
+@RequestMapping("/api/transfers")
+public class AsyncTransferController {
+    private final AsyncTransferAcceptanceService acceptanceService;
+    private final AuditTrail auditTrail;
+
+    public AsyncTransferController(AsyncTransferAcceptanceService acceptanceService, AuditTrail auditTrail) {
+        this.acceptanceService = acceptanceService;
+        this.auditTrail = auditTrail;
+    }
+
+    @PostMapping("/async")
+    public ResponseEntity<TransferAcceptedResponse> acceptTransfer(
+            @Valid @RequestBody ScheduleTransferRequest request) {
+
+        Transfer accepted = acceptanceService.acceptTransfer(
+            request.getSourceAccount(),
+            request.getTargetAccount(),
+            Money.of(request.getAmount(),
+                request.getCurrency() == null ? Money.BASE_CURRENCY : request.getCurrency()),
+            request.getTransferDate()
+        );
+        auditTrail.record(AuditAction.SCHEDULED, accepted.getId(), accepted.getAmount());
+        URI statusUri = buildStatusUri(accepted.getId());
+
+        return ResponseEntity.accepted()
+            .location(statusUri)
+            .body(TransferAcceptedResponse.of(
+                accepted.getId(),
+                AsyncTransferAcceptanceService.AcceptanceStatus.ACCEPTED.name(),
+                statusUri.toString()));
+    }
+
+    @GetMapping("/{id}/status")
+    public ResponseEntity<TransferStatusResponse> getTransferStatus(@PathVariable UUID id) {
+        AsyncTransferAcceptanceService.AcceptanceStatus status = acceptanceService.getAcceptanceStatus(id);
+        return ResponseEntity.ok(TransferStatusResponse.of(id, status.name()));
+    }
+
+    private URI buildStatusUri(UUID id) {
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
+            .path("/api/transfers/{id}/status")
+            .buildAndExpand(id)
+            .toUri();
+    }
+}
@@ -0,0 +1,57 @@
+package com.bank.scheduler.infrastructure.web.controllers;
+
+import com.bank.scheduler.application.usecases.DeadLetterReplayService;
+import com.bank.scheduler.infrastructure.web.dtos.DeadLetterResponse;
+import com.bank.scheduler.infrastructure.web.dtos.TransferResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Operational endpoints for transfers that exhausted their execution attempts.
+ */
+@RestController
+@RequestMapping("/api/admin/dead-letters")
+public class DeadLetterController {
+    private final DeadLetterReplayService deadLetterReplayService;
+
+    public DeadLetterController(DeadLetterReplayService deadLetterReplayService) {
+        this.deadLetterReplayService = deadLetterReplayService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<DeadLetterResponse>> listDeadLetters(
+            @RequestParam(required = false) String reason,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(deadLetterReplayService.listDeadLetters(reason, limit).stream()
+            .map(DeadLetterResponse::fromDomain)
+            .collect(Collectors.toList()));
+    }
+
+    @GetMapping("/{transferId}")
+    public ResponseEntity<DeadLetterResponse> getDeadLetter(@PathVariable UUID transferId) {
+        return ResponseEntity.ok(DeadLetterResponse.fromDomain(deadLetterReplayService.getDeadLetter(transferId)));
+    }
+
+    @PostMapping("/{transferId}/replay")
+    public ResponseEntity<TransferResponse> replay(@PathVariable UUID transferId) {
+        return ResponseEntity.accepted().body(TransferResponse.fromDomain(deadLetterReplayService.replay(transferId)));
+    }
+
+    @PostMapping("/replay")
+    public ResponseEntity<List<TransferResponse>> replayAll(
+            @RequestParam(required = false) String reason,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.accepted().body(deadLetterReplayService.replayAll(reason, limit).stream()
+            .map(TransferResponse::fromDomain)
+            .collect(Collectors.toList()));
+    }
+}
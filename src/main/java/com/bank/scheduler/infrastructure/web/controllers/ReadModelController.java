@@ -0,0 +1,35 @@
+package com.bank.scheduler.infrastructure.web.controllers;
+
+import com.bank.scheduler.infrastructure.readmodel.TransferProjection;
+import com.bank.scheduler.infrastructure.web.dtos.ReadModelStatusResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Operational endpoints for the transfer read model.
+ */
+@RestController
+@RequestMapping("/api/admin/read-model")
+public class ReadModelController {
+    private final TransferProjection transferProjection;
+
+    public ReadModelController(TransferProjection transferProjection) {
+        this.transferProjection = transferProjection;
+    }
+
+    @GetMapping
+    public ResponseEntity<ReadModelStatusResponse> getStatus() {
+        return ResponseEntity.ok(ReadModelStatusResponse.of(
+            transferProjection.isCaughtUp(), transferProjection.lag()));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<ReadModelStatusResponse> rebuild() {
+        transferProjection.rebuild();
+        return ResponseEntity.accepted().body(ReadModelStatusResponse.of(
+            transferProjection.isCaughtUp(), transferProjection.lag()));
+    }
+}
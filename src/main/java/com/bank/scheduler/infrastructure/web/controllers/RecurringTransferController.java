@@ -0,0 +1,63 @@
+package com.bank.scheduler.infrastructure.web.controllers;
+
+import com.bank.scheduler.application.usecases.RecurringTransferService;
+import com.bank.scheduler.domain.entities.RecurringTransfer;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.infrastructure.web.dtos.RecurringTransferResponse;
+import com.bank.scheduler.infrastructure.web.dtos.ScheduleRecurringTransferRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/recurring-transfers")
+public class RecurringTransferController {
+    private final RecurringTransferService recurringTransferService;
+
+    public RecurringTransferController(RecurringTransferService recurringTransferService) {
+        this.recurringTransferService = recurringTransferService;
+    }
+
+    @PostMapping
+    public ResponseEntity<RecurringTransferResponse> scheduleRecurringTransfer(
+            @Valid @RequestBody ScheduleRecurringTransferRequest request) {
+
+        RecurringTransfer recurringTransfer = recurringTransferService.create(
+            request.getSourceAccount(),
+            request.getTargetAccount(),
+            Money.of(request.getAmount(),
+                request.getCurrency() == null ? Money.BASE_CURRENCY : request.getCurrency()),
+            request.getFrequency(),
+            request.getInterval(),
+            request.getFirstOccurrence(),
+            request.getEndDate()
+        );
+
+        return ResponseEntity.ok(RecurringTransferResponse.fromDomain(recurringTransfer));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<RecurringTransferResponse>> listRecurringTransfers(@RequestParam String sourceAccount) {
+        List<RecurringTransferResponse> responses = recurringTransferService.listBySourceAccount(sourceAccount)
+            .stream()
+            .map(RecurringTransferResponse::fromDomain)
+            .collect(Collectors.toList());
+
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<RecurringTransferResponse> getRecurringTransfer(@PathVariable UUID id) {
+        return ResponseEntity.ok(RecurringTransferResponse.fromDomain(recurringTransferService.find(id)));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> cancelRecurringTransfer(@PathVariable UUID id) {
+        recurringTransferService.cancel(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.bank.scheduler.infrastructure.web.controllers;
+
+import com.bank.scheduler.infrastructure.persistence.sharding.ShardRouter;
+import com.bank.scheduler.infrastructure.persistence.sharding.TransferReshardingTool;
+import com.bank.scheduler.infrastructure.web.dtos.ReshardingResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Operational endpoints for the transfer shards; present only when sharding is enabled.
+ */
+@RestController
+@RequestMapping("/api/admin/sharding")
+@ConditionalOnProperty(name = "scheduler.sharding.enabled", havingValue = "true")
+public class ShardingController {
+    private final TransferReshardingTool reshardingTool;
+    private final ShardRouter shardRouter;
+
+    public ShardingController(TransferReshardingTool reshardingTool, ShardRouter shardRouter) {
+        this.reshardingTool = reshardingTool;
+        this.shardRouter = shardRouter;
+    }
+
+    /**
+     * Moves every transfer that is not on the shard the running router assigns it to.
+     * Writes must be paused while it runs.
+     */
+    @PostMapping("/reshard")
+    public ResponseEntity<ReshardingResponse> reshard() {
+        TransferReshardingTool.ReshardingReport report = reshardingTool.reshard(shardRouter.shards(), shardRouter);
+        return ResponseEntity.ok(ReshardingResponse.of(report.getScanned(), report.getMoved()));
+    }
+}
@@ -2,14 +2,26 @@ package com.bank.scheduler.infrastructure.web.controllers;
 
 import com.bank.scheduler.application.usecases.TransferSchedulerService;
 import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.ports.AuditTrail;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.AuditAction;
+import com.bank.scheduler.domain.valueobjects.DailyTransferSummary;
 import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.TransferSearchCriteria;
 import com.bank.scheduler.infrastructure.web.dtos.ScheduleTransferRequest;
+import com.bank.scheduler.infrastructure.web.dtos.TransferLookupRequest;
+import com.bank.scheduler.infrastructure.web.dtos.TransferLookupResult;
 import com.bank.scheduler.infrastructure.web.dtos.TransferResponse;
+import com.bank.scheduler.infrastructure.web.dtos.TransferSummaryResponse;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -17,9 +29,11 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/transfers")
 public class TransferController {
     private final TransferSchedulerService transferScheduler;
+    private final AuditTrail auditTrail;
 
-    public TransferController(TransferSchedulerService transferScheduler) {
+    public TransferController(TransferSchedulerService transferScheduler, AuditTrail auditTrail) {
         this.transferScheduler = transferScheduler;
+        this.auditTrail = auditTrail;
     }
 
     @PostMapping
@@ -27,6 +41,7 @@ public class TransferController {
             @Valid @RequestBody ScheduleTransferRequest request) {
         
         Transfer scheduledTransfer = executeTransferScheduling(request);
+        auditTrail.record(AuditAction.SCHEDULED, scheduledTransfer.getId(), scheduledTransfer.getAmount());
         TransferResponse response = TransferResponse.fromDomain(scheduledTransfer);
         
         return ResponseEntity.ok(response);
@@ -40,15 +55,61 @@ public class TransferController {
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<List<TransferResponse>> searchScheduledTransfers(
+            @RequestParam(required = false) String sourceAccount,
+            @RequestParam(required = false) String targetAccount,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        TransferSearchCriteria criteria = TransferSearchCriteria.of(
+            sourceAccount == null ? null : AccountNumber.of(sourceAccount),
+            targetAccount == null ? null : AccountNumber.of(targetAccount),
+            from,
+            to
+        );
+        List<Transfer> transfers = transferScheduler.searchTransfers(criteria);
+        return ResponseEntity.ok(convertToResponseList(transfers));
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<List<TransferSummaryResponse>> summarizeScheduledTransfers(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<DailyTransferSummary> summaries = transferScheduler.summarizeTransfers(from, to);
+        return ResponseEntity.ok(summaries.stream()
+            .map(TransferSummaryResponse::fromDomain)
+            .collect(Collectors.toList()));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<TransferResponse> getScheduledTransfer(@PathVariable UUID id) {
+        Transfer transfer = transferScheduler.findTransfer(id);
+        return ResponseEntity.ok(TransferResponse.fromDomain(transfer));
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<List<TransferLookupResult>> lookupTransfers(
+            @Valid @RequestBody TransferLookupRequest request) {
+        List<UUID> ids = request.getIds();
+        List<Optional<Transfer>> transfers = transferScheduler.lookupTransfers(ids);
+        List<TransferLookupResult> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            results.add(TransferLookupResult.of(ids.get(i), transfers.get(i)));
+        }
+        return ResponseEntity.ok(results);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteScheduledTransfer(@PathVariable UUID id) {
         transferScheduler.deleteTransfer(id);
+        auditTrail.record(AuditAction.DELETED, id, null);
         return ResponseEntity.noContent().build();
     }
 
     @DeleteMapping
     public ResponseEntity<Void> clearAllScheduledTransfers() {
         transferScheduler.clearAllTransfers();
+        auditTrail.record(AuditAction.CLEARED, null, null);
         return ResponseEntity.noContent().build();
     }
 
@@ -56,7 +117,8 @@ public class TransferController {
         return transferScheduler.scheduleTransfer(
             request.getSourceAccount(),
             request.getTargetAccount(),
-            Money.of(request.getAmount()),
+            Money.of(request.getAmount(),
+                request.getCurrency() == null ? Money.BASE_CURRENCY : request.getCurrency()),
             request.getTransferDate()
         );
     }
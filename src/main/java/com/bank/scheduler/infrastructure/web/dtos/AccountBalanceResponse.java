@@ -0,0 +1,21 @@
+package com.bank.scheduler.infrastructure.web.dtos;
+
+import java.math.BigDecimal;
+
+public class AccountBalanceResponse {
+    private String accountNumber;
+    private BigDecimal balance;
+
+    public static AccountBalanceResponse of(String accountNumber, BigDecimal balance) {
+        AccountBalanceResponse response = new AccountBalanceResponse();
+        response.setAccountNumber(accountNumber);
+        response.setBalance(balance);
+        return response;
+    }
+
+    public String getAccountNumber() { return accountNumber; }
+    public void setAccountNumber(String accountNumber) { this.accountNumber = accountNumber; }
+
+    public BigDecimal getBalance() { return balance; }
+    public void setBalance(BigDecimal balance) { this.balance = balance; }
+}
@@ -0,0 +1,39 @@
+package com.bank.scheduler.infrastructure.web.dtos;
+
+import com.bank.scheduler.domain.valueobjects.DeadLetter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public class DeadLetterResponse {
+    private UUID transferId;
+    private String reason;
+    private int attempts;
+    private String lastError;
+    private Instant deadLetteredAt;
+
+    public static DeadLetterResponse fromDomain(DeadLetter deadLetter) {
+        DeadLetterResponse response = new DeadLetterResponse();
+        response.setTransferId(deadLetter.getTransferId());
+        response.setReason(deadLetter.getReason());
+        response.setAttempts(deadLetter.getAttempts());
+        response.setLastError(deadLetter.getLastError());
+        response.setDeadLetteredAt(deadLetter.getDeadLetteredAt());
+        return response;
+    }
+
+    public UUID getTransferId() { return transferId; }
+    public void setTransferId(UUID transferId) { this.transferId = transferId; }
+
+    public String getReason() { return reason; }
+    public void setReason(String reason) { this.reason = reason; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public Instant getDeadLetteredAt() { return deadLetteredAt; }
+    public void setDeadLetteredAt(Instant deadLetteredAt) { this.deadLetteredAt = deadLetteredAt; }
+}
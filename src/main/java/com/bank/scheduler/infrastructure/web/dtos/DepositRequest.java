@@ -0,0 +1,21 @@
+package com.bank.scheduler.infrastructure.web.dtos;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class DepositRequest {
+    @NotNull
+    private UUID reference;
+
+    @NotNull
+    @DecimalMin(value = "0.01", message = "Deposit amount must be positive")
+    private BigDecimal amount;
+
+    public UUID getReference() { return reference; }
+    public void setReference(UUID reference) { this.reference = reference; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+}
@@ -0,0 +1,19 @@
+package com.bank.scheduler.infrastructure.web.dtos;
+
+public class ReadModelStatusResponse {
+    private boolean caughtUp;
+    private long lag;
+
+    public static ReadModelStatusResponse of(boolean caughtUp, long lag) {
+        ReadModelStatusResponse response = new ReadModelStatusResponse();
+        response.setCaughtUp(caughtUp);
+        response.setLag(lag);
+        return response;
+    }
+
+    public boolean isCaughtUp() { return caughtUp; }
+    public void setCaughtUp(boolean caughtUp) { this.caughtUp = caughtUp; }
+
+    public long getLag() { return lag; }
+    public void setLag(long lag) { this.lag = lag; }
+}
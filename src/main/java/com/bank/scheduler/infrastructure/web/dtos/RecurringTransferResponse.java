@@ -0,0 +1,64 @@
+package com.bank.scheduler.infrastructure.web.dtos;
+
+import com.bank.scheduler.domain.entities.RecurringTransfer;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class RecurringTransferResponse {
+    private UUID id;
+    private String sourceAccount;
+    private String targetAccount;
+    private BigDecimal amount;
+    private String currency;
+    private String frequency;
+    private int interval;
+    private LocalDate firstOccurrence;
+    private LocalDate endDate;
+    private LocalDate nextOccurrence;
+
+    public static RecurringTransferResponse fromDomain(RecurringTransfer recurringTransfer) {
+        RecurringTransferResponse response = new RecurringTransferResponse();
+        response.setId(recurringTransfer.getId());
+        response.setSourceAccount(recurringTransfer.getSourceAccount().getValue());
+        response.setTargetAccount(recurringTransfer.getTargetAccount().getValue());
+        response.setAmount(recurringTransfer.getAmount().getAmount());
+        response.setCurrency(recurringTransfer.getAmount().getCurrency());
+        response.setFrequency(recurringTransfer.getRule().getFrequency().name());
+        response.setInterval(recurringTransfer.getRule().getInterval());
+        response.setFirstOccurrence(recurringTransfer.getRule().getFirstOccurrence());
+        response.setEndDate(recurringTransfer.getRule().getEndDate());
+        response.setNextOccurrence(recurringTransfer.getNextOccurrence());
+        return response;
+    }
+
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public String getSourceAccount() { return sourceAccount; }
+    public void setSourceAccount(String sourceAccount) { this.sourceAccount = sourceAccount; }
+
+    public String getTargetAccount() { return targetAccount; }
+    public void setTargetAccount(String targetAccount) { this.targetAccount = targetAccount; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
+    public String getFrequency() { return frequency; }
+    public void setFrequency(String frequency) { this.frequency = frequency; }
+
+    public int getInterval() { return interval; }
+    public void setInterval(int interval) { this.interval = interval; }
+
+    public LocalDate getFirstOccurrence() { return firstOccurrence; }
+    public void setFirstOccurrence(LocalDate firstOccurrence) { this.firstOccurrence = firstOccurrence; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public LocalDate getNextOccurrence() { return nextOccurrence; }
+    public void setNextOccurrence(LocalDate nextOccurrence) { this.nextOccurrence = nextOccurrence; }
+}
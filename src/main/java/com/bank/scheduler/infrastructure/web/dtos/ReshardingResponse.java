@@ -0,0 +1,19 @@
+package com.bank.scheduler.infrastructure.web.dtos;
+
+public class ReshardingResponse {
+    private long scanned;
+    private long moved;
+
+    public static ReshardingResponse of(long scanned, long moved) {
+        ReshardingResponse response = new ReshardingResponse();
+        response.setScanned(scanned);
+        response.setMoved(moved);
+        return response;
+    }
+
+    public long getScanned() { return scanned; }
+    public void setScanned(long scanned) { this.scanned = scanned; }
+
+    public long getMoved() { return moved; }
+    public void setMoved(long moved) { this.moved = moved; }
+}
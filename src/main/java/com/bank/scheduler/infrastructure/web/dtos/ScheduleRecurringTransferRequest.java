@@ -0,0 +1,60 @@
+package com.bank.scheduler.infrastructure.web.dtos;
+
+import com.bank.scheduler.domain.valueobjects.RecurrenceRule;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class ScheduleRecurringTransferRequest {
+    @NotNull
+    @Pattern(regexp = "^\\d{10}$", message = "Source account must be exactly 10 digits")
+    private String sourceAccount;
+
+    @NotNull
+    @Pattern(regexp = "^\\d{10}$", message = "Target account must be exactly 10 digits")
+    private String targetAccount;
+
+    @NotNull
+    private BigDecimal amount;
+
+    @Pattern(regexp = "^[A-Z]{3}$", message = "Currency must be a three-letter ISO 4217 code")
+    private String currency;
+
+    @NotNull
+    private RecurrenceRule.Frequency frequency;
+
+    @Min(1)
+    private int interval = 1;
+
+    @NotNull
+    private LocalDate firstOccurrence;
+
+    @NotNull
+    private LocalDate endDate;
+
+    public String getSourceAccount() { return sourceAccount; }
+    public void setSourceAccount(String sourceAccount) { this.sourceAccount = sourceAccount; }
+
+    public String getTargetAccount() { return targetAccount; }
+    public void setTargetAccount(String targetAccount) { this.targetAccount = targetAccount; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
+    public RecurrenceRule.Frequency getFrequency() { return frequency; }
+    public void setFrequency(RecurrenceRule.Frequency frequency) { this.frequency = frequency; }
+
+    public int getInterval() { return interval; }
+    public void setInterval(int interval) { this.interval = interval; }
+
+    public LocalDate getFirstOccurrence() { return firstOccurrence; }
+    public void setFirstOccurrence(LocalDate firstOccurrence) { this.firstOccurrence = firstOccurrence; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+}
@@ -17,6 +17,9 @@ public class ScheduleTransferRequest {
     @NotNull
     private BigDecimal amount;
 
+    @Pattern(regexp = "^[A-Z]{3}$", message = "Currency must be a three-letter ISO 4217 code")
+    private String currency;
+
     @NotNull
     private LocalDate transferDate;
 
@@ -29,6 +32,9 @@ public class ScheduleTransferRequest {
     public BigDecimal getAmount() { return amount; }
     public void setAmount(BigDecimal amount) { this.amount = amount; }
 
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
     public LocalDate getTransferDate() { return transferDate; }
     public void setTransferDate(LocalDate transferDate) { this.transferDate = transferDate; }
 }
@@ -0,0 +1,26 @@
+package com.bank.scheduler.infrastructure.web.dtos;
+
+import java.util.UUID;
+
+public class TransferAcceptedResponse {
+    private UUID id;
+    private String status;
+    private String statusUrl;
+
+    public static TransferAcceptedResponse of(UUID id, String status, String statusUrl) {
+        TransferAcceptedResponse response = new TransferAcceptedResponse();
+        response.setId(id);
+        response.setStatus(status);
+        response.setStatusUrl(statusUrl);
+        return response;
+    }
+
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getStatusUrl() { return statusUrl; }
+    public void setStatusUrl(String statusUrl) { this.statusUrl = statusUrl; }
+}
@@ -0,0 +1,28 @@
+package com.bank.scheduler.infrastructure.web.dtos;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import java.util.Optional;
+import java.util.UUID;
+
+public class TransferLookupResult {
+    private UUID id;
+    private boolean found;
+    private TransferResponse transfer;
+
+    public static TransferLookupResult of(UUID id, Optional<Transfer> transfer) {
+        TransferLookupResult result = new TransferLookupResult();
+        result.setId(id);
+        result.setFound(transfer.isPresent());
+        result.setTransfer(transfer.map(TransferResponse::fromDomain).orElse(null));
+        return result;
+    }
+
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public boolean isFound() { return found; }
+    public void setFound(boolean found) { this.found = found; }
+
+    public TransferResponse getTransfer() { return transfer; }
+    public void setTransfer(TransferResponse transfer) { this.transfer = transfer; }
+}
@@ -10,9 +10,11 @@ public class TransferResponse {
     private String sourceAccount;
     private String targetAccount;
     private BigDecimal amount;
+    private String currency;
     private BigDecimal fee;
     private LocalDate scheduleDate;
     private LocalDate transferDate;
+    private String status;
 
     public static TransferResponse fromDomain(Transfer transfer) {
         TransferResponse response = new TransferResponse();
@@ -20,9 +22,11 @@ public class TransferResponse {
         response.setSourceAccount(transfer.getSourceAccount().getValue());
         response.setTargetAccount(transfer.getTargetAccount().getValue());
         response.setAmount(transfer.getAmount().getAmount());
+        response.setCurrency(transfer.getAmount().getCurrency());
         response.setFee(transfer.getFee().getAmount());
         response.setScheduleDate(transfer.getScheduleDate());
         response.setTransferDate(transfer.getTransferDate());
+        response.setStatus(transfer.getStatus().name());
         return response;
     }
 
@@ -38,6 +42,9 @@ public class TransferResponse {
     public BigDecimal getAmount() { return amount; }
     public void setAmount(BigDecimal amount) { this.amount = amount; }
 
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
     public BigDecimal getFee() { return fee; }
     public void setFee(BigDecimal fee) { this.fee = fee; }
 
@@ -46,4 +53,7 @@ public class TransferResponse {
 
     public LocalDate getTransferDate() { return transferDate; }
     public void setTransferDate(LocalDate transferDate) { this.transferDate = transferDate; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
 }
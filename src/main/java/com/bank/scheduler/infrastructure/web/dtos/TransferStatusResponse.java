@@ -0,0 +1,21 @@
+package com.bank.scheduler.infrastructure.web.dtos;
+
+import java.util.UUID;
+
+public class TransferStatusResponse {
+    private UUID id;
+    private String status;
+
+    public static TransferStatusResponse of(UUID id, String status) {
+        TransferStatusResponse response = new TransferStatusResponse();
+        response.setId(id);
+        response.setStatus(status);
+        return response;
+    }
+
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+}
@@ -0,0 +1,39 @@
+package com.bank.scheduler.infrastructure.web.dtos;
+
+import com.bank.scheduler.domain.valueobjects.DailyTransferSummary;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class TransferSummaryResponse {
+    private LocalDate transferDate;
+    private String currency;
+    private long count;
+    private BigDecimal totalAmount;
+    private BigDecimal totalFees;
+
+    public static TransferSummaryResponse fromDomain(DailyTransferSummary summary) {
+        TransferSummaryResponse response = new TransferSummaryResponse();
+        response.setTransferDate(summary.getTransferDate());
+        response.setCurrency(summary.getCurrency());
+        response.setCount(summary.getCount());
+        response.setTotalAmount(summary.getTotalAmount());
+        response.setTotalFees(summary.getTotalFees());
+        return response;
+    }
+
+    public LocalDate getTransferDate() { return transferDate; }
+    public void setTransferDate(LocalDate transferDate) { this.transferDate = transferDate; }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
+
+    public BigDecimal getTotalFees() { return totalFees; }
+    public void setTotalFees(BigDecimal totalFees) { this.totalFees = totalFees; }
+}
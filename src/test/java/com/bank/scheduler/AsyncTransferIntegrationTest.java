@@ -0,0 +1,106 @@
+package com.bank.scheduler;
+
+import com.bank.scheduler.application.usecases.AsyncTransferAcceptanceService;
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.ports.TransferAcceptanceLog;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
+import com.bank.scheduler.infrastructure.web.dtos.ScheduleTransferRequest;
+import com.bank.scheduler.infrastructure.web.dtos.TransferAcceptedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AsyncTransferIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AsyncTransferAcceptanceService acceptanceService;
+
+    @Autowired
+    private TransferAcceptanceLog acceptanceLog;
+
+    @Autowired
+    private TransferRepository transferRepository;
+
+    @Test
+    void shouldAcceptTransferAndPersistInBackground() throws Exception {
+        ScheduleTransferRequest request = new ScheduleTransferRequest();
+        request.setSourceAccount("1234567890");
+        request.setTargetAccount("0987654321");
+        request.setAmount(new BigDecimal("250.00"));
+        request.setTransferDate(LocalDate.now().plusDays(3));
+
+        MvcResult result = mockMvc.perform(post("/api/transfers/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn();
+
+        TransferAcceptedResponse accepted = objectMapper.readValue(
+            result.getResponse().getContentAsString(),
+            TransferAcceptedResponse.class
+        );
+
+        assertNotNull(accepted.getId());
+        assertEquals("ACCEPTED", accepted.getStatus());
+        assertTrue(accepted.getStatusUrl().endsWith("/api/transfers/" + accepted.getId() + "/status"));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+            mockMvc.perform(get("/api/transfers/{id}/status", accepted.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PERSISTED")));
+
+        mockMvc.perform(delete("/api/transfers/{id}", accepted.getId()))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void shouldNotOverwriteAnExecutedTransferWhenReplayingTheLog() {
+        LocalDate today = LocalDate.now();
+        Transfer accepted = Transfer.schedule(
+            AccountNumber.of("1234567890"),
+            AccountNumber.of("0987654321"),
+            Money.of(new BigDecimal("75.00")),
+            Money.of(new BigDecimal("3.00")),
+            today,
+            today.plusDays(2));
+        acceptanceLog.append(accepted);
+        // stored and executed, but the process died before the persisted marker was written
+        transferRepository.save(Transfer.restore(accepted.getId(), accepted.getSourceAccount(),
+            accepted.getTargetAccount(), accepted.getAmount(), accepted.getFee(), accepted.getScheduleDate(),
+            accepted.getTransferDate(), TransferStatus.EXECUTED, null));
+
+        acceptanceService.replayUnpersisted();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> acceptanceLog.unpersisted().isEmpty());
+        assertEquals(TransferStatus.EXECUTED, transferRepository.findById(accepted.getId()).orElseThrow().getStatus());
+        transferRepository.deleteById(accepted.getId());
+    }
+}
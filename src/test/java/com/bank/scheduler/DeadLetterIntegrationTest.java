@@ -0,0 +1,129 @@
+package com.bank.scheduler;
+
+import com.bank.scheduler.application.usecases.DeadLetterReplayService;
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.ports.DeadLetterStore;
+import com.bank.scheduler.domain.ports.SettlementGateway;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.DeadLetter;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
+import com.bank.scheduler.infrastructure.execution.DueTransferExecutionEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:dead-letter-it",
+    "scheduler.execution.enabled=false",
+    "scheduler.wheel.enabled=false",
+    "scheduler.execution.retry.max-attempts=3",
+    "scheduler.execution.retry.base-delay=PT0.02S",
+    "scheduler.execution.retry.max-delay=PT0.1S"
+})
+class DeadLetterIntegrationTest {
+
+    @Autowired
+    private TransferRepository transferRepository;
+
+    @Autowired
+    private DueTransferExecutionEngine executionEngine;
+
+    @Autowired
+    private DeadLetterStore deadLetterStore;
+
+    @Autowired
+    private DeadLetterReplayService deadLetterReplayService;
+
+    @MockBean
+    private SettlementGateway settlementGateway;
+
+    @AfterEach
+    void cleanUp() {
+        deadLetterStore.findAll(null, 1000).forEach(deadLetter -> deadLetterStore.remove(deadLetter.getTransferId()));
+        transferRepository.deleteAll();
+    }
+
+    @Test
+    void shouldRecoverFromTransientFailuresWithoutDeadLettering() {
+        Transfer transfer = transferRepository.save(newTransfer());
+        doThrow(new IllegalStateException("gateway timeout"))
+            .doThrow(new IllegalStateException("gateway timeout"))
+            .doNothing()
+            .when(settlementGateway).settle(any());
+
+        executionEngine.dispatchDue(LocalDate.now());
+
+        awaitStatus(transfer.getId(), TransferStatus.EXECUTED);
+        verify(settlementGateway, times(3)).settle(any());
+        assertTrue(deadLetterStore.find(transfer.getId()).isEmpty());
+    }
+
+    @Test
+    void shouldDeadLetterAfterMaxAttemptsAndExecuteOnReplay() {
+        Transfer transfer = transferRepository.save(newTransfer());
+        doThrow(new IllegalStateException("connection refused")).when(settlementGateway).settle(any());
+
+        executionEngine.dispatchDue(LocalDate.now());
+
+        awaitStatus(transfer.getId(), TransferStatus.FAILED);
+        DeadLetter deadLetter = deadLetterStore.find(transfer.getId()).orElseThrow();
+        assertEquals("IllegalStateException", deadLetter.getReason());
+        assertEquals(3, deadLetter.getAttempts());
+        assertEquals("connection refused", deadLetter.getLastError());
+
+        doNothing().when(settlementGateway).settle(any());
+        assertEquals(1, deadLetterReplayService.replayAll("IllegalStateException", 10).size());
+        assertEquals(TransferStatus.SCHEDULED, transferRepository.findById(transfer.getId()).orElseThrow().getStatus());
+        assertTrue(deadLetterStore.find(transfer.getId()).isEmpty());
+
+        executionEngine.dispatchDue(LocalDate.now());
+        awaitStatus(transfer.getId(), TransferStatus.EXECUTED);
+    }
+
+    @Test
+    void shouldDeadLetterPermanentFailuresWithoutRetrying() {
+        Transfer transfer = transferRepository.save(newTransfer());
+        doThrow(new DomainException.SettlementFailed("insufficient funds")).when(settlementGateway).settle(any());
+
+        executionEngine.dispatchDue(LocalDate.now());
+
+        awaitStatus(transfer.getId(), TransferStatus.FAILED);
+        DeadLetter deadLetter = deadLetterStore.find(transfer.getId()).orElseThrow();
+        assertEquals("TRANSFER.SETTLEMENT_FAILED", deadLetter.getReason());
+        assertEquals(1, deadLetter.getAttempts());
+        verify(settlementGateway, times(1)).settle(any());
+        assertEquals(1, deadLetterReplayService.listDeadLetters("TRANSFER.SETTLEMENT_FAILED", 10).size());
+    }
+
+    private void awaitStatus(UUID transferId, TransferStatus expected) {
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+            assertEquals(expected, transferRepository.findById(transferId).orElseThrow().getStatus()));
+    }
+
+    private static Transfer newTransfer() {
+        LocalDate today = LocalDate.now();
+        return Transfer.schedule(
+            AccountNumber.of("1234567890"),
+            AccountNumber.of("0987654321"),
+            Money.of(new BigDecimal("75.00")),
+            Money.of(new BigDecimal("5.25")),
+            today,
+            today
+        );
+    }
+}
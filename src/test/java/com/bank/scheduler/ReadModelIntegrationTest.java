@@ -0,0 +1,121 @@
+package com.bank.scheduler;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.infrastructure.readmodel.TransferChangeLog;
+import com.bank.scheduler.infrastructure.readmodel.TransferProjection;
+import com.bank.scheduler.infrastructure.web.dtos.ScheduleTransferRequest;
+import com.bank.scheduler.infrastructure.web.dtos.TransferResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReadModelIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransferProjection transferProjection;
+
+    @Autowired
+    private TransferChangeLog changeLog;
+
+    @Autowired
+    private TransferRepository transferRepository;
+
+    @Test
+    void shouldServeSummariesFromProjectedEvents() throws Exception {
+        LocalDate transferDate = LocalDate.now().plusDays(45);
+        ScheduleTransferRequest request = new ScheduleTransferRequest();
+        request.setSourceAccount("5555555555");
+        request.setTargetAccount("6666666666");
+        request.setAmount(new BigDecimal("1000.00"));
+        request.setTransferDate(transferDate);
+
+        MvcResult result = mockMvc.perform(post("/api/transfers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn();
+        TransferResponse created = objectMapper.readValue(
+            result.getResponse().getContentAsString(), TransferResponse.class);
+
+        await().atMost(Duration.ofSeconds(5)).until(transferProjection::isCaughtUp);
+
+        mockMvc.perform(get("/api/transfers/summary")
+                .param("from", transferDate.toString())
+                .param("to", transferDate.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].count").value(1))
+                .andExpect(jsonPath("$[0].totalAmount").value(1000.00));
+
+        mockMvc.perform(delete("/api/transfers/{id}", created.getId()))
+                .andExpect(status().isNoContent());
+
+        await().atMost(Duration.ofSeconds(5)).until(transferProjection::isCaughtUp);
+
+        mockMvc.perform(get("/api/transfers/summary")
+                .param("from", transferDate.toString())
+                .param("to", transferDate.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        assertEquals(0, transferProjection.lag());
+    }
+
+    @Test
+    void shouldApplyChangesLoggedByAnotherReplica() throws Exception {
+        LocalDate transferDate = LocalDate.now().plusDays(47);
+        await().atMost(Duration.ofSeconds(5)).until(transferProjection::isCaughtUp);
+
+        // a change committed by another replica: stored and logged, but never seen as an event here
+        Transfer remote = transferRepository.save(Transfer.schedule(
+            AccountNumber.of("7777777777"),
+            AccountNumber.of("8888888888"),
+            Money.of(new BigDecimal("250.00")),
+            Money.of(new BigDecimal("5.00")),
+            LocalDate.now(),
+            transferDate));
+        changeLog.append(remote.getId(), "other-replica");
+
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+            transferProjection.summarize(transferDate, transferDate).size() == 1);
+        await().atMost(Duration.ofSeconds(5)).until(transferProjection::isCaughtUp);
+        mockMvc.perform(get("/api/transfers/summary")
+                .param("from", transferDate.toString())
+                .param("to", transferDate.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].totalAmount").value(250.00));
+
+        transferRepository.deleteById(remote.getId());
+        changeLog.append(remote.getId(), "other-replica");
+
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+            transferProjection.summarize(transferDate, transferDate).isEmpty());
+    }
+}
@@ -0,0 +1,174 @@
+package com.bank.scheduler;
+
+import com.bank.scheduler.application.usecases.RecurringTransferService;
+import com.bank.scheduler.domain.entities.RecurringTransfer;
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.ports.RecurringTransferStore;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.RecurrenceRule;
+import com.bank.scheduler.infrastructure.execution.RecurringTransferMaterializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:recurring-it",
+    "scheduler.execution.enabled=false",
+    "scheduler.wheel.enabled=false",
+    "scheduler.recurring.enabled=false"
+})
+class RecurringTransferIntegrationTest {
+
+    @Autowired
+    private RecurringTransferService recurringTransferService;
+
+    @Autowired
+    private RecurringTransferMaterializer materializer;
+
+    @Autowired
+    private RecurringTransferStore recurringTransferStore;
+
+    @Autowired
+    private TransferRepository transferRepository;
+
+    @Autowired
+    private MovableClock clock;
+
+    @AfterEach
+    void cleanUp() {
+        recurringTransferStore.findBySourceAccount("1234567890")
+            .forEach(rule -> recurringTransferStore.delete(rule.getId()));
+        transferRepository.deleteAll();
+    }
+
+    @Test
+    void shouldMaterializeOccurrencesAsTheyEnterTheSchedulingWindow() {
+        LocalDate first = LocalDate.now(clock).plusDays(1);
+        RecurringTransfer rule = recurringTransferService.create("1234567890", "0987654321",
+            Money.of(new BigDecimal("100.00")), RecurrenceRule.Frequency.MONTHLY, 1,
+            first, first.plusYears(2));
+
+        assertEquals(List.of(first, first.plusMonths(1)), transferDates());
+        assertEquals(2, rule.getNextIndex());
+        assertEquals(0, materializer.materializeDue());
+
+        clock.advance(Duration.ofDays(31));
+        assertEquals(1, materializer.materializeDue());
+        assertEquals(List.of(first, first.plusMonths(1), first.plusMonths(2)), transferDates());
+        RecurringTransfer advanced = recurringTransferService.find(rule.getId());
+        assertEquals(3, advanced.getNextIndex());
+        assertEquals(first.plusMonths(3), advanced.getNextOccurrence());
+
+        assertEquals(0, materializer.materializeDue());
+        assertEquals(3, transferDates().size());
+    }
+
+    @Test
+    void shouldNotMaterializeTwiceFromAStaleWatermark() {
+        LocalDate today = LocalDate.now(clock);
+        RecurringTransfer rule = recurringTransferService.create("1234567890", "0987654321",
+            Money.of(new BigDecimal("50.00")), RecurrenceRule.Frequency.WEEKLY, 1,
+            today, today.plusWeeks(20));
+        int created = transferDates().size();
+
+        clock.advance(Duration.ofDays(7));
+        assertEquals(1, recurringTransferService.materialize(rule).getTransfers().size());
+        assertEquals(0, recurringTransferService.materialize(rule).getTransfers().size());
+        assertEquals(created + 1, transferDates().size());
+    }
+
+    @Test
+    void shouldStoreNothingWhenTheRuleOrAnOccurrenceIsInvalid() {
+        LocalDate today = LocalDate.now(clock);
+
+        assertThrows(DomainException.SameAccountNotAllowed.class, () -> recurringTransferService.create(
+            "1234567890", "1234567890", Money.of(new BigDecimal("10.00")), RecurrenceRule.Frequency.WEEKLY, 1,
+            today, today.plusWeeks(4)));
+        assertThrows(DomainException.InvalidTransferDate.class, () -> recurringTransferService.create(
+            "1234567890", "0987654321", Money.of(new BigDecimal("10.00")), RecurrenceRule.Frequency.WEEKLY, 1,
+            today.minusDays(1), today.plusWeeks(4)));
+        assertTrue(recurringTransferStore.findBySourceAccount("1234567890").isEmpty());
+        assertTrue(transferRepository.findAll().isEmpty());
+    }
+
+    @Test
+    void shouldRefuseAStandingOrderWhoseOccurrencesExceedTheVelocityLimit() {
+        LocalDate first = LocalDate.now(clock).plusDays(1);
+
+        assertThrows(DomainException.VelocityLimitExceeded.class, () -> recurringTransferService.create(
+            "1111111111", "0987654321", Money.of(new BigDecimal("600000.00")), RecurrenceRule.Frequency.WEEKLY, 1,
+            first, first.plusWeeks(4)));
+
+        assertTrue(recurringTransferStore.findBySourceAccount("1111111111").isEmpty());
+        assertTrue(transferRepository.findAll().isEmpty());
+    }
+
+    @Test
+    void shouldStopFutureOccurrencesWhenCancelled() {
+        LocalDate first = LocalDate.now(clock).plusDays(1);
+        RecurringTransfer rule = recurringTransferService.create("1234567890", "0987654321",
+            Money.of(new BigDecimal("10.00")), RecurrenceRule.Frequency.MONTHLY, 1,
+            first, first.plusYears(1));
+        recurringTransferService.cancel(rule.getId());
+
+        clock.advance(Duration.ofDays(62));
+        assertEquals(0, materializer.materializeDue());
+        assertThrows(DomainException.TransferNotFound.class, () -> recurringTransferService.find(rule.getId()));
+    }
+
+    private List<LocalDate> transferDates() {
+        return transferRepository.findAll().stream()
+            .map(Transfer::getTransferDate)
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    @TestConfiguration
+    static class ClockConfig {
+        @Bean
+        @Primary
+        MovableClock movableClock() {
+            return new MovableClock();
+        }
+    }
+
+    static final class MovableClock extends Clock {
+        private volatile Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
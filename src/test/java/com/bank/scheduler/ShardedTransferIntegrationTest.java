@@ -0,0 +1,97 @@
+package com.bank.scheduler;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.infrastructure.persistence.sharding.ShardRouter;
+import com.bank.scheduler.infrastructure.persistence.sharding.TransferShard;
+import com.bank.scheduler.infrastructure.web.dtos.ScheduleTransferRequest;
+import com.bank.scheduler.infrastructure.web.dtos.TransferResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "scheduler.sharding.enabled=true",
+    "scheduler.sharding.shards[0].url=jdbc:h2:mem:it-shard0;DB_CLOSE_DELAY=-1",
+    "scheduler.sharding.shards[1].url=jdbc:h2:mem:it-shard1;DB_CLOSE_DELAY=-1",
+    "scheduler.sharding.shards[2].url=jdbc:h2:mem:it-shard2;DB_CLOSE_DELAY=-1",
+    "scheduler.outbox.enabled=false"
+})
+@AutoConfigureMockMvc
+class ShardedTransferIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private TransferRepository transferRepository;
+
+    @Test
+    void shouldScheduleAndReadTransfersThroughShards() throws Exception {
+        ScheduleTransferRequest request = new ScheduleTransferRequest();
+        request.setSourceAccount("1234567890");
+        request.setTargetAccount("0987654321");
+        request.setAmount(new BigDecimal("1000.00"));
+        request.setTransferDate(LocalDate.now().plusDays(4));
+
+        MvcResult result = mockMvc.perform(post("/api/transfers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn();
+        TransferResponse response = objectMapper.readValue(
+            result.getResponse().getContentAsString(), TransferResponse.class);
+
+        TransferShard owner = shardRouter.shardFor(response.getId());
+        assertTrue(owner.existsById(response.getId()));
+        assertEquals(1, shardRouter.shards().stream().filter(shard -> shard.existsById(response.getId())).count());
+
+        mockMvc.perform(get("/api/transfers/search").param("sourceAccount", "1234567890"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(response.getId().toString()));
+
+        transferRepository.deleteAll();
+    }
+
+    @Test
+    void shouldMoveMisplacedTransfersThroughReshardEndpoint() throws Exception {
+        Transfer transfer = Transfer.schedule(AccountNumber.of("1234567890"), AccountNumber.of("0987654321"),
+            Money.of(new BigDecimal("10.00")), Money.of(new BigDecimal("1.00")),
+            LocalDate.now(), LocalDate.now().plusDays(2));
+        TransferShard owner = shardRouter.shardFor(transfer.getId());
+        TransferShard wrong = shardRouter.shards().stream()
+            .filter(shard -> shard != owner).findFirst().orElseThrow();
+        wrong.upsert(transfer);
+
+        mockMvc.perform(post("/api/admin/sharding/reshard"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.moved").value(1));
+
+        assertTrue(owner.existsById(transfer.getId()));
+        assertFalse(wrong.existsById(transfer.getId()));
+
+        transferRepository.deleteAll();
+    }
+}
@@ -0,0 +1,120 @@
+package com.bank.scheduler;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
+import com.bank.scheduler.infrastructure.execution.DueTransferExecutionEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:execution-it",
+    "scheduler.execution.enabled=false",
+    "scheduler.wheel.enabled=false"
+})
+class TransferExecutionIntegrationTest {
+
+    @Autowired
+    private TransferRepository transferRepository;
+
+    @Autowired
+    private DueTransferExecutionEngine executionEngine;
+
+    @AfterEach
+    void cleanUp() {
+        transferRepository.deleteAll();
+    }
+
+    @Test
+    void shouldExecuteDueTransfersAndLeaveFutureOnesScheduled() {
+        LocalDate today = LocalDate.now();
+        Transfer due = transferRepository.save(newTransfer(today, today));
+        Transfer future = transferRepository.save(newTransfer(today, today.plusDays(3)));
+
+        assertEquals(1, executionEngine.dispatchDue(today));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+            assertEquals(TransferStatus.EXECUTED, transferRepository.findById(due.getId()).orElseThrow().getStatus()));
+        assertEquals(TransferStatus.SCHEDULED, transferRepository.findById(future.getId()).orElseThrow().getStatus());
+        assertEquals(0, executionEngine.dispatchDue(today));
+    }
+
+    @Test
+    void shouldClaimByIdOnlyTransfersDueByTheGivenDate() {
+        LocalDate today = LocalDate.now();
+        Transfer due = transferRepository.save(newTransfer(today, today));
+        Transfer future = transferRepository.save(newTransfer(today, today.plusDays(1)));
+
+        List<Transfer> claimed = transferRepository.claimByIds(List.of(due.getId(), future.getId()), today, Instant.now());
+
+        assertEquals(1, claimed.size());
+        assertEquals(due.getId(), claimed.get(0).getId());
+        assertEquals(TransferStatus.SCHEDULED, transferRepository.findById(future.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void shouldNeverHandTheSameTransferToTwoClaimers() throws Exception {
+        LocalDate today = LocalDate.now();
+        List<Transfer> transfers = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            transfers.add(newTransfer(today, today));
+        }
+        transferRepository.saveAll(transfers);
+
+        ExecutorService replicas = Executors.newFixedThreadPool(3);
+        Callable<List<Transfer>> replica = () -> {
+            List<Transfer> claimedByReplica = new ArrayList<>();
+            List<Transfer> batch;
+            Instant now = Instant.now();
+            while (!(batch = transferRepository.claimDue(today, now, now.minusSeconds(300), 7)).isEmpty()) {
+                claimedByReplica.addAll(batch);
+            }
+            return claimedByReplica;
+        };
+        List<Future<List<Transfer>>> results = replicas.invokeAll(List.of(replica, replica, replica));
+        replicas.shutdown();
+
+        Set<Object> claimedIds = new HashSet<>();
+        int claimed = 0;
+        for (Future<List<Transfer>> result : results) {
+            for (Transfer transfer : result.get()) {
+                assertEquals(TransferStatus.IN_PROGRESS, transfer.getStatus());
+                claimedIds.add(transfer.getId());
+                claimed++;
+            }
+        }
+        assertEquals(60, claimed);
+        assertEquals(60, claimedIds.size());
+    }
+
+    private static Transfer newTransfer(LocalDate scheduleDate, LocalDate transferDate) {
+        return Transfer.schedule(
+            AccountNumber.of("1234567890"),
+            AccountNumber.of("0987654321"),
+            Money.of(new BigDecimal("75.00")),
+            Money.of(new BigDecimal("5.25")),
+            scheduleDate,
+            transferDate
+        );
+    }
+}
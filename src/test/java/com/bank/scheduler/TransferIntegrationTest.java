@@ -16,7 +16,9 @@ import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -68,5 +70,56 @@ class TransferIntegrationTest {
 
         assertTrue(transfers.length > 0);
         assertEquals(response.getId(), transfers[0].getId());
+
+        // Act & Assert - Retrieve Transfer by id
+        result = mockMvc.perform(get("/api/transfers/{id}", response.getId()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        TransferResponse single = objectMapper.readValue(
+            result.getResponse().getContentAsString(),
+            TransferResponse.class
+        );
+
+        assertEquals(response.getId(), single.getId());
+        assertEquals(0, response.getFee().compareTo(single.getFee()));
+    }
+
+    @Test
+    void shouldLookUpTransfersInRequestOrder() throws Exception {
+        ScheduleTransferRequest request = new ScheduleTransferRequest();
+        request.setSourceAccount("1111111111");
+        request.setTargetAccount("2222222222");
+        request.setAmount(new BigDecimal("50.00"));
+        request.setTransferDate(LocalDate.now().plusDays(2));
+
+        MvcResult result = mockMvc.perform(post("/api/transfers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn();
+        TransferResponse scheduled = objectMapper.readValue(
+            result.getResponse().getContentAsString(),
+            TransferResponse.class
+        );
+        java.util.UUID unknown = java.util.UUID.randomUUID();
+
+        mockMvc.perform(post("/api/transfers/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[\"" + unknown + "\",\"" + scheduled.getId() + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(unknown.toString()))
+                .andExpect(jsonPath("$[0].found").value(false))
+                .andExpect(jsonPath("$[1].found").value(true))
+                .andExpect(jsonPath("$[1].transfer.sourceAccount").value("1111111111"));
+
+        mockMvc.perform(delete("/api/transfers/{id}", scheduled.getId()))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownTransfer() throws Exception {
+        mockMvc.perform(get("/api/transfers/{id}", java.util.UUID.randomUUID()))
+                .andExpect(status().isNotFound());
     }
 }
@@ -0,0 +1,165 @@
+package com.bank.scheduler;
+
+import com.bank.scheduler.application.usecases.TransferSchedulerService;
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.events.TransferScheduled;
+import com.bank.scheduler.domain.ports.TransferEventPublisher;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.infrastructure.notification.NotificationSink;
+import com.bank.scheduler.infrastructure.notification.OutboxMessage;
+import com.bank.scheduler.infrastructure.notification.OutboxRelay;
+import com.bank.scheduler.infrastructure.notification.OutboxStore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:outbox-it",
+    "scheduler.execution.enabled=false",
+    "scheduler.wheel.enabled=false",
+    "scheduler.outbox.relay-interval-ms=3600000",
+    "scheduler.outbox.batch-size=2",
+    "scheduler.notifications.sink=memory"
+})
+class TransferOutboxIntegrationTest {
+
+    @Autowired
+    private TransferSchedulerService transferSchedulerService;
+
+    @Autowired
+    private TransferRepository transferRepository;
+
+    @Autowired
+    private TransferEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxStore outboxStore;
+
+    @Autowired
+    private InMemoryNotificationSink sink;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void cleanUp() {
+        outboxRelay.drain();
+        sink.clear();
+        transferRepository.deleteAll();
+    }
+
+    @Test
+    void shouldDeliverNotificationsOfCommittedTransfersInOutboxOrder() throws Exception {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        Transfer first = transferSchedulerService.scheduleTransfer(
+            "1234567890", "0987654321", Money.of(new BigDecimal("100.00")), tomorrow);
+        Transfer second = transferSchedulerService.scheduleTransfer(
+            "1234567890", "0987654321", Money.of(new BigDecimal("200.00")), tomorrow);
+        transferSchedulerService.deleteTransfer(first.getId());
+
+        assertEquals(3, outboxStore.pendingCount());
+        assertEquals(3, outboxRelay.drain());
+
+        List<OutboxMessage> delivered = sink.messages();
+        assertEquals(List.of("TRANSFER_SCHEDULED", "TRANSFER_SCHEDULED", "TRANSFER_DELETED"),
+            delivered.stream().map(OutboxMessage::getEventType).collect(Collectors.toList()));
+        assertEquals(List.of(first.getId(), second.getId(), first.getId()),
+            delivered.stream().map(OutboxMessage::getTransferId).collect(Collectors.toList()));
+        assertTrue(delivered.get(1).getPayload().contains("\"amount\":\"200.00\""));
+        Set<String> eventIds = new HashSet<>();
+        for (OutboxMessage message : delivered) {
+            JsonNode id = objectMapper.readTree(message.getPayload()).get("id");
+            assertNotNull(id);
+            eventIds.add(id.asText());
+        }
+        assertEquals(3, eventIds.size());
+        assertEquals(0, outboxStore.pendingCount());
+    }
+
+    @Test
+    void shouldNotRecordNotificationsOfRolledBackChanges() {
+        Transfer transfer = Transfer.schedule(AccountNumber.of("1234567890"), AccountNumber.of("0987654321"),
+            Money.of(new BigDecimal("50.00")), Money.of(new BigDecimal("3.00")), LocalDate.now(), LocalDate.now());
+
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publish(new TransferScheduled(transfer, Instant.now()));
+            throw new IllegalStateException("rollback");
+        }));
+
+        assertEquals(0, outboxStore.pendingCount());
+        assertEquals(0, outboxRelay.drain());
+    }
+
+    @Test
+    void shouldRedeliverBatchRefusedBySink() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        Transfer transfer = transferSchedulerService.scheduleTransfer(
+            "1234567890", "0987654321", Money.of(new BigDecimal("100.00")), tomorrow);
+        sink.failNext(1);
+
+        assertEquals(0, outboxRelay.drain());
+        assertEquals(1, outboxStore.pendingCount());
+
+        assertEquals(1, outboxRelay.drain());
+        assertEquals(transfer.getId(), sink.messages().get(0).getTransferId());
+    }
+
+    @TestConfiguration
+    static class SinkConfiguration {
+        @Bean
+        InMemoryNotificationSink inMemoryNotificationSink() {
+            return new InMemoryNotificationSink();
+        }
+    }
+
+    static class InMemoryNotificationSink implements NotificationSink {
+        private final List<OutboxMessage> messages = new ArrayList<>();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        @Override
+        public synchronized void deliver(List<OutboxMessage> batch) {
+            if (failures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                throw new IllegalStateException("sink unavailable");
+            }
+            messages.addAll(batch);
+        }
+
+        synchronized List<OutboxMessage> messages() {
+            return new ArrayList<>(messages);
+        }
+
+        synchronized void clear() {
+            messages.clear();
+        }
+
+        void failNext(int count) {
+            failures.set(count);
+        }
+    }
+}
@@ -1,9 +1,19 @@
 package com.bank.scheduler.application.usecases;
 
 import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.exceptions.DomainException;
 import com.bank.scheduler.domain.policies.FeePolicy;
+import com.bank.scheduler.domain.policies.SameDayFeePolicy;
+import com.bank.scheduler.domain.ports.AccountDirectory;
+import com.bank.scheduler.domain.ports.DuplicateTransferGuard;
+import com.bank.scheduler.domain.ports.ExchangeRates;
+import com.bank.scheduler.domain.ports.TransferEventPublisher;
+import com.bank.scheduler.domain.ports.TransferQueryModel;
 import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.ports.VelocityLimiter;
 import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.BusinessCalendar;
+import com.bank.scheduler.domain.valueobjects.ExchangeRateSnapshot;
 import com.bank.scheduler.domain.valueobjects.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,8 +22,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -83,4 +96,67 @@ class TransferSchedulerServiceTest {
 
         verify(transferRepository, never()).save(any());
     }
+
+    @Test
+    void shouldPriceForeignCurrencyTransferInBaseCurrencyAndChargeFeeInTransferCurrency() {
+        TransferSchedulerService multiCurrency = withRates(Map.of("USD", new BigDecimal("5.00")));
+        when(transferRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+
+        Transfer transfer = multiCurrency.scheduleTransfer("1234567890", "0987654321",
+            Money.of(new BigDecimal("100.00"), "USD"), LocalDate.now());
+
+        // 100 USD = 500 BRL; same-day fee 3.00 + 2.5% = 15.50 BRL = 3.10 USD
+        assertEquals(Money.of(new BigDecimal("100.00"), "USD"), transfer.getAmount());
+        assertEquals(Money.of(new BigDecimal("3.10"), "USD"), transfer.getFee());
+    }
+
+    @Test
+    void shouldRejectTransferInCurrencyWithoutRate() {
+        TransferSchedulerService multiCurrency = withRates(Map.of("USD", new BigDecimal("5.00")));
+
+        assertThrows(DomainException.UnsupportedCurrency.class, () ->
+            multiCurrency.scheduleTransfer("1234567890", "0987654321",
+                Money.of(new BigDecimal("100.00"), "CHF"), LocalDate.now()));
+
+        verify(transferRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRejectTransferToAccountMissingFromDirectory() {
+        AccountDirectory directory = account -> !account.getValue().equals("0987654321");
+        TransferSchedulerService checked = new TransferSchedulerService(transferRepository, feePolicies,
+            TransferEventPublisher.NONE, TransferQueryModel.NONE, BusinessCalendar.EVERY_DAY,
+            DuplicateTransferGuard.NONE, VelocityLimiter.NONE, ExchangeRates.NONE, directory,
+            Clock.systemDefaultZone());
+
+        assertThrows(DomainException.AccountNotFound.class, () ->
+            checked.scheduleTransfer("1234567890", "0987654321", Money.of(new BigDecimal("100.00")), LocalDate.now()));
+
+        verify(transferRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldReleaseVelocityAdmissionWhenPersistenceFails() {
+        VelocityLimiter velocityLimiter = mock(VelocityLimiter.class);
+        TransferSchedulerService limited = new TransferSchedulerService(transferRepository, Set.of(new SameDayFeePolicy()),
+            TransferEventPublisher.NONE, TransferQueryModel.NONE, BusinessCalendar.EVERY_DAY,
+            DuplicateTransferGuard.NONE, velocityLimiter, ExchangeRates.NONE, AccountDirectory.NONE,
+            Clock.systemDefaultZone());
+        when(transferRepository.save(any())).thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThrows(IllegalStateException.class, () ->
+            limited.scheduleTransfer("1234567890", "0987654321", Money.of(new BigDecimal("100.00")), LocalDate.now()));
+
+        verify(velocityLimiter).admit(any(Transfer.class));
+        verify(velocityLimiter).release(any(Transfer.class));
+    }
+
+    private TransferSchedulerService withRates(Map<String, BigDecimal> rates) {
+        ExchangeRateSnapshot snapshot = ExchangeRateSnapshot.of(Money.BASE_CURRENCY, rates, Instant.now());
+        ExchangeRates exchangeRates = () -> snapshot;
+        return new TransferSchedulerService(transferRepository, Set.of(new SameDayFeePolicy()),
+            TransferEventPublisher.NONE, TransferQueryModel.NONE, BusinessCalendar.EVERY_DAY,
+            DuplicateTransferGuard.NONE, VelocityLimiter.NONE, exchangeRates, AccountDirectory.NONE,
+            Clock.systemDefaultZone());
+    }
 }
@@ -3,10 +3,12 @@ package com.bank.scheduler.domain.entities;
 import com.bank.scheduler.domain.exceptions.DomainException;
 import com.bank.scheduler.domain.valueobjects.AccountNumber;
 import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -96,4 +98,52 @@ class TransferTest {
             );
         }
     }
+
+    @Nested
+    @DisplayName("Execution Lifecycle")
+    class ExecutionLifecycle {
+
+        @Test
+        @DisplayName("Should move from SCHEDULED through IN_PROGRESS to EXECUTED")
+        void shouldFollowLifecycle() {
+            var transfer = Transfer.schedule(
+                AccountNumber.of("1234567890"),
+                AccountNumber.of("0987654321"),
+                Money.of(new BigDecimal("100.00")),
+                Money.of(new BigDecimal("2.50")),
+                LocalDate.now(),
+                LocalDate.now()
+            );
+            var claimedAt = Instant.now();
+
+            var inProgress = transfer.transitionTo(TransferStatus.IN_PROGRESS, claimedAt);
+            var executed = inProgress.transitionTo(TransferStatus.EXECUTED, claimedAt.plusSeconds(1));
+
+            assertEquals(TransferStatus.SCHEDULED, transfer.getStatus());
+            assertEquals(TransferStatus.IN_PROGRESS, inProgress.getStatus());
+            assertEquals(claimedAt, inProgress.getClaimedAt());
+            assertEquals(TransferStatus.EXECUTED, executed.getStatus());
+            assertEquals(transfer.getId(), executed.getId());
+        }
+
+        @Test
+        @DisplayName("Should reject skipping or leaving a terminal status")
+        void shouldRejectInvalidTransitions() {
+            var transfer = Transfer.schedule(
+                AccountNumber.of("1234567890"),
+                AccountNumber.of("0987654321"),
+                Money.of(new BigDecimal("100.00")),
+                Money.of(new BigDecimal("2.50")),
+                LocalDate.now(),
+                LocalDate.now()
+            );
+            var executed = transfer.transitionTo(TransferStatus.IN_PROGRESS, Instant.now())
+                .transitionTo(TransferStatus.EXECUTED, Instant.now());
+
+            assertThrows(DomainException.InvalidStatusTransition.class,
+                () -> transfer.transitionTo(TransferStatus.EXECUTED, Instant.now()));
+            assertThrows(DomainException.InvalidStatusTransition.class,
+                () -> executed.transitionTo(TransferStatus.IN_PROGRESS, Instant.now()));
+        }
+    }
 }
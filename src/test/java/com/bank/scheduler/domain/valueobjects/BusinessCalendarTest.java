@@ -0,0 +1,93 @@
+package com.bank.scheduler.domain.valueobjects;
+
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.policies.TenDaysFeePolicy;
+import com.bank.scheduler.infrastructure.calendar.HolidayDefinitions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BusinessCalendar Tests")
+class BusinessCalendarTest {
+
+    private static final Set<DayOfWeek> WEEKEND = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+    private static final LocalDate FIRST = LocalDate.of(2024, 1, 1);
+    private static final LocalDate LAST = LocalDate.of(2027, 12, 31);
+
+    private final Set<LocalDate> holidays = HolidayDefinitions
+        .parse(getClass().getResourceAsStream("/calendar/holidays-br.txt"))
+        .expand(2024, 2027);
+    private final BusinessCalendar calendar = BusinessCalendar.compile(FIRST, LAST, WEEKEND, holidays);
+
+    @Test
+    @DisplayName("Should expand fixed and Easter-relative holidays")
+    void shouldExpandHolidays() {
+        assertTrue(holidays.contains(LocalDate.of(2025, 12, 25)));
+        assertTrue(holidays.contains(LocalDate.of(2025, 4, 18)), "Good Friday 2025");
+        assertTrue(holidays.contains(LocalDate.of(2025, 3, 4)), "Carnival Tuesday 2025");
+        assertTrue(holidays.contains(LocalDate.of(2024, 5, 30)), "Corpus Christi 2024");
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2025, 3, 3)));
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2025, 3, 5)));
+    }
+
+    @Test
+    @DisplayName("Should agree with a day-by-day count for every query")
+    void shouldMatchNaiveCounting() {
+        Random random = new Random(42);
+        int span = (int) ChronoUnit.DAYS.between(FIRST, LAST);
+        for (int i = 0; i < 2_000; i++) {
+            LocalDate start = FIRST.plusDays(random.nextInt(span - 60));
+            LocalDate end = start.plusDays(random.nextInt(60));
+
+            assertEquals(naiveBetween(start, end), calendar.businessDaysBetween(start, end), start + ".." + end);
+            assertEquals(-naiveBetween(start, end), calendar.businessDaysBetween(end, start));
+            assertEquals(naiveNext(start), calendar.nextBusinessDay(start), "next after " + start);
+        }
+        assertEquals(LocalDate.of(2025, 3, 5), calendar.onOrNextBusinessDay(LocalDate.of(2025, 3, 1)));
+        assertEquals(LocalDate.of(2025, 3, 5), calendar.onOrNextBusinessDay(LocalDate.of(2025, 3, 5)));
+    }
+
+    @Test
+    @DisplayName("Should keep calendar-day arithmetic under EVERY_DAY and count tiers in business days otherwise")
+    void shouldDriveFeeTiers() {
+        LocalDate friday = LocalDate.of(2025, 2, 21);
+        LocalDate afterCarnival = LocalDate.of(2025, 3, 10);
+
+        assertEquals(17, BusinessCalendar.EVERY_DAY.businessDaysBetween(friday, afterCarnival));
+        assertEquals(9, calendar.businessDaysBetween(friday, afterCarnival));
+        assertFalse(new TenDaysFeePolicy().isApplicable(friday, afterCarnival));
+        assertTrue(new TenDaysFeePolicy(calendar).isApplicable(friday, afterCarnival));
+        assertThrows(DomainException.InvalidTransferDate.class,
+            () -> calendar.isBusinessDay(LAST.plusDays(1)));
+    }
+
+    private long naiveBetween(LocalDate start, LocalDate end) {
+        long count = 0;
+        for (LocalDate day = start.plusDays(1); !day.isAfter(end); day = day.plusDays(1)) {
+            if (isBusinessDay(day)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private LocalDate naiveNext(LocalDate date) {
+        LocalDate day = date.plusDays(1);
+        while (!isBusinessDay(day)) {
+            day = day.plusDays(1);
+        }
+        return day;
+    }
+
+    private boolean isBusinessDay(LocalDate day) {
+        return !WEEKEND.contains(day.getDayOfWeek()) && !holidays.contains(day);
+    }
+}
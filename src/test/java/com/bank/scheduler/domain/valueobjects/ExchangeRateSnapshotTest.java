@@ -0,0 +1,73 @@
+package com.bank.scheduler.domain.valueobjects;
+
+import com.bank.scheduler.domain.exceptions.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ExchangeRateSnapshot Tests")
+class ExchangeRateSnapshotTest {
+
+    private final ExchangeRateSnapshot snapshot = ExchangeRateSnapshot.of("BRL",
+        Map.of("USD", new BigDecimal("5.00"), "EUR", new BigDecimal("5.50")), Instant.EPOCH);
+
+    @Test
+    @DisplayName("Should convert to and from the base currency at the configured rate")
+    void shouldConvertThroughBase() {
+        assertEquals(Money.of(new BigDecimal("500.00")), snapshot.toBase(Money.of(new BigDecimal("100"), "USD")));
+        assertEquals(Money.of(new BigDecimal("20.00"), "USD"),
+            snapshot.convert(Money.of(new BigDecimal("100")), "USD"));
+    }
+
+    @Test
+    @DisplayName("Should convert between two foreign currencies with the precomputed cross rate")
+    void shouldConvertCrossCurrency() {
+        assertEquals(Money.of(new BigDecimal("110.00"), "USD"),
+            snapshot.convert(Money.of(new BigDecimal("100"), "EUR"), "USD"));
+        assertEquals(0, new BigDecimal("1.1").compareTo(snapshot.rate("EUR", "USD")));
+    }
+
+    @Test
+    @DisplayName("Should return same-currency amounts unchanged")
+    void shouldNotConvertSameCurrency() {
+        Money amount = Money.of(new BigDecimal("12.34"), "EUR");
+
+        assertSame(amount, snapshot.convert(amount, "EUR"));
+    }
+
+    @Test
+    @DisplayName("Should refuse currencies the snapshot has no rate for")
+    void shouldRejectUnknownCurrency() {
+        assertFalse(snapshot.supports("CHF"));
+        assertTrue(ExchangeRateSnapshot.BASE_ONLY.supports("BRL"));
+        assertThrows(DomainException.UnsupportedCurrency.class,
+            () -> snapshot.convert(Money.of(BigDecimal.TEN, "CHF"), "BRL"));
+        assertThrows(DomainException.UnsupportedCurrency.class,
+            () -> ExchangeRateSnapshot.BASE_ONLY.convert(Money.of(BigDecimal.TEN), "USD"));
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive rates and malformed currency codes")
+    void shouldRejectInvalidRates() {
+        assertThrows(IllegalArgumentException.class,
+            () -> ExchangeRateSnapshot.of("BRL", Map.of("USD", BigDecimal.ZERO), Instant.EPOCH));
+        assertThrows(IllegalArgumentException.class,
+            () -> ExchangeRateSnapshot.of("BRL", Map.of("usd", BigDecimal.ONE), Instant.EPOCH));
+    }
+
+    @Test
+    @DisplayName("Should only add and subtract Money of the same currency")
+    void shouldKeepCurrenciesApart() {
+        Money reais = Money.of(BigDecimal.TEN);
+        Money dollars = Money.of(BigDecimal.TEN, "USD");
+
+        assertNotEquals(reais, dollars);
+        assertThrows(IllegalArgumentException.class, () -> reais.add(dollars));
+        assertEquals(Money.of(new BigDecimal("20"), "USD"), dollars.add(dollars));
+    }
+}
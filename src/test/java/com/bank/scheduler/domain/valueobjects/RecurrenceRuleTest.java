@@ -0,0 +1,47 @@
+package com.bank.scheduler.domain.valueobjects;
+
+import com.bank.scheduler.domain.exceptions.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RecurrenceRule Tests")
+class RecurrenceRuleTest {
+
+    @Test
+    @DisplayName("Should compute monthly occurrences from the anchor, not from the previous one")
+    void shouldKeepMonthEndAnchor() {
+        RecurrenceRule rule = RecurrenceRule.of(RecurrenceRule.Frequency.MONTHLY, 1,
+            LocalDate.of(2025, 1, 31), LocalDate.of(2025, 12, 31));
+
+        assertEquals(LocalDate.of(2025, 2, 28), rule.occurrence(1));
+        assertEquals(LocalDate.of(2025, 3, 31), rule.occurrence(2));
+        assertEquals(LocalDate.of(2025, 12, 31), rule.occurrence(11));
+        assertNull(rule.occurrence(12));
+    }
+
+    @Test
+    @DisplayName("Should step weekly occurrences by the interval and stop after the end date")
+    void shouldStepWeeklyByInterval() {
+        RecurrenceRule rule = RecurrenceRule.of(RecurrenceRule.Frequency.WEEKLY, 2,
+            LocalDate.of(2025, 6, 2), LocalDate.of(2025, 6, 30));
+
+        assertEquals(LocalDate.of(2025, 6, 16), rule.occurrence(1));
+        assertEquals(LocalDate.of(2025, 6, 30), rule.occurrence(2));
+        assertNull(rule.occurrence(3));
+    }
+
+    @Test
+    @DisplayName("Should reject a rule ending before it starts or with a zero interval")
+    void shouldRejectInvalidRules() {
+        LocalDate first = LocalDate.of(2025, 6, 2);
+
+        assertThrows(DomainException.InvalidTransferDate.class, () ->
+            RecurrenceRule.of(RecurrenceRule.Frequency.WEEKLY, 1, first, first.minusDays(1)));
+        assertThrows(DomainException.InvalidTransferData.class, () ->
+            RecurrenceRule.of(RecurrenceRule.Frequency.MONTHLY, 0, first, first.plusYears(1)));
+    }
+}
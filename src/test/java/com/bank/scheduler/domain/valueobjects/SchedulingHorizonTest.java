@@ -0,0 +1,71 @@
+package com.bank.scheduler.domain.valueobjects;
+
+import com.bank.scheduler.domain.policies.ElevenToTwentyDaysFeePolicy;
+import com.bank.scheduler.domain.policies.FeePolicy;
+import com.bank.scheduler.domain.policies.FortyOneToFiftyDaysFeePolicy;
+import com.bank.scheduler.domain.policies.SameDayFeePolicy;
+import com.bank.scheduler.domain.policies.TenDaysFeePolicy;
+import com.bank.scheduler.domain.policies.ThirtyOneToFortyDaysFeePolicy;
+import com.bank.scheduler.domain.policies.TwentyOneToThirtyDaysFeePolicy;
+import com.bank.scheduler.infrastructure.calendar.HolidayDefinitions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SchedulingHorizon Tests")
+class SchedulingHorizonTest {
+
+    private final BusinessCalendar calendar = BusinessCalendar.compile(
+        LocalDate.of(2024, 1, 1), LocalDate.of(2027, 12, 31),
+        EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY),
+        HolidayDefinitions.parse(getClass().getResourceAsStream("/calendar/holidays-br.txt")).expand(2024, 2027));
+
+    @Test
+    @DisplayName("Should reach every fee tier inside the horizon when tiers count business days")
+    void shouldReachEveryTierInBusinessDays() {
+        SchedulingHorizon horizon = SchedulingHorizon.countedIn(calendar);
+
+        for (LocalDate day = LocalDate.of(2025, 1, 2); day.isBefore(LocalDate.of(2026, 1, 1)); day = day.plusDays(17)) {
+            LocalDate today = calendar.onOrNextBusinessDay(day);
+            for (FeePolicy tier : tiers(calendar)) {
+                assertTrue(reachable(tier, today, horizon.lastDate(today), calendar),
+                    tier.getClass().getSimpleName() + " unreachable from " + today);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the 50 calendar-day horizon when tiers count calendar days")
+    void shouldKeepCalendarDayHorizon() {
+        LocalDate today = LocalDate.of(2025, 2, 21);
+
+        assertEquals(today.plusDays(50), SchedulingHorizon.CALENDAR_DAYS.lastDate(today));
+        for (FeePolicy tier : tiers(BusinessCalendar.EVERY_DAY)) {
+            assertTrue(reachable(tier, today, today.plusDays(50), BusinessCalendar.EVERY_DAY),
+                tier.getClass().getSimpleName());
+        }
+        assertFalse(reachable(new FortyOneToFiftyDaysFeePolicy(calendar), today, today.plusDays(50), calendar),
+            "A calendar-day horizon cuts off the last business-day tier");
+    }
+
+    private static boolean reachable(FeePolicy tier, LocalDate today, LocalDate lastDate, BusinessCalendar calendar) {
+        for (LocalDate date = today; !date.isAfter(lastDate); date = date.plusDays(1)) {
+            if (calendar.isBusinessDay(date) && tier.isApplicable(today, date)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<FeePolicy> tiers(BusinessCalendar calendar) {
+        return List.of(new SameDayFeePolicy(calendar), new TenDaysFeePolicy(calendar),
+            new ElevenToTwentyDaysFeePolicy(calendar), new TwentyOneToThirtyDaysFeePolicy(calendar),
+            new ThirtyOneToFortyDaysFeePolicy(calendar), new FortyOneToFiftyDaysFeePolicy(calendar));
+    }
+}
@@ -0,0 +1,201 @@
+package com.bank.scheduler.infrastructure.accounts;
+
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CachingAccountDirectory Tests")
+class CachingAccountDirectoryTest {
+
+    private static final AccountNumber OPEN = AccountNumber.of("1234567890");
+    private static final AccountNumber UNKNOWN = AccountNumber.of("9999999999");
+
+    private CountingSource source;
+    private TransferRepository transferRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        source = new CountingSource(Set.of("1234567890", "0987654321", "1111111111"));
+        transferRepository = mock(TransferRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2025-06-02T09:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("Should answer repeated checks for an existing account from memory")
+    void shouldCachePositiveResults() {
+        CachingAccountDirectory directory = directory(true);
+
+        assertTrue(directory.exists(OPEN));
+        clock.advance(Duration.ofMinutes(59));
+        assertTrue(directory.exists(OPEN));
+
+        assertEquals(1, source.calls.get());
+        assertEquals(1.0, meterRegistry.get("accounts.directory.requests").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should keep a missing account only for the negative TTL")
+    void shouldExpireNegativeResultsQuickly() {
+        CachingAccountDirectory directory = directory(true);
+
+        assertFalse(directory.exists(UNKNOWN));
+        assertFalse(directory.exists(UNKNOWN));
+        assertEquals(1, source.calls.get());
+
+        source.open("9999999999");
+        clock.advance(Duration.ofSeconds(31));
+        assertTrue(directory.exists(UNKNOWN));
+        assertEquals(2, source.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should collapse concurrent misses for the same account into one lookup")
+    void shouldCollapseConcurrentMisses() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        source.gate = release;
+        CachingAccountDirectory directory = directory(true);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> directory.exists(OPEN)));
+            }
+            assertTrue(source.entered.await(5, TimeUnit.SECONDS));
+            while (meterRegistry.get("accounts.directory.requests").tag("result", "collapsed").counter().count()
+                    + meterRegistry.get("accounts.directory.requests").tag("result", "hit").counter().count() < 7) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, source.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should preload the busiest accounts of pending transfers in one bulk lookup")
+    void shouldPreloadHotAccounts() {
+        LocalDate today = LocalDate.now(clock);
+        when(transferRepository.findBusiestAccounts(today, 100))
+            .thenReturn(List.of("1234567890", "0987654321", "1111111111", "8888888888"));
+        CachingAccountDirectory directory = directory(true);
+
+        directory.preloadHotAccounts();
+
+        assertEquals(1, source.calls.get());
+        assertEquals(3, directory.size());
+        assertTrue(directory.exists(OPEN));
+        assertTrue(directory.exists(AccountNumber.of("1111111111")));
+        assertEquals(1, source.calls.get());
+        assertFalse(directory.exists(AccountNumber.of("8888888888")));
+        assertEquals(2, source.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should accept every account without a lookup when disabled")
+    void shouldPassThroughWhenDisabled() {
+        CachingAccountDirectory directory = directory(false);
+
+        assertTrue(directory.exists(UNKNOWN));
+        directory.preloadHotAccounts();
+
+        assertEquals(0, source.calls.get());
+        verifyNoInteractions(transferRepository);
+    }
+
+    private CachingAccountDirectory directory(boolean enabled) {
+        return new CachingAccountDirectory(source, transferRepository, meterRegistry, clock, enabled,
+            Duration.ofHours(1), Duration.ofSeconds(30), 1000, 100);
+    }
+
+    private static final class CountingSource implements AccountDirectorySource {
+        private final Set<String> open;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private volatile CountDownLatch gate;
+
+        CountingSource(Set<String> open) {
+            this.open = new HashSet<>(open);
+        }
+
+        synchronized void open(String account) {
+            open.add(account);
+        }
+
+        @Override
+        public Set<String> findExisting(Collection<String> accountNumbers) {
+            calls.incrementAndGet();
+            entered.countDown();
+            if (gate != null) {
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            Set<String> existing = new HashSet<>();
+            synchronized (this) {
+                accountNumbers.stream().filter(open::contains).forEach(existing::add);
+            }
+            return existing;
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.bank.scheduler.infrastructure.audit;
+
+import com.bank.scheduler.domain.valueobjects.AuditAction;
+import com.bank.scheduler.domain.valueobjects.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferAuditTrailTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldDrainEveryEntryOnceAndInPublishOrderPerProducer() throws Exception {
+        AuditRingBuffer ring = new AuditRingBuffer(1024);
+        int producers = 4;
+        int perProducer = 50_000;
+        long[] lastSeen = new long[producers];
+        Arrays.fill(lastSeen, -1);
+        long[] received = new long[1];
+        AtomicBoolean outOfOrder = new AtomicBoolean();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!ring.publish(0, producer, i, i, 0)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        AuditRingBuffer.EntryHandler handler = (sequence, action, high, low, amount, timestamp) -> {
+            int producer = (int) high;
+            if (low != lastSeen[producer] + 1) {
+                outOfOrder.set(true);
+            }
+            lastSeen[producer] = low;
+            received[0]++;
+        };
+        while (received[0] < (long) producers * perProducer) {
+            ring.drain(handler, 256);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertFalse(outOfOrder.get());
+        for (long last : lastSeen) {
+            assertEquals(perProducer - 1, last);
+        }
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    void shouldRefusePublishWhenFullUntilDrained() {
+        AuditRingBuffer ring = new AuditRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.publish(0, 0, i, 0, 0));
+        }
+        assertFalse(ring.publish(0, 0, 4, 0, 0));
+
+        assertEquals(2, ring.drain((sequence, action, high, low, amount, timestamp) -> { }, 2));
+        assertTrue(ring.publish(0, 0, 4, 0, 0));
+        assertEquals(3, ring.size());
+    }
+
+    @Test
+    void shouldAppendRecordsToAuditFileAndCountDrops() throws Exception {
+        Path file = directory.resolve("audit/transfers.audit");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RingBufferAuditTrail trail = new RingBufferAuditTrail(task -> { }, registry, true, file.toString(),
+            2, 16, AuditOverflowPolicy.DROP, 0);
+        UUID transferId = UUID.randomUUID();
+
+        trail.record(AuditAction.SCHEDULED, transferId, Money.of(new BigDecimal("150.25")));
+        trail.record(AuditAction.DELETED, transferId, null);
+        trail.record(AuditAction.CLEARED, null, null);
+        assertEquals(2, trail.drain());
+        trail.record(AuditAction.CLEARED, null, null);
+        trail.close();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).endsWith(",SCHEDULED," + transferId + ",150.25"));
+        assertTrue(lines.get(1).endsWith(",DELETED," + transferId + ","));
+        assertTrue(lines.get(2).endsWith(",CLEARED,,"));
+        assertEquals(1.0, registry.get("audit.records.dropped").counter().count());
+        assertEquals(3.0, registry.get("audit.records.written").counter().count());
+    }
+}
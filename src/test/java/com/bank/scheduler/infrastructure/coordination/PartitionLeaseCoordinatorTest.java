@@ -0,0 +1,154 @@
+package com.bank.scheduler.infrastructure.coordination;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PartitionLeaseCoordinator Tests")
+class PartitionLeaseCoordinatorTest {
+
+    private static final int PARTITIONS = 12;
+
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:leases-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    @Test
+    @DisplayName("Should spread partitions evenly and without overlap over live replicas")
+    void shouldSpreadPartitionsEvenly() {
+        List<Replica> replicas = List.of(new Replica("a"), new Replica("b"), new Replica("c"));
+
+        heartbeatAll(replicas, 2);
+
+        Set<Integer> all = new HashSet<>();
+        for (Replica replica : replicas) {
+            assertEquals(4, replica.job.owned.size(), replica.coordinator.memberId() + " owns " + replica.job.owned);
+            replica.job.owned.forEach(partition -> assertTrue(all.add(partition), "Partition owned twice"));
+        }
+        assertEquals(PARTITIONS, all.size());
+    }
+
+    @Test
+    @DisplayName("Should rebalance the partitions of a replica that leaves")
+    void shouldRebalanceWhenReplicaLeaves() {
+        Replica a = new Replica("a");
+        Replica b = new Replica("b");
+        Replica c = new Replica("c");
+        heartbeatAll(List.of(a, b, c), 2);
+
+        c.coordinator.releaseAll();
+        heartbeatAll(List.of(a, b), 2);
+
+        assertEquals(6, a.job.owned.size());
+        assertEquals(6, b.job.owned.size());
+        assertTrue(a.job.owned.stream().noneMatch(b.job.owned::contains));
+    }
+
+    @Test
+    @DisplayName("Should fence a stale owner once its expired lease is claimed again")
+    void shouldFenceStaleOwner() {
+        LeaseStore store = new LeaseStore(dataSource);
+        store.initializeSchema();
+        store.ensurePartitions("job", 1);
+        Instant now = Instant.now();
+
+        PartitionLease stale = store.tryClaim("job", 0, "a", now, now.plusSeconds(1)).orElseThrow();
+        assertTrue(store.tryClaim("job", 0, "b", now, now.plusSeconds(30)).isEmpty(), "Lease is still held");
+
+        Instant later = now.plusSeconds(2);
+        PartitionLease current = store.tryClaim("job", 0, "b", later, later.plusSeconds(30)).orElseThrow();
+
+        assertEquals(stale.getEpoch() + 1, current.getEpoch());
+        assertFalse(store.isCurrent(stale, later));
+        assertFalse(store.renew(stale, later, later.plusSeconds(30)));
+        assertTrue(store.isCurrent(current, later));
+    }
+
+    @Test
+    @DisplayName("Should not take over live leases when the replica clock runs ahead")
+    void shouldJudgeExpiryOnDatabaseTime() {
+        Replica a = new Replica("a");
+        a.coordinator.heartbeat();
+        Replica ahead = new Replica("ahead", Clock.offset(Clock.systemUTC(), Duration.ofMinutes(5)));
+
+        ahead.coordinator.heartbeat();
+        assertTrue(ahead.job.owned.isEmpty(), "Leases held by a are still live: " + ahead.job.owned);
+
+        heartbeatAll(List.of(a, ahead), 2);
+        assertEquals(6, a.job.owned.size());
+        assertEquals(6, ahead.job.owned.size());
+        assertTrue(a.job.owned.stream().noneMatch(ahead.job.owned::contains));
+        ahead.job.owned.forEach(partition -> assertTrue(ahead.coordinator.owns("test-job", partition)));
+    }
+
+    private static void heartbeatAll(List<Replica> replicas, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            replicas.forEach(replica -> replica.coordinator.heartbeat());
+        }
+    }
+
+    private final class Replica {
+        private final RecordingJob job = new RecordingJob();
+        private final PartitionLeaseCoordinator coordinator;
+
+        private Replica(String name) {
+            this(name, Clock.systemUTC());
+        }
+
+        private Replica(String name, Clock clock) {
+            StaticListableBeanFactory beans = new StaticListableBeanFactory();
+            beans.addBean("job", job);
+            coordinator = new PartitionLeaseCoordinator(dataSource, beans.getBeanProvider(PartitionedJob.class),
+                new SimpleMeterRegistry(), clock, true, Duration.ofSeconds(30), 10_000, Duration.ofSeconds(2), name);
+        }
+    }
+
+    private static final class RecordingJob implements PartitionedJob {
+        private final Set<Integer> owned = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public String jobName() {
+            return "test-job";
+        }
+
+        @Override
+        public int partitionCount() {
+            return PARTITIONS;
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<PartitionLease> assigned) {
+            owned.addAll(partitions(assigned));
+        }
+
+        @Override
+        public void onPartitionsRevoked(Collection<PartitionLease> revoked) {
+            owned.removeAll(partitions(revoked));
+        }
+
+        private static Set<Integer> partitions(Collection<PartitionLease> leases) {
+            return leases.stream().map(PartitionLease::getPartition).collect(Collectors.toSet());
+        }
+    }
+}
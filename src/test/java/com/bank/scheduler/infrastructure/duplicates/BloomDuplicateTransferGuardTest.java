@@ -0,0 +1,164 @@
+package com.bank.scheduler.infrastructure.duplicates;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.ports.PendingTransfers;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.TransferSearchCriteria;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BloomDuplicateTransferGuard Tests")
+class BloomDuplicateTransferGuardTest {
+
+    private static final LocalDate TRANSFER_DATE = LocalDate.of(2025, 6, 10);
+
+    private final List<Transfer> pending = new ArrayList<>();
+    private TransferRepository transferRepository;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        transferRepository = mock(TransferRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should only query the database when the filter reports a possible duplicate")
+    void shouldConfirmOnlyOnFilterHit() {
+        BloomDuplicateTransferGuard guard = guard(DuplicatePolicy.REJECT, Clock.systemUTC());
+
+        guard.accepted(transfer("100.00"));
+        guard.check(transfer("200.00"));
+
+        verify(transferRepository, never()).search(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a confirmed duplicate under REJECT")
+    void shouldRejectConfirmedDuplicate() {
+        BloomDuplicateTransferGuard guard = guard(DuplicatePolicy.REJECT, Clock.systemUTC());
+        Transfer original = transfer("100.00");
+        guard.accepted(original);
+        when(transferRepository.search(any(TransferSearchCriteria.class))).thenReturn(List.of(original));
+
+        assertThrows(DomainException.DuplicateTransfer.class, () -> guard.check(transfer("100.0")));
+        assertEquals(1.0, meterRegistry.get("transfers.duplicates.detected").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should accept a filter hit the database does not confirm")
+    void shouldAcceptFalsePositive() {
+        BloomDuplicateTransferGuard guard = guard(DuplicatePolicy.REJECT, Clock.systemUTC());
+        guard.accepted(transfer("100.00"));
+        when(transferRepository.search(any(TransferSearchCriteria.class))).thenReturn(List.of(transfer("999.00")));
+
+        assertDoesNotThrow(() -> guard.check(transfer("100.00")));
+        assertEquals(1.0, meterRegistry.get("transfers.duplicates.false-positives").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should accept a confirmed duplicate under FLAG")
+    void shouldAcceptFlaggedDuplicate() {
+        BloomDuplicateTransferGuard guard = guard(DuplicatePolicy.FLAG, Clock.systemUTC());
+        Transfer original = transfer("100.00");
+        guard.accepted(original);
+        when(transferRepository.search(any(TransferSearchCriteria.class))).thenReturn(List.of(original));
+
+        assertDoesNotThrow(() -> guard.check(transfer("100.00")));
+        assertEquals(1.0, meterRegistry.get("transfers.duplicates.detected").tag("policy", "FLAG").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should stop suspecting a transfer once the window has passed")
+    void shouldForgetAfterWindow() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-06-01T10:00:00Z"));
+        BloomDuplicateTransferGuard guard = guard(DuplicatePolicy.REJECT, clock);
+        guard.accepted(transfer("100.00"));
+
+        clock.now = clock.now.plus(Duration.ofMinutes(16));
+        guard.check(transfer("100.00"));
+        verify(transferRepository, never()).search(any());
+
+        guard.accepted(transfer("100.00"));
+        guard.check(transfer("100.00"));
+        verify(transferRepository, times(1)).search(any());
+    }
+
+    @Test
+    @DisplayName("Should not remember a transfer that was checked but never accepted")
+    void shouldOnlyRememberAcceptedTransfers() {
+        BloomDuplicateTransferGuard guard = guard(DuplicatePolicy.REJECT, Clock.systemUTC());
+
+        guard.check(transfer("100.00"));
+        guard.check(transfer("100.00"));
+
+        verify(transferRepository, never()).search(any());
+    }
+
+    @Test
+    @DisplayName("Should confirm a duplicate of a transfer still pending persistence")
+    void shouldRejectDuplicateOfPendingTransfer() {
+        Transfer original = transfer("100.00");
+        pending.add(original);
+        BloomDuplicateTransferGuard guard = guard(DuplicatePolicy.REJECT, Clock.systemUTC());
+        guard.accepted(original);
+
+        assertThrows(DomainException.DuplicateTransfer.class, () -> guard.check(transfer("100.00")));
+        verify(transferRepository, never()).search(any());
+    }
+
+    private BloomDuplicateTransferGuard guard(DuplicatePolicy policy, Clock clock) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("pendingTransfers", (PendingTransfers) () -> pending);
+        return new BloomDuplicateTransferGuard(transferRepository, beans.getBeanProvider(PendingTransfers.class),
+            meterRegistry, clock, true, policy, Duration.ofMinutes(10), 3, 1_000, 0.01, 1 << 20);
+    }
+
+    private static Transfer transfer(String amount) {
+        return Transfer.schedule(AccountNumber.of("1234567890"), AccountNumber.of("0987654321"),
+            Money.of(new BigDecimal(amount)), Money.of(BigDecimal.ZERO), TRANSFER_DATE.minusDays(5), TRANSFER_DATE);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.bank.scheduler.infrastructure.duplicates;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RotatingBloomFilter Tests")
+class RotatingBloomFilterTest {
+
+    @Test
+    @DisplayName("Should remember every key and stay near the target false-positive rate")
+    void shouldHaveNoFalseNegativesAndBoundedFalsePositives() {
+        RotatingBloomFilter filter = RotatingBloomFilter.sized(4, 10_000, 0.01, 1 << 20);
+        SplittableRandom random = new SplittableRandom(42);
+        long[][] keys = new long[10_000][];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new long[] {random.nextLong(), random.nextLong() | 1};
+            filter.put(keys[i][0], keys[i][1]);
+        }
+        filter.rotate();
+
+        for (long[] key : keys) {
+            assertTrue(filter.mightContain(key[0], key[1]));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(random.nextLong(), random.nextLong() | 1)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 1_000, "false positives: " + falsePositives);
+        assertTrue(filter.sizeInBytes() < 10_000 * 4 * 2, "bytes: " + filter.sizeInBytes());
+    }
+
+    @Test
+    @DisplayName("Should forget a key once its segment has rotated out")
+    void shouldForgetAfterFullRotation() {
+        RotatingBloomFilter filter = RotatingBloomFilter.sized(3, 100, 0.01, 1 << 20);
+        filter.put(7, 13);
+
+        filter.rotate();
+        filter.rotate();
+        assertTrue(filter.mightContain(7, 13));
+
+        filter.rotate();
+        assertFalse(filter.mightContain(7, 13));
+    }
+
+    @Test
+    @DisplayName("Should cap memory at the byte budget")
+    void shouldRespectByteBudget() {
+        RotatingBloomFilter filter = RotatingBloomFilter.sized(4, 10_000_000, 0.01, 64 * 1024);
+
+        assertTrue(filter.sizeInBytes() <= 64 * 1024);
+        assertTrue(filter.hashCount() >= 1);
+    }
+}
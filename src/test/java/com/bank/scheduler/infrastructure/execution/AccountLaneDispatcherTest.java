@@ -0,0 +1,138 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccountLaneDispatcher Tests")
+class AccountLaneDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AccountLaneDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should run the tasks of each account in submission order")
+    void shouldPreservePerAccountOrder() throws InterruptedException {
+        dispatcher = new AccountLaneDispatcher(meterRegistry, 4, 5, 10_000);
+        Map<AccountNumber, List<Integer>> executed = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(20 * 50);
+
+        for (int seq = 0; seq < 50; seq++) {
+            for (int a = 0; a < 20; a++) {
+                AccountNumber account = account(a);
+                int value = seq;
+                dispatcher.submit(account, () -> {
+                    executed.computeIfAbsent(account, k -> Collections.synchronizedList(new ArrayList<>())).add(value);
+                    done.countDown();
+                });
+            }
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        for (List<Integer> order : executed.values()) {
+            for (int i = 0; i < order.size(); i++) {
+                assertEquals(i, order.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should let an idle lane steal a lone task blocked behind a slow account")
+    void shouldStealOnlyWhenOrderingAllows() throws InterruptedException {
+        // Long idle poll: the back-to-back submissions below finish well inside one steal attempt
+        dispatcher = new AccountLaneDispatcher(meterRegistry, 2, 200, 10_000);
+        AccountNumber slow = account(0);
+        AccountNumber lone = accountOnLane(dispatcher.homeLane(slow), 1);
+        AccountNumber queued = accountOnLane(dispatcher.homeLane(slow), 2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch loneDone = new CountDownLatch(1);
+        List<String> queuedOrder = Collections.synchronizedList(new ArrayList<>());
+
+        dispatcher.submit(slow, () -> {
+            slowStarted.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+        dispatcher.submit(queued, () -> queuedOrder.add("first"));
+        dispatcher.submit(queued, () -> queuedOrder.add("second"));
+        dispatcher.submit(lone, loneDone::countDown);
+
+        assertTrue(loneDone.await(5, TimeUnit.SECONDS), "Lone task should be stolen while its home lane is busy");
+        assertTrue(queuedOrder.isEmpty(), "Accounts with queued work must wait for their home lane");
+        assertEquals(1.0, meterRegistry.get("transfers.lanes.steals").counter().count());
+
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (queuedOrder.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(List.of("first", "second"), queuedOrder);
+    }
+
+    @Test
+    @DisplayName("Should report no capacity while the lanes hold max-queued tasks")
+    void shouldReportCapacityFromQueuedTasks() throws InterruptedException {
+        dispatcher = new AccountLaneDispatcher(meterRegistry, 1, 5, 3);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(4);
+        AccountNumber account = account(0);
+
+        dispatcher.submit(account, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            done.countDown();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 3; i++) {
+            dispatcher.submit(account, done::countDown);
+        }
+
+        assertEquals(3, dispatcher.queued());
+        assertFalse(dispatcher.hasCapacity());
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(dispatcher.hasCapacity());
+    }
+
+    private AccountNumber accountOnLane(int lane, int skip) {
+        int found = 0;
+        for (int i = 1; ; i++) {
+            AccountNumber candidate = account(i);
+            if (dispatcher.homeLane(candidate) == lane && ++found == skip) {
+                return candidate;
+            }
+        }
+    }
+
+    private static AccountNumber account(int i) {
+        return AccountNumber.of(String.format("%010d", 1_000_000L + i * 7919L));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
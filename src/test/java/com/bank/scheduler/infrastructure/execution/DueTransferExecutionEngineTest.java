@@ -0,0 +1,147 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.ports.DeadLetterStore;
+import com.bank.scheduler.domain.ports.SettlementGateway;
+import com.bank.scheduler.domain.ports.TransferEventPublisher;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.BusinessCalendar;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
+import com.bank.scheduler.infrastructure.monitoring.MetricsCollector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DueTransferExecutionEngine Tests")
+class DueTransferExecutionEngineTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-02T10:00:00Z");
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 2);
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(5);
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TransferRepository repository = mock(TransferRepository.class);
+    private final SettlementGateway gateway = mock(SettlementGateway.class);
+    private final List<Runnable> queued = new ArrayList<>();
+    private boolean rejecting;
+    private final RetryScheduler retryScheduler =
+        new RetryScheduler(meterRegistry, CLOCK, Duration.ofHours(1), Duration.ofHours(1), 100, 100);
+    private final DueTransferExecutionEngine engine = new DueTransferExecutionEngine(
+        repository,
+        gateway,
+        TransferEventPublisher.NONE,
+        new TransactionTemplate(mock(PlatformTransactionManager.class)),
+        (transfer, execution) -> {
+            if (rejecting) {
+                throw new TaskRejectedException("saturated");
+            }
+            queued.add(execution);
+        },
+        new MetricsCollector(meterRegistry),
+        null,
+        retryScheduler,
+        mock(DeadLetterStore.class),
+        new SettlementNetting(new DriverManagerDataSource(
+            "jdbc:h2:mem:engine-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""), meterRegistry, CLOCK, false,
+            1000),
+        BusinessCalendar.EVERY_DAY,
+        CLOCK,
+        true,
+        10,
+        CLAIM_TIMEOUT,
+        5);
+
+    @AfterEach
+    void tearDown() {
+        retryScheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should release queued settlements on quiesce and skip them when dequeued")
+    void shouldReleaseQueuedSettlements() {
+        Transfer first = claimed();
+        Transfer second = claimed();
+        when(repository.claimDue(eq(TODAY), any(), any(), anyInt())).thenReturn(List.of(first, second));
+        when(repository.renewClaim(any(), any())).thenReturn(true);
+
+        assertEquals(2, engine.dispatchDue(TODAY));
+        assertEquals(2, engine.activeSettlements());
+
+        engine.quiesce();
+        assertEquals(0, engine.dispatchDue(TODAY));
+        assertEquals(Set.of(first.getId(), second.getId()), Set.copyOf(engine.releaseUnstarted()));
+        verify(repository).renewClaim(first.getId(), NOW.minus(CLAIM_TIMEOUT));
+        verify(repository).renewClaim(second.getId(), NOW.minus(CLAIM_TIMEOUT));
+
+        queued.forEach(Runnable::run);
+        verifyNoInteractions(gateway);
+        assertEquals(0, engine.activeSettlements());
+    }
+
+    @Test
+    @DisplayName("Should release a pending retry so it turns stale when the retry was due")
+    void shouldReleasePendingRetryAtItsRetryTime() {
+        Transfer transfer = claimed();
+        when(repository.claimDue(eq(TODAY), any(), any(), anyInt())).thenReturn(List.of(transfer));
+        when(repository.renewClaim(any(), any())).thenReturn(true);
+        doThrow(new IllegalStateException("gateway timeout")).when(gateway).settle(any());
+
+        engine.dispatchDue(TODAY);
+        queued.remove(0).run();
+        assertEquals(0, engine.activeSettlements(), "a retry that is not due yet does not hold up the drain");
+
+        assertEquals(List.of(transfer.getId()), engine.releaseUnstarted());
+        ArgumentCaptor<Instant> claims = ArgumentCaptor.forClass(Instant.class);
+        verify(repository, times(2)).renewClaim(eq(transfer.getId()), claims.capture());
+        Instant retryAt = claims.getAllValues().get(0);
+        assertTrue(retryAt.isAfter(NOW));
+        assertEquals(retryAt.minus(CLAIM_TIMEOUT), claims.getAllValues().get(1));
+        verify(repository, never()).updateStatus(any(), eq(TransferStatus.IN_PROGRESS), any());
+    }
+
+    @Test
+    @DisplayName("Should not wait for settlements the dispatcher refused")
+    void shouldForgetRefusedDispatches() {
+        Transfer transfer = claimed();
+        when(repository.claimDue(eq(TODAY), any(), any(), anyInt())).thenReturn(List.of(transfer));
+        rejecting = true;
+
+        assertEquals(1, engine.dispatchDue(TODAY));
+
+        assertEquals(0, engine.activeSettlements(), "a refused dispatch never starts, the drain must not wait for it");
+        assertTrue(engine.releaseUnstarted().isEmpty());
+        verify(repository, never()).renewClaim(any(), any());
+    }
+
+    private static Transfer claimed() {
+        return Transfer.schedule(AccountNumber.of("1111111111"), AccountNumber.of("2222222222"),
+                Money.of(new BigDecimal("10.00")), Money.of(new BigDecimal("1.00")), TODAY, TODAY)
+            .transitionTo(TransferStatus.IN_PROGRESS, NOW);
+    }
+}
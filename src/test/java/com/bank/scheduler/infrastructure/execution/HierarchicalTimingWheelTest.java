@@ -0,0 +1,73 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HierarchicalTimingWheel Tests")
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("Should fire entries at their tick after cascading from upper levels")
+    void shouldFireAtDeadlineAcrossLevels() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START);
+        wheel.schedule("soon", START + 30);
+        wheel.schedule("level1", START + 200);
+        wheel.schedule("level2", START + 3_000);
+
+        assertEquals(List.of(), wheel.advance(START + 20));
+        assertEquals(List.of("soon"), wheel.advance(START + 30));
+        assertEquals(List.of(), wheel.advance(START + 190));
+        assertEquals(List.of("level1"), wheel.advance(START + 200));
+        assertEquals(List.of(), wheel.advance(START + 2_990));
+        assertEquals(List.of("level2"), wheel.advance(START + 3_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should fire every entry exactly once in tick order")
+    void shouldFireEveryEntryOnce() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(1, 16, 3, START);
+        for (int i = 0; i < 4_000; i++) {
+            assertTrue(wheel.schedule(i, START + 1 + (i * 37L) % 4_000));
+        }
+
+        List<Integer> fired = new ArrayList<>();
+        long lastDeadline = 0;
+        for (long now = START; now < START + 4_013; now += 13) {
+            for (Integer key : wheel.advance(now)) {
+                long deadline = START + 1 + (key * 37L) % 4_000;
+                assertTrue(deadline <= now, "Fired before its deadline");
+                assertTrue(deadline >= lastDeadline, "Fired out of tick order");
+                lastDeadline = deadline;
+                fired.add(key);
+            }
+        }
+        assertEquals(4_000, fired.size());
+        assertEquals(4_000, fired.stream().distinct().count());
+    }
+
+    @Test
+    @DisplayName("Should cancel, reschedule and reject deadlines beyond the horizon")
+    void shouldCancelAndReschedule() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 2, START);
+        wheel.schedule("cancelled", START + 50);
+        wheel.schedule("moved", START + 50);
+        wheel.schedule("overdue", START - 500);
+
+        assertTrue(wheel.cancel("cancelled"));
+        assertFalse(wheel.cancel("cancelled"));
+        assertTrue(wheel.schedule("moved", START + 400));
+        assertFalse(wheel.schedule("too-far", START + wheel.horizonMillis() + 10));
+
+        assertEquals(List.of("overdue"), wheel.advance(START + 100));
+        assertEquals(List.of("moved"), wheel.advance(START + 400));
+        assertFalse(wheel.contains("too-far"));
+    }
+}
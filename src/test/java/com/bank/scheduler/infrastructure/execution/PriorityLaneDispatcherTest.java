@@ -0,0 +1,128 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.BusinessCalendar;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.TransferUrgency;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PriorityLaneDispatcher Tests")
+class PriorityLaneDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run queued same-day transfers before the bulk backlog without starving it")
+    void shouldPreferPremiumWithWeightedShareForBulk() throws InterruptedException {
+        PriorityLaneDispatcher dispatcher = dispatcher(1, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        List<TransferUrgency> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(41);
+
+        dispatcher.dispatch(transfer(30), () -> await(release));
+        for (int i = 0; i < 20; i++) {
+            dispatcher.dispatch(transfer(30), record(order, TransferUrgency.BULK, done));
+        }
+        for (int i = 0; i < 20; i++) {
+            dispatcher.dispatch(transfer(0), record(order, TransferUrgency.PREMIUM, done));
+        }
+        done.countDown();
+        release.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(TransferUrgency.PREMIUM, order.get(0));
+        List<TransferUrgency> firstNine = order.subList(0, 9);
+        assertEquals(8, Collections.frequency(firstNine, TransferUrgency.PREMIUM));
+        assertEquals(1, Collections.frequency(firstNine, TransferUrgency.BULK));
+    }
+
+    @Test
+    @DisplayName("Should start a premium transfer at once while bulk settlements hold every shared slot")
+    void shouldKeepReservedSlotForPremium() throws InterruptedException {
+        PriorityLaneDispatcher dispatcher = dispatcher(2, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch premiumRan = new CountDownLatch(1);
+
+        dispatcher.dispatch(transfer(5), () -> await(release));
+        dispatcher.dispatch(transfer(5), () -> { });
+        dispatcher.dispatch(transfer(0), premiumRan::countDown);
+
+        assertTrue(premiumRan.await(2, TimeUnit.SECONDS));
+        assertEquals(1, dispatcher.depth(TransferUrgency.STANDARD));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should report no capacity once the lanes hold max-queued tasks")
+    void shouldReportCapacityFromQueuedTasks() throws InterruptedException {
+        PriorityLaneDispatcher dispatcher = dispatcher(1, 0, 3);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+
+        dispatcher.dispatch(transfer(30), () -> await(release));
+        dispatcher.dispatch(transfer(30), done::countDown);
+        dispatcher.dispatch(transfer(5), done::countDown);
+        assertTrue(dispatcher.hasCapacity());
+        dispatcher.dispatch(transfer(0), done::countDown);
+
+        assertEquals(3, dispatcher.queued());
+        assertFalse(dispatcher.hasCapacity());
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(dispatcher.hasCapacity());
+    }
+
+    private PriorityLaneDispatcher dispatcher(int concurrency, int reservedPremium) {
+        return dispatcher(concurrency, reservedPremium, 10000);
+    }
+
+    private PriorityLaneDispatcher dispatcher(int concurrency, int reservedPremium, int maxQueued) {
+        return new PriorityLaneDispatcher(executor, BusinessCalendar.EVERY_DAY, meterRegistry,
+            concurrency, reservedPremium, new int[] {8, 3, 1}, Duration.ofSeconds(1), maxQueued);
+    }
+
+    private static Runnable record(List<TransferUrgency> order, TransferUrgency urgency, CountDownLatch done) {
+        return () -> {
+            order.add(urgency);
+            done.countDown();
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Transfer transfer(int leadDays) {
+        LocalDate today = LocalDate.now();
+        return Transfer.schedule(AccountNumber.of("1234567890"), AccountNumber.of("0987654321"),
+            Money.of(new BigDecimal("10.00")), Money.of(new BigDecimal("1.00")), today, today.plusDays(leadDays));
+    }
+}
@@ -0,0 +1,118 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RetryScheduler Tests")
+class RetrySchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RetryScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should keep jittered backoff between half and all of the capped exponential delay")
+    void shouldBoundJitteredBackoff() {
+        scheduler = new RetryScheduler(meterRegistry, Clock.systemUTC(), Duration.ofSeconds(1), Duration.ofSeconds(30), 100, 50);
+
+        for (int i = 0; i < 200; i++) {
+            assertBetween(scheduler.backoff(2), 500, 1_000);
+            assertBetween(scheduler.backoff(4), 2_000, 4_000);
+            assertBetween(scheduler.backoff(20), 15_000, 30_000);
+        }
+    }
+
+    @Test
+    @DisplayName("Should release retries in due order without running them before their delay")
+    void shouldReleaseInDueOrder() {
+        scheduler = new RetryScheduler(meterRegistry, Clock.systemUTC(), Duration.ofMillis(10), Duration.ofSeconds(1), 100, 1_000);
+        List<String> ran = new CopyOnWriteArrayList<>();
+
+        scheduler.schedule(Duration.ofMillis(300), () -> ran.add("late"));
+        scheduler.schedule(Duration.ofMillis(50), () -> ran.add("early"));
+
+        assertEquals(2.0, meterRegistry.get("transfers.retry.pending").gauge().value());
+        await().atMost(5, TimeUnit.SECONDS).until(() -> ran.size() == 2);
+        assertEquals(List.of("early", "late"), List.copyOf(ran));
+        assertEquals(0, scheduler.pending());
+    }
+
+    @Test
+    @DisplayName("Should throttle a burst of due retries and refuse beyond max pending")
+    void shouldThrottleAndBoundRetries() {
+        scheduler = new RetryScheduler(meterRegistry, Clock.systemUTC(), Duration.ofMillis(10), Duration.ofSeconds(1), 5, 10);
+        List<Long> releasedAt = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(scheduler.schedule(Duration.ofMillis(50), () -> releasedAt.add(System.nanoTime())));
+        }
+        assertFalse(scheduler.schedule(Duration.ZERO, () -> fail("Refused retry must not run")));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> releasedAt.size() == 5);
+        long spreadMillis = TimeUnit.NANOSECONDS.toMillis(releasedAt.get(4) - releasedAt.get(0));
+        assertTrue(spreadMillis >= 350, "10 per second must spread 5 retries over ~400 ms, was " + spreadMillis);
+    }
+
+    @Test
+    @DisplayName("Should hold a retry until the clock reaches its due time")
+    void shouldMeasureBackoffOnTheClock() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-03-02T10:00:00Z"));
+        scheduler = new RetryScheduler(meterRegistry, clock, Duration.ofMillis(10), Duration.ofSeconds(1), 100, 1_000);
+        List<String> ran = new CopyOnWriteArrayList<>();
+
+        scheduler.schedule(Duration.ofMinutes(10), () -> ran.add("retry"));
+        assertEquals(Instant.parse("2026-03-02T10:10:00Z"), scheduler.nextDue().orElseThrow());
+        await().during(300, TimeUnit.MILLISECONDS).atMost(1, TimeUnit.SECONDS).until(ran::isEmpty);
+
+        clock.now = Instant.parse("2026-03-02T10:10:00Z");
+        scheduler.recheckClock();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> ran.size() == 1);
+        assertEquals(0, scheduler.pending());
+    }
+
+    private static void assertBetween(Duration delay, long minMillis, long maxMillis) {
+        assertTrue(delay.toMillis() >= minMillis && delay.toMillis() <= maxMillis,
+            delay.toMillis() + " ms not within [" + minMillis + ", " + maxMillis + "]");
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
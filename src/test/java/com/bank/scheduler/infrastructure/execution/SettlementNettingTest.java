@@ -0,0 +1,110 @@
+package com.bank.scheduler.infrastructure.execution;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.NetSettlement;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SettlementNetting Tests")
+class SettlementNettingTest {
+
+    private static final String A = "1111111111";
+    private static final String B = "2222222222";
+    private static final String C = "3333333333";
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private DataSource dataSource;
+    private SettlementNetting netting;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:netting-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        netting = new SettlementNetting(dataSource, new SimpleMeterRegistry(), Clock.systemUTC(), true, 1000);
+    }
+
+    @Test
+    @DisplayName("Should net both directions of an account pair per date and leave singletons alone")
+    void shouldNetAccountPairsPerDate() {
+        Transfer ab1 = transfer(A, B, "100.00", "3.00", TODAY);
+        Transfer ba = transfer(B, A, "130.00", "2.00", TODAY);
+        Transfer ab2 = transfer(A, B, "20.00", "1.00", TODAY);
+        Transfer ac = transfer(A, C, "10.00", "0.50", TODAY);
+        Transfer abTomorrow = transfer(A, B, "5.00", "0.10", TODAY.plusDays(1));
+
+        List<NettingGroup> groups = netting.group(List.of(ab1, ba, ab2, ac, abTomorrow));
+
+        List<NettingGroup> netted = groups.stream().filter(NettingGroup::isNetted).collect(Collectors.toList());
+        assertEquals(1, netted.size());
+        assertEquals(3, groups.size());
+        NetSettlement settlement = netted.get(0).settlement();
+        assertEquals(AccountNumber.of(B), settlement.getPayer());
+        assertEquals(AccountNumber.of(A), settlement.getPayee());
+        assertEquals(money("10.00"), settlement.getNetAmount());
+        assertEquals(money("2.00"), settlement.getPayerFee());
+        assertEquals(money("4.00"), settlement.getPayeeFee());
+        assertEquals(ba, netted.get(0).laneKey());
+        assertEquals(settlement.getReference(), netting.settlementOf(ab2.getId()).orElseThrow().getReference());
+        assertTrue(netting.settlementOf(ac.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should regroup reclaimed transfers under their recorded settlement and forget abandoned ones")
+    void shouldResumeRecordedSettlements() {
+        Transfer ab = transfer(A, B, "50.00", "1.00", TODAY);
+        Transfer ba = transfer(B, A, "20.00", "1.00", TODAY);
+        UUID reference = netting.group(List.of(ab, ba)).get(0).settlement().getReference();
+
+        List<NettingGroup> resumed = netting.group(List.of(ba));
+        assertEquals(1, resumed.size());
+        assertTrue(resumed.get(0).isNetted(), "A reclaimed transfer must re-post its recorded settlement");
+        assertEquals(reference, resumed.get(0).settlement().getReference());
+        assertEquals(money("30.00"), resumed.get(0).settlement().getNetAmount());
+        assertEquals(List.of(ba), resumed.get(0).transfers());
+
+        netting.abandon(reference);
+        assertTrue(netting.settlementOf(ab.getId()).isEmpty());
+        assertFalse(netting.group(List.of(ba)).get(0).isNetted());
+    }
+
+    @Test
+    @DisplayName("Should not keep a settlement whose transfer mapping could not be written")
+    void shouldRecordSettlementAtomically() {
+        Transfer ab = transfer(A, B, "50.00", "1.00", TODAY);
+        Transfer ba = transfer(B, A, "20.00", "1.00", TODAY);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO net_settlement_transfers (transfer_id, reference) VALUES (?, ?)",
+            ba.getId(), UUID.randomUUID());
+
+        assertThrows(DataAccessException.class, () -> netting.group(List.of(ab, ba)));
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM net_settlements", Integer.class));
+        assertTrue(netting.settlementOf(ab.getId()).isEmpty());
+    }
+
+    private static Transfer transfer(String source, String target, String amount, String fee, LocalDate date) {
+        return Transfer.schedule(AccountNumber.of(source), AccountNumber.of(target),
+            money(amount), money(fee), TODAY, date);
+    }
+
+    private static Money money(String amount) {
+        return Money.of(new BigDecimal(amount));
+    }
+}
@@ -0,0 +1,87 @@
+package com.bank.scheduler.infrastructure.fx;
+
+import com.bank.scheduler.domain.valueobjects.ExchangeRateSnapshot;
+import com.bank.scheduler.domain.valueobjects.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AtomicExchangeRateTable Tests")
+class AtomicExchangeRateTableTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-06-02T12:00:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should load the bundled rate file at startup")
+    void shouldLoadBundledRates() {
+        AtomicExchangeRateTable table = new AtomicExchangeRateTable(
+            new FileExchangeRateProvider(new ClassPathResource("fx/rates.txt")), new SimpleMeterRegistry(), clock);
+
+        ExchangeRateSnapshot snapshot = table.current();
+        assertTrue(snapshot.supports("USD"));
+        assertTrue(snapshot.supports(Money.BASE_CURRENCY));
+        assertEquals(clock.instant(), snapshot.getAsOf());
+    }
+
+    @Test
+    @DisplayName("Should publish a new snapshot on refresh and leave earlier readers on the old one")
+    void shouldSwapSnapshotOnRefresh() throws IOException {
+        Path rates = directory.resolve("rates.txt");
+        Files.writeString(rates, "# test rates\nUSD=5.00\n");
+        AtomicExchangeRateTable table = new AtomicExchangeRateTable(
+            new FileExchangeRateProvider(new FileSystemResource(rates)), new SimpleMeterRegistry(), clock);
+        ExchangeRateSnapshot before = table.current();
+
+        Files.writeString(rates, "USD=4.00\nEUR=5.00\n");
+        assertTrue(table.refresh());
+
+        assertEquals(Money.of(new BigDecimal("500.00")), before.toBase(Money.of(new BigDecimal("100"), "USD")));
+        assertFalse(before.supports("EUR"));
+        assertEquals(Money.of(new BigDecimal("400.00")), table.current().toBase(Money.of(new BigDecimal("100"), "USD")));
+        assertTrue(table.current().supports("EUR"));
+    }
+
+    @Test
+    @DisplayName("Should keep the previous rates when a refresh fails")
+    void shouldKeepRatesWhenRefreshFails() throws IOException {
+        Path rates = directory.resolve("rates.txt");
+        Files.writeString(rates, "USD=5.00\n");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AtomicExchangeRateTable table = new AtomicExchangeRateTable(
+            new FileExchangeRateProvider(new FileSystemResource(rates)), meterRegistry, clock);
+        ExchangeRateSnapshot loaded = table.current();
+
+        Files.writeString(rates, "USD=not-a-number\n");
+        assertFalse(table.refresh());
+        Files.delete(rates);
+        assertFalse(table.refresh());
+
+        assertSame(loaded, table.current());
+        assertEquals(2.0, meterRegistry.counter("fx.rates.refresh.failures").count());
+    }
+
+    @Test
+    @DisplayName("Should accept only the base currency when the first load fails")
+    void shouldStartWithBaseOnlyWhenProviderFails() {
+        AtomicExchangeRateTable table = new AtomicExchangeRateTable(
+            () -> { throw new IllegalStateException("feed down"); }, new SimpleMeterRegistry(), clock);
+
+        assertSame(ExchangeRateSnapshot.BASE_ONLY, table.current());
+    }
+}
@@ -0,0 +1,194 @@
+package com.bank.scheduler.infrastructure.ledger;
+
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryAccountLedger Tests")
+class InMemoryAccountLedgerTest {
+
+    private static final AccountNumber SOURCE = AccountNumber.of("1234567890");
+    private static final AccountNumber TARGET = AccountNumber.of("0987654321");
+    private static final AccountNumber FEES = AccountNumber.of("0000000000");
+
+    @TempDir
+    Path directory;
+
+    private InMemoryAccountLedger ledger;
+
+    @AfterEach
+    void tearDown() {
+        if (ledger != null) {
+            ledger.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should debit amount plus fee and post a reference only once")
+    void shouldPostTransferOnce() {
+        ledger = open();
+        ledger.deposit(UUID.randomUUID(), SOURCE, money("100.00"));
+        UUID reference = UUID.randomUUID();
+
+        assertTrue(ledger.transfer(reference, SOURCE, TARGET, money("40.00"), money("3.30")));
+        assertFalse(ledger.transfer(reference, SOURCE, TARGET, money("40.00"), money("3.30")));
+
+        assertEquals(money("56.70"), ledger.balanceOf(SOURCE));
+        assertEquals(money("40.00"), ledger.balanceOf(TARGET));
+        assertEquals(money("3.30"), ledger.balanceOf(FEES));
+    }
+
+    @Test
+    @DisplayName("Should refuse a transfer the source cannot cover and leave balances untouched")
+    void shouldRefuseInsufficientFunds() {
+        ledger = open();
+        ledger.deposit(UUID.randomUUID(), SOURCE, money("10.00"));
+
+        assertThrows(DomainException.InsufficientFunds.class,
+            () -> ledger.transfer(UUID.randomUUID(), SOURCE, TARGET, money("10.00"), money("0.01")));
+
+        assertEquals(money("10.00"), ledger.balanceOf(SOURCE));
+        assertEquals(Money.zero(), ledger.balanceOf(TARGET));
+    }
+
+    @Test
+    @DisplayName("Should settle a net position both sides can cover only after netting")
+    void shouldPostNetSettlement() {
+        ledger = open();
+        ledger.deposit(UUID.randomUUID(), SOURCE, money("5.00"));
+        ledger.deposit(UUID.randomUUID(), TARGET, money("1.00"));
+
+        // SOURCE sent 100.00 and TARGET 96.00: neither could pay its gross side
+        assertTrue(ledger.transferNet(UUID.randomUUID(), SOURCE, TARGET, money("4.00"), money("1.00"), money("0.50")));
+
+        assertEquals(money("0.00"), ledger.balanceOf(SOURCE));
+        assertEquals(money("4.50"), ledger.balanceOf(TARGET));
+        assertEquals(money("1.50"), ledger.balanceOf(FEES));
+        assertThrows(DomainException.InsufficientFunds.class, () ->
+            ledger.transferNet(UUID.randomUUID(), SOURCE, TARGET, money("0.00"), money("0.00"), money("9.00")));
+        assertEquals(money("4.50"), ledger.balanceOf(TARGET));
+    }
+
+    @Test
+    @DisplayName("Should recover balances and references from the snapshot and the journal after it")
+    void shouldRecoverFromSnapshotAndJournal() {
+        ledger = open();
+        ledger.deposit(UUID.randomUUID(), SOURCE, money("500.00"));
+        ledger.transfer(UUID.randomUUID(), SOURCE, TARGET, money("100.00"), money("0.00"));
+        ledger.snapshot();
+        UUID afterSnapshot = UUID.randomUUID();
+        ledger.transfer(afterSnapshot, SOURCE, TARGET, money("50.00"), money("1.00"));
+        ledger.close();
+
+        ledger = open();
+
+        assertEquals(money("349.00"), ledger.balanceOf(SOURCE));
+        assertEquals(money("150.00"), ledger.balanceOf(TARGET));
+        assertEquals(money("1.00"), ledger.balanceOf(FEES));
+        assertFalse(ledger.transfer(afterSnapshot, SOURCE, TARGET, money("50.00"), money("1.00")));
+    }
+
+    @Test
+    @DisplayName("Should conserve money under concurrent transfers between overlapping accounts")
+    void shouldConserveMoneyUnderConcurrency() throws Exception {
+        ledger = open();
+        List<AccountNumber> accounts = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            AccountNumber account = AccountNumber.of(String.format("10000000%02d", i));
+            accounts.add(account);
+            ledger.deposit(UUID.randomUUID(), account, money("1000.00"));
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int worker = 0; worker < 8; worker++) {
+            int offset = worker;
+            futures.add(workers.submit(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    AccountNumber from = accounts.get((offset + i) % accounts.size());
+                    AccountNumber to = accounts.get((offset + i + 1 + i % 3) % accounts.size());
+                    try {
+                        ledger.transfer(UUID.randomUUID(), from, to, money("7.00"), money("0.00"));
+                    } catch (DomainException.InsufficientFunds e) {
+                        // acceptable under contention
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        workers.shutdown();
+
+        BigDecimal total = accounts.stream()
+            .map(account -> ledger.balanceOf(account).getAmount())
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(new BigDecimal("8000.00"), total);
+    }
+
+    @Test
+    @DisplayName("Should collect concurrent fees without losing any and keep them across a snapshot")
+    void shouldCollectConcurrentFees() throws Exception {
+        ledger = open();
+        ledger.deposit(UUID.randomUUID(), FEES, money("5.00"));
+        List<AccountNumber> accounts = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            AccountNumber account = AccountNumber.of(String.format("20000000%02d", i));
+            accounts.add(account);
+            ledger.deposit(UUID.randomUUID(), account, money("1000.00"));
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int worker = 0; worker < 8; worker++) {
+            AccountNumber from = accounts.get(worker);
+            AccountNumber to = accounts.get((worker + 1) % accounts.size());
+            futures.add(workers.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    ledger.transfer(UUID.randomUUID(), from, to, money("1.00"), money("0.10"));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        workers.shutdown();
+
+        assertEquals(money("405.00"), ledger.balanceOf(FEES));
+        assertTrue(ledger.transfer(UUID.randomUUID(), FEES, SOURCE, money("404.00"), money("0.00")));
+        assertThrows(DomainException.InsufficientFunds.class,
+            () -> ledger.transfer(UUID.randomUUID(), FEES, SOURCE, money("2.00"), money("0.00")));
+        ledger.snapshot();
+        ledger.close();
+
+        ledger = open();
+        assertEquals(money("1.00"), ledger.balanceOf(FEES));
+        assertEquals(money("404.00"), ledger.balanceOf(SOURCE));
+    }
+
+    private InMemoryAccountLedger open() {
+        return new InMemoryAccountLedger(new SimpleMeterRegistry(), directory.toString(), "0000000000",
+            64, 2, false, Duration.ofDays(7));
+    }
+
+    private static Money money(String amount) {
+        return Money.of(new BigDecimal(amount));
+    }
+}
@@ -0,0 +1,79 @@
+package com.bank.scheduler.infrastructure.ledger;
+
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Postings per second on one node.
+ *
+ * Not a unit test (surefire does not pick it up). Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.bank.scheduler.infrastructure.ledger.LedgerThroughputBenchmark
+ *
+ * Random transfers between ACCOUNTS funded accounts from THREADS threads, first
+ * with asynchronous durability (group commit in the background), then with
+ * sync-commit, where each poster waits for the fsync that covers its posting.
+ */
+public final class LedgerThroughputBenchmark {
+
+    private static final int ACCOUNTS = 100_000;
+    private static final int THREADS = 16;
+    private static final int POSTINGS_PER_THREAD = 200_000;
+
+    private LedgerThroughputBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        run(false, POSTINGS_PER_THREAD);
+        run(true, POSTINGS_PER_THREAD / 100);
+    }
+
+    private static void run(boolean syncCommit, int postingsPerThread) throws Exception {
+        Path directory = Files.createTempDirectory("ledger-bench");
+        InMemoryAccountLedger ledger = new InMemoryAccountLedger(new SimpleMeterRegistry(), directory.toString(),
+            "0000000000", 1024, 2, syncCommit, Duration.ofDays(7));
+        AccountNumber[] accounts = new AccountNumber[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts[i] = AccountNumber.of(String.format("%010d", i + 1));
+            ledger.deposit(UUID.randomUUID(), accounts[i], Money.of(new BigDecimal("1000000.00")));
+        }
+        Money amount = Money.of(new BigDecimal("1.00"));
+        Money fee = Money.of(new BigDecimal("0.01"));
+        LongAdder posted = new LongAdder();
+        CountDownLatch done = new CountDownLatch(THREADS);
+
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < postingsPerThread; i++) {
+                    AccountNumber from = accounts[random.nextInt(ACCOUNTS)];
+                    AccountNumber to = accounts[random.nextInt(ACCOUNTS)];
+                    try {
+                        ledger.transfer(new UUID(random.nextLong(), random.nextLong()), from, to, amount, fee);
+                        posted.increment();
+                    } catch (DomainException.InsufficientFunds e) {
+                        // not expected with these balances
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("sync-commit=%-5s %,10d postings in %6.2f s = %,12.0f postings/s%n",
+            syncCommit, posted.sum(), seconds, posted.sum() / seconds);
+        ledger.close();
+    }
+}
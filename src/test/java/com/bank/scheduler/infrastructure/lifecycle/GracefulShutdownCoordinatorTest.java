@@ -0,0 +1,148 @@
+package com.bank.scheduler.infrastructure.lifecycle;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.infrastructure.cache.TransferEntityCache;
+import com.bank.scheduler.infrastructure.execution.DueTransferExecutionEngine;
+import com.bank.scheduler.infrastructure.performance.AdmissionPolicy;
+import com.bank.scheduler.infrastructure.performance.BackpressureExecutor;
+import com.bank.scheduler.infrastructure.performance.ExecutorSaturatedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("GracefulShutdownCoordinator Tests")
+class GracefulShutdownCoordinatorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DueTransferExecutionEngine engine = mock(DueTransferExecutionEngine.class);
+    private final TransferRepository repository = mock(TransferRepository.class);
+
+    @TempDir
+    Path checkpointDirectory;
+
+    @Test
+    @DisplayName("Should finish queued work, then refuse new tasks and release unstarted settlements")
+    void shouldDrainQueuedWorkBeforeStopping() {
+        BackpressureExecutor executor = executor();
+        AtomicInteger finished = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                sleep(20);
+                finished.incrementAndGet();
+            });
+        }
+
+        coordinator(executor, new TransferEntityCache(meterRegistry, 100, Duration.ofMinutes(5)), Duration.ofSeconds(5)).stop();
+
+        assertEquals(5, finished.get());
+        assertThrows(ExecutorSaturatedException.class, () -> executor.execute(finished::incrementAndGet));
+        verify(engine).quiesce();
+        verify(engine).releaseUnstarted();
+    }
+
+    @Test
+    @DisplayName("Should give up queued work once the drain timeout has passed")
+    void shouldGiveUpAfterDrainTimeout() throws Exception {
+        BackpressureExecutor executor = executor();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+        executor.execute(() -> {
+            started.incrementAndGet();
+            await(release);
+        });
+        executor.execute(started::incrementAndGet);
+
+        long begin = System.nanoTime();
+        coordinator(executor, new TransferEntityCache(meterRegistry, 100, Duration.ofMinutes(5)), Duration.ofMillis(200)).stop();
+        release.countDown();
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin) < 2_000);
+        TimeUnit.MILLISECONDS.sleep(50);
+        assertEquals(1, started.get(), "the queued task is abandoned, not run");
+    }
+
+    @Test
+    @DisplayName("Should warm the next start with the transfers cached at shutdown")
+    void shouldWarmCacheFromCheckpoint() {
+        Transfer first = transfer();
+        Transfer second = transfer();
+        TransferEntityCache before = new TransferEntityCache(meterRegistry, 100, Duration.ofMinutes(5));
+        before.put(first);
+        before.put(second);
+        coordinator(executor(), before, Duration.ofSeconds(1)).stop();
+
+        TransferEntityCache after = new TransferEntityCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+        when(repository.findAllById(anyList())).thenAnswer(invocation -> {
+            List<?> ids = invocation.getArgument(0);
+            assertEquals(2, ids.size());
+            return List.of(Optional.of(first), Optional.of(second));
+        });
+        GracefulShutdownCoordinator restarted = coordinator(executor(), after, Duration.ofSeconds(1));
+        restarted.start();
+
+        assertTrue(restarted.isRunning());
+        assertEquals(2, after.size());
+        assertEquals(Optional.of(first), after.get(first.getId()));
+
+        coordinator(executor(), new TransferEntityCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5)), Duration.ofSeconds(1))
+            .start();
+        verify(repository, times(1)).findAllById(anyList());
+    }
+
+    private GracefulShutdownCoordinator coordinator(BackpressureExecutor executor, TransferEntityCache cache,
+                                                    Duration drainTimeout) {
+        return new GracefulShutdownCoordinator(mock(ApplicationEventPublisher.class), List.of(executor), engine,
+            cache, repository, drainTimeout, Duration.ZERO, checkpointDirectory.toString());
+    }
+
+    private BackpressureExecutor executor() {
+        ThreadPoolTaskExecutor delegate = new ThreadPoolTaskExecutor();
+        delegate.setCorePoolSize(1);
+        delegate.setMaxPoolSize(1);
+        delegate.setQueueCapacity(10);
+        delegate.initialize();
+        return new BackpressureExecutor("test", delegate, delegate::getQueueSize, 10,
+            AdmissionPolicy.FAIL_FAST, null, meterRegistry);
+    }
+
+    private static Transfer transfer() {
+        LocalDate today = LocalDate.now();
+        return Transfer.schedule(AccountNumber.of("1111111111"), AccountNumber.of("2222222222"),
+            Money.of(new BigDecimal("10.00")), Money.of(new BigDecimal("1.00")), today, today);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
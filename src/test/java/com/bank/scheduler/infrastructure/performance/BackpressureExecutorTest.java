@@ -0,0 +1,161 @@
+package com.bank.scheduler.infrastructure.performance;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("BackpressureExecutor Tests")
+class BackpressureExecutorTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolTaskExecutor pool;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should fail fast without running the task on the caller when saturated")
+    void shouldFailFastWhenSaturated() {
+        BackpressureExecutor executor = saturated(AdmissionPolicy.FAIL_FAST);
+        Thread caller = Thread.currentThread();
+        List<Thread> ranOn = new CopyOnWriteArrayList<>();
+
+        assertThrows(ExecutorSaturatedException.class, () -> executor.execute(() -> ranOn.add(Thread.currentThread())));
+
+        assertFalse(ranOn.contains(caller));
+        assertEquals(1.0, meterRegistry.get("scheduler.executor.rejected").tag("executor", "test").counter().count());
+        assertEquals(1.0, meterRegistry.get("scheduler.executor.queue.depth").tag("executor", "test").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should drop and count tasks under the DROP policy")
+    void shouldDropWhenSaturated() {
+        BackpressureExecutor executor = saturated(AdmissionPolicy.DROP);
+
+        assertDoesNotThrow(() -> executor.execute(() -> fail("Dropped task must not run")));
+
+        assertEquals(1.0, meterRegistry.get("scheduler.executor.rejected").tag("policy", "DROP").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should spill to disk when saturated and replay once the queue drains")
+    void shouldSpillAndReplay() {
+        BackpressureExecutor executor = saturated(AdmissionPolicy.SPILL);
+        List<String> replayed = new CopyOnWriteArrayList<>();
+        executor.setSpillDecoder(record -> () -> replayed.add(record));
+
+        executor.execute(new RecordingTask("audit-1", replayed));
+        executor.execute(new RecordingTask("audit-2", replayed));
+        assertEquals(2, executor.getSpilledCount());
+        assertEquals(0, executor.replaySpilled(), "Replay must wait for the queue to drain");
+
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executor.getQueueDepth() == 0);
+        assertEquals(2, executor.replaySpilled());
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> replayed.size() == 2);
+        assertEquals(List.of("audit-1", "audit-2"), List.copyOf(replayed));
+        assertEquals(0, executor.getSpilledCount());
+    }
+
+    @Test
+    @DisplayName("Should keep records on disk when replaying them fails")
+    void shouldKeepRecordsThatFailToReplay() {
+        BackpressureExecutor executor = saturated(AdmissionPolicy.SPILL);
+        List<String> replayed = new CopyOnWriteArrayList<>();
+        executor.setSpillDecoder(record -> {
+            if (record.equals("audit-2")) {
+                throw new IllegalStateException("cannot decode " + record);
+            }
+            return () -> replayed.add(record);
+        });
+        executor.execute(new RecordingTask("audit-1", replayed));
+        executor.execute(new RecordingTask("audit-2", replayed));
+
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executor.getQueueDepth() == 0);
+
+        assertEquals(1, executor.replaySpilled());
+        assertEquals(1, executor.getSpilledCount());
+    }
+
+    @Test
+    @DisplayName("Should not create the spill directory until a task spills")
+    void shouldCreateSpillDirectoryLazily() {
+        pool = new ThreadPoolTaskExecutor();
+        pool.initialize();
+        Path spillFile = spillDirectory.resolve("missing").resolve("test.spill");
+
+        BackpressureExecutor executor = new BackpressureExecutor("test", pool, pool::getQueueSize, 1,
+            AdmissionPolicy.SPILL, spillFile, meterRegistry);
+
+        assertFalse(Files.exists(spillFile.getParent()));
+        assertEquals(0, executor.getSpilledCount());
+    }
+
+    /**
+     * One worker blocked on the release latch and a queue of one already occupied.
+     */
+    private BackpressureExecutor saturated(AdmissionPolicy policy) {
+        pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(1);
+        pool.setMaxPoolSize(1);
+        pool.setQueueCapacity(1);
+        pool.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        pool.initialize();
+        BackpressureExecutor executor = new BackpressureExecutor("test", pool, pool::getQueueSize, 1, policy,
+            policy == AdmissionPolicy.SPILL ? spillDirectory.resolve("test.spill") : null, meterRegistry);
+        executor.execute(this::awaitRelease);
+        executor.execute(this::awaitRelease);
+        return executor;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class RecordingTask implements SpillableTask {
+        private final String record;
+        private final List<String> sink;
+
+        private RecordingTask(String record, List<String> sink) {
+            this.record = record;
+            this.sink = sink;
+        }
+
+        @Override
+        public String spillRecord() {
+            return record;
+        }
+
+        @Override
+        public void run() {
+            sink.add(record);
+        }
+    }
+}
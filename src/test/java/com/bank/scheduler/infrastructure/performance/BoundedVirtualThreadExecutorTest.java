@@ -0,0 +1,119 @@
+package com.bank.scheduler.infrastructure.performance;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.infrastructure.cache.TransferEntityCache;
+import com.bank.scheduler.infrastructure.persistence.wal.FileTransferAcceptanceLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs only on Java 21+ (mvn -Pjava21 test); skipped on older runtimes.
+ */
+@DisplayName("BoundedVirtualThreadExecutor Tests")
+class BoundedVirtualThreadExecutorTest {
+
+    @TempDir
+    Path walDirectory;
+
+    @BeforeEach
+    void requireVirtualThreads() {
+        assumeTrue(BoundedVirtualThreadExecutor.isSupported(), "Virtual threads need Java 21");
+    }
+
+    @Test
+    @DisplayName("Should never run more tasks at once than the concurrency limit")
+    void shouldRespectConcurrencyLimit() throws InterruptedException {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("Test-", 4);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(200);
+
+        for (int i = 0; i < 200; i++) {
+            executor.execute(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(2);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(peak.get() <= 4, "Peak concurrency was " + peak.get());
+    }
+
+    @Test
+    @DisplayName("Should not pin carrier threads on the blocking paths used from virtual threads")
+    void shouldNotPinCarrierThreads() throws Exception {
+        FileTransferAcceptanceLog acceptanceLog = new FileTransferAcceptanceLog(walDirectory.toString(), true);
+        TransferEntityCache cache = new TransferEntityCache(new SimpleMeterRegistry(), 1_000, Duration.ofMinutes(5));
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("Pinning-", 32);
+        CountDownLatch done = new CountDownLatch(500);
+
+        Path dump = walDirectory.resolve("pinning.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            for (int i = 0; i < 500; i++) {
+                executor.execute(() -> {
+                    Transfer transfer = newTransfer();
+                    acceptanceLog.append(transfer);
+                    cache.put(transfer);
+                    cache.get(transfer.getId());
+                    acceptanceLog.markPersisted(List.of(transfer.getId()));
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(30, TimeUnit.SECONDS));
+            recording.stop();
+            recording.dump(dump);
+        } finally {
+            acceptanceLog.close();
+        }
+
+        List<RecordedEvent> pinned = RecordingFile.readAllEvents(dump).stream()
+            .filter(event -> event.getEventType().getName().equals("jdk.VirtualThreadPinned"))
+            .filter(event -> event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+                .anyMatch(frame -> frame.getMethod().getType().getName().startsWith("com.bank.scheduler")))
+            .collect(Collectors.toList());
+        assertTrue(pinned.isEmpty(), "Carrier threads pinned in application code: " + pinned);
+    }
+
+    private static Transfer newTransfer() {
+        return Transfer.schedule(
+            AccountNumber.of("1234567890"),
+            AccountNumber.of("0987654321"),
+            Money.of(new BigDecimal("10.00")),
+            Money.of(new BigDecimal("3.30")),
+            LocalDate.now(),
+            LocalDate.now().plusDays(1));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.bank.scheduler.infrastructure.performance;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Platform pool vs virtual threads for blocking I/O-bound tasks.
+ *
+ * Not a unit test (surefire does not pick it up). Run on Java 21 with:
+ * mvn -Pjava21 test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.bank.scheduler.infrastructure.performance.ThreadModeBenchmark
+ *
+ * Each task blocks for IO_MILLIS, standing in for a settlement or JDBC round trip.
+ * The platform executor mirrors transferProcessingExecutor (10-50 threads, queue 200);
+ * the virtual executor is capped at the same 50 in-flight tasks and, separately,
+ * at 1000 to show the effect of lifting the cap when the downstream allows it.
+ */
+public final class ThreadModeBenchmark {
+
+    private static final int TASKS = 10_000;
+    private static final long IO_MILLIS = 20;
+
+    private ThreadModeBenchmark() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        ThreadPoolTaskExecutor platform = new ThreadPoolTaskExecutor();
+        platform.setCorePoolSize(10);
+        platform.setMaxPoolSize(50);
+        platform.setQueueCapacity(200);
+        platform.setThreadNamePrefix("Bench-");
+        platform.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        platform.initialize();
+
+        run("platform 10-50 threads", platform);
+        platform.shutdown();
+        if (!BoundedVirtualThreadExecutor.isSupported()) {
+            System.out.println("Virtual threads need Java 21; run with -Pjava21 on a 21 JDK");
+            return;
+        }
+        run("virtual, limit 50", new BoundedVirtualThreadExecutor("BenchV-", 50));
+        run("virtual, limit 1000", new BoundedVirtualThreadExecutor("BenchV-", 1_000));
+    }
+
+    private static void run(String label, Executor executor) throws InterruptedException {
+        long[] latencies = new long[TASKS];
+        CountDownLatch done = new CountDownLatch(TASKS);
+        long start = System.nanoTime();
+        for (int i = 0; i < TASKS; i++) {
+            int index = i;
+            long submitted = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(IO_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                latencies[index] = System.nanoTime() - submitted;
+                done.countDown();
+            });
+        }
+        done.await(5, TimeUnit.MINUTES);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Arrays.sort(latencies);
+        System.out.printf("%-22s %6d ms total, %8.0f tasks/s, p50 %5d ms, p99 %5d ms%n",
+            label,
+            elapsedMillis,
+            TASKS * 1000.0 / Math.max(1, elapsedMillis),
+            TimeUnit.NANOSECONDS.toMillis(latencies[TASKS / 2]),
+            TimeUnit.NANOSECONDS.toMillis(latencies[TASKS * 99 / 100]));
+    }
+}
@@ -0,0 +1,119 @@
+package com.bank.scheduler.infrastructure.persistence.adapters;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.infrastructure.cache.TransferEntityCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CachingTransferRepository Tests")
+class CachingTransferRepositoryTest {
+
+    private TransferRepositoryAdapter delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private TransferEntityCache cache;
+    private CachingTransferRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(TransferRepositoryAdapter.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TransferEntityCache(meterRegistry, 64, Duration.ofMinutes(5));
+        repository = new CachingTransferRepository(delegate, cache);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        Transfer transfer = newTransfer();
+        when(delegate.findById(transfer.getId())).thenReturn(Optional.of(transfer));
+
+        assertEquals(Optional.of(transfer), repository.findById(transfer.getId()));
+        assertEquals(Optional.of(transfer), repository.findById(transfer.getId()));
+
+        verify(delegate, times(1)).findById(transfer.getId());
+        assertEquals(1.0, meterRegistry.get("transfers.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("transfers.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should reload an entity once its ttl has passed")
+    void shouldReloadExpiredEntries() {
+        repository = new CachingTransferRepository(delegate, new TransferEntityCache(meterRegistry, 64, Duration.ZERO));
+        Transfer transfer = newTransfer();
+        when(delegate.findById(transfer.getId())).thenReturn(Optional.of(transfer));
+
+        repository.findById(transfer.getId());
+        repository.findById(transfer.getId());
+
+        verify(delegate, times(2)).findById(transfer.getId());
+    }
+
+    @Test
+    @DisplayName("Should ask the store whether a cached transfer still exists")
+    void shouldCheckExistenceAgainstTheStore() {
+        Transfer transfer = newTransfer();
+        when(delegate.save(transfer)).thenReturn(transfer);
+        repository.save(transfer);
+
+        assertFalse(repository.existsById(transfer.getId()), "deleted by another replica");
+        verify(delegate).existsById(transfer.getId());
+    }
+
+    @Test
+    @DisplayName("Should invalidate the cached entity on delete")
+    void shouldInvalidateOnDelete() {
+        Transfer transfer = newTransfer();
+        when(delegate.save(transfer)).thenReturn(transfer);
+        repository.save(transfer);
+
+        repository.deleteById(transfer.getId());
+
+        assertTrue(cache.get(transfer.getId()).isEmpty());
+        verify(delegate).deleteById(transfer.getId());
+    }
+
+    @Test
+    @DisplayName("Should clear the cache on delete all")
+    void shouldClearOnDeleteAll() {
+        Transfer transfer = newTransfer();
+        when(delegate.save(transfer)).thenReturn(transfer);
+        repository.save(transfer);
+
+        repository.deleteAll();
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should keep the cache within its configured bound")
+    void shouldRespectCapacity() {
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(newTransfer());
+        }
+
+        assertTrue(cache.size() <= 64);
+        assertTrue(meterRegistry.get("transfers.cache.evictions").counter().count() > 0);
+    }
+
+    private Transfer newTransfer() {
+        return Transfer.schedule(
+            AccountNumber.of("1234567890"),
+            AccountNumber.of("0987654321"),
+            Money.of(new BigDecimal("100.00")),
+            Money.of(new BigDecimal("12.00")),
+            LocalDate.now(),
+            LocalDate.now().plusDays(2));
+    }
+}
@@ -0,0 +1,80 @@
+package com.bank.scheduler.infrastructure.persistence.adapters;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.infrastructure.persistence.repositories.JpaTransferRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TransferRepositoryAdapter Bulk Lookup Tests")
+class TransferRepositoryAdapterTest {
+
+    @Test
+    @DisplayName("Should resolve ids in chunks and keep request order with not-found markers")
+    void shouldResolveIdsInChunksPreservingOrder() {
+        JpaTransferRepository jpaRepository = mock(JpaTransferRepository.class);
+        TransferRepositoryAdapter adapter = new TransferRepositoryAdapter(jpaRepository, mock(EntityManager.class), 2);
+
+        Transfer first = newTransfer();
+        Transfer second = newTransfer();
+        Transfer third = newTransfer();
+        UUID missing = UUID.randomUUID();
+        List<Transfer> stored = List.of(first, second, third);
+        when(jpaRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Iterable<UUID> requested = invocation.getArgument(0);
+            List<UUID> ids = new java.util.ArrayList<>();
+            requested.forEach(ids::add);
+            return stored.stream().filter(t -> ids.contains(t.getId())).collect(Collectors.toList());
+        });
+
+        List<UUID> request = List.of(third.getId(), missing, first.getId(), second.getId(), third.getId());
+        List<Optional<Transfer>> results = adapter.findAllById(request);
+
+        assertEquals(List.of(Optional.of(third), Optional.empty(), Optional.of(first),
+            Optional.of(second), Optional.of(third)), results);
+        verify(jpaRepository, times(2)).findAllById(anyIterable());
+    }
+
+    @Test
+    @DisplayName("Should persist only transfers that are not stored yet and never merge existing rows")
+    void shouldInsertOnlyAbsentTransfers() {
+        JpaTransferRepository jpaRepository = mock(JpaTransferRepository.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        TransferRepositoryAdapter adapter = new TransferRepositoryAdapter(jpaRepository, entityManager, 2);
+        Transfer stored = newTransfer();
+        Transfer absent = newTransfer();
+        when(jpaRepository.findAllById(anyIterable())).thenReturn(List.of(stored));
+
+        List<Transfer> inserted = adapter.insertAbsent(List.of(stored, absent));
+
+        assertEquals(List.of(absent), inserted);
+        verify(entityManager).persist(absent);
+        verify(entityManager, never()).persist(stored);
+        verify(entityManager, never()).merge(any());
+        verify(jpaRepository, never()).saveAll(anyIterable());
+    }
+
+    private Transfer newTransfer() {
+        return Transfer.schedule(
+            AccountNumber.of("1234567890"),
+            AccountNumber.of("0987654321"),
+            Money.of(new BigDecimal("10.00")),
+            Money.of(new BigDecimal("12.00")),
+            LocalDate.now(),
+            LocalDate.now().plusDays(1));
+    }
+}
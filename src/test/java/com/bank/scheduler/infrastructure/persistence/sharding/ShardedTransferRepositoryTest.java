@@ -0,0 +1,202 @@
+package com.bank.scheduler.infrastructure.persistence.sharding;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.TransferIds;
+import com.bank.scheduler.domain.valueobjects.TransferSearchCriteria;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ShardedTransferRepository Tests")
+class ShardedTransferRepositoryTest {
+
+    private ExecutorService executor;
+    private List<TransferShard> shards;
+    private ShardRouter router;
+    private ShardedTransferRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        shards = embeddedShards(3);
+        router = new ShardRouter(shards);
+        repository = new ShardedTransferRepository(router, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shards.forEach(TransferShard::deleteAll);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should store each transfer on exactly the shard derived from its source account")
+    void shouldRouteBySourceAccountHash() {
+        List<Transfer> transfers = scheduleForAccounts(30);
+        repository.saveAll(transfers);
+
+        for (Transfer transfer : transfers) {
+            int expected = TransferIds.bucketOf(transfer.getSourceAccount()) % shards.size();
+            for (int i = 0; i < shards.size(); i++) {
+                assertEquals(i == expected, shards.get(i).existsById(transfer.getId()));
+            }
+            assertEquals(Optional.of(transfer), repository.findById(transfer.getId()));
+        }
+        assertEquals(30, shards.stream().mapToLong(TransferShard::count).sum());
+        assertTrue(shards.stream().allMatch(shard -> shard.count() > 0), "Accounts should spread over every shard");
+    }
+
+    @Test
+    @DisplayName("Should fan out findAll and search across shards and merge results")
+    void shouldFanOutReads() {
+        List<Transfer> transfers = scheduleForAccounts(12);
+        repository.saveAll(transfers);
+        Transfer target = transfers.get(5);
+
+        assertEquals(12, repository.findAll().size());
+        List<Transfer> found = repository.search(TransferSearchCriteria.of(
+            target.getSourceAccount(), null, target.getTransferDate(), target.getTransferDate()));
+        assertEquals(List.of(target), found);
+
+        List<Optional<Transfer>> lookup = repository.findAllById(
+            List.of(transfers.get(0).getId(), UUID.randomUUID(), transfers.get(11).getId()));
+        assertEquals(Optional.of(transfers.get(0)), lookup.get(0));
+        assertTrue(lookup.get(1).isEmpty());
+        assertEquals(Optional.of(transfers.get(11)), lookup.get(2));
+    }
+
+    @Test
+    @DisplayName("Should delete from the owning shard only")
+    void shouldDeleteFromOwningShard() {
+        Transfer transfer = scheduleForAccounts(1).get(0);
+        repository.save(transfer);
+
+        repository.deleteById(transfer.getId());
+
+        assertFalse(repository.existsById(transfer.getId()));
+    }
+
+    @Test
+    @DisplayName("Should move rows to their new shard when resharding from 3 to 4 shards")
+    void shouldReshardToLargerTopology() {
+        List<Transfer> transfers = scheduleForAccounts(40);
+        repository.saveAll(transfers);
+
+        List<TransferShard> grown = new ArrayList<>(shards);
+        grown.add(newShard("shard-3"));
+        ShardRouter grownRouter = new ShardRouter(grown);
+
+        TransferReshardingTool.ReshardingReport report = new TransferReshardingTool(7).reshard(shards, grownRouter);
+
+        assertTrue(report.getScanned() >= 40, "Rows moved onto a shard not yet scanned are seen twice");
+        assertTrue(report.getMoved() > 0);
+        ShardedTransferRepository resharded = new ShardedTransferRepository(grownRouter, executor);
+        for (Transfer transfer : transfers) {
+            assertEquals(Optional.of(transfer), resharded.findById(transfer.getId()));
+        }
+        assertEquals(40, grown.stream().mapToLong(TransferShard::count).sum());
+        grown.get(3).deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should claim due transfers on every shard exactly once")
+    void shouldClaimDueTransfersAcrossShards() {
+        List<Transfer> transfers = scheduleForAccounts(30);
+        repository.saveAll(transfers);
+        LocalDate dueBy = LocalDate.now().plusDays(3);
+        long due = transfers.stream().filter(t -> !t.getTransferDate().isAfter(dueBy)).count();
+        Instant now = Instant.now();
+
+        List<Transfer> claimed = repository.claimDue(dueBy, now, now.minusSeconds(300), 100);
+
+        assertEquals(due, claimed.size());
+        assertTrue(claimed.stream().allMatch(t -> t.getStatus() == TransferStatus.IN_PROGRESS));
+        assertTrue(repository.claimDue(dueBy, now, now.minusSeconds(300), 100).isEmpty());
+        Transfer first = claimed.get(0);
+        assertTrue(repository.updateStatus(first.getId(), TransferStatus.IN_PROGRESS, TransferStatus.EXECUTED));
+        assertFalse(repository.updateStatus(first.getId(), TransferStatus.IN_PROGRESS, TransferStatus.FAILED));
+    }
+
+    @Test
+    @DisplayName("Should find only SCHEDULED transfers dated inside the range on every shard")
+    void shouldFindScheduledTransfersInRange() {
+        List<Transfer> transfers = scheduleForAccounts(30);
+        repository.saveAll(transfers);
+        LocalDate from = LocalDate.now().plusDays(2);
+        LocalDate to = LocalDate.now().plusDays(4);
+        Transfer executed = transfers.stream()
+            .filter(t -> t.getTransferDate().equals(from)).findFirst().orElseThrow();
+        repository.updateStatus(executed.getId(), TransferStatus.SCHEDULED, TransferStatus.EXECUTED);
+
+        List<Transfer> found = repository.findScheduledBetween(from, to);
+
+        long expected = transfers.stream()
+            .filter(t -> !t.getTransferDate().isBefore(from) && !t.getTransferDate().isAfter(to))
+            .count() - 1;
+        assertEquals(expected, found.size());
+        assertTrue(found.stream().allMatch(t -> t.getStatus() == TransferStatus.SCHEDULED));
+        assertTrue(found.stream().noneMatch(t -> t.getId().equals(executed.getId())));
+    }
+
+    @Test
+    @DisplayName("Should rank accounts by their scheduled transfers across shards")
+    void shouldRankBusiestAccounts() {
+        List<Transfer> transfers = scheduleForAccounts(30);
+        repository.saveAll(transfers);
+        Transfer executed = transfers.get(0);
+        repository.updateStatus(executed.getId(), TransferStatus.SCHEDULED, TransferStatus.EXECUTED);
+
+        List<String> busiest = repository.findBusiestAccounts(LocalDate.now(), 3);
+
+        assertEquals(3, busiest.size());
+        assertEquals("9999999999", busiest.get(0));
+        assertFalse(busiest.contains(executed.getSourceAccount().getValue()));
+    }
+
+    private List<Transfer> scheduleForAccounts(int count) {
+        List<Transfer> transfers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            transfers.add(Transfer.schedule(
+                AccountNumber.of(String.format("%010d", 1_000_000L + i * 7919L)),
+                AccountNumber.of("9999999999"),
+                Money.of(new BigDecimal("10.00")),
+                Money.of(new BigDecimal("12.00")),
+                LocalDate.now(),
+                LocalDate.now().plusDays(1 + i % 10)));
+        }
+        return transfers;
+    }
+
+    private List<TransferShard> embeddedShards(int count) {
+        List<TransferShard> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            result.add(newShard("shard-" + i));
+        }
+        return result;
+    }
+
+    private TransferShard newShard(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:sharded-test-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        TransferShard shard = new TransferShard(name, dataSource, 3);
+        shard.initializeSchema();
+        return shard;
+    }
+}
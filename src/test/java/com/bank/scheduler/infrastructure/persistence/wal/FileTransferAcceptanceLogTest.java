@@ -0,0 +1,136 @@
+package com.bank.scheduler.infrastructure.persistence.wal;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FileTransferAcceptanceLog Tests")
+class FileTransferAcceptanceLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should replay only entries that were never marked persisted")
+    void shouldReplayUnpersistedEntriesAfterRestart() {
+        Transfer persisted = newTransfer();
+        Transfer pending = newTransfer();
+
+        FileTransferAcceptanceLog wal = new FileTransferAcceptanceLog(directory.toString(), false);
+        wal.append(persisted);
+        wal.append(pending);
+        wal.markPersisted(List.of(persisted.getId()));
+        wal.close();
+
+        FileTransferAcceptanceLog reopened = new FileTransferAcceptanceLog(directory.toString(), false);
+        List<Transfer> recovered = reopened.unpersisted();
+
+        assertEquals(1, recovered.size());
+        Transfer replayed = recovered.get(0);
+        assertEquals(pending.getId(), replayed.getId());
+        assertEquals(pending.getSourceAccount(), replayed.getSourceAccount());
+        assertEquals(pending.getAmount(), replayed.getAmount());
+        assertEquals(pending.getFee(), replayed.getFee());
+        assertEquals(pending.getTransferDate(), replayed.getTransferDate());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Should truncate the log once the backlog is fully persisted")
+    void shouldTruncateWhenBacklogIsEmpty() throws Exception {
+        Transfer transfer = newTransfer();
+
+        FileTransferAcceptanceLog wal = new FileTransferAcceptanceLog(directory.toString(), false);
+        wal.append(transfer);
+        wal.markPersisted(List.of(transfer.getId()));
+        wal.close();
+
+        assertEquals(0, Files.size(directory.resolve("transfers.wal")));
+    }
+
+    @Test
+    @DisplayName("Should stop replay at a torn record")
+    void shouldIgnoreTornTail() throws Exception {
+        Transfer transfer = newTransfer();
+
+        FileTransferAcceptanceLog wal = new FileTransferAcceptanceLog(directory.toString(), false);
+        wal.append(transfer);
+        wal.close();
+        Files.write(directory.resolve("transfers.wal"), "deadbeef|A|garb".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+
+        FileTransferAcceptanceLog reopened = new FileTransferAcceptanceLog(directory.toString(), false);
+
+        assertEquals(List.of(transfer), reopened.unpersisted());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Should truncate a torn tail so records appended after a restart survive the next one")
+    void shouldKeepEntriesAppendedAfterTornTail() throws Exception {
+        Transfer beforeCrash = newTransfer();
+        Transfer afterCrash = newTransfer();
+        Path logFile = directory.resolve("transfers.wal");
+
+        FileTransferAcceptanceLog wal = new FileTransferAcceptanceLog(directory.toString(), false);
+        wal.append(beforeCrash);
+        wal.close();
+        long validLength = Files.size(logFile);
+        Files.write(logFile, "deadbeef|A|garb".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        FileTransferAcceptanceLog restarted = new FileTransferAcceptanceLog(directory.toString(), false);
+        assertEquals(validLength, Files.size(logFile));
+        restarted.append(afterCrash);
+        restarted.close();
+
+        FileTransferAcceptanceLog reopened = new FileTransferAcceptanceLog(directory.toString(), false);
+
+        assertEquals(List.of(beforeCrash, afterCrash), reopened.unpersisted());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Should move a dead-lettered entry out of the replay into the dead-letter file")
+    void shouldSetAsideDeadLetteredEntries() throws Exception {
+        Transfer poisoned = newTransfer();
+        Transfer pending = newTransfer();
+
+        FileTransferAcceptanceLog wal = new FileTransferAcceptanceLog(directory.toString(), false);
+        wal.append(poisoned);
+        wal.append(pending);
+        wal.deadLetter(poisoned, "DataIntegrityViolationException: value too long\nfor column");
+        wal.close();
+
+        FileTransferAcceptanceLog reopened = new FileTransferAcceptanceLog(directory.toString(), false);
+
+        assertEquals(List.of(pending), reopened.unpersisted());
+        List<String> deadLetters = Files.readAllLines(directory.resolve("transfers.dead"));
+        assertEquals(1, deadLetters.size());
+        assertTrue(deadLetters.get(0).contains(poisoned.getId().toString()));
+        assertTrue(deadLetters.get(0).endsWith("value too long for column"));
+        reopened.close();
+    }
+
+    private Transfer newTransfer() {
+        return Transfer.schedule(
+            AccountNumber.of("1234567890"),
+            AccountNumber.of("0987654321"),
+            Money.of(new BigDecimal("150.00")),
+            Money.of(new BigDecimal("12.00")),
+            LocalDate.now(),
+            LocalDate.now().plusDays(5));
+    }
+}
@@ -0,0 +1,99 @@
+package com.bank.scheduler.infrastructure.readmodel;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.DailyTransferSummary;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.TransferSearchCriteria;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransferReadModelTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 10);
+
+    private final TransferReadModel readModel = new TransferReadModel();
+
+    @Test
+    void shouldMaintainDailyTotalsAcrossUpsertsAndRemovals() {
+        Transfer first = transfer("1111111111", "2222222222", "100.00", "3.00", TODAY.plusDays(1));
+        Transfer second = transfer("1111111111", "3333333333", "50.00", "2.00", TODAY.plusDays(1));
+        Transfer later = transfer("4444444444", "2222222222", "10.00", "1.00", TODAY.plusDays(5));
+
+        readModel.upsert(first);
+        readModel.upsert(second);
+        readModel.upsert(later);
+        readModel.upsert(second);
+        readModel.remove(later.getId());
+
+        List<DailyTransferSummary> summaries = readModel.summarize(null, null);
+        assertEquals(1, summaries.size());
+        assertEquals(TODAY.plusDays(1), summaries.get(0).getTransferDate());
+        assertEquals(2, summaries.get(0).getCount());
+        assertEquals(new BigDecimal("150.00"), summaries.get(0).getTotalAmount());
+        assertEquals(new BigDecimal("5.00"), summaries.get(0).getTotalFees());
+    }
+
+    @Test
+    void shouldKeepSeparateDailyTotalsPerCurrency() {
+        readModel.upsert(transfer("1111111111", "2222222222", "100.00", "3.00", TODAY.plusDays(1)));
+        readModel.upsert(transfer("1111111111", "3333333333", "40.00", "1.00", TODAY.plusDays(1), "USD"));
+        readModel.upsert(transfer("4444444444", "2222222222", "10.00", "0.50", TODAY.plusDays(1), "USD"));
+
+        List<DailyTransferSummary> summaries = readModel.summarize(null, null);
+        assertEquals(2, summaries.size());
+        assertEquals(Money.BASE_CURRENCY, summaries.get(0).getCurrency());
+        assertEquals(new BigDecimal("100.00"), summaries.get(0).getTotalAmount());
+        assertEquals("USD", summaries.get(1).getCurrency());
+        assertEquals(2, summaries.get(1).getCount());
+        assertEquals(new BigDecimal("50.00"), summaries.get(1).getTotalAmount());
+        assertEquals(new BigDecimal("1.50"), summaries.get(1).getTotalFees());
+    }
+
+    @Test
+    void shouldSearchThroughSourceAndDateIndexes() {
+        Transfer first = transfer("1111111111", "2222222222", "100.00", "3.00", TODAY.plusDays(1));
+        Transfer second = transfer("1111111111", "3333333333", "50.00", "2.00", TODAY.plusDays(7));
+        Transfer other = transfer("4444444444", "2222222222", "10.00", "1.00", TODAY.plusDays(3));
+        readModel.upsert(first);
+        readModel.upsert(second);
+        readModel.upsert(other);
+
+        List<Transfer> bySource = readModel.search(
+            TransferSearchCriteria.of(AccountNumber.of("1111111111"), null, null, TODAY.plusDays(5)));
+        List<Transfer> byDate = readModel.search(
+            TransferSearchCriteria.of(null, null, TODAY.plusDays(2), TODAY.plusDays(7)));
+
+        assertEquals(List.of(first), bySource);
+        assertEquals(List.of(other, second), byDate);
+    }
+
+    @Test
+    void shouldForgetEverythingOnClear() {
+        readModel.upsert(transfer("1111111111", "2222222222", "100.00", "3.00", TODAY));
+        readModel.clear();
+
+        assertTrue(readModel.findAll().isEmpty());
+        assertTrue(readModel.summarize(null, null).isEmpty());
+    }
+
+    private static Transfer transfer(String source, String target, String amount, String fee, LocalDate transferDate) {
+        return transfer(source, target, amount, fee, transferDate, Money.BASE_CURRENCY);
+    }
+
+    private static Transfer transfer(String source, String target, String amount, String fee,
+            LocalDate transferDate, String currency) {
+        return Transfer.schedule(
+            AccountNumber.of(source),
+            AccountNumber.of(target),
+            Money.of(new BigDecimal(amount), currency),
+            Money.of(new BigDecimal(fee), currency),
+            TODAY,
+            transferDate);
+    }
+}
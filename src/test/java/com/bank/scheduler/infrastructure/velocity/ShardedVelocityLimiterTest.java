@@ -0,0 +1,158 @@
+package com.bank.scheduler.infrastructure.velocity;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.ports.ExchangeRates;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.AccountNumber;
+import com.bank.scheduler.domain.valueobjects.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ShardedVelocityLimiter Tests")
+class ShardedVelocityLimiterTest {
+
+    private static final Instant START = Instant.parse("2025-06-02T09:00:00Z");
+
+    private TransferRepository transferRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        transferRepository = mock(TransferRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(START);
+    }
+
+    @Test
+    @DisplayName("Should refuse the transfer over the hourly count and accept again once the hour has slid")
+    void shouldSlideTheHourlyWindow() {
+        ShardedVelocityLimiter limiter = limiter(3, "0", 0, "0");
+
+        for (int i = 0; i < 3; i++) {
+            limiter.admit(transfer("1234567890", "10.00"));
+        }
+        assertThrows(DomainException.VelocityLimitExceeded.class, () -> limiter.admit(transfer("1234567890", "10.00")));
+        limiter.admit(transfer("1111111111", "10.00"));
+
+        clock.advance(Duration.ofMinutes(30));
+        assertThrows(DomainException.VelocityLimitExceeded.class, () -> limiter.admit(transfer("1234567890", "10.00")));
+        clock.advance(Duration.ofMinutes(35));
+        limiter.admit(transfer("1234567890", "10.00"));
+        assertEquals(2.0, meterRegistry.get("transfers.velocity.rejected").tag("window", "hour").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should cap the daily amount without recording refused transfers")
+    void shouldCapDailyAmount() {
+        ShardedVelocityLimiter limiter = limiter(0, "0", 0, "1000.00");
+
+        limiter.admit(transfer("1234567890", "600.00"));
+        assertThrows(DomainException.VelocityLimitExceeded.class, () -> limiter.admit(transfer("1234567890", "500.00")));
+        limiter.admit(transfer("1234567890", "400.00"));
+
+        clock.advance(Duration.ofHours(12));
+        assertThrows(DomainException.VelocityLimitExceeded.class, () -> limiter.admit(transfer("1234567890", "0.01")));
+        clock.advance(Duration.ofHours(13));
+        limiter.admit(transfer("1234567890", "1000.00"));
+    }
+
+    @Test
+    @DisplayName("Should give back the capacity of a released transfer")
+    void shouldReleaseAdmittedTransfer() {
+        ShardedVelocityLimiter limiter = limiter(2, "0", 0, "1000.00");
+        limiter.admit(transfer("1234567890", "400.00"));
+        Transfer unpersisted = transfer("1234567890", "600.00");
+        limiter.admit(unpersisted);
+        assertThrows(DomainException.VelocityLimitExceeded.class, () -> limiter.admit(transfer("1234567890", "1.00")));
+
+        limiter.release(unpersisted);
+
+        limiter.admit(transfer("1234567890", "600.00"));
+        assertThrows(DomainException.VelocityLimitExceeded.class, () -> limiter.admit(transfer("1234567890", "0.01")));
+    }
+
+    @Test
+    @DisplayName("Should forget accounts idle for a whole day")
+    void shouldExpireIdleAccounts() {
+        ShardedVelocityLimiter limiter = limiter(10, "0", 10, "0");
+        limiter.admit(transfer("1234567890", "10.00"));
+        limiter.admit(transfer("0987654321", "10.00"));
+
+        clock.advance(Duration.ofHours(2));
+        limiter.admit(transfer("0987654321", "10.00"));
+        limiter.expireIdle();
+        assertEquals(2, limiter.trackedAccounts());
+
+        clock.advance(Duration.ofHours(23));
+        limiter.expireIdle();
+        assertEquals(1, limiter.trackedAccounts());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the daily window from transfers scheduled today")
+    void shouldRebuildFromRepository() {
+        LocalDate today = LocalDate.ofInstant(START, ZoneOffset.UTC);
+        Transfer earlierToday = transfer("1234567890", "900.00");
+        when(transferRepository.findByScheduleDate(today)).thenReturn(List.of(earlierToday));
+        ShardedVelocityLimiter limiter = limiter(0, "0", 0, "1000.00");
+
+        limiter.rebuild();
+
+        limiter.admit(transfer("1234567890", "100.00"));
+        assertThrows(DomainException.VelocityLimitExceeded.class, () -> limiter.admit(transfer("1234567890", "0.01")));
+    }
+
+    private ShardedVelocityLimiter limiter(int hourlyCount, String hourlyAmount, int dailyCount, String dailyAmount) {
+        return new ShardedVelocityLimiter(transferRepository, ExchangeRates.NONE, meterRegistry, clock, true, 4,
+            hourlyCount, new BigDecimal(hourlyAmount), dailyCount, new BigDecimal(dailyAmount));
+    }
+
+    private Transfer transfer(String source, String amount) {
+        LocalDate today = LocalDate.now(clock);
+        return Transfer.schedule(AccountNumber.of(source), AccountNumber.of("5555555555"),
+            Money.of(new BigDecimal(amount)), Money.of(BigDecimal.ZERO), today, today.plusDays(5));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
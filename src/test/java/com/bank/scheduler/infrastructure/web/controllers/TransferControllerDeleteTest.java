@@ -1,6 +1,7 @@
 package com.bank.scheduler.infrastructure.web.controllers;
 
 import com.bank.scheduler.application.usecases.TransferSchedulerService;
+import com.bank.scheduler.domain.ports.AuditTrail;
 import com.bank.scheduler.domain.exceptions.DomainException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +27,9 @@ class TransferControllerDeleteTest {
     @MockBean
     private TransferSchedulerService transferSchedulerService;
 
+    @MockBean
+    private AuditTrail auditTrail;
+
     @Autowired
     private ObjectMapper objectMapper;
 
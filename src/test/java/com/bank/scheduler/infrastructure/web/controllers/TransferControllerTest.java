@@ -1,6 +1,7 @@
 package com.bank.scheduler.infrastructure.web.controllers;
 
 import com.bank.scheduler.application.usecases.TransferSchedulerService;
+import com.bank.scheduler.domain.ports.AuditTrail;
 import com.bank.scheduler.domain.valueobjects.Money;
 import com.bank.scheduler.infrastructure.web.dtos.ScheduleTransferRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,6 +30,9 @@ class TransferControllerTest {
     @MockBean
     private TransferSchedulerService transferSchedulerService;
 
+    @MockBean
+    private AuditTrail auditTrail;
+
     @Test
     void shouldScheduleValidTransfer() throws Exception {
         ScheduleTransferRequest request = new ScheduleTransferRequest();
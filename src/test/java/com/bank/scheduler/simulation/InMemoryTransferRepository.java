@@ -0,0 +1,264 @@
+package com.bank.scheduler.simulation;
+
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.ports.TransferRepository;
+import com.bank.scheduler.domain.valueobjects.TransferSearchCriteria;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * TransferRepository for the simulation: a hash map plus a due-date index, with
+ * the same claim semantics as the database (SCHEDULED and due, or IN_PROGRESS
+ * and stale).
+ *
+ * Transfers that reach a terminal status are counted and dropped, so memory is
+ * bounded by the open schedules rather than by the whole population.
+ */
+final class InMemoryTransferRepository implements TransferRepository {
+
+    private final Map<UUID, Transfer> transfers = new HashMap<>();
+    private final TreeMap<LocalDate, LinkedHashSet<UUID>> scheduledByDate = new TreeMap<>();
+    private final LinkedHashSet<UUID> inProgress = new LinkedHashSet<>();
+    private long executed;
+    private long failed;
+
+    @Override
+    public synchronized Transfer save(Transfer transfer) {
+        unindex(transfers.put(transfer.getId(), transfer));
+        index(transfer);
+        return transfer;
+    }
+
+    @Override
+    public synchronized List<Transfer> saveAll(List<Transfer> batch) {
+        batch.forEach(this::save);
+        return batch;
+    }
+
+    @Override
+    public synchronized List<Transfer> insertAbsent(List<Transfer> batch) {
+        List<Transfer> inserted = new ArrayList<>(batch.size());
+        for (Transfer transfer : batch) {
+            if (!transfers.containsKey(transfer.getId())) {
+                save(transfer);
+                inserted.add(transfer);
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public synchronized Optional<Transfer> findById(UUID id) {
+        return Optional.ofNullable(transfers.get(id));
+    }
+
+    @Override
+    public synchronized List<Optional<Transfer>> findAllById(List<UUID> ids) {
+        List<Optional<Transfer>> found = new ArrayList<>(ids.size());
+        ids.forEach(id -> found.add(Optional.ofNullable(transfers.get(id))));
+        return found;
+    }
+
+    @Override
+    public synchronized List<Transfer> findAll() {
+        return new ArrayList<>(transfers.values());
+    }
+
+    @Override
+    public List<Transfer> search(TransferSearchCriteria criteria) {
+        throw new UnsupportedOperationException("Search is not part of the simulated workload");
+    }
+
+    @Override
+    public synchronized List<Transfer> findScheduledBetween(LocalDate from, LocalDate to) {
+        List<Transfer> found = new ArrayList<>();
+        scheduledByDate.subMap(from, true, to, true).values()
+            .forEach(ids -> ids.forEach(id -> found.add(transfers.get(id))));
+        return found;
+    }
+
+    @Override
+    public synchronized List<Transfer> findByScheduleDate(LocalDate scheduleDate) {
+        List<Transfer> found = new ArrayList<>();
+        transfers.values().forEach(transfer -> {
+            if (scheduleDate.equals(transfer.getScheduleDate())) {
+                found.add(transfer);
+            }
+        });
+        return found;
+    }
+
+    @Override
+    public synchronized List<String> findBusiestAccounts(LocalDate from, int limit) {
+        Map<String, Integer> counts = new HashMap<>();
+        scheduledByDate.tailMap(from, true).values().forEach(ids -> ids.forEach(id -> {
+            Transfer transfer = transfers.get(id);
+            counts.merge(transfer.getSourceAccount().getValue(), 1, Integer::sum);
+            counts.merge(transfer.getTargetAccount().getValue(), 1, Integer::sum);
+        }));
+        List<String> accounts = new ArrayList<>(counts.keySet());
+        accounts.sort((a, b) -> Integer.compare(counts.get(b), counts.get(a)));
+        return accounts.subList(0, Math.min(limit, accounts.size()));
+    }
+
+    @Override
+    public synchronized void deleteById(UUID id) {
+        unindex(transfers.remove(id));
+    }
+
+    @Override
+    public synchronized void deleteAll() {
+        transfers.clear();
+        scheduledByDate.clear();
+        inProgress.clear();
+    }
+
+    @Override
+    public synchronized boolean existsById(UUID id) {
+        return transfers.containsKey(id);
+    }
+
+    @Override
+    public synchronized List<Transfer> claimDue(LocalDate dueBy, Instant claimedAt, Instant staleBefore, int limit) {
+        List<UUID> claimable = new ArrayList<>();
+        for (UUID id : inProgress) {
+            if (claimable.size() == limit) {
+                break;
+            }
+            Instant claim = transfers.get(id).getClaimedAt();
+            if (claim != null && claim.isBefore(staleBefore)) {
+                claimable.add(id);
+            }
+        }
+        for (LinkedHashSet<UUID> ids : scheduledByDate.headMap(dueBy, true).values()) {
+            Iterator<UUID> iterator = ids.iterator();
+            while (claimable.size() < limit && iterator.hasNext()) {
+                claimable.add(iterator.next());
+            }
+        }
+        return claim(claimable, claimedAt);
+    }
+
+    @Override
+    public synchronized List<Transfer> claimByIds(Collection<UUID> ids, LocalDate dueBy, Instant claimedAt) {
+        List<UUID> claimable = new ArrayList<>();
+        for (UUID id : ids) {
+            Transfer transfer = transfers.get(id);
+            if (transfer != null && transfer.getStatus() == TransferStatus.SCHEDULED
+                    && !transfer.getTransferDate().isAfter(dueBy)) {
+                claimable.add(id);
+            }
+        }
+        return claim(claimable, claimedAt);
+    }
+
+    @Override
+    public synchronized boolean updateStatus(UUID id, TransferStatus expected, TransferStatus next) {
+        Transfer transfer = transfers.get(id);
+        if (transfer == null || transfer.getStatus() != expected) {
+            return false;
+        }
+        unindex(transfer);
+        if (next == TransferStatus.EXECUTED || next == TransferStatus.FAILED) {
+            transfers.remove(id);
+            if (next == TransferStatus.EXECUTED) {
+                executed++;
+            } else {
+                failed++;
+            }
+            return true;
+        }
+        Transfer updated = transfer.transitionTo(next, transfer.getClaimedAt());
+        transfers.put(id, updated);
+        index(updated);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean renewClaim(UUID id, Instant claimedAt) {
+        Transfer transfer = transfers.get(id);
+        if (transfer == null || transfer.getStatus() != TransferStatus.IN_PROGRESS) {
+            return false;
+        }
+        transfers.put(id, transfer.transitionTo(TransferStatus.IN_PROGRESS, claimedAt));
+        return true;
+    }
+
+    /**
+     * Transfers due by the date that are not settled yet (SCHEDULED or IN_PROGRESS).
+     */
+    synchronized long dueCount(LocalDate dueBy) {
+        long due = inProgress.size();
+        for (LinkedHashSet<UUID> ids : scheduledByDate.headMap(dueBy, true).values()) {
+            due += ids.size();
+        }
+        return due;
+    }
+
+    synchronized int inProgressCount() {
+        return inProgress.size();
+    }
+
+    synchronized long executedCount() {
+        return executed;
+    }
+
+    synchronized long failedCount() {
+        return failed;
+    }
+
+    synchronized int openCount() {
+        return transfers.size();
+    }
+
+    private List<Transfer> claim(List<UUID> ids, Instant claimedAt) {
+        List<Transfer> claimed = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            Transfer transfer = transfers.get(id);
+            unindex(transfer);
+            Transfer updated = transfer.transitionTo(TransferStatus.IN_PROGRESS, claimedAt);
+            transfers.put(id, updated);
+            index(updated);
+            claimed.add(updated);
+        }
+        return claimed;
+    }
+
+    private void index(Transfer transfer) {
+        if (transfer.getStatus() == TransferStatus.SCHEDULED) {
+            scheduledByDate.computeIfAbsent(transfer.getTransferDate(), date -> new LinkedHashSet<>())
+                .add(transfer.getId());
+        } else if (transfer.getStatus() == TransferStatus.IN_PROGRESS) {
+            inProgress.add(transfer.getId());
+        }
+    }
+
+    private void unindex(Transfer transfer) {
+        if (transfer == null) {
+            return;
+        }
+        if (transfer.getStatus() == TransferStatus.SCHEDULED) {
+            LinkedHashSet<UUID> ids = scheduledByDate.get(transfer.getTransferDate());
+            if (ids != null) {
+                ids.remove(transfer.getId());
+                if (ids.isEmpty()) {
+                    scheduledByDate.remove(transfer.getTransferDate());
+                }
+            }
+        } else if (transfer.getStatus() == TransferStatus.IN_PROGRESS) {
+            inProgress.remove(transfer.getId());
+        }
+    }
+}
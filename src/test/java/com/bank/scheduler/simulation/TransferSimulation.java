@@ -0,0 +1,472 @@
+package com.bank.scheduler.simulation;
+
+import com.bank.scheduler.application.usecases.TransferSchedulerService;
+import com.bank.scheduler.domain.entities.Transfer;
+import com.bank.scheduler.domain.events.TransferScheduled;
+import com.bank.scheduler.domain.events.TransferStatusChanged;
+import com.bank.scheduler.domain.exceptions.DomainException;
+import com.bank.scheduler.domain.policies.ElevenToTwentyDaysFeePolicy;
+import com.bank.scheduler.domain.policies.FeePolicy;
+import com.bank.scheduler.domain.policies.FortyOneToFiftyDaysFeePolicy;
+import com.bank.scheduler.domain.policies.SameDayFeePolicy;
+import com.bank.scheduler.domain.policies.TenDaysFeePolicy;
+import com.bank.scheduler.domain.policies.ThirtyOneToFortyDaysFeePolicy;
+import com.bank.scheduler.domain.policies.TwentyOneToThirtyDaysFeePolicy;
+import com.bank.scheduler.domain.ports.AccountDirectory;
+import com.bank.scheduler.domain.ports.DeadLetterStore;
+import com.bank.scheduler.domain.ports.DuplicateTransferGuard;
+import com.bank.scheduler.domain.ports.ExchangeRates;
+import com.bank.scheduler.domain.ports.SettlementGateway;
+import com.bank.scheduler.domain.ports.TransferEventPublisher;
+import com.bank.scheduler.domain.ports.TransferQueryModel;
+import com.bank.scheduler.domain.ports.VelocityLimiter;
+import com.bank.scheduler.domain.valueobjects.BusinessCalendar;
+import com.bank.scheduler.domain.valueobjects.DeadLetter;
+import com.bank.scheduler.domain.valueobjects.Money;
+import com.bank.scheduler.domain.valueobjects.TransferStatus;
+import com.bank.scheduler.infrastructure.execution.DueTransferExecutionEngine;
+import com.bank.scheduler.infrastructure.execution.RetryScheduler;
+import com.bank.scheduler.infrastructure.execution.SettlementNetting;
+import com.bank.scheduler.infrastructure.monitoring.MetricsCollector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deterministic capacity simulation of scheduling and execution on a virtual clock.
+ *
+ * Not a unit test (surefire does not pick it up). Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.bank.scheduler.simulation.TransferSimulation
+ *     -Dexec.args="schedules days seed"
+ *
+ * The real TransferSchedulerService (validation, fee tiers, business calendar)
+ * and DueTransferExecutionEngine (claims, retries, dead letters) run against an
+ * in-memory repository, a synchronous dispatcher and a VirtualClock. Every
+ * virtual hour the engine polls, then that hour's schedules are submitted, so 60
+ * days take as long as the CPU needs and no longer.
+ *
+ * Workload: schedules are spread over the days with month-end and payday (5th)
+ * peaks and over the hours with a business-hours peak; lead times are 30% same
+ * day, 40% 1-10 days and 30% 11-50 days. Everything is drawn from one seeded
+ * SplittableRandom, and injected settlement faults are a pure function of the
+ * seed, the transfer contents and the attempt number, so a seed always produces
+ * the same counts even though retries run on the RetryScheduler thread. Retry
+ * backoff (1-5 s) elapses on the virtual clock, which awaitQuiescence moves to
+ * the next due retry.
+ *
+ * Report per virtual day: schedules accepted and rejected, transfers due at
+ * midnight (the peak the first poll faces), executed, failed, backlog left at
+ * the end of the day, wall time and settlements per wall second spent polling,
+ * and p50/p99 virtual settlement delay (due time, or scheduling time for same-day
+ * transfers, to execution) in minutes.
+ */
+public final class TransferSimulation {
+
+    private static final ZoneOffset ZONE = ZoneOffset.UTC;
+    private static final int MAX_DELAY_MINUTES = 60 * 24 * 60;
+    private static final long QUIESCENCE_TIMEOUT_MILLIS = 30_000;
+
+    private final Config config;
+    private final VirtualClock clock;
+    private final InMemoryTransferRepository repository = new InMemoryTransferRepository();
+    private final Map<UUID, Instant> sameDayScheduledAt = new ConcurrentHashMap<>();
+    private final RetryScheduler retryScheduler;
+    private final TransferSchedulerService schedulerService;
+    private final DueTransferExecutionEngine engine;
+    private final BusinessCalendar calendar;
+    private int[] delayHistogram = new int[MAX_DELAY_MINUTES + 1];
+
+    TransferSimulation(Config config) {
+        this.config = config;
+        this.clock = new VirtualClock(config.start.atStartOfDay(ZONE).toInstant(), ZONE);
+        this.calendar = config.businessCalendar
+            ? BusinessCalendar.compile(config.start.minusDays(1), config.start.plusDays(config.days + 60),
+                EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), Set.of())
+            : BusinessCalendar.EVERY_DAY;
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TransferEventPublisher publisher = this::observe;
+        this.retryScheduler = new RetryScheduler(registry, clock, Duration.ofSeconds(1), Duration.ofSeconds(5),
+            1_000_000, 1_000_000);
+        this.schedulerService = new TransferSchedulerService(repository, feePolicies(), publisher,
+            TransferQueryModel.NONE, calendar, DuplicateTransferGuard.NONE, VelocityLimiter.NONE,
+            ExchangeRates.NONE, AccountDirectory.NONE, clock);
+        this.engine = new DueTransferExecutionEngine(
+            repository,
+            new FaultInjectingGateway(config),
+            publisher,
+            new TransactionTemplate(new NoTransactionManager()),
+            (transfer, execution) -> execution.run(),
+            new MetricsCollector(registry),
+            null,
+            retryScheduler,
+            new InMemoryDeadLetterStore(),
+            new SettlementNetting(new DriverManagerDataSource("jdbc:h2:mem:simulation;DB_CLOSE_DELAY=-1"),
+                registry, clock, false, 0),
+            calendar,
+            clock,
+            true,
+            config.batchSize,
+            Duration.ofMinutes(5),
+            config.maxAttempts);
+    }
+
+    public static void main(String[] args) {
+        Config config = new Config(
+            args.length > 0 ? Long.parseLong(args[0]) : 2_000_000,
+            args.length > 1 ? Integer.parseInt(args[1]) : 60,
+            args.length > 2 ? Long.parseLong(args[2]) : 42);
+        quietLogging();
+        System.out.printf("%,d schedules over %d virtual days, seed %d, faults %.2f%% transient / %.2f%% permanent%n",
+            config.schedules, config.days, config.seed, config.transientFaultRate * 100, config.permanentFaultRate * 100);
+        System.out.println(DayReport.HEADER);
+        List<DayReport> reports = new TransferSimulation(config).run();
+        reports.forEach(System.out::println);
+        DayReport peak = reports.stream().max((a, b) -> Long.compare(a.dueAtMidnight, b.dueAtMidnight)).orElseThrow();
+        System.out.printf("Peak: %s with %,d due at midnight, settled at %,.0f/s%n",
+            peak.date, peak.dueAtMidnight, peak.throughput());
+    }
+
+    /**
+     * Injected faults would otherwise log one line per retry.
+     */
+    static void quietLogging() {
+        ((ch.qos.logback.classic.Logger) org.slf4j.LoggerFactory.getLogger("com.bank.scheduler"))
+            .setLevel(ch.qos.logback.classic.Level.ERROR);
+    }
+
+    /**
+     * Runs the whole timeline and returns one report per virtual day.
+     */
+    List<DayReport> run() {
+        SplittableRandom random = new SplittableRandom(config.seed);
+        long[] perDay = distributeOverDays();
+        List<DayReport> reports = new ArrayList<>(config.days);
+        try {
+            for (int day = 0; day < config.days; day++) {
+                reports.add(simulateDay(config.start.plusDays(day), perDay[day], random));
+            }
+        } finally {
+            retryScheduler.shutdown();
+        }
+        return reports;
+    }
+
+    private DayReport simulateDay(LocalDate date, long schedules, SplittableRandom random) {
+        DayReport report = new DayReport(date);
+        delayHistogram = new int[MAX_DELAY_MINUTES + 1];
+        long[] perHour = distributeOverHours(schedules);
+        long executedBefore = repository.executedCount();
+        long failedBefore = repository.failedCount();
+        for (int hour = 0; hour < 24; hour++) {
+            Instant hourStart = date.atStartOfDay(ZONE).toInstant().plus(Duration.ofHours(hour));
+            clock.set(hourStart);
+            if (hour == 0) {
+                report.dueAtMidnight = repository.dueCount(date);
+            }
+            if (hour % config.pollEveryHours == 0) {
+                long start = System.nanoTime();
+                engine.dispatchDue(date);
+                awaitQuiescence();
+                report.wallNanos += System.nanoTime() - start;
+            }
+            clock.set(hourStart.plus(Duration.ofMinutes(30)));
+            for (long i = 0; i < perHour[hour]; i++) {
+                if (submit(date, random)) {
+                    report.scheduled++;
+                } else {
+                    report.rejected++;
+                }
+            }
+        }
+        report.executed = repository.executedCount() - executedBefore;
+        report.failed = repository.failedCount() - failedBefore;
+        report.backlog = repository.dueCount(date);
+        report.p50DelayMinutes = percentile(0.50);
+        report.p99DelayMinutes = percentile(0.99);
+        return report;
+    }
+
+    private boolean submit(LocalDate today, SplittableRandom random) {
+        int source = 1 + random.nextInt(config.accounts);
+        int target = 1 + random.nextInt(config.accounts - 1);
+        if (target >= source) {
+            target++;
+        }
+        double leadDraw = random.nextDouble();
+        int leadDays = leadDraw < 0.3 ? 0 : leadDraw < 0.7 ? 1 + random.nextInt(10) : 11 + random.nextInt(40);
+        BigDecimal amount = BigDecimal.valueOf(1_000 + random.nextInt(1_000_000), 2);
+        try {
+            schedulerService.scheduleTransfer(String.format("%010d", source), String.format("%010d", target),
+                Money.of(amount), today.plusDays(leadDays));
+            return true;
+        } catch (DomainException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void observe(com.bank.scheduler.domain.events.TransferEvent event) {
+        if (event instanceof TransferScheduled scheduled) {
+            Transfer transfer = scheduled.getTransfer();
+            if (transfer.getScheduleDate().equals(transfer.getTransferDate())) {
+                sameDayScheduledAt.put(transfer.getId(), event.getOccurredAt());
+            }
+        } else if (event instanceof TransferStatusChanged changed
+                && changed.getTransfer().getStatus() == TransferStatus.EXECUTED) {
+            Transfer transfer = changed.getTransfer();
+            Instant due = Optional.ofNullable(sameDayScheduledAt.remove(transfer.getId()))
+                .orElse(transfer.getTransferDate().atStartOfDay(ZONE).toInstant());
+            recordDelay(Duration.between(due, event.getOccurredAt()).toMinutes());
+        } else if (event instanceof TransferStatusChanged changed
+                && changed.getTransfer().getStatus() == TransferStatus.FAILED) {
+            sameDayScheduledAt.remove(changed.getTransfer().getId());
+        }
+    }
+
+    private synchronized void recordDelay(long minutes) {
+        delayHistogram[(int) Math.max(0, Math.min(MAX_DELAY_MINUTES, minutes))]++;
+    }
+
+    private synchronized long percentile(double quantile) {
+        long total = 0;
+        for (int count : delayHistogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int minutes = 0; minutes < delayHistogram.length; minutes++) {
+            seen += delayHistogram[minutes];
+            if (seen >= rank) {
+                return minutes;
+            }
+        }
+        return MAX_DELAY_MINUTES;
+    }
+
+    /**
+     * Waits for retries of this poll to settle before virtual time moves on.
+     * Backoff runs on the virtual clock, so whenever the next retry is not due
+     * yet the clock is moved to it.
+     */
+    private void awaitQuiescence() {
+        long deadline = System.currentTimeMillis() + QUIESCENCE_TIMEOUT_MILLIS;
+        while ((retryScheduler.pending() > 0 || repository.inProgressCount() > 0)
+                && System.currentTimeMillis() < deadline) {
+            Optional<Instant> nextRetry = retryScheduler.nextDue();
+            if (nextRetry.isPresent() && nextRetry.get().isAfter(clock.instant())) {
+                clock.set(nextRetry.get());
+                retryScheduler.recheckClock();
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private long[] distributeOverDays() {
+        double[] weights = new double[config.days];
+        double total = 0;
+        for (int day = 0; day < config.days; day++) {
+            LocalDate date = config.start.plusDays(day);
+            double weight = 1.0;
+            if (date.getDayOfMonth() == date.lengthOfMonth()) {
+                weight = 4.0;
+            } else if (date.getDayOfMonth() == 5) {
+                weight = 3.0;
+            }
+            if (config.businessCalendar && !calendar.isBusinessDay(date)) {
+                weight *= 0.2;
+            }
+            weights[day] = weight;
+            total += weight;
+        }
+        return apportion(config.schedules, weights, total);
+    }
+
+    private static long[] distributeOverHours(long schedules) {
+        double[] weights = new double[24];
+        double total = 0;
+        for (int hour = 0; hour < 24; hour++) {
+            weights[hour] = hour >= 8 && hour < 20 ? 3.0 : 0.5;
+            total += weights[hour];
+        }
+        return apportion(schedules, weights, total);
+    }
+
+    private static long[] apportion(long count, double[] weights, double total) {
+        long[] shares = new long[weights.length];
+        long assigned = 0;
+        for (int i = 0; i < weights.length; i++) {
+            shares[i] = (long) Math.floor(count * weights[i] / total);
+            assigned += shares[i];
+        }
+        for (int i = 0; assigned < count; i = (i + 1) % weights.length) {
+            shares[i]++;
+            assigned++;
+        }
+        return shares;
+    }
+
+    private static Set<FeePolicy> feePolicies() {
+        return Set.of(new SameDayFeePolicy(), new TenDaysFeePolicy(), new ElevenToTwentyDaysFeePolicy(),
+            new TwentyOneToThirtyDaysFeePolicy(), new ThirtyOneToFortyDaysFeePolicy(),
+            new FortyOneToFiftyDaysFeePolicy());
+    }
+
+    static final class Config {
+        final long schedules;
+        final int days;
+        final long seed;
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        int accounts = 100_000;
+        int batchSize = 500;
+        int maxAttempts = 5;
+        int pollEveryHours = 1;
+        double transientFaultRate = 0.02;
+        double permanentFaultRate = 0.001;
+        boolean businessCalendar;
+
+        Config(long schedules, int days, long seed) {
+            this.schedules = schedules;
+            this.days = days;
+            this.seed = seed;
+        }
+    }
+
+    static final class DayReport {
+        static final String HEADER = String.format("%-10s %10s %8s %10s %10s %7s %8s %9s %11s %7s %7s",
+            "date", "scheduled", "rejected", "due@00:00", "executed", "failed", "backlog", "wall ms",
+            "settled/s", "p50 min", "p99 min");
+
+        final LocalDate date;
+        long scheduled;
+        long rejected;
+        long dueAtMidnight;
+        long executed;
+        long failed;
+        long backlog;
+        long wallNanos;
+        long p50DelayMinutes;
+        long p99DelayMinutes;
+
+        DayReport(LocalDate date) {
+            this.date = date;
+        }
+
+        double throughput() {
+            return wallNanos == 0 ? 0 : (executed + failed) / (wallNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %,10d %,8d %,10d %,10d %,7d %,8d %,9d %,11.0f %7d %7d",
+                date, scheduled, rejected, dueAtMidnight, executed, failed, backlog,
+                TimeUnit.NANOSECONDS.toMillis(wallNanos), throughput(), p50DelayMinutes, p99DelayMinutes);
+        }
+    }
+
+    /**
+     * Fails settlements at the configured rates; whether attempt n of a transfer
+     * fails depends only on the seed, the transfer contents and n.
+     */
+    private static final class FaultInjectingGateway implements SettlementGateway {
+        private final Config config;
+        private final Map<UUID, Integer> attempts = new ConcurrentHashMap<>();
+
+        private FaultInjectingGateway(Config config) {
+            this.config = config;
+        }
+
+        @Override
+        public void settle(Transfer transfer) {
+            int attempt = attempts.merge(transfer.getId(), 1, Integer::sum);
+            long key = config.seed;
+            key = 31 * key + transfer.getSourceAccount().getValue().hashCode();
+            key = 31 * key + transfer.getTargetAccount().getValue().hashCode();
+            key = 31 * key + transfer.getAmount().getAmount().unscaledValue().longValue();
+            key = 31 * key + transfer.getTransferDate().toEpochDay();
+            double permanentDraw = new SplittableRandom(key).nextDouble();
+            if (permanentDraw < config.permanentFaultRate) {
+                attempts.remove(transfer.getId());
+                throw new DomainException.SettlementFailed("Injected permanent failure");
+            }
+            if (new SplittableRandom(31 * key + attempt).nextDouble() < config.transientFaultRate) {
+                throw new IllegalStateException("Injected transient failure on attempt " + attempt);
+            }
+            attempts.remove(transfer.getId());
+        }
+    }
+
+    private static final class InMemoryDeadLetterStore implements DeadLetterStore {
+        private final Map<UUID, DeadLetter> deadLetters = new ConcurrentHashMap<>();
+
+        @Override
+        public void record(DeadLetter deadLetter) {
+            deadLetters.put(deadLetter.getTransferId(), deadLetter);
+        }
+
+        @Override
+        public Optional<DeadLetter> find(UUID transferId) {
+            return Optional.ofNullable(deadLetters.get(transferId));
+        }
+
+        @Override
+        public List<DeadLetter> findAll(String reason, int limit) {
+            return deadLetters.values().stream()
+                .filter(deadLetter -> reason == null || reason.equals(deadLetter.getReason()))
+                .limit(limit)
+                .collect(java.util.stream.Collectors.toList());
+        }
+
+        @Override
+        public boolean remove(UUID transferId) {
+            return deadLetters.remove(transferId) != null;
+        }
+    }
+
+    /**
+     * The in-memory repository applies changes immediately; there is nothing to
+     * commit or roll back.
+     */
+    private static final class NoTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.bank.scheduler.simulation;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TransferSimulation Tests")
+class TransferSimulationTest {
+
+    @BeforeAll
+    static void quietLogging() {
+        TransferSimulation.quietLogging();
+    }
+
+    @Test
+    @DisplayName("Should reproduce the same day-by-day outcome for the same seed")
+    void shouldReproduceTheSameOutcomeForTheSameSeed() {
+        List<TransferSimulation.DayReport> first = new TransferSimulation(config(7)).run();
+        List<TransferSimulation.DayReport> second = new TransferSimulation(config(7)).run();
+
+        assertEquals(first.size(), second.size());
+        for (int day = 0; day < first.size(); day++) {
+            TransferSimulation.DayReport a = first.get(day);
+            TransferSimulation.DayReport b = second.get(day);
+            assertEquals(a.scheduled, b.scheduled, "scheduled on " + a.date);
+            assertEquals(a.dueAtMidnight, b.dueAtMidnight, "due on " + a.date);
+            assertEquals(a.executed, b.executed, "executed on " + a.date);
+            assertEquals(a.failed, b.failed, "failed on " + a.date);
+            assertEquals(a.p99DelayMinutes, b.p99DelayMinutes, "p99 delay on " + a.date);
+        }
+    }
+
+    @Test
+    @DisplayName("Should settle due transfers within the hour despite injected faults")
+    void shouldSettleDueTransfersWithinTheHour() {
+        List<TransferSimulation.DayReport> reports = new TransferSimulation(config(11)).run();
+
+        long scheduled = reports.stream().mapToLong(report -> report.scheduled).sum();
+        long executed = reports.stream().mapToLong(report -> report.executed).sum();
+        long failed = reports.stream().mapToLong(report -> report.failed).sum();
+        assertTrue(failed > 0, "permanent faults should fail some transfers");
+        assertTrue(executed > scheduled / 2, "most transfers due inside the window should settle");
+        for (int day = 1; day < reports.size(); day++) {
+            TransferSimulation.DayReport previous = reports.get(day - 1);
+            assertTrue(previous.backlog < previous.scheduled / 10,
+                "only same-day transfers scheduled after the last poll should carry over from " + previous.date);
+            assertTrue(reports.get(day).dueAtMidnight >= previous.backlog);
+        }
+        assertTrue(reports.stream().allMatch(report -> report.p99DelayMinutes <= 60),
+            "with hourly polls nothing should wait more than an hour");
+    }
+
+    private static TransferSimulation.Config config(long seed) {
+        TransferSimulation.Config config = new TransferSimulation.Config(20_000, 30, seed);
+        config.accounts = 1_000;
+        config.permanentFaultRate = 0.01;
+        config.transientFaultRate = 0.05;
+        return config;
+    }
+}
@@ -0,0 +1,46 @@
+package com.bank.scheduler.simulation;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * A clock that only moves when the simulation moves it.
+ */
+final class VirtualClock extends Clock {
+
+    private final ZoneId zone;
+    private volatile Instant now;
+
+    VirtualClock(Instant start, ZoneId zone) {
+        this.now = start;
+        this.zone = zone;
+    }
+
+    void set(Instant instant) {
+        if (instant.isBefore(now)) {
+            throw new IllegalArgumentException("Virtual time cannot go back from " + now + " to " + instant);
+        }
+        now = instant;
+    }
+
+    void advance(Duration duration) {
+        set(now.plus(duration));
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId newZone) {
+        return new VirtualClock(now, newZone);
+    }
+
+    @Override
+    public Instant instant() {
+        return now;
+    }
+}